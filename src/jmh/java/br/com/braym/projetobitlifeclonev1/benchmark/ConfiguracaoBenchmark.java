@@ -0,0 +1,23 @@
+package br.com.braym.projetobitlifeclonev1.benchmark;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Configuração comum aos benchmarks.
+ */
+final class ConfiguracaoBenchmark {
+    // Mantém uma referência forte para que o nível configurado não seja perdido
+    private static final Logger LOGGER_RAIZ = Logger.getLogger("br.com.braym.projetobitlifeclonev1");
+
+    private ConfiguracaoBenchmark() {
+        throw new AssertionError("Esta classe não deve ser instanciada");
+    }
+
+    /**
+     * Desliga os logs informativos do jogo, que dominariam as medições
+     */
+    static void silenciarLogs() {
+        LOGGER_RAIZ.setLevel(Level.WARNING);
+    }
+}
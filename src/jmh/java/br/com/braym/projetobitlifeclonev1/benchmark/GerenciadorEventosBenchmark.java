@@ -0,0 +1,60 @@
+package br.com.braym.projetobitlifeclonev1.benchmark;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Processamento de eventos com escolhas roteirizadas (sem console). Quando os
+ * eventos da fase se esgotam a fase é reiniciada, o que também é medido.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GerenciadorEventosBenchmark {
+    private static final int IDADE = 25;
+
+    private Personagem personagem;
+    private GerenciadorEventos gerenciadorEventos;
+    private String faseFolder;
+    private int escolha;
+
+    @Setup
+    public void preparar() {
+        ConfiguracaoBenchmark.silenciarLogs();
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        personagem = new Personagem("Bench", "Marca", registro);
+        personagem.setIdade(IDADE);
+        faseFolder = FaseDaVidaResolver.getFaseDaVidaFolder(IDADE);
+        // Alterna as opções em sequência, como um roteiro fixo de decisões
+        gerenciadorEventos = new GerenciadorEventos(registro, (p, opcoes) -> escolha++ % opcoes.size());
+    }
+
+    @Benchmark
+    public boolean processarEvento() {
+        boolean processado = gerenciadorEventos.processarEvento(personagem);
+        if (!processado) {
+            gerenciadorEventos.reiniciarFase(faseFolder);
+        }
+        // Mantém o personagem vivo e na mesma fase durante toda a medição
+        personagem.setSaude(100);
+        return processado;
+    }
+}
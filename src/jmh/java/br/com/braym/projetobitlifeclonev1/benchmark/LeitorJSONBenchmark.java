@@ -0,0 +1,46 @@
+package br.com.braym.projetobitlifeclonev1.benchmark;
+
+import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.utils.LeitorJSON;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Leitura dos eventos de uma fase a partir do JSON.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeitorJSONBenchmark {
+    @Param({"Eventos/07-Juventude_22-29/eventos.json"})
+    private String arquivo;
+
+    private LeitorJSON leitorJSON;
+
+    @Setup
+    public void preparar() {
+        ConfiguracaoBenchmark.silenciarLogs();
+        leitorJSON = new LeitorJSON();
+    }
+
+    @Benchmark
+    public List<Evento> lerEventos() {
+        return leitorJSON.lerEventos(arquivo);
+    }
+}
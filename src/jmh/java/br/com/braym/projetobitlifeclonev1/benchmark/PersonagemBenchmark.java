@@ -0,0 +1,119 @@
+package br.com.braym.projetobitlifeclonev1.benchmark;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.PlanoEfeitos;
+import br.com.braym.projetobitlifeclonev1.impl.ObservadorAssincrono;
+import br.com.braym.projetobitlifeclonev1.interfaces.Observador;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Alteração de atributos do Personagem, sem observadores, com um observador
+ * de alterações tipadas, com um observador textual (que formata a mensagem)
+ * e com o observador textual atrás de um ObservadorAssincrono.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonagemBenchmark {
+    private Personagem semObservadores;
+    private Personagem comObservador;
+    private Personagem comObservadorTextual;
+    private Personagem comObservadorAssincrono;
+    private ObservadorAssincrono observadorAssincrono;
+    private Map<String, Integer> efeitos;
+    private PlanoEfeitos planoEfeitos;
+    private int valor;
+
+    @Setup
+    public void preparar(Blackhole blackhole) {
+        ConfiguracaoBenchmark.silenciarLogs();
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        semObservadores = new Personagem("Bench", "Marca", registro);
+        comObservador = new Personagem("Bench", "Marca", registro);
+        comObservador.adicionarObservador(blackhole::consume);
+        comObservadorTextual = new Personagem("Bench", "Marca", registro);
+        comObservadorTextual.adicionarObservador((Observador) blackhole::consume);
+        // O Blackhole não pode ser usado pela thread consumidora
+        observadorAssincrono = new ObservadorAssincrono(1024,
+                ObservadorAssincrono.PoliticaTransbordo.DESCARTAR_MAIS_ANTIGO, (Observador) mensagem -> { });
+        comObservadorAssincrono = new Personagem("Bench", "Marca", registro);
+        comObservadorAssincrono.adicionarObservador(observadorAssincrono);
+
+        efeitos = new LinkedHashMap<>();
+        efeitos.put("felicidade", 2);
+        efeitos.put("saude", -1);
+        efeitos.put("financas", 10);
+        planoEfeitos = PlanoEfeitos.compilar(null, null, efeitos);
+    }
+
+    @Benchmark
+    public int setterSemObservadores() {
+        valor = (valor + 1) & 63;
+        semObservadores.setFelicidade(valor);
+        return semObservadores.getFelicidade();
+    }
+
+    @Benchmark
+    public int setterComObservador() {
+        valor = (valor + 1) & 63;
+        comObservador.setFelicidade(valor);
+        return comObservador.getFelicidade();
+    }
+
+    @Benchmark
+    public int setterComObservadorTextual() {
+        valor = (valor + 1) & 63;
+        comObservadorTextual.setFelicidade(valor);
+        return comObservadorTextual.getFelicidade();
+    }
+
+    @Benchmark
+    public int setterComObservadorAssincrono() {
+        valor = (valor + 1) & 63;
+        comObservadorAssincrono.setFelicidade(valor);
+        return comObservadorAssincrono.getFelicidade();
+    }
+
+    @TearDown
+    public void encerrar() {
+        observadorAssincrono.close();
+    }
+
+    @Benchmark
+    public int alterarAtributosSemObservadores() {
+        semObservadores.alterarAtributos(efeitos);
+        return semObservadores.getFelicidade();
+    }
+
+    @Benchmark
+    public int aplicarPlanoSemObservadores() {
+        planoEfeitos.aplicar(semObservadores, 0);
+        return semObservadores.getFelicidade();
+    }
+
+    @Benchmark
+    public int alterarAtributosComObservador() {
+        comObservador.alterarAtributos(efeitos);
+        return comObservador.getFelicidade();
+    }
+}
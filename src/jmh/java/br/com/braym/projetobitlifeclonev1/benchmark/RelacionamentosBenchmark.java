@@ -0,0 +1,69 @@
+package br.com.braym.projetobitlifeclonev1.benchmark;
+
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Avanço anual de todos os relacionamentos de um personagem e consultas
+ * feitas a cada turno (todos os relacionamentos, os pais), e geração de
+ * pessoas aleatórias.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelacionamentosBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int quantidade;
+
+    private GerenciadorRelacionamentos gerenciador;
+
+    @Setup
+    public void preparar() {
+        ConfiguracaoBenchmark.silenciarLogs();
+        gerenciador = new GerenciadorRelacionamentos(RegistroConteudo.padrao());
+        gerenciador.criarFamiliaInicial("Bench", 30);
+        for (int i = 0; i < quantidade; i++) {
+            gerenciador.adicionarRelacionamento(gerenciador.gerarPessoaAleatoria(30), TipoRelacionamento.AMIZADE);
+        }
+    }
+
+    @Benchmark
+    public GerenciadorRelacionamentos avancarTempo() {
+        gerenciador.avancarTempo();
+        return gerenciador;
+    }
+
+    @Benchmark
+    public int todosRelacionamentos() {
+        return gerenciador.getTodosRelacionamentos().size();
+    }
+
+    @Benchmark
+    public String sobrenomeFamilia() {
+        return gerenciador.getSobrenomeFamilia();
+    }
+
+    @Benchmark
+    public Pessoa gerarPessoa() {
+        return gerenciador.gerarPessoaAleatoria(30);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.braym.projetobitlifeclonev1.benchmark;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.ArquivoSalvamentos;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.CodecBinarioSalvamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.CodecJsonSalvamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Salvamento e carregamento de um personagem em uma pasta temporária, em
+ * cada codec e com quantidades crescentes de relacionamentos. O codec
+ * "arquivo" usa o arquivo único de salvamentos (formato binário) no lugar
+ * de um arquivo por salvamento.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalvamentoBenchmark {
+    @Param({"json", "binario", "arquivo"})
+    private String codec;
+
+    @Param({"10", "1000", "50000"})
+    private int relacionamentos;
+
+    private Path pasta;
+    private ArquivoSalvamentos arquivoUnico;
+    private GerenciadorSalvamentoJogo gerenciador;
+    private Personagem personagem;
+    private String caminhoSalvo;
+
+    @Setup
+    public void preparar() throws IOException {
+        ConfiguracaoBenchmark.silenciarLogs();
+        pasta = Files.createTempDirectory("bench-salvamento");
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        if ("arquivo".equals(codec)) {
+            arquivoUnico = ArquivoSalvamentos.abrir(pasta.resolve("bench" + ArquivoSalvamentos.EXTENSAO));
+            gerenciador = new GerenciadorSalvamentoJogo(arquivoUnico, registro);
+        } else {
+            gerenciador = new GerenciadorSalvamentoJogo(pasta.toString(), registro,
+                    "binario".equals(codec) ? new CodecBinarioSalvamento() : new CodecJsonSalvamento());
+        }
+        personagem = new Personagem("Bench", "Marca", registro);
+        for (int ano = 0; ano < 30; ano++) {
+            personagem.envelhecer();
+        }
+        int existentes = personagem.getGerenciadorRelacionamentos().getTodosRelacionamentos().size();
+        for (int i = existentes; i < relacionamentos; i++) {
+            personagem.getGerenciadorRelacionamentos().criarAmizadeAleatoria(personagem.getIdade());
+        }
+        gerenciador.salvarJogo(personagem);
+        caminhoSalvo = gerenciador.listarJogosSalvos().get(0).getCaminhoArquivo();
+    }
+
+    @TearDown
+    public void limpar() throws IOException {
+        if (arquivoUnico != null) {
+            arquivoUnico.close();
+        }
+        try (Stream<Path> arquivos = Files.walk(pasta)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean salvar() {
+        return gerenciador.salvarJogo(personagem);
+    }
+
+    @Benchmark
+    public Personagem carregar() {
+        return gerenciador.carregarJogo(caminhoSalvo);
+    }
+
+    @Benchmark
+    public Personagem salvarECarregar() {
+        gerenciador.salvarJogo(personagem);
+        return gerenciador.carregarJogo(caminhoSalvo);
+    }
+}
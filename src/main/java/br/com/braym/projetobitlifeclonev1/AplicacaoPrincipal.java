@@ -9,7 +9,6 @@ import br.com.braym.projetobitlifeclonev1.presentation.InterfaceConsole;
 import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
 
 import java.io.InputStream;
-import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -145,28 +144,16 @@ public class AplicacaoPrincipal {
     private static void carregarJogoSalvo(InterfaceConsole interfaceConsole, ProvedorEntrada provedorEntrada,
             FabricaJogo fabrica) {
         GerenciadorSalvamentoJogo gerenciador = fabrica.criarGerenciadorSalvamento();
-        List<DadosJogoSalvo> jogosSalvos = gerenciador.listarJogosSalvos();
-
-        if (jogosSalvos.isEmpty()) {
-            System.out.println("Não há jogos salvos disponíveis.");
+        DadosJogoSalvo jogoEscolhido = interfaceConsole.escolherJogoSalvo(gerenciador);
+        if (jogoEscolhido == null) {
             return;
         }
+        String caminhoArquivo = jogoEscolhido.getCaminhoArquivo();
 
-        System.out.println("\nDigite qual jogo você quer carregar:");
-        for (int i = 0; i < jogosSalvos.size(); i++) {
-            DadosJogoSalvo jogo = jogosSalvos.get(i);
-            System.out.printf("%d - %s_%d_%s\n", i + 1, jogo.getNomePersonagem(), jogo.getIdade(),
-                    jogo.getDataSalvamento());
-        }
-
-        int escolha = provedorEntrada.lerInteiroComIntervalo("Escolha: ", 1, jogosSalvos.size());
-        String caminhoArquivo = jogosSalvos.get(escolha - 1).getCaminhoArquivo();
-
-        Personagem personagemCarregado = gerenciador.carregarJogo(caminhoArquivo);
+        MotorJogo motor = fabrica.carregarJogo(caminhoArquivo);
 
-        if (personagemCarregado != null) {
+        if (motor != null) {
             System.out.println("Jogo carregado com sucesso!");
-            MotorJogo motor = fabrica.criarJogoComPersonagem(personagemCarregado);
             motor.executar();
         } else {
             System.out.println("Falha ao carregar o jogo. O arquivo pode estar corrompido.");
@@ -2,11 +2,16 @@ package br.com.braym.projetobitlifeclonev1.application;
 
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
 import br.com.braym.projetobitlifeclonev1.impl.ConsoleObservador;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.DiarioSalvamento;
 import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.SalvamentoAutomatico;
 import br.com.braym.projetobitlifeclonev1.presentation.InterfaceConsole;
 import br.com.braym.projetobitlifeclonev1.service.CarregadorEventos;
 import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
 import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+import java.nio.file.Path;
 
 /**
  * Fábrica para criar instâncias do jogo e seus componentes.
@@ -15,6 +20,7 @@ import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
 public class FabricaJogo {
     
     private final String pastaBases;
+    private final RegistroConteudo registroConteudo;
     
     /**
      * Construtor que define a pasta base de arquivos
@@ -22,6 +28,7 @@ public class FabricaJogo {
      */
     public FabricaJogo(String pastaBases) {
         this.pastaBases = pastaBases;
+        this.registroConteudo = RegistroConteudo.obter(pastaBases);
     }
     
     /**
@@ -30,6 +37,16 @@ public class FabricaJogo {
      * @return Motor do jogo pronto para execução
      */
     public MotorJogo criarJogo(String nomePersonagem) {
+        return criarJogo(nomePersonagem, null);
+    }
+    
+    /**
+     * Cria uma instância completa do motor do jogo que registra cada ação em um diário
+     * @param nomePersonagem Nome do personagem inicial
+     * @param diario Diário de salvamento (pode ser nulo para desligar o modo diário)
+     * @return Motor do jogo pronto para execução
+     */
+    public MotorJogo criarJogo(String nomePersonagem, DiarioSalvamento diario) {
         // Cria as dependências necessárias
         ProvedorEntrada provedorEntrada = criarProvedorEntrada();
         GerenciadorSalvamentoJogo gerenciadorSalvamento = criarGerenciadorSalvamento();
@@ -45,7 +62,9 @@ public class FabricaJogo {
             gerenciadorEventos,
             interfaceConsole,
             provedorEntrada,
-            gerenciadorSalvamento
+            gerenciadorSalvamento,
+            diario,
+            criarSalvamentoAutomatico(gerenciadorSalvamento)
         );
     }
     
@@ -74,10 +93,33 @@ public class FabricaJogo {
                 gerenciadorEventos,
                 interfaceConsole,
                 provedorEntrada,
-                gerenciadorSalvamento
+                gerenciadorSalvamento,
+                null,
+                criarSalvamentoAutomatico(gerenciadorSalvamento)
             );
     }
     
+    /**
+     * Carrega um jogo salvo e cria o motor do jogo com o personagem e os
+     * eventos já usados restaurados
+     * @param caminhoArquivo Caminho do arquivo salvo
+     * @return Motor do jogo pronto para execução ou null se o arquivo não puder ser carregado
+     */
+    public MotorJogo carregarJogo(String caminhoArquivo) {
+        ProvedorEntrada provedorEntrada = criarProvedorEntrada();
+        GerenciadorSalvamentoJogo gerenciadorSalvamento = criarGerenciadorSalvamento();
+        GerenciadorEventos gerenciadorEventos = criarGerenciadorEventos(provedorEntrada);
+        InterfaceConsole interfaceConsole = criarInterfaceConsole(provedorEntrada);
+
+        // O observador de console já é adicionado no carregamento
+        Personagem personagem = gerenciadorSalvamento.carregarJogo(caminhoArquivo, gerenciadorEventos);
+        if (personagem == null) {
+            return null;
+        }
+        return new MotorJogo(personagem, gerenciadorEventos, interfaceConsole, provedorEntrada, gerenciadorSalvamento,
+                null, criarSalvamentoAutomatico(gerenciadorSalvamento));
+    }
+    
     /**
      * Cria o provedor de entrada do usuário
      * @return Provedor de entrada configurado
@@ -91,7 +133,26 @@ public class FabricaJogo {
      * @return Gerenciador de salvamento configurado
      */
     public GerenciadorSalvamentoJogo criarGerenciadorSalvamento() {
-        return new GerenciadorSalvamentoJogo();
+        return new GerenciadorSalvamentoJogo(registroConteudo);
+    }
+    
+    /**
+     * Cria o salvamento automático, que grava o personagem em segundo plano
+     * depois de cada ação
+     * @param gerenciadorSalvamento Gerenciador da pasta e do formato dos salvamentos
+     * @return Salvamento automático configurado
+     */
+    public SalvamentoAutomatico criarSalvamentoAutomatico(GerenciadorSalvamentoJogo gerenciadorSalvamento) {
+        return new SalvamentoAutomatico(gerenciadorSalvamento);
+    }
+    
+    /**
+     * Cria o diário de salvamento, que grava só as alterações de cada ação
+     * @param pasta Pasta dos diários
+     * @return Diário configurado
+     */
+    public DiarioSalvamento criarDiario(Path pasta) {
+        return new DiarioSalvamento(pasta, registroConteudo);
     }
     
     /**
@@ -109,7 +170,7 @@ public class FabricaJogo {
      * @return Gerenciador de eventos configurado
      */
     public GerenciadorEventos criarGerenciadorEventos(ProvedorEntrada provedorEntrada) {
-        return new GerenciadorEventos(pastaBases, provedorEntrada);
+        return new GerenciadorEventos(registroConteudo, provedorEntrada);
     }
     
     /**
@@ -127,7 +188,7 @@ public class FabricaJogo {
      * @return Personagem configurado
      */
     public Personagem criarPersonagem(String nome) {
-        Personagem personagem = new Personagem(nome);
+        Personagem personagem = new Personagem(nome, registroConteudo);
         personagem.adicionarObservador(new ConsoleObservador());
         
         // Criar família inicial com referência ao personagem para definir finanças
@@ -2,10 +2,13 @@ package br.com.braym.projetobitlifeclonev1.application;
 
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
 import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.DiarioSalvamento;
 import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo;
 import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo.DadosJogoSalvo;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.SalvamentoAutomatico;
 import br.com.braym.projetobitlifeclonev1.presentation.InterfaceConsole;
 import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorRelacionamentos;
 import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
 
 import java.util.HashMap;
@@ -27,6 +30,12 @@ public class MotorJogo {
     private final InterfaceConsole interfaceConsole;
     private final ProvedorEntrada provedorEntrada;
     private final GerenciadorSalvamentoJogo gerenciadorSalvamento;
+
+    // Diário que registra cada ação (null quando o modo diário está desligado)
+    private final DiarioSalvamento diario;
+
+    // Salvamento automático após cada ação (null quando desligado)
+    private final SalvamentoAutomatico salvamentoAutomatico;
     
     // Mapa de comandos usando Supplier<Boolean>
     private final Map<Integer, Supplier<Boolean>> comandos = new HashMap<>();
@@ -42,11 +51,50 @@ public class MotorJogo {
      */
     public MotorJogo(Personagem personagem, GerenciadorEventos gerenciadorEventos, InterfaceConsole interfaceConsole,
             ProvedorEntrada provedorEntrada, GerenciadorSalvamentoJogo gerenciadorSalvamento) {
+        this(personagem, gerenciadorEventos, interfaceConsole, provedorEntrada, gerenciadorSalvamento, null);
+    }
+
+    /**
+     * Construtor com injeção de dependências e salvamento em modo diário
+     * 
+     * @param personagem            Personagem inicial do jogo
+     * @param gerenciadorEventos    Gerenciador de eventos do jogo
+     * @param interfaceConsole      Interface de usuário
+     * @param provedorEntrada       Provedor de entrada do usuário
+     * @param gerenciadorSalvamento Gerenciador de salvamento/carregamento
+     * @param diario                Diário que registra cada ação (pode ser nulo)
+     */
+    public MotorJogo(Personagem personagem, GerenciadorEventos gerenciadorEventos, InterfaceConsole interfaceConsole,
+            ProvedorEntrada provedorEntrada, GerenciadorSalvamentoJogo gerenciadorSalvamento,
+            DiarioSalvamento diario) {
+        this(personagem, gerenciadorEventos, interfaceConsole, provedorEntrada, gerenciadorSalvamento, diario, null);
+    }
+
+    /**
+     * Construtor com injeção de dependências, salvamento em modo diário e
+     * salvamento automático
+     * 
+     * @param personagem            Personagem inicial do jogo
+     * @param gerenciadorEventos    Gerenciador de eventos do jogo
+     * @param interfaceConsole      Interface de usuário
+     * @param provedorEntrada       Provedor de entrada do usuário
+     * @param gerenciadorSalvamento Gerenciador de salvamento/carregamento
+     * @param diario                Diário que registra cada ação (pode ser nulo)
+     * @param salvamentoAutomatico  Salvamento automático após cada ação (pode ser nulo)
+     */
+    public MotorJogo(Personagem personagem, GerenciadorEventos gerenciadorEventos, InterfaceConsole interfaceConsole,
+            ProvedorEntrada provedorEntrada, GerenciadorSalvamentoJogo gerenciadorSalvamento,
+            DiarioSalvamento diario, SalvamentoAutomatico salvamentoAutomatico) {
         this.personagem = personagem;
         this.gerenciadorEventos = gerenciadorEventos;
         this.interfaceConsole = interfaceConsole;
         this.provedorEntrada = provedorEntrada;
         this.gerenciadorSalvamento = gerenciadorSalvamento;
+        this.diario = diario;
+        this.salvamentoAutomatico = salvamentoAutomatico;
+        if (diario != null) {
+            diario.iniciar(personagem, gerenciadorEventos);
+        }
         
         inicializarComandos();
     }
@@ -102,6 +150,7 @@ public class MotorJogo {
     private boolean processarEnvelhecimento() {
         int idadeAnterior = personagem.envelhecer();
         gerenciadorEventos.verificarMudancaFase(personagem, idadeAnterior);
+        registrarAcao();
         return true;
     }
 
@@ -115,6 +164,7 @@ public class MotorJogo {
 		if (!sucesso) {
 			System.out.println("Tente envelhecer para ter acesso a novos eventos.");
 		}
+		registrarAcao();
 		return true;
 	}
 
@@ -134,7 +184,7 @@ public class MotorJogo {
 	 * @return true para continuar o jogo
 	 */
 	private boolean salvarJogo() {
-		boolean sucesso = gerenciadorSalvamento.salvarJogo(personagem);
+		boolean sucesso = gerenciadorSalvamento.salvarJogo(personagem, gerenciadorEventos);
 		if (sucesso) {
 			System.out.println("Jogo salvo com sucesso!");
 		} else {
@@ -149,27 +199,19 @@ public class MotorJogo {
 	 * @return true para continuar o jogo
 	 */
 	private boolean carregarJogo() {
-		List<DadosJogoSalvo> jogosSalvos = gerenciadorSalvamento.listarJogosSalvos();
-
-		if (jogosSalvos.isEmpty()) {
-			System.out.println("Não há jogos salvos disponíveis.");
+		DadosJogoSalvo jogoEscolhido = interfaceConsole.escolherJogoSalvo(gerenciadorSalvamento);
+		if (jogoEscolhido == null) {
 			return true;
 		}
+		String caminhoArquivo = jogoEscolhido.getCaminhoArquivo();
 
-		System.out.println("\nDigite qual jogo você quer carregar:");
-		for (int i = 0; i < jogosSalvos.size(); i++) {
-			DadosJogoSalvo jogo = jogosSalvos.get(i);
-			System.out.printf("%d - %s_%d_%s\n", i + 1, jogo.getNomePersonagem(), jogo.getIdade(),
-					jogo.getDataSalvamento());
-		}
-
-		int escolha = provedorEntrada.lerInteiroComIntervalo("Escolha: ", 1, jogosSalvos.size());
-		String caminhoArquivo = jogosSalvos.get(escolha - 1).getCaminhoArquivo();
-
-		Personagem personagemCarregado = gerenciadorSalvamento.carregarJogo(caminhoArquivo);
+		Personagem personagemCarregado = gerenciadorSalvamento.carregarJogo(caminhoArquivo, gerenciadorEventos);
 
 		if (personagemCarregado != null) {
 			this.personagem = personagemCarregado;
+			if (diario != null) {
+				diario.iniciar(personagemCarregado, gerenciadorEventos);
+			}
 			System.out.println("Jogo carregado com sucesso!");
 		} else {
 			System.out.println("Falha ao carregar o jogo. O arquivo pode estar corrompido.");
@@ -191,6 +233,7 @@ public class MotorJogo {
 	        exibirRelacionamentos(relacionamentos);
 	        if (desejaInteragir()) {
 	            interagirComRelacionamento(relacionamentos);
+	            registrarAcao();
 	        }
 	    }
 	    return true;
@@ -206,10 +249,15 @@ public class MotorJogo {
 	    System.out.println("Relacionamentos de " + personagem.getNomeCompleto());
 	    System.out.println("=".repeat(50));
 
+	    // Uma linha por relacionamento, montada sempre no mesmo buffer
+	    StringBuilder linha = new StringBuilder(64);
 	    for (int i = 0; i < relacionamentos.size(); i++) {
 	        Relacionamento rel = relacionamentos.get(i);
-	        System.out.println((i + 1) + ". " + rel.getPessoa().getNomeCompleto() + " - " + 
-	                          rel.getTipo().getDescricao() + " (Nível: " + rel.getNivel() + ")");
+	        linha.setLength(0);
+	        linha.append(i + 1).append(". ");
+	        rel.getPessoa().escreverNomeCompleto(linha).append(" - ")
+	                .append(rel.getTipo().getDescricao()).append(" (Nível: ").append(rel.getNivel()).append(')');
+	        System.out.println(linha);
 	    }
 	}
 
@@ -233,25 +281,24 @@ public class MotorJogo {
 	    int indice = provedorEntrada.lerInteiroComIntervalo("Escolha o número do relacionamento: ", 1, relacionamentos.size());
 	    Relacionamento escolhido = relacionamentos.get(indice - 1);
 
-	    // Obtém interações disponíveis para a idade atual
-	    List<String> interacoesDisponiveis = personagem.getGerenciadorRelacionamentos()
-	                                              .obterInteracoesDisponiveis(personagem);
+	    // Obtém interações disponíveis para a idade atual, já como ordinais da tabela
+	    GerenciadorRelacionamentos gerenciador = personagem.getGerenciadorRelacionamentos();
+	    int[] interacoesDisponiveis = gerenciador.obterOrdinaisDisponiveis(personagem);
 	    
-	    if (interacoesDisponiveis.isEmpty()) {
+	    if (interacoesDisponiveis.length == 0) {
 	        System.out.println("Não há interações disponíveis para sua idade atual.");
 	        return;
 	    }
 	    
 	    System.out.println("\nEscolha o tipo de interação:");
-	    for (int i = 0; i < interacoesDisponiveis.size(); i++) {
-	        System.out.println((i + 1) + ". " + formatarNomeInteracao(interacoesDisponiveis.get(i)));
+	    for (int i = 0; i < interacoesDisponiveis.length; i++) {
+	        System.out.println((i + 1) + ". " + formatarNomeInteracao(gerenciador.getNomeInteracao(interacoesDisponiveis[i])));
 	    }
 
-	    int tipoInteracao = provedorEntrada.lerInteiroComIntervalo("Escolha: ", 1, interacoesDisponiveis.size());
-	    String tipoEscolhido = interacoesDisponiveis.get(tipoInteracao - 1);
+	    int tipoInteracao = provedorEntrada.lerInteiroComIntervalo("Escolha: ", 1, interacoesDisponiveis.length);
 
-	    String resultado = personagem.getGerenciadorRelacionamentos()
-	                               .interagir(personagem, escolhido.getPessoa().getId(), tipoEscolhido);
+	    String resultado = gerenciador.interagir(personagem, escolhido.getPessoa().getId(),
+	                                             interacoesDisponiveis[tipoInteracao - 1]);
 	    System.out.println(resultado);
 	}
 
@@ -272,9 +319,29 @@ public class MotorJogo {
 	 */
 	private boolean encerrarJogo() {
 		System.out.println("Encerrando o jogo...");
+		if (diario != null) {
+			diario.close();
+		}
+		if (salvamentoAutomatico != null) {
+			salvamentoAutomatico.close();
+		}
 		return false;
 	}
 
+	/**
+	 * Acrescenta ao diário as alterações da última ação, se o modo diário
+	 * estiver ligado, e agenda o salvamento automático. Nenhum dos dois
+	 * espera pela gravação do salvamento automático.
+	 */
+	private void registrarAcao() {
+		if (diario != null && !diario.registrar()) {
+			System.out.println("Falha ao registrar a ação no diário. Verifique os logs para mais detalhes.");
+		}
+		if (salvamentoAutomatico != null) {
+			salvamentoAutomatico.agendar(personagem, gerenciadorEventos);
+		}
+	}
+
 	/**
 	 * Processa opção inválida do menu
 	 * 
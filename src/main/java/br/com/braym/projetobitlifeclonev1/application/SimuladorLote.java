@@ -0,0 +1,310 @@
+package br.com.braym.projetobitlifeclonev1.application;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+import br.com.braym.projetobitlifeclonev1.utils.ContextoAleatorio;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Motor de simulação em lote, sem console. Executa vidas completas (do
+ * nascimento até a morte) em paralelo usando um ForkJoinPool com roubo de
+ * trabalho. As escolhas dos eventos são feitas por uma política de decisão.
+ * Cada vida usa um gerador aleatório próprio, derivado da semente do lote, e
+ * pode ser reproduzida a partir da sua semente.
+ */
+public class SimuladorLote {
+    private static final Logger LOGGER = Logger.getLogger(SimuladorLote.class.getName());
+    private static final String PASTA_EVENTOS = "Eventos";
+
+    // Mantém uma referência forte para que o nível configurado não seja perdido
+    private static final Logger LOGGER_RAIZ = Logger.getLogger("br.com.braym.projetobitlifeclonev1");
+
+    // Idade em que a vida é encerrada mesmo que a saúde não tenha chegado a zero
+    private static final int IDADE_MAXIMA = 120;
+
+    // Abaixo deste número de vidas a tarefa é executada sem ser dividida
+    private static final int LIMIAR_DIVISAO = 16;
+
+    private final RegistroConteudo registroConteudo;
+    private final PoliticaDecisao politicaDecisao;
+    private final int paralelismo;
+    private final int eventosPorAno;
+    private final long sementeMestre;
+
+    /**
+     * Construtor com injeção de dependências e semente aleatória
+     *
+     * @param pastaBases      Pasta base onde estão os arquivos de eventos
+     * @param politicaDecisao Política que escolhe as opções dos eventos (deve ser thread-safe)
+     * @param paralelismo     Número de threads do ForkJoinPool
+     * @param eventosPorAno   Quantidade de eventos processados a cada ano de vida
+     */
+    public SimuladorLote(String pastaBases, PoliticaDecisao politicaDecisao, int paralelismo, int eventosPorAno) {
+        this(pastaBases, politicaDecisao, paralelismo, eventosPorAno, System.nanoTime());
+    }
+
+    /**
+     * Construtor com injeção de dependências
+     *
+     * @param pastaBases      Pasta base onde estão os arquivos de eventos
+     * @param politicaDecisao Política que escolhe as opções dos eventos (deve ser thread-safe)
+     * @param paralelismo     Número de threads do ForkJoinPool
+     * @param eventosPorAno   Quantidade de eventos processados a cada ano de vida
+     * @param sementeMestre   Semente da qual derivam as sementes de cada vida
+     */
+    public SimuladorLote(String pastaBases, PoliticaDecisao politicaDecisao, int paralelismo, int eventosPorAno,
+            long sementeMestre) {
+        if (politicaDecisao == null) {
+            throw new IllegalArgumentException("Política de decisão não pode ser nula");
+        }
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero");
+        }
+        if (eventosPorAno < 0) {
+            throw new IllegalArgumentException("Eventos por ano não pode ser negativo");
+        }
+        this.registroConteudo = RegistroConteudo.obter(pastaBases);
+        this.politicaDecisao = politicaDecisao;
+        this.paralelismo = paralelismo;
+        this.eventosPorAno = eventosPorAno;
+        this.sementeMestre = sementeMestre;
+    }
+
+    public long getSementeMestre() {
+        return sementeMestre;
+    }
+
+    /**
+     * Obtém a semente usada por uma vida do lote
+     *
+     * @param indice Índice da vida dentro do lote
+     * @return Semente que reproduz a vida com simularVida(long)
+     */
+    public long getSementeDaVida(int indice) {
+        return ContextoAleatorio.derivarSemente(sementeMestre, indice);
+    }
+
+    /**
+     * Simula uma quantidade de vidas completas em paralelo
+     *
+     * @param quantidadeVidas Número de vidas a simular
+     * @return Resultado agregado da simulação, incluindo a vazão em vidas/segundo
+     */
+    public ResultadoLote simular(int quantidadeVidas) {
+        if (quantidadeVidas < 0) {
+            throw new IllegalArgumentException("Quantidade de vidas não pode ser negativa");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            long inicio = System.nanoTime();
+            Totais totais = pool.invoke(new TarefaSimulacao(0, quantidadeVidas));
+            long duracao = System.nanoTime() - inicio;
+
+            LOGGER.info("Simulação em lote concluída: " + totais.vidas + " vidas em "
+                    + TimeUnit.NANOSECONDS.toMillis(duracao) + " ms");
+            return new ResultadoLote(totais.vidas, totais.anos, totais.eventos, duracao, paralelismo);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Simula uma vida completa a partir de uma semente. A mesma semente produz
+     * sempre a mesma vida.
+     *
+     * @param semente Semente da vida (veja getSementeDaVida)
+     * @return Personagem ao final da vida
+     */
+    public Personagem simularVida(long semente) {
+        return new ContextoAleatorio(semente).executar(() -> {
+            Personagem personagem = new Personagem("Simulado", registroConteudo);
+            viver(personagem, new Totais());
+            return personagem;
+        });
+    }
+
+    /**
+     * Simula a vida de índice informado dentro do lote
+     *
+     * @param indice Índice da vida dentro do lote
+     * @return Totais da vida simulada
+     */
+    private Totais simularVida(int indice) {
+        return new ContextoAleatorio(getSementeDaVida(indice)).executar(() -> {
+            Totais totais = new Totais();
+            viver(new Personagem("Simulado", registroConteudo), totais);
+            return totais;
+        });
+    }
+
+    /**
+     * Conduz o personagem do nascimento até a morte, acumulando os totais
+     *
+     * @param personagem Personagem recém-criado
+     * @param totais     Acumulador dos totais da vida
+     */
+    private void viver(Personagem personagem, Totais totais) {
+        GerenciadorEventos gerenciadorEventos = new GerenciadorEventos(registroConteudo, politicaDecisao);
+
+        while (estaVivo(personagem)) {
+            int idadeAnterior = personagem.envelhecer();
+            gerenciadorEventos.verificarMudancaFase(personagem, idadeAnterior);
+            totais.anos++;
+
+            for (int i = 0; i < eventosPorAno && estaVivo(personagem); i++) {
+                if (gerenciadorEventos.processarEvento(personagem)) {
+                    totais.eventos++;
+                }
+            }
+        }
+        totais.vidas = 1;
+    }
+
+    /**
+     * Verifica se o personagem continua vivo
+     *
+     * @param personagem Personagem a verificar
+     * @return true enquanto a saúde for positiva e a idade máxima não for atingida
+     */
+    private boolean estaVivo(Personagem personagem) {
+        return personagem.getSaude() > 0 && personagem.getIdade() < IDADE_MAXIMA;
+    }
+
+    /**
+     * Tarefa recursiva que divide um intervalo de vidas até o limiar e as
+     * simula sequencialmente. As subtarefas ficam disponíveis para roubo por
+     * outras threads do pool.
+     */
+    private class TarefaSimulacao extends RecursiveTask<Totais> {
+        private static final long serialVersionUID = 1L;
+
+        private final int inicio;
+        private final int fim;
+
+        TarefaSimulacao(int inicio, int fim) {
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected Totais compute() {
+            if (fim - inicio <= LIMIAR_DIVISAO) {
+                Totais totais = new Totais();
+                for (int i = inicio; i < fim; i++) {
+                    totais.somar(simularVida(i));
+                }
+                return totais;
+            }
+
+            int meio = (inicio + fim) >>> 1;
+            TarefaSimulacao esquerda = new TarefaSimulacao(inicio, meio);
+            TarefaSimulacao direita = new TarefaSimulacao(meio, fim);
+            esquerda.fork();
+            Totais totais = direita.compute();
+            return totais.somar(esquerda.join());
+        }
+    }
+
+    /**
+     * Acumulador mutável dos totais de uma tarefa
+     */
+    private static final class Totais {
+        private long vidas;
+        private long anos;
+        private long eventos;
+
+        private Totais somar(Totais outros) {
+            vidas += outros.vidas;
+            anos += outros.anos;
+            eventos += outros.eventos;
+            return this;
+        }
+    }
+
+    /**
+     * Representa o resultado agregado de uma simulação em lote
+     */
+    public static class ResultadoLote {
+        private final long vidas;
+        private final long anosSimulados;
+        private final long eventosProcessados;
+        private final long duracaoNanos;
+        private final int paralelismo;
+
+        public ResultadoLote(long vidas, long anosSimulados, long eventosProcessados, long duracaoNanos,
+                int paralelismo) {
+            this.vidas = vidas;
+            this.anosSimulados = anosSimulados;
+            this.eventosProcessados = eventosProcessados;
+            this.duracaoNanos = duracaoNanos;
+            this.paralelismo = paralelismo;
+        }
+
+        public long getVidas() {
+            return vidas;
+        }
+
+        public long getAnosSimulados() {
+            return anosSimulados;
+        }
+
+        public long getEventosProcessados() {
+            return eventosProcessados;
+        }
+
+        public long getDuracaoNanos() {
+            return duracaoNanos;
+        }
+
+        public int getParalelismo() {
+            return paralelismo;
+        }
+
+        /**
+         * Calcula a vazão da simulação
+         *
+         * @return Vidas simuladas por segundo
+         */
+        public double getVidasPorSegundo() {
+            if (duracaoNanos <= 0) {
+                return 0;
+            }
+            return vidas * 1_000_000_000.0 / duracaoNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d vidas, %d anos, %d eventos em %.2f s (%d threads) - %.1f vidas/s",
+                    vidas, anosSimulados, eventosProcessados, duracaoNanos / 1_000_000_000.0, paralelismo,
+                    getVidasPorSegundo());
+        }
+    }
+
+    /**
+     * Executa uma simulação em lote pela linha de comando
+     *
+     * @param args [quantidade de vidas] [paralelismo] [eventos por ano] [semente]
+     */
+    public static void main(String[] args) {
+        int quantidadeVidas = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int paralelismo = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int eventosPorAno = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long semente = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        // Os logs informativos do jogo dominariam o tempo da simulação
+        LOGGER_RAIZ.setLevel(Level.WARNING);
+
+        SimuladorLote simulador = new SimuladorLote(PASTA_EVENTOS, PoliticaDecisao.aleatoria(), paralelismo,
+                eventosPorAno, semente);
+        ResultadoLote resultado = simulador.simular(quantidadeVidas);
+        System.out.println(resultado + " [semente " + semente + "]");
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Alocador dos ids das pessoas. Um id é um long; o alocador em uso pode ser
+ * trocado (por exemplo, por uma sequência simples em testes e ferramentas).
+ *
+ * O alocador padrão é temporal, no estilo snowflake: os bits altos são os
+ * milissegundos desde 2020 e os 22 bits baixos uma sequência, de modo que os
+ * ids não se repetem entre execuções. Cada thread reserva uma faixa de ids
+ * de uma vez, e a geração em paralelo não disputa a cada pessoa criada.
+ *
+ * Os ids gerados são sempre não negativos. Os ids antigos, em formato UUID,
+ * são convertidos para ids negativos, que não colidem com os gerados.
+ */
+public abstract class AlocadorIds {
+    private static volatile AlocadorIds atual = temporal();
+
+    /**
+     * Obtém um id novo
+     */
+    public abstract long proximo();
+
+    /**
+     * Obtém o alocador usado na criação das pessoas
+     */
+    public static AlocadorIds atual() {
+        return atual;
+    }
+
+    /**
+     * Troca o alocador usado na criação das pessoas
+     * @param alocador Novo alocador
+     */
+    public static void instalar(AlocadorIds alocador) {
+        if (alocador == null) {
+            throw new IllegalArgumentException("Alocador de ids não pode ser nulo");
+        }
+        atual = alocador;
+    }
+
+    /**
+     * Cria um alocador temporal, o padrão
+     */
+    public static AlocadorIds temporal() {
+        return new Temporal();
+    }
+
+    /**
+     * Cria um alocador sequencial, para um mundo cujos ids não precisam
+     * ser únicos entre execuções
+     * @param primeiro Primeiro id devolvido
+     */
+    public static AlocadorIds sequencial(long primeiro) {
+        if (primeiro < 0) {
+            throw new IllegalArgumentException("Ids gerados não podem ser negativos");
+        }
+        AtomicLong sequencia = new AtomicLong(primeiro);
+        return new AlocadorIds() {
+            @Override
+            public long proximo() {
+                return sequencia.getAndIncrement();
+            }
+        };
+    }
+
+    /**
+     * Converte o texto de um id salvo: um número, no formato atual, ou um
+     * UUID, no formato antigo
+     * @param texto Id salvo
+     * @return Id da pessoa
+     * @throws IllegalArgumentException se o texto não for um id
+     */
+    public static long converter(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            throw new IllegalArgumentException("Id da pessoa não pode ser vazio");
+        }
+        if (texto.length() == 36 && texto.charAt(8) == '-') {
+            UUID uuid = UUID.fromString(texto);
+            return (uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits()) | Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(texto);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Id de pessoa inválido: " + texto, e);
+        }
+    }
+
+    /**
+     * Alocador temporal: milissegundos desde a época nos bits altos e uma
+     * sequência nos baixos, reservada em faixas por thread
+     */
+    private static final class Temporal extends AlocadorIds {
+        private static final long EPOCA = 1_577_836_800_000L; // 01/01/2020 UTC
+        private static final int BITS_SEQUENCIA = 22;
+        private static final int FAIXA = 1024;
+
+        // Fim da última faixa reservada
+        private final AtomicLong ultimo = new AtomicLong();
+        // Próximo id e fim da faixa da thread
+        private final ThreadLocal<long[]> faixa = ThreadLocal.withInitial(() -> new long[2]);
+
+        @Override
+        public long proximo() {
+            long[] atual = faixa.get();
+            if (atual[0] == atual[1]) {
+                long agora = (System.currentTimeMillis() - EPOCA) << BITS_SEQUENCIA;
+                long fim = ultimo.accumulateAndGet(agora, (anterior, minimo) -> Math.max(anterior, minimo) + FAIXA);
+                atual[0] = fim - FAIXA;
+                atual[1] = fim;
+            }
+            return atual[0]++;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+/**
+ * Registro tipado de uma alteração no personagem: o que mudou, o valor
+ * anterior e o novo valor. A mensagem textual só é montada quando um
+ * observador a solicita.
+ */
+public final class AlteracaoPersonagem {
+
+    /**
+     * Tipos de alteração, com o texto usado na mensagem
+     */
+    public enum Tipo {
+        NOME("Nome alterado para: ", true),
+        SOBRENOME("Sobrenome alterado para: ", true),
+        IDADE("Idade alterada para: ", false),
+        APARENCIA("Aparência atualizada para: ", false),
+        SAUDE("Saúde atualizada para: ", false),
+        SANIDADE("Sanidade atualizada para: ", false),
+        FELICIDADE("Felicidade atualizada para: ", false),
+        INTELIGENCIA("Inteligência atualizada para: ", false),
+        CARISMA("Carisma atualizado para: ", false),
+        FINANCAS("Finanças atualizadas para: ", false),
+        ENVELHECIMENTO("Envelhecimento: idade = ", false),
+        ESTADO_VIDA_ALTERADO("Estado de vida alterado para: ", true),
+        ESTADO_VIDA_DEFINIDO("Estado de vida definido como: ", true),
+        NOVA_AMIZADE("Você conheceu ", true);
+
+        private final String prefixo;
+        private final boolean textual;
+
+        Tipo(String prefixo, boolean textual) {
+            this.prefixo = prefixo;
+            this.textual = textual;
+        }
+
+        /**
+         * Indica se as alterações deste tipo têm valores textuais
+         *
+         * @return true para nome, estado de vida e amizade
+         */
+        public boolean isTextual() {
+            return textual;
+        }
+
+        /**
+         * Indica se alterações seguidas deste tipo podem ser combinadas em uma
+         * só, ou seja, se o tipo descreve um estado e não uma ocorrência
+         *
+         * @return false apenas para novas amizades
+         */
+        public boolean isCombinavel() {
+            return this != NOVA_AMIZADE;
+        }
+    }
+
+    private final Personagem fonte;
+    private final Tipo tipo;
+    private final int valorAnterior;
+    private final int valorNovo;
+    private final String textoAnterior;
+    private final String textoNovo;
+
+    private AlteracaoPersonagem(Personagem fonte, Tipo tipo, int valorAnterior, int valorNovo,
+            String textoAnterior, String textoNovo) {
+        this.fonte = fonte;
+        this.tipo = tipo;
+        this.valorAnterior = valorAnterior;
+        this.valorNovo = valorNovo;
+        this.textoAnterior = textoAnterior;
+        this.textoNovo = textoNovo;
+    }
+
+    /**
+     * Cria o registro de uma alteração de valor numérico (atributos, idade)
+     *
+     * @param fonte         Personagem alterado
+     * @param tipo          Tipo da alteração
+     * @param valorAnterior Valor antes da alteração
+     * @param valorNovo     Valor depois da alteração
+     * @return Registro da alteração
+     */
+    public static AlteracaoPersonagem numerica(Personagem fonte, Tipo tipo, int valorAnterior, int valorNovo) {
+        return new AlteracaoPersonagem(fonte, tipo, valorAnterior, valorNovo, null, null);
+    }
+
+    /**
+     * Cria o registro de uma alteração textual (nome, estado de vida, amizade)
+     *
+     * @param fonte         Personagem alterado
+     * @param tipo          Tipo da alteração
+     * @param textoAnterior Texto antes da alteração (pode ser nulo)
+     * @param textoNovo     Texto depois da alteração
+     * @return Registro da alteração
+     */
+    public static AlteracaoPersonagem textual(Personagem fonte, Tipo tipo, String textoAnterior, String textoNovo) {
+        return new AlteracaoPersonagem(fonte, tipo, 0, 0, textoAnterior, textoNovo);
+    }
+
+    public Personagem getFonte() {
+        return fonte;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public int getValorAnterior() {
+        return valorAnterior;
+    }
+
+    public int getValorNovo() {
+        return valorNovo;
+    }
+
+    public String getTextoAnterior() {
+        return textoAnterior;
+    }
+
+    public String getTextoNovo() {
+        return textoNovo;
+    }
+
+    /**
+     * Combina esta alteração com uma alteração posterior do mesmo tipo no
+     * mesmo personagem, mantendo o valor anterior desta e o novo valor da outra
+     *
+     * @param posterior Alteração feita depois desta
+     * @return Alteração equivalente às duas
+     */
+    public AlteracaoPersonagem combinar(AlteracaoPersonagem posterior) {
+        if (posterior.fonte != fonte || posterior.tipo != tipo) {
+            throw new IllegalArgumentException("Só é possível combinar alterações do mesmo tipo e personagem");
+        }
+        return new AlteracaoPersonagem(fonte, tipo, valorAnterior, posterior.valorNovo,
+                textoAnterior, posterior.textoNovo);
+    }
+
+    /**
+     * Monta a mensagem da alteração, no mesmo formato das notificações textuais
+     *
+     * @return Mensagem para exibição
+     */
+    public String formatarMensagem() {
+        if (tipo == Tipo.NOVA_AMIZADE) {
+            return tipo.prefixo + textoNovo + " e vocês se tornaram amigos!";
+        }
+        return tipo.prefixo + (tipo.isTextual() ? textoNovo : String.valueOf(valorNovo));
+    }
+
+    @Override
+    public String toString() {
+        return formatarMensagem();
+    }
+}
@@ -1,5 +1,23 @@
 package br.com.braym.projetobitlifeclonev1.domain;
 
 public enum Atributo {
-    FINANCAS, SAUDE, FELICIDADE, INTELIGENCIA, SANIDADE, CARISMA;
+    FINANCAS, SAUDE, FELICIDADE, INTELIGENCIA, SANIDADE, CARISMA, APARENCIA;
+
+    /**
+     * Obtém o atributo pelo nome usado nos arquivos de eventos
+     * 
+     * @param nome Nome do atributo (insensível a caso)
+     * @return Atributo correspondente ou null se o nome não for reconhecido
+     */
+    public static Atributo porNome(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        for (Atributo atributo : values()) {
+            if (atributo.name().equalsIgnoreCase(nome.trim())) {
+                return atributo;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,80 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+import br.com.braym.projetobitlifeclonev1.utils.SelecaoPonderada;
+import br.com.braym.projetobitlifeclonev1.utils.TabelaAlias;
+
+import java.util.List;
+
+/**
+ * Catálogo imutável dos eventos de uma fase da vida, com os pesos já
+ * compilados em uma tabela de alias para sorteios ponderados em O(1).
+ * Pode ser compartilhado entre personagens e threads.
+ */
+public final class CatalogoEventos {
+    private static final CatalogoEventos VAZIO = new CatalogoEventos(List.of());
+
+    private final List<Evento> eventos;
+    private final double[] pesos;
+    private final TabelaAlias tabelaAlias;
+
+    /**
+     * Compila o catálogo a partir dos eventos lidos de uma fase
+     * @param eventos Eventos válidos da fase
+     */
+    public CatalogoEventos(List<Evento> eventos) {
+        this.eventos = List.copyOf(eventos);
+        this.pesos = new double[this.eventos.size()];
+        for (int i = 0; i < pesos.length; i++) {
+            pesos[i] = this.eventos.get(i).getPeso();
+        }
+        this.tabelaAlias = new TabelaAlias(pesos, pesos.length);
+    }
+
+    /**
+     * Cria o catálogo a partir de eventos e pesos já compilados. A lista não é
+     * copiada nem percorrida, o que permite que os eventos sejam decodificados
+     * apenas quando forem sorteados.
+     * @param eventos Lista imutável de eventos da fase
+     * @param pesos Peso de cada evento, na mesma ordem da lista
+     */
+    public CatalogoEventos(List<Evento> eventos, double[] pesos) {
+        if (eventos.size() != pesos.length) {
+            throw new IllegalArgumentException("Quantidade de pesos diferente da quantidade de eventos");
+        }
+        this.eventos = eventos;
+        this.pesos = pesos.clone();
+        this.tabelaAlias = new TabelaAlias(this.pesos, this.pesos.length);
+    }
+
+    /**
+     * Obtém um catálogo sem eventos
+     * @return Catálogo vazio compartilhado
+     */
+    public static CatalogoEventos vazio() {
+        return VAZIO;
+    }
+
+    /**
+     * Cria uma seleção ponderada sem reposição sobre os eventos do catálogo
+     * @return Nova seleção com todos os eventos disponíveis
+     */
+    public SelecaoPonderada novaSelecao() {
+        return new SelecaoPonderada(pesos, tabelaAlias);
+    }
+
+    /**
+     * Obtém os eventos do catálogo, na ordem do arquivo
+     * @return Lista imutável de eventos
+     */
+    public List<Evento> getEventos() {
+        return eventos;
+    }
+
+    public Evento getEvento(int indice) {
+        return eventos.get(indice);
+    }
+
+    public int getTamanho() {
+        return eventos.size();
+    }
+}
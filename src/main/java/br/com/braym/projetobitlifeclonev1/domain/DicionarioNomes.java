@@ -0,0 +1,64 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário dos nomes e sobrenomes das pessoas. Cada texto distinto recebe
+ * um código int na primeira vez em que aparece, e as pessoas guardam só os
+ * códigos: o texto de um nome existe uma única vez, por mais pessoas que o
+ * usem. O dicionário só cresce e é compartilhado por todas as threads.
+ */
+public final class DicionarioNomes {
+    /** Código de um nome ausente */
+    public static final int SEM_NOME = -1;
+
+    private static final Map<String, Integer> CODIGOS = new ConcurrentHashMap<>();
+    private static final Object TRAVA = new Object();
+
+    // Substituído a cada crescimento; publicado antes do código, em CODIGOS
+    private static volatile String[] textos = new String[256];
+    private static int quantidade;
+
+    private DicionarioNomes() {
+    }
+
+    /**
+     * Obtém o código de um texto, registrando-o se ainda não existir
+     * @param texto Nome ou sobrenome
+     * @return Código do texto ou SEM_NOME se o texto for nulo
+     */
+    public static int codificar(String texto) {
+        if (texto == null) {
+            return SEM_NOME;
+        }
+        Integer codigo = CODIGOS.get(texto);
+        if (codigo != null) {
+            return codigo;
+        }
+        synchronized (TRAVA) {
+            codigo = CODIGOS.get(texto);
+            if (codigo != null) {
+                return codigo;
+            }
+            String[] atuais = textos;
+            if (quantidade == atuais.length) {
+                atuais = Arrays.copyOf(atuais, atuais.length * 2);
+            }
+            atuais[quantidade] = texto;
+            textos = atuais;
+            CODIGOS.put(texto, quantidade);
+            return quantidade++;
+        }
+    }
+
+    /**
+     * Obtém o texto de um código
+     * @param codigo Código devolvido por codificar
+     * @return Texto ou null para SEM_NOME
+     */
+    public static String texto(int codigo) {
+        return codigo == SEM_NOME ? null : textos[codigo];
+    }
+}
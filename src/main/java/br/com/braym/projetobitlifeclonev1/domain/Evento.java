@@ -11,6 +11,7 @@ import java.util.logging.Logger;
  */
 public class Evento {
 	private static final Logger LOGGER = Logger.getLogger(Evento.class.getName());
+	private static final double PESO_PADRAO = 1.0;
 
 	private String id;
 	private String descricao;
@@ -19,6 +20,10 @@ public class Evento {
 	private String atributo;
 	// Novo campo para suportar múltiplos efeitos (atributo -> valor)
 	private Map<String, Integer> efeitosMultiplos;
+	// Peso opcional do evento no sorteio (raridade); ausente equivale a 1
+	private Double peso;
+	// Efeitos compilados na primeira validação ou uso; não vêm do JSON
+	private transient PlanoEfeitos planoEfeitos;
 
 	/**
 	 * Construtor completo para Evento
@@ -75,6 +80,7 @@ public class Evento {
 
 	public void setEfeitos(List<Integer> efeitos) {
 		this.efeitos = efeitos;
+		this.planoEfeitos = null;
 	}
 
 	public String getAtributo() {
@@ -83,6 +89,7 @@ public class Evento {
 
 	public void setAtributo(String atributo) {
 		this.atributo = atributo;
+		this.planoEfeitos = null;
 	}
 
 	public Map<String, Integer> getEfeitosMultiplos() {
@@ -91,6 +98,37 @@ public class Evento {
 
 	public void setEfeitosMultiplos(Map<String, Integer> efeitosMultiplos) {
 		this.efeitosMultiplos = efeitosMultiplos;
+		this.planoEfeitos = null;
+	}
+
+	/**
+	 * Obtém os efeitos do evento compilados em um plano. O plano é compilado
+	 * na primeira chamada, normalmente durante a validação no carregamento.
+	 * 
+	 * @return Plano de efeitos do evento
+	 * @throws IllegalArgumentException se algum atributo não for reconhecido
+	 */
+	public PlanoEfeitos getPlanoEfeitos() {
+		PlanoEfeitos plano = planoEfeitos;
+		if (plano == null) {
+			plano = PlanoEfeitos.compilar(efeitos, atributo, efeitosMultiplos);
+			planoEfeitos = plano;
+		}
+		return plano;
+	}
+
+	/**
+	 * Obtém o peso do evento no sorteio da fase. Eventos com peso maior são
+	 * sorteados com mais frequência.
+	 * 
+	 * @return Peso informado no JSON ou 1 se ausente
+	 */
+	public double getPeso() {
+		return peso != null ? peso : PESO_PADRAO;
+	}
+
+	public void setPeso(Double peso) {
+		this.peso = peso;
 	}
 
 	/**
@@ -103,9 +141,24 @@ public class Evento {
 		boolean temEfeitos = (efeitos != null && !efeitos.isEmpty())
 				|| (efeitosMultiplos != null && !efeitosMultiplos.isEmpty());
 		boolean temAtributoSeTemEfeito = !temEfeitos || (atributo != null && !atributo.isBlank());
+		boolean temPesoValido = peso == null || (peso > 0 && !peso.isInfinite());
 
 		return id != null && !id.isBlank() && descricao != null && !descricao.isBlank() && temOpcoes && temEfeitos
-				&& temAtributoSeTemEfeito;
+				&& temAtributoSeTemEfeito && temPesoValido && compilarEfeitos();
+	}
+
+	/**
+	 * Compila os efeitos para que atributos desconhecidos sejam recusados no
+	 * carregamento, e não a cada vez que o evento for jogado
+	 */
+	private boolean compilarEfeitos() {
+		try {
+			getPlanoEfeitos();
+			return true;
+		} catch (IllegalArgumentException e) {
+			LOGGER.warning("Evento " + id + ": " + e.getMessage());
+			return false;
+		}
 	}
 
 	@Override
@@ -0,0 +1,45 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+import java.util.logging.Logger;
+
+/**
+ * Gêneros das pessoas relacionadas ao personagem
+ */
+public enum Genero {
+    MASCULINO("Masculino"),
+    FEMININO("Feminino"),
+    /** Gênero salvo com um texto que o jogo não conhece */
+    NAO_INFORMADO("Não informado");
+
+    private static final Logger LOGGER = Logger.getLogger(Genero.class.getName());
+
+    private final String descricao;
+
+    Genero(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    /**
+     * Obtém o gênero pela descrição, como nos salvamentos. Uma descrição
+     * desconhecida (de um salvamento antigo ou editado à mão) não impede o
+     * carregamento: vira NAO_INFORMADO.
+     * @param descricao Descrição do gênero, sem diferenciar maiúsculas
+     * @return Gênero, NAO_INFORMADO se a descrição não for conhecida ou null se ela for nula
+     */
+    public static Genero de(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (Genero genero : values()) {
+            if (genero.descricao.equalsIgnoreCase(descricao)) {
+                return genero;
+            }
+        }
+        LOGGER.warning("Gênero desconhecido: " + descricao + "; usando " + NAO_INFORMADO.descricao);
+        return NAO_INFORMADO;
+    }
+}
@@ -1,9 +1,10 @@
 package br.com.braym.projetobitlifeclonev1.domain;
 
+import br.com.braym.projetobitlifeclonev1.domain.AlteracaoPersonagem.Tipo;
 import br.com.braym.projetobitlifeclonev1.interfaces.EstadoVida;
-import br.com.braym.projetobitlifeclonev1.interfaces.Observador;
-import br.com.braym.projetobitlifeclonev1.service.CarregadorNomes;
+import br.com.braym.projetobitlifeclonev1.interfaces.ObservadorAlteracoes;
 import br.com.braym.projetobitlifeclonev1.service.GerenciadorRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
 import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
 import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
 
@@ -22,7 +23,11 @@ public class Personagem {
     private static final int LIMITE_MAXIMO_ATRIBUTO = 100;
     private static final int VALOR_PADRAO_ATRIBUTO = 50;
     private static final int VALOR_MAXIMO_SAUDE = 100;
-    private GerenciadorRelacionamentos gerenciadorRelacionamentos = new GerenciadorRelacionamentos();
+    private GerenciadorRelacionamentos gerenciadorRelacionamentos;
+
+    // Identifica o personagem nos salvamentos, independente do nome: alocado
+    // na criação e trazido do salvamento na restauração
+    private long id;
 
     private String nome;
     private String sobrenome;
@@ -37,12 +42,20 @@ public class Personagem {
     private int carisma;
     private int financas;
 
-    // Lista de observadores para notificações
-    private final List<Observador> observadores = new ArrayList<>();
+    // Lista de observadores para notificações (não é salva com o personagem)
+    private final transient List<ObservadorAlteracoes> observadores = new ArrayList<>();
 
     // Estado de vida atual (padrão State)
     private EstadoVida estadoVida;
 
+    /**
+     * Construtor usado na desserialização (Gson) e na restauração, para que
+     * os campos que não são salvos, como os observadores, sejam
+     * inicializados. Não aloca id: a restauração usa o salvo.
+     */
+    private Personagem() {
+    }
+
     /**
      * Construtor do personagem com nome completo
      * 
@@ -50,6 +63,19 @@ public class Personagem {
      * @param sobrenome Sobrenome do personagem
      */
     public Personagem(String nome, String sobrenome) {
+        this(nome, sobrenome, RegistroConteudo.padrao());
+    }
+
+    /**
+     * Construtor do personagem com nome completo e conteúdo injetado
+     * 
+     * @param nome Nome do personagem
+     * @param sobrenome Sobrenome do personagem
+     * @param registroConteudo Registro compartilhado de nomes, profissões e interações
+     */
+    public Personagem(String nome, String sobrenome, RegistroConteudo registroConteudo) {
+        this.id = AlocadorIds.atual().proximo();
+        this.gerenciadorRelacionamentos = new GerenciadorRelacionamentos(registroConteudo);
         this.nome = nome;
         this.sobrenome = sobrenome;
         this.idade = 0;
@@ -66,8 +92,53 @@ public class Personagem {
      * @param nome Nome do personagem
      */
     public Personagem(String nome) {
-        this(nome, new CarregadorNomes().obterSobrenomeAleatorio());
+        this(nome, RegistroConteudo.padrao());
+    }
+
+    /**
+     * Construtor do personagem com apenas nome e conteúdo injetado
+     * Gera um sobrenome aleatório a partir do registro
+     * 
+     * @param nome Nome do personagem
+     * @param registroConteudo Registro compartilhado de nomes, profissões e interações
+     */
+    public Personagem(String nome, RegistroConteudo registroConteudo) {
+        this(nome, registroConteudo.getCarregadorNomes().obterSobrenomeAleatorio(), registroConteudo);
+    }
+    /**
+     * Cria um personagem vazio, sem família inicial, para ser preenchido com
+     * o estado de um jogo salvo. Os atributos começam com os valores padrão.
+     * 
+     * @param nome Nome do personagem
+     * @param sobrenome Sobrenome do personagem
+     * @param registroConteudo Registro compartilhado de nomes, profissões e interações
+     * @return Personagem sem relacionamentos
+     */
+    public static Personagem restaurar(String nome, String sobrenome, RegistroConteudo registroConteudo) {
+        return restaurar(AlocadorIds.atual().proximo(), nome, sobrenome, registroConteudo);
+    }
+
+    /**
+     * Cria um personagem vazio com o id de um jogo salvo, para que os
+     * próximos salvamentos substituam os dele
+     * 
+     * @param id Id salvo do personagem
+     * @param nome Nome do personagem
+     * @param sobrenome Sobrenome do personagem
+     * @param registroConteudo Registro compartilhado de nomes, profissões e interações
+     * @return Personagem sem relacionamentos
+     */
+    public static Personagem restaurar(long id, String nome, String sobrenome, RegistroConteudo registroConteudo) {
+        Personagem personagem = new Personagem();
+        personagem.id = id;
+        personagem.gerenciadorRelacionamentos = new GerenciadorRelacionamentos(registroConteudo);
+        personagem.nome = nome;
+        personagem.sobrenome = sobrenome;
+        personagem.inicializarAtributos();
+        personagem.estadoVida = new EstadoVidaImpl(FaseDaVida.INFANCIA);
+        return personagem;
     }
+
     /**
      * Inicializa os atributos do personagem com valores padrão
      */
@@ -81,6 +152,10 @@ public class Personagem {
         this.financas = 0;
     }
 
+    public long getId() {
+        return id;
+    }
+
     // Getters e Setters com notificações
     public String getNome() {
         return nome;
@@ -95,13 +170,15 @@ public class Personagem {
     }
 
     public void setNome(String nome) {
+        String anterior = this.nome;
         this.nome = nome;
-        notificarObservadores("Nome alterado para: " + nome);
+        notificarAlteracao(Tipo.NOME, anterior, nome);
     }
     
     public void setSobrenome(String sobrenome) {
+        String anterior = this.sobrenome;
         this.sobrenome = sobrenome;
-        notificarObservadores("Sobrenome alterado para: " + sobrenome);
+        notificarAlteracao(Tipo.SOBRENOME, anterior, sobrenome);
     }
 
     public int getIdade() {
@@ -109,8 +186,9 @@ public class Personagem {
     }
 
     public void setIdade(int idade) {
+        int anterior = this.idade;
         this.idade = idade;
-        notificarObservadores("Idade alterada para: " + idade);
+        notificarAlteracao(Tipo.IDADE, anterior, idade);
     }
 
     public int getAparencia() {
@@ -118,8 +196,9 @@ public class Personagem {
     }
 
     public void setAparencia(int aparencia) {
+        int anterior = this.aparencia;
         this.aparencia = limitarAtributo(aparencia);
-        notificarObservadores("Aparência atualizada para: " + this.aparencia);
+        notificarAlteracao(Tipo.APARENCIA, anterior, this.aparencia);
     }
 
     public int getSaude() {
@@ -127,8 +206,9 @@ public class Personagem {
     }
 
     public void setSaude(int saude) {
+        int anterior = this.saude;
         this.saude = limitarAtributo(saude);
-        notificarObservadores("Saúde atualizada para: " + this.saude);
+        notificarAlteracao(Tipo.SAUDE, anterior, this.saude);
     }
 
     public int getSanidade() {
@@ -136,8 +216,9 @@ public class Personagem {
     }
 
     public void setSanidade(int sanidade) {
+        int anterior = this.sanidade;
         this.sanidade = limitarAtributo(sanidade);
-        notificarObservadores("Sanidade atualizada para: " + this.sanidade);
+        notificarAlteracao(Tipo.SANIDADE, anterior, this.sanidade);
     }
 
     public int getFelicidade() {
@@ -145,8 +226,9 @@ public class Personagem {
     }
 
     public void setFelicidade(int felicidade) {
+        int anterior = this.felicidade;
         this.felicidade = limitarAtributo(felicidade);
-        notificarObservadores("Felicidade atualizada para: " + this.felicidade);
+        notificarAlteracao(Tipo.FELICIDADE, anterior, this.felicidade);
     }
 
     public int getInteligencia() {
@@ -154,8 +236,9 @@ public class Personagem {
     }
 
     public void setInteligencia(int inteligencia) {
+        int anterior = this.inteligencia;
         this.inteligencia = limitarAtributo(inteligencia);
-        notificarObservadores("Inteligência atualizada para: " + this.inteligencia);
+        notificarAlteracao(Tipo.INTELIGENCIA, anterior, this.inteligencia);
     }
 
     public int getCarisma() {
@@ -163,8 +246,9 @@ public class Personagem {
     }
 
     public void setCarisma(int carisma) {
+        int anterior = this.carisma;
         this.carisma = limitarAtributo(carisma);
-        notificarObservadores("Carisma atualizado para: " + this.carisma);
+        notificarAlteracao(Tipo.CARISMA, anterior, this.carisma);
     }
 
     public int getFinancas() {
@@ -172,8 +256,9 @@ public class Personagem {
     }
 
     public void setFinancas(int financas) {
+        int anterior = this.financas;
         this.financas = financas;
-        notificarObservadores("Finanças atualizadas para: " + this.financas);
+        notificarAlteracao(Tipo.FINANCAS, anterior, this.financas);
     }
 
     // Métodos para alteração de atributos
@@ -241,7 +326,27 @@ public class Personagem {
     }
 
     /**
-     * Altera múltiplos atributos do personagem
+     * Altera um atributo do personagem adicionando ou subtraindo um delta
+     * 
+     * @param atributo Atributo a ser alterado
+     * @param delta    Valor a ser adicionado (ou subtraído se negativo)
+     */
+    public void alterarAtributo(Atributo atributo, int delta) {
+        switch (atributo) {
+        case FINANCAS -> alterarFinancas(delta);
+        case SAUDE -> alterarSaude(delta);
+        case FELICIDADE -> alterarFelicidade(delta);
+        case INTELIGENCIA -> alterarInteligencia(delta);
+        case SANIDADE -> alterarSanidade(delta);
+        case CARISMA -> alterarCarisma(delta);
+        case APARENCIA -> alterarAparencia(delta);
+        }
+    }
+
+    /**
+     * Altera múltiplos atributos do personagem. Os efeitos dos eventos são
+     * aplicados por PlanoEfeitos, já compilado; este método atende efeitos
+     * montados em tempo de execução.
      * 
      * @param efeitos Mapa contendo o nome do atributo e o valor a ser alterado
      */
@@ -249,27 +354,24 @@ public class Personagem {
         if (efeitos == null)
             return;
 
-        efeitos.forEach((atributo, valor) -> {
-            switch (atributo.toLowerCase()) {
-            case "financas" -> alterarFinancas(valor);
-            case "felicidade" -> alterarFelicidade(valor);
-            case "sanidade" -> alterarSanidade(valor);
-            case "saude" -> alterarSaude(valor);
-            case "inteligencia" -> alterarInteligencia(valor);
-            case "carisma" -> alterarCarisma(valor);
-            case "aparencia" -> alterarAparencia(valor);
-            default -> LOGGER.warning("Atributo desconhecido: " + atributo);
+        efeitos.forEach((nome, valor) -> {
+            Atributo atributo = Atributo.porNome(nome);
+            if (atributo != null) {
+                alterarAtributo(atributo, valor);
+            } else {
+                LOGGER.warning("Atributo desconhecido: " + nome);
             }
         });
     }
 
     // Gerenciamento de observadores
     /**
-     * Adiciona um observador para receber notificações de alterações
+     * Adiciona um observador para receber notificações de alterações.
+     * Observadores textuais (Observador) recebem a mensagem já formatada.
      * 
      * @param observador Observador a ser adicionado
      */
-    public void adicionarObservador(Observador observador) {
+    public void adicionarObservador(ObservadorAlteracoes observador) {
         if (observador != null && !observadores.contains(observador)) {
             observadores.add(observador);
         }
@@ -280,18 +382,53 @@ public class Personagem {
      * 
      * @param observador Observador a ser removido
      */
-    public void removerObservador(Observador observador) {
+    public void removerObservador(ObservadorAlteracoes observador) {
         observadores.remove(observador);
     }
 
     /**
-     * Notifica todos os observadores com uma mensagem
+     * Verifica se há observadores. Quando não há, nenhuma alteração é criada.
      * 
-     * @param mensagem Mensagem a ser enviada aos observadores
+     * @return true se ao menos um observador estiver registrado
      */
-    private void notificarObservadores(String mensagem) {
-        for (Observador obs : observadores) {
-            obs.atualizar(mensagem);
+    private boolean temObservadores() {
+        return !observadores.isEmpty();
+    }
+
+    /**
+     * Notifica uma alteração numérica, apenas se houver observadores
+     * 
+     * @param tipo Tipo da alteração
+     * @param anterior Valor anterior
+     * @param novo Novo valor
+     */
+    private void notificarAlteracao(Tipo tipo, int anterior, int novo) {
+        if (temObservadores()) {
+            notificarObservadores(AlteracaoPersonagem.numerica(this, tipo, anterior, novo));
+        }
+    }
+
+    /**
+     * Notifica uma alteração textual, apenas se houver observadores
+     * 
+     * @param tipo Tipo da alteração
+     * @param anterior Texto anterior
+     * @param novo Novo texto
+     */
+    private void notificarAlteracao(Tipo tipo, String anterior, String novo) {
+        if (temObservadores()) {
+            notificarObservadores(AlteracaoPersonagem.textual(this, tipo, anterior, novo));
+        }
+    }
+
+    /**
+     * Entrega uma alteração a todos os observadores
+     * 
+     * @param alteracao Alteração a ser enviada aos observadores
+     */
+    private void notificarObservadores(AlteracaoPersonagem alteracao) {
+        for (int i = 0; i < observadores.size(); i++) {
+            observadores.get(i).notificar(alteracao);
         }
     }
 
@@ -312,7 +449,7 @@ public class Personagem {
         int idadeAnterior = idade;
         setIdade(getIdade() + 1);
         alterarSaude(-1); // Cada ano diminui 1 ponto de saúde
-        notificarObservadores("Envelhecimento: idade = " + getIdade());
+        notificarAlteracao(Tipo.ENVELHECIMENTO, idadeAnterior, getIdade());
         atualizarEstadoVida();
         
         // Ao envelhecer, os relacionamentos também evoluem
@@ -321,8 +458,9 @@ public class Personagem {
         // Chance de fazer uma nova amizade a cada ano
         if (UtilitarioAleatorio.eventoAcontece(30)) {
             Relacionamento novaAmizade = gerenciadorRelacionamentos.criarAmizadeAleatoria(idade);
-            notificarObservadores("Você conheceu " + novaAmizade.getPessoa().getNomeCompleto() + 
-                                 " e vocês se tornaram amigos!");
+            if (temObservadores()) {
+                notificarAlteracao(Tipo.NOVA_AMIZADE, null, novaAmizade.getPessoa().getNomeCompleto());
+            }
         }
         
         return idadeAnterior;
@@ -335,8 +473,9 @@ public class Personagem {
         EstadoVida novoEstado = estadoVida.proximoEstado(this);
         if (!novoEstado.getEstado().equals(estadoVida.getEstado())) {
             LOGGER.info("Transição de estado: de " + estadoVida.getEstado() + " para " + novoEstado.getEstado());
+            String anterior = estadoVida.getEstado();
             estadoVida = novoEstado;
-            notificarObservadores("Estado de vida alterado para: " + estadoVida.getEstado());
+            notificarAlteracao(Tipo.ESTADO_VIDA_ALTERADO, anterior, estadoVida.getEstado());
         }
     }
 
@@ -358,8 +497,9 @@ public class Personagem {
         if (estadoVida == null) {
             throw new IllegalArgumentException("Estado de vida não pode ser nulo");
         }
+        String anterior = this.estadoVida != null ? this.estadoVida.getEstado() : null;
         this.estadoVida = estadoVida;
-        notificarObservadores("Estado de vida definido como: " + estadoVida.getEstado());
+        notificarAlteracao(Tipo.ESTADO_VIDA_DEFINIDO, anterior, estadoVida.getEstado());
     }
 
     /**
@@ -1,35 +1,44 @@
 package br.com.braym.projetobitlifeclonev1.domain;
 
-import java.util.UUID;
-
 /**
- * Representa um personagem relacionado ao personagem principal
+ * Representa um personagem relacionado ao personagem principal. O nome e o
+ * sobrenome são guardados como códigos do DicionarioNomes, e o nome
+ * completo é montado quando pedido. A idade não é guardada: a pessoa guarda
+ * o ano de nascimento no RelogioMundo do mundo a que pertence.
+ * Uma pessoa adicionada a uma TabelaRelacionamentos avisa a tabela quando
+ * os dados dela mudam, e não pode ser adicionada a outra tabela.
  */
 public class Pessoa {
-    private final String id;
-    private String nome;
-    private String sobrenome;
-    private int idade;
-    private String genero;
+    // Buffer reaproveitado na montagem do nome completo, um por thread
+    private static final ThreadLocal<StringBuilder> BUFFER_NOME = ThreadLocal.withInitial(() -> new StringBuilder(48));
+    
+    private final long id;
+    private final int nome;      // código no DicionarioNomes
+    private final int sobrenome; // código no DicionarioNomes
+    private RelogioMundo relogio = RelogioMundo.PARADO;
+    private TabelaRelacionamentos tabela; // tabela em que a pessoa está, ou null
+    private int posicao;                  // na tabela
+    private int anoNascimento;   // no relógio
+    private final Genero genero;
     private int compatibilidade; // 0-100, quanto maior mais compatível
     private int felicidade;      // 0-100, quão feliz está no relacionamento
     private Profissao profissao; // Nova propriedade para profissão
     private int salario;        // Salário atual
     
     /**
-     * Construtor para Pessoa com sobrenome e profissão fornecidos
+     * Construtor para Pessoa com nome e sobrenome já codificados
      * 
-     * @param nome Nome da pessoa
-     * @param sobrenome Sobrenome da pessoa
+     * @param codigoNome Código do nome no DicionarioNomes
+     * @param codigoSobrenome Código do sobrenome no DicionarioNomes
      * @param idade Idade da pessoa
      * @param genero Gênero da pessoa
-     * @param profissao Profissão da pessoa
+     * @param profissao Profissão da pessoa (pode ser nula)
      */
-    public Pessoa(String nome, String sobrenome, int idade, String genero, Profissao profissao) {
-        this.id = UUID.randomUUID().toString();
-        this.nome = nome;
-        this.sobrenome = sobrenome;
-        this.idade = idade;
+    public Pessoa(int codigoNome, int codigoSobrenome, int idade, Genero genero, Profissao profissao) {
+        this.id = AlocadorIds.atual().proximo();
+        this.nome = codigoNome;
+        this.sobrenome = codigoSobrenome;
+        this.anoNascimento = relogio.getAno() - idade;
         this.genero = genero;
         this.compatibilidade = Personagem.obterAleatorio(30, 100);
         this.felicidade = 50;
@@ -43,6 +52,20 @@ public class Pessoa {
         }
     }
     
+    /**
+     * Construtor para Pessoa com sobrenome e profissão fornecidos
+     * 
+     * @param nome Nome da pessoa
+     * @param sobrenome Sobrenome da pessoa
+     * @param idade Idade da pessoa
+     * @param genero Gênero da pessoa
+     * @param profissao Profissão da pessoa
+     */
+    public Pessoa(String nome, String sobrenome, int idade, String genero, Profissao profissao) {
+        this(DicionarioNomes.codificar(nome), DicionarioNomes.codificar(sobrenome), idade, Genero.de(genero),
+                profissao);
+    }
+    
     /**
      * Construtor para Pessoa com sobrenome fornecido
      * @param nome Nome da pessoa
@@ -61,47 +84,128 @@ public class Pessoa {
      * @param genero Gênero da pessoa
      */
     public Pessoa(String nome, int idade, String genero) {
-        this.id = UUID.randomUUID().toString();
-        this.nome = nome;
-        this.sobrenome = ""; // Sobrenome vazio por padrão
-        this.idade = idade;
-        this.genero = genero;
-        this.compatibilidade = Personagem.obterAleatorio(30, 100);
-        this.felicidade = 50;
-        this.profissao = null;
-        this.salario = 0;
+        this(nome, "", idade, genero, null); // Sobrenome vazio por padrão
+    }
+    
+    /**
+     * Construtor usado para restaurar uma pessoa de um jogo salvo, mantendo
+     * o id e os valores sorteados na criação
+     * 
+     * @param id Id original da pessoa
+     * @param nome Nome da pessoa
+     * @param sobrenome Sobrenome da pessoa
+     * @param idade Idade da pessoa
+     * @param genero Gênero da pessoa
+     * @param compatibilidade Compatibilidade (0-100)
+     * @param felicidade Felicidade no relacionamento (0-100)
+     * @param profissao Profissão da pessoa (pode ser nula)
+     * @param salario Salário atual
+     */
+    public Pessoa(long id, String nome, String sobrenome, int idade, String genero, int compatibilidade,
+            int felicidade, Profissao profissao, int salario) {
+        this.id = id;
+        this.nome = DicionarioNomes.codificar(nome);
+        this.sobrenome = DicionarioNomes.codificar(sobrenome);
+        this.anoNascimento = relogio.getAno() - idade;
+        this.genero = Genero.de(genero);
+        this.compatibilidade = compatibilidade;
+        this.felicidade = felicidade;
+        this.profissao = profissao;
+        this.salario = salario;
     }
     
     // Getters e setters originais
-    public String getId() { return id; }
-    public String getNome() { return nome; }
-    public String getSobrenome() { return sobrenome; }
-    public String getNomeCompleto() { return nome + " " + sobrenome; }
-    public int getIdade() { return idade; }
-    public String getGenero() { return genero; }
+    public long getId() { return id; }
+    public String getNome() { return DicionarioNomes.texto(nome); }
+    public String getSobrenome() { return DicionarioNomes.texto(sobrenome); }
+    public int getCodigoNome() { return nome; }
+    public int getCodigoSobrenome() { return sobrenome; }
+    public int getIdade() { return relogio.getAno() - anoNascimento; }
+    public int getAnoNascimento() { return anoNascimento; }
+    public Genero getGenero() { return genero; }
     public int getCompatibilidade() { return compatibilidade; }
     public int getFelicidade() { return felicidade; }
     
     // Novos getters e setters para profissão e salário
     public Profissao getProfissao() { return profissao; }
-    public void setProfissao(Profissao profissao) { this.profissao = profissao; }
+    public void setProfissao(Profissao profissao) {
+        this.profissao = profissao;
+        marcarAlterada();
+    }
     public int getSalario() { return salario; }
-    public void setSalario(int salario) { this.salario = salario; }
+    public void setSalario(int salario) {
+        this.salario = salario;
+        marcarAlterada();
+    }
     
     public void setFelicidade(int felicidade) {
         this.felicidade = Math.max(0, Math.min(100, felicidade));
+        marcarAlterada();
+    }
+    
+    /**
+     * Verifica se a pessoa pode entrar em uma tabela: uma pessoa pertence a
+     * uma única tabela, cujo relógio e índice de nascimento dependem dela
+     * @param tabela Tabela em que a pessoa entraria
+     */
+    boolean podeVincular(TabelaRelacionamentos tabela) {
+        return this.tabela == null || this.tabela == tabela;
+    }
+
+    /**
+     * Passa a fazer parte de uma tabela de relacionamentos e a contar a idade
+     * pelo relógio dela, mantendo a idade atual. A pessoa não pode estar em
+     * outra tabela (veja podeVincular).
+     * @param tabela  Tabela em que a pessoa entra
+     * @param posicao Posição da pessoa na tabela
+     */
+    void vincular(TabelaRelacionamentos tabela, int posicao) {
+        int idade = getIdade();
+        this.tabela = tabela;
+        this.posicao = posicao;
+        this.relogio = tabela.getRelogio();
+        this.anoNascimento = relogio.getAno() - idade;
+    }
+    
+    /**
+     * Deixa a tabela, substituída nela por outra pessoa com o mesmo id. A
+     * idade continua a contar pelo relógio da tabela.
+     */
+    void desvincular() {
+        this.tabela = null;
+    }
+    
+    private void marcarAlterada() {
+        if (tabela != null) {
+            tabela.marcarAlterada(posicao);
+        }
     }
     
-    public void envelhecer() {
-        idade++;
+    /**
+     * Obtém o nome completo, montado no buffer da thread
+     */
+    public String getNomeCompleto() {
+        StringBuilder buffer = BUFFER_NOME.get();
+        buffer.setLength(0);
+        return escreverNomeCompleto(buffer).toString();
+    }
+    
+    /**
+     * Acrescenta o nome completo a um texto em montagem, sem criar strings
+     * intermediárias
+     * @param destino Texto em montagem
+     * @return O próprio destino
+     */
+    public StringBuilder escreverNomeCompleto(StringBuilder destino) {
+        return destino.append(getNome()).append(' ').append(getSobrenome());
     }
     
     @Override
     public String toString() {
-        String info = nome + " " + sobrenome + " (" + idade + " anos)";
+        StringBuilder info = escreverNomeCompleto(new StringBuilder(64)).append(" (").append(getIdade()).append(" anos)");
         if (profissao != null) {
-            info += " - " + profissao.getNome() + " (R$" + salario + ",00)";
+            info.append(" - ").append(profissao.getNome()).append(" (R$").append(salario).append(",00)");
         }
-        return info;
+        return info.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Efeitos de um evento compilados uma única vez, no carregamento, em vetores
+ * de ordinais de atributos e deltas. A aplicação não consulta mapas, não
+ * manipula textos e não lança exceções. Instâncias são imutáveis.
+ */
+public final class PlanoEfeitos {
+    private static final Atributo[] ATRIBUTOS = Atributo.values();
+    private static final int[] VAZIO = new int[0];
+
+    // Efeito simples: um delta por opção, aplicado ao mesmo atributo
+    private final int atributoSimples;
+    private final int[] deltasPorOpcao;
+
+    // Efeitos múltiplos: aplicados todos juntos, qualquer que seja a opção
+    private final int[] atributosMultiplos;
+    private final int[] deltasMultiplos;
+
+    private PlanoEfeitos(int atributoSimples, int[] deltasPorOpcao, int[] atributosMultiplos, int[] deltasMultiplos) {
+        this.atributoSimples = atributoSimples;
+        this.deltasPorOpcao = deltasPorOpcao;
+        this.atributosMultiplos = atributosMultiplos;
+        this.deltasMultiplos = deltasMultiplos;
+    }
+
+    /**
+     * Compila os efeitos de um evento. Quando há efeitos múltiplos, eles
+     * prevalecem sobre os efeitos por opção.
+     *
+     * @param efeitos          Delta de cada opção (pode ser nulo)
+     * @param atributo         Atributo dos efeitos por opção
+     * @param efeitosMultiplos Mapa atributo -> delta (pode ser nulo)
+     * @return Plano compilado
+     * @throws IllegalArgumentException se um atributo não for reconhecido ou um delta for nulo
+     */
+    public static PlanoEfeitos compilar(List<Integer> efeitos, String atributo, Map<String, Integer> efeitosMultiplos) {
+        int[] atributosMultiplos = VAZIO;
+        int[] deltasMultiplos = VAZIO;
+        if (efeitosMultiplos != null && !efeitosMultiplos.isEmpty()) {
+            atributosMultiplos = new int[efeitosMultiplos.size()];
+            deltasMultiplos = new int[efeitosMultiplos.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> efeito : efeitosMultiplos.entrySet()) {
+                atributosMultiplos[i] = resolver(efeito.getKey());
+                deltasMultiplos[i] = valor(efeito.getValue(), efeito.getKey());
+                i++;
+            }
+        }
+
+        int atributoSimples = -1;
+        int[] deltasPorOpcao = VAZIO;
+        if (efeitos != null && !efeitos.isEmpty()) {
+            atributoSimples = resolver(atributo);
+            deltasPorOpcao = new int[efeitos.size()];
+            for (int i = 0; i < deltasPorOpcao.length; i++) {
+                deltasPorOpcao[i] = valor(efeitos.get(i), atributo);
+            }
+        }
+
+        return new PlanoEfeitos(atributoSimples, deltasPorOpcao, atributosMultiplos, deltasMultiplos);
+    }
+
+    private static int resolver(String nome) {
+        Atributo atributo = Atributo.porNome(nome);
+        if (atributo == null) {
+            throw new IllegalArgumentException("Atributo não reconhecido: " + nome);
+        }
+        return atributo.ordinal();
+    }
+
+    private static int valor(Integer delta, String atributo) {
+        if (delta == null) {
+            throw new IllegalArgumentException("Efeito sem valor para o atributo: " + atributo);
+        }
+        return delta;
+    }
+
+    /**
+     * Aplica ao personagem os efeitos da opção escolhida
+     *
+     * @param personagem Personagem a ser afetado
+     * @param escolha    Índice da opção escolhida (0-based)
+     * @return false se não houver efeito para a escolha
+     */
+    public boolean aplicar(Personagem personagem, int escolha) {
+        if (atributosMultiplos.length > 0) {
+            for (int i = 0; i < atributosMultiplos.length; i++) {
+                personagem.alterarAtributo(ATRIBUTOS[atributosMultiplos[i]], deltasMultiplos[i]);
+            }
+            return true;
+        }
+        if (escolha >= 0 && escolha < deltasPorOpcao.length) {
+            personagem.alterarAtributo(ATRIBUTOS[atributoSimples], deltasPorOpcao[escolha]);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean possuiEfeitosMultiplos() {
+        return atributosMultiplos.length > 0;
+    }
+}
@@ -1,37 +1,36 @@
 package br.com.braym.projetobitlifeclonev1.domain;
 
-import java.io.Serializable;
-
 /**
- * Representa um relacionamento com outra pessoa
+ * Representa um relacionamento com outra pessoa. Os dados ficam em uma
+ * TabelaRelacionamentos; o relacionamento é a posição dele na tabela.
+ * Relacionamentos são criados pelo GerenciadorRelacionamentos
+ * (adicionarRelacionamento), que é dono da tabela.
  */
-public class Relacionamento implements Serializable {
-    private static final long serialVersionUID = 1L;
-    
-    private Pessoa pessoa;
-    private TipoRelacionamento tipo;
-    private int nivel; // 0-100, quão forte é o relacionamento
-    private int tempo; // tempo em anos
+public class Relacionamento {
+    private final TabelaRelacionamentos tabela;
+    private final int posicao;
     
-    public Relacionamento(Pessoa pessoa, TipoRelacionamento tipo) {
-        this.pessoa = pessoa;
-        this.tipo = tipo;
-        this.nivel = 50; // nível inicial médio
-        this.tempo = 0;
+    Relacionamento(TabelaRelacionamentos tabela, int posicao) {
+        this.tabela = tabela;
+        this.posicao = posicao;
     }
     
     // Getters e setters
-    public Pessoa getPessoa() { return pessoa; }
-    public TipoRelacionamento getTipo() { return tipo; }
-    public int getNivel() { return nivel; }
-    public int getTempo() { return tempo; }
+    public Pessoa getPessoa() { return tabela.getPessoa(posicao); }
+    public TipoRelacionamento getTipo() { return tabela.getTipo(posicao); }
+    public int getNivel() { return tabela.getNivel(posicao); }
+    public int getTempo() { return tabela.getTempo(posicao); }
     
     public void setTipo(TipoRelacionamento tipo) {
-        this.tipo = tipo;
+        tabela.setTipo(posicao, tipo);
     }
     
     public void setNivel(int nivel) {
-        this.nivel = Math.max(0, Math.min(100, nivel));
+        tabela.setNivel(posicao, nivel);
+    }
+    
+    public void setTempo(int tempo) {
+        tabela.setTempo(posicao, tempo);
     }
     
     /**
@@ -39,31 +38,34 @@ public class Relacionamento implements Serializable {
      * @param delta Quantidade a alterar
      */
     public void alterarNivel(int delta) {
-        setNivel(nivel + delta);
-    }
-    
-    /**
-     * Avança o tempo do relacionamento em um ano
-     */
-    public void avancarTempo() {
-        tempo++;
-        // Relacionamentos têm uma chance de degradar com o tempo se não forem mantidos
-        if (Math.random() > 0.7) {
-            alterarNivel(-5);
-        }
+        setNivel(getNivel() + delta);
     }
     
     /**
      * Retorna a descrição do relacionamento
      */
     public String getDescricao() {
+        int nivel = getNivel();
         String qualidade = "neutro";
         if (nivel > 80) qualidade = "excelente";
         else if (nivel > 60) qualidade = "bom";
         else if (nivel < 30) qualidade = "ruim";
         else if (nivel < 10) qualidade = "péssimo";
         
-        return pessoa.getNome() + " - " + tipo.getDescricao() + 
-               " (" + qualidade + ", " + tempo + " anos)";
+        return getPessoa().getNome() + " - " + getTipo().getDescricao() + 
+               " (" + qualidade + ", " + getTempo() + " anos)";
+    }
+    
+    @Override
+    public boolean equals(Object outro) {
+        if (this == outro) return true;
+        if (!(outro instanceof Relacionamento)) return false;
+        Relacionamento relacionamento = (Relacionamento) outro;
+        return tabela == relacionamento.tabela && posicao == relacionamento.posicao;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(tabela) + posicao;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+/**
+ * Relógio do mundo de um personagem: conta os anos passados desde a criação
+ * do mundo. As pessoas guardam o ano em que nasceram nesse relógio, e a
+ * idade delas é a diferença para o ano atual, de modo que avançar o relógio
+ * envelhece todas de uma vez.
+ */
+public final class RelogioMundo {
+    // Relógio das pessoas que ainda não fazem parte de um mundo; nunca avança
+    static final RelogioMundo PARADO = new RelogioMundo();
+
+    private int ano;
+
+    /**
+     * Obtém o ano atual, contado desde a criação do mundo
+     */
+    public int getAno() {
+        return ano;
+    }
+
+    /**
+     * Avança o relógio em um ano
+     */
+    void avancar() {
+        ano++;
+    }
+}
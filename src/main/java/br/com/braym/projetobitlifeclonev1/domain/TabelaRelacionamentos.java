@@ -0,0 +1,441 @@
+package br.com.braym.projetobitlifeclonev1.domain;
+
+import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Tabela densa de relacionamentos. Cada relacionamento é uma posição
+ * (handle) nos vetores paralelos de pessoa, tipo, nível e tempo, na ordem
+ * de criação; um Relacionamento é só uma visão de uma posição da tabela.
+ * Cada tipo de relacionamento tem a sua lista de posições, também na ordem
+ * de criação, de modo que consultar por tipo não percorre a tabela inteira.
+ * As listas devolvidas são visões somente leitura, que acompanham a tabela.
+ *
+ * A tabela tem o RelogioMundo do personagem: as pessoas adicionadas passam
+ * a contar a idade por ele, e avançar o tempo envelhece todas sem visitar
+ * nenhuma. Um índice por ano de nascimento atende as consultas por idade.
+ *
+ * O desgaste anual dos relacionamentos é preguiçoso: avançar o tempo só
+ * conta mais um ano na tabela, e cada relacionamento guarda o ano em que foi
+ * atualizado pela última vez. Quando o nível ou o tempo de um relacionamento
+ * é lido ou alterado, os anos passados desde então são aplicados de uma vez,
+ * com a quantidade de quedas sorteada de uma distribuição binomial (a mesma
+ * do sorteio ano a ano). Os sorteios usam um gerador próprio da tabela, de
+ * modo que ler os relacionamentos (por exemplo, para salvar) não altera a
+ * sequência aleatória do resto do jogo.
+ *
+ * A tabela anota as posições alteradas (relacionamento criado, tipo, nível
+ * ou tempo alterado, desgaste aplicado, dados da pessoa alterados), para que
+ * o diário de salvamento grave só essas, sem percorrer a tabela.
+ *
+ * A tabela não é serializável (o relógio, o gerador e as pessoas não são):
+ * ela é salva pelo EstadoSalvo, relacionamento a relacionamento.
+ */
+public final class TabelaRelacionamentos {
+    private static final int CAPACIDADE_INICIAL = 8;
+    // Desgaste anual: 30% de chance de perder 5 pontos de nível
+    private static final double CHANCE_QUEDA = 0.3;
+    private static final int QUEDA_NIVEL = 5;
+    // Anos sorteados de uma vez na binomial, para que (1 - p)^n não chegue a zero
+    private static final int ANOS_POR_SORTEIO = 500;
+    private static final TipoRelacionamento[] TIPOS = TipoRelacionamento.values();
+
+    private Pessoa[] pessoas = new Pessoa[CAPACIDADE_INICIAL];
+    private byte[] tipos = new byte[CAPACIDADE_INICIAL];
+    private int[] niveis = new int[CAPACIDADE_INICIAL];
+    private int[] tempos = new int[CAPACIDADE_INICIAL];
+    private int[] anosAtualizados = new int[CAPACIDADE_INICIAL];
+    private int quantidade;
+
+    private final RelogioMundo relogio = new RelogioMundo();
+    private final SplittableRandom gerador = new SplittableRandom(UtilitarioAleatorio.gerador().nextLong());
+
+    // Posições de cada tipo, indexadas pelo ordinal do tipo
+    private final Posicoes[] porTipo = new Posicoes[TIPOS.length];
+    // Posições por ano de nascimento da pessoa no relógio
+    private final TreeMap<Integer, Posicoes> porNascimento = new TreeMap<>();
+
+    private final Map<Long, Integer> posicaoPorId = new HashMap<>();
+
+    // Posições alteradas desde a última retirada, sem repetição
+    private int[] alteradas = new int[CAPACIDADE_INICIAL];
+    private int quantidadeAlteradas;
+    private final BitSet marcadas = new BitSet();
+
+    /**
+     * Adiciona um relacionamento, com nível médio e sem tempo. Se a pessoa já
+     * estiver na tabela, o relacionamento dela é substituído, mantendo a posição.
+     * @param pessoa Pessoa relacionada
+     * @param tipo   Tipo do relacionamento
+     * @return Posição do relacionamento
+     */
+    public int adicionar(Pessoa pessoa, TipoRelacionamento tipo) {
+        if (pessoa == null || tipo == null) {
+            throw new IllegalArgumentException("Pessoa e tipo do relacionamento são obrigatórios");
+        }
+        if (!pessoa.podeVincular(this)) {
+            // A idade e o índice de nascimento da outra tabela dependem do relógio dela
+            throw new IllegalArgumentException("Pessoa já pertence a outra tabela de relacionamentos: "
+                    + pessoa.getId());
+        }
+        Integer existente = posicaoPorId.get(pessoa.getId());
+        if (existente != null) {
+            int posicao = existente;
+            desindexarNascimento(posicao);
+            if (pessoas[posicao] != pessoa) {
+                pessoas[posicao].desvincular();
+            }
+            pessoa.vincular(this, posicao);
+            pessoas[posicao] = pessoa;
+            indexarNascimento(posicao);
+            setTipo(posicao, tipo);
+            niveis[posicao] = 50;
+            tempos[posicao] = 0;
+            anosAtualizados[posicao] = relogio.getAno();
+            marcarAlterada(posicao);
+            return posicao;
+        }
+        if (quantidade == pessoas.length) {
+            int capacidade = pessoas.length * 2;
+            pessoas = Arrays.copyOf(pessoas, capacidade);
+            tipos = Arrays.copyOf(tipos, capacidade);
+            niveis = Arrays.copyOf(niveis, capacidade);
+            tempos = Arrays.copyOf(tempos, capacidade);
+            anosAtualizados = Arrays.copyOf(anosAtualizados, capacidade);
+        }
+        int posicao = quantidade++;
+        pessoa.vincular(this, posicao);
+        pessoas[posicao] = pessoa;
+        tipos[posicao] = (byte) tipo.ordinal();
+        niveis[posicao] = 50; // nível inicial médio
+        tempos[posicao] = 0;
+        anosAtualizados[posicao] = relogio.getAno();
+        indexarTipo(posicao, tipo.ordinal());
+        indexarNascimento(posicao);
+        posicaoPorId.put(pessoa.getId(), posicao);
+        marcarAlterada(posicao);
+        return posicao;
+    }
+
+    /**
+     * Obtém a quantidade de relacionamentos
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Obtém o relógio que conta a idade das pessoas da tabela
+     */
+    public RelogioMundo getRelogio() {
+        return relogio;
+    }
+
+    /**
+     * Obtém a posição do relacionamento com uma pessoa
+     * @param idPessoa ID da pessoa
+     * @return Posição ou -1 se a pessoa não estiver na tabela
+     */
+    public int posicaoDe(long idPessoa) {
+        Integer posicao = posicaoPorId.get(idPessoa);
+        return posicao != null ? posicao : -1;
+    }
+
+    /**
+     * Obtém o relacionamento de uma posição
+     * @param posicao Posição devolvida por adicionar ou posicaoDe
+     */
+    public Relacionamento get(int posicao) {
+        verificarPosicao(posicao);
+        return new Relacionamento(this, posicao);
+    }
+
+    public Pessoa getPessoa(int posicao) {
+        verificarPosicao(posicao);
+        return pessoas[posicao];
+    }
+
+    public TipoRelacionamento getTipo(int posicao) {
+        verificarPosicao(posicao);
+        return TIPOS[tipos[posicao]];
+    }
+
+    public int getNivel(int posicao) {
+        atualizar(posicao);
+        return niveis[posicao];
+    }
+
+    public int getTempo(int posicao) {
+        atualizar(posicao);
+        return tempos[posicao];
+    }
+
+    public void setTipo(int posicao, TipoRelacionamento tipo) {
+        verificarPosicao(posicao);
+        int anterior = tipos[posicao];
+        if (anterior == tipo.ordinal()) {
+            return;
+        }
+        desindexarTipo(posicao, anterior);
+        tipos[posicao] = (byte) tipo.ordinal();
+        indexarTipo(posicao, tipo.ordinal());
+        marcarAlterada(posicao);
+    }
+
+    public void setNivel(int posicao, int nivel) {
+        atualizar(posicao);
+        niveis[posicao] = Math.max(0, Math.min(100, nivel));
+        marcarAlterada(posicao);
+    }
+
+    public void setTempo(int posicao, int tempo) {
+        atualizar(posicao);
+        tempos[posicao] = Math.max(0, tempo);
+        marcarAlterada(posicao);
+    }
+
+    /**
+     * Obtém as posições alteradas desde a chamada anterior e recomeça a
+     * anotação. O avanço do relógio não conta como alteração: as posições
+     * só são anotadas quando o desgaste dos anos passados é aplicado.
+     * @return Posições alteradas, em ordem crescente, já com o desgaste aplicado
+     */
+    public int[] retirarAlteradas() {
+        int[] retiradas = Arrays.copyOf(alteradas, quantidadeAlteradas);
+        Arrays.sort(retiradas);
+        for (int posicao : retiradas) {
+            // Lidas em seguida pelo chamador, não devem voltar a ser anotadas
+            atualizar(posicao);
+            marcadas.clear(posicao);
+        }
+        quantidadeAlteradas = 0;
+        return retiradas;
+    }
+
+    /**
+     * Anota uma posição como alterada
+     */
+    void marcarAlterada(int posicao) {
+        if (marcadas.get(posicao)) {
+            return;
+        }
+        marcadas.set(posicao);
+        if (quantidadeAlteradas == alteradas.length) {
+            alteradas = Arrays.copyOf(alteradas, quantidadeAlteradas * 2);
+        }
+        alteradas[quantidadeAlteradas++] = posicao;
+    }
+
+    /**
+     * Avança em um ano o relógio: todas as pessoas envelhecem e o tempo de
+     * todos os relacionamentos avança. Cada relacionamento tem 30% de chance
+     * de perder 5 pontos de nível por ano, aplicada quando ele for usado; o
+     * custo não depende da quantidade de relacionamentos.
+     */
+    public void avancarTempo() {
+        relogio.avancar();
+    }
+
+    /**
+     * Obtém todos os relacionamentos, na ordem de criação
+     * @return Visão somente leitura da tabela
+     */
+    public List<Relacionamento> getTodos() {
+        return new VisaoTodos();
+    }
+
+    /**
+     * Obtém os relacionamentos de um tipo, na ordem de criação
+     * @return Visão somente leitura do índice do tipo
+     */
+    public List<Relacionamento> getPorTipo(TipoRelacionamento tipo) {
+        return new VisaoTipo(tipo.ordinal());
+    }
+
+    /**
+     * Obtém o primeiro relacionamento criado de um tipo
+     * @return Relacionamento ou null se não houver nenhum do tipo
+     */
+    public Relacionamento getPrimeiroPorTipo(TipoRelacionamento tipo) {
+        Posicoes posicoes = porTipo[tipo.ordinal()];
+        return posicoes != null && posicoes.tamanho > 0 ? new Relacionamento(this, posicoes.itens[0]) : null;
+    }
+
+    /**
+     * Obtém os relacionamentos com pessoas de uma faixa de idade, pelo
+     * índice de anos de nascimento
+     * @param idadeMinima Idade mínima, inclusive
+     * @param idadeMaxima Idade máxima, inclusive
+     * @return Relacionamentos da faixa, das pessoas mais velhas para as mais novas
+     */
+    public List<Relacionamento> getPorIdade(int idadeMinima, int idadeMaxima) {
+        if (idadeMinima < 0 || idadeMinima > idadeMaxima) {
+            throw new IllegalArgumentException("Faixa de idade inválida: " + idadeMinima + " a " + idadeMaxima);
+        }
+        int anoAtual = relogio.getAno();
+        List<Relacionamento> resultado = new ArrayList<>();
+        for (Posicoes posicoes : porNascimento.subMap(anoAtual - idadeMaxima, true,
+                anoAtual - idadeMinima, true).values()) {
+            for (int i = 0; i < posicoes.tamanho; i++) {
+                resultado.add(new Relacionamento(this, posicoes.itens[i]));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Aplica ao relacionamento os anos passados desde a última atualização
+     */
+    private void atualizar(int posicao) {
+        verificarPosicao(posicao);
+        int anos = relogio.getAno() - anosAtualizados[posicao];
+        if (anos == 0) {
+            return;
+        }
+        anosAtualizados[posicao] = relogio.getAno();
+        tempos[posicao] += anos;
+        niveis[posicao] = desgastar(niveis[posicao], anos, gerador);
+        // O desgaste sorteado passa a ser observável e precisa ser salvo
+        marcarAlterada(posicao);
+    }
+
+    /**
+     * Aplica a um nível o desgaste anual de alguns anos de uma vez. Quedas
+     * em anos seguidos somam, e o nível só desce até 0.
+     * @param nivel   Nível antes do desgaste
+     * @param anos    Anos passados
+     * @param gerador Gerador dos sorteios
+     * @return Nível depois do desgaste
+     */
+    public static int desgastar(int nivel, int anos, RandomGenerator gerador) {
+        return anos <= 0 ? nivel : Math.max(0, nivel - QUEDA_NIVEL * sortearQuedas(anos, gerador));
+    }
+
+    /**
+     * Sorteia a quantidade de anos com queda, Binomial(anos, CHANCE_QUEDA),
+     * por inversão da distribuição acumulada com um único sorteio a cada
+     * ANOS_POR_SORTEIO anos
+     */
+    private static int sortearQuedas(int anos, RandomGenerator gerador) {
+        double razao = CHANCE_QUEDA / (1 - CHANCE_QUEDA);
+        int quedas = 0;
+        for (int restantes = anos; restantes > 0; restantes -= ANOS_POR_SORTEIO) {
+            int n = Math.min(restantes, ANOS_POR_SORTEIO);
+            double sorteio = gerador.nextDouble();
+            double probabilidade = Math.pow(1 - CHANCE_QUEDA, n);
+            double acumulada = probabilidade;
+            int k = 0;
+            while (sorteio >= acumulada && k < n) {
+                probabilidade *= razao * (n - k) / (k + 1);
+                k++;
+                acumulada += probabilidade;
+            }
+            quedas += k;
+        }
+        return quedas;
+    }
+
+    private void indexarTipo(int posicao, int ordinal) {
+        if (porTipo[ordinal] == null) {
+            porTipo[ordinal] = new Posicoes();
+        }
+        porTipo[ordinal].inserir(posicao);
+    }
+
+    private void desindexarTipo(int posicao, int ordinal) {
+        porTipo[ordinal].remover(posicao);
+    }
+
+    private void indexarNascimento(int posicao) {
+        porNascimento.computeIfAbsent(pessoas[posicao].getAnoNascimento(), ano -> new Posicoes()).inserir(posicao);
+    }
+
+    private void desindexarNascimento(int posicao) {
+        int anoNascimento = pessoas[posicao].getAnoNascimento();
+        Posicoes posicoes = porNascimento.get(anoNascimento);
+        posicoes.remover(posicao);
+        if (posicoes.tamanho == 0) {
+            porNascimento.remove(anoNascimento);
+        }
+    }
+
+    private void verificarPosicao(int posicao) {
+        if (posicao < 0 || posicao >= quantidade) {
+            throw new IndexOutOfBoundsException("Relacionamento inexistente: " + posicao);
+        }
+    }
+
+    /**
+     * Visão de todas as posições
+     */
+    private final class VisaoTodos extends AbstractList<Relacionamento> implements RandomAccess {
+        @Override
+        public Relacionamento get(int indice) {
+            return TabelaRelacionamentos.this.get(indice);
+        }
+
+        @Override
+        public int size() {
+            return quantidade;
+        }
+    }
+
+    /**
+     * Visão das posições de um tipo
+     */
+    private final class VisaoTipo extends AbstractList<Relacionamento> implements RandomAccess {
+        private final int ordinal;
+
+        VisaoTipo(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Relacionamento get(int indice) {
+            if (indice < 0 || indice >= size()) {
+                throw new IndexOutOfBoundsException("Índice: " + indice + ", tamanho: " + size());
+            }
+            return new Relacionamento(TabelaRelacionamentos.this, porTipo[ordinal].itens[indice]);
+        }
+
+        @Override
+        public int size() {
+            return porTipo[ordinal] != null ? porTipo[ordinal].tamanho : 0;
+        }
+    }
+
+    /**
+     * Lista de posições de um índice, em ordem crescente (a de criação)
+     */
+    private static final class Posicoes {
+        private int[] itens = new int[CAPACIDADE_INICIAL];
+        private int tamanho;
+
+        void inserir(int posicao) {
+            if (tamanho == itens.length) {
+                itens = Arrays.copyOf(itens, tamanho * 2);
+            }
+            int destino = -(Arrays.binarySearch(itens, 0, tamanho, posicao) + 1);
+            System.arraycopy(itens, destino, itens, destino + 1, tamanho - destino);
+            itens[destino] = posicao;
+            tamanho++;
+        }
+
+        void remover(int posicao) {
+            int origem = Arrays.binarySearch(itens, 0, tamanho, posicao);
+            System.arraycopy(itens, origem + 1, itens, origem, tamanho - origem - 1);
+            tamanho--;
+        }
+    }
+}
@@ -2,8 +2,9 @@ package br.com.braym.projetobitlifeclonev1.impl;
 
 import br.com.braym.projetobitlifeclonev1.domain.Evento;
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.PlanoEfeitos;
 import br.com.braym.projetobitlifeclonev1.interfaces.EventoInterface;
-import br.com.braym.projetobitlifeclonev1.service.EstrategiaEfeitoAtributo;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
 
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,9 @@ public class EventoImpl implements EventoInterface {
 	private final List<Integer> efeitos;
 	private final String atributo;
 	private final Map<String, Integer> efeitosMultiplos;
+	private final PlanoEfeitos planoEfeitos;
 	private final Scanner scanner;
+	private final PoliticaDecisao politicaDecisao;
 
 	/**
 	 * Construtor completo
@@ -35,6 +38,7 @@ public class EventoImpl implements EventoInterface {
 	 * @param atributo         Nome do atributo afetado
 	 * @param efeitosMultiplos Mapa de múltiplos efeitos (atributo -> valor)
 	 * @param scanner          Scanner para entrada do usuário
+	 * @throws IllegalArgumentException se algum atributo não for reconhecido
 	 */
 	public EventoImpl(String id, String descricao, List<String> opcoes, List<Integer> efeitos, String atributo,
 			Map<String, Integer> efeitosMultiplos, Scanner scanner) {
@@ -44,7 +48,31 @@ public class EventoImpl implements EventoInterface {
 		this.efeitos = efeitos;
 		this.atributo = atributo;
 		this.efeitosMultiplos = efeitosMultiplos;
+		this.planoEfeitos = PlanoEfeitos.compilar(efeitos, atributo, efeitosMultiplos);
 		this.scanner = scanner != null ? scanner : new Scanner(System.in);
+		this.politicaDecisao = null;
+	}
+
+	/**
+	 * Construtor que cria EventoImpl sem interação com o console. A escolha da
+	 * opção é delegada à política de decisão informada.
+	 * 
+	 * @param evento          Objeto Evento base
+	 * @param politicaDecisao Política que escolhe a opção do evento
+	 */
+	public EventoImpl(Evento evento, PoliticaDecisao politicaDecisao) {
+		if (politicaDecisao == null) {
+			throw new IllegalArgumentException("Política de decisão não pode ser nula");
+		}
+		this.id = evento.getId();
+		this.descricao = evento.getDescricao();
+		this.opcoes = evento.getOpcoes();
+		this.efeitos = evento.getEfeitos();
+		this.atributo = evento.getAtributo();
+		this.efeitosMultiplos = evento.getEfeitosMultiplos();
+		this.planoEfeitos = evento.getPlanoEfeitos();
+		this.scanner = null;
+		this.politicaDecisao = politicaDecisao;
 	}
 
 	/**
@@ -64,18 +92,33 @@ public class EventoImpl implements EventoInterface {
 	}
 
 	/**
-	 * Construtor que cria EventoImpl a partir de um objeto Evento
+	 * Construtor que cria EventoImpl a partir de um objeto Evento, reutilizando
+	 * os efeitos já compilados no evento
 	 * 
 	 * @param evento  Objeto Evento base
 	 * @param scanner Scanner para entrada do usuário
 	 */
 	public EventoImpl(Evento evento, Scanner scanner) {
-		this(evento.getId(), evento.getDescricao(), evento.getOpcoes(), evento.getEfeitos(), evento.getAtributo(),
-				evento.getEfeitosMultiplos(), scanner);
+		this.id = evento.getId();
+		this.descricao = evento.getDescricao();
+		this.opcoes = evento.getOpcoes();
+		this.efeitos = evento.getEfeitos();
+		this.atributo = evento.getAtributo();
+		this.efeitosMultiplos = evento.getEfeitosMultiplos();
+		this.planoEfeitos = evento.getPlanoEfeitos();
+		this.scanner = scanner != null ? scanner : new Scanner(System.in);
+		this.politicaDecisao = null;
 	}
 
 	@Override
 	public void executarEvento(Personagem personagem) {
+		if (politicaDecisao != null) {
+			// Execução sem console: a política decide e nada é exibido
+			int escolha = politicaDecisao.escolherOpcao(personagem, opcoes);
+			aplicarEfeito(personagem, Math.max(0, Math.min(opcoes.size() - 1, escolha)));
+			return;
+		}
+
 		System.out.println("Evento: " + descricao);
 		for (int i = 0; i < opcoes.size(); i++) {
 			System.out.println((i + 1) + ": " + opcoes.get(i));
@@ -119,23 +162,17 @@ public class EventoImpl implements EventoInterface {
 	 * @param escolha    Índice da opção escolhida
 	 */
 	public void aplicarEfeito(Personagem personagem, int escolha) {
-		try {
-			if (efeitosMultiplos != null && !efeitosMultiplos.isEmpty()) {
-				// Aplica múltiplos efeitos
-				personagem.alterarAtributos(efeitosMultiplos);
+		if (!planoEfeitos.aplicar(personagem, escolha)) {
+			LOGGER.warning("Evento sem efeitos definidos ou escolha inválida.");
+			return;
+		}
+
+		if (LOGGER.isLoggable(Level.INFO)) {
+			if (planoEfeitos.possuiEfeitosMultiplos()) {
 				LOGGER.info("Aplicados múltiplos efeitos ao personagem: " + efeitosMultiplos);
-			} else if (efeitos != null && escolha < efeitos.size()) {
-				// Aplica efeito simples
-				int efeito = efeitos.get(escolha);
-				EstrategiaEfeitoAtributo estrategia = EstrategiaEfeitoAtributo.obterEstrategia(atributo);
-				estrategia.aplicarEfeito(personagem, efeito);
-				LOGGER.info("Aplicado efeito ao atributo " + atributo + ": " + efeito);
 			} else {
-				LOGGER.warning("Evento sem efeitos definidos ou escolha inválida.");
+				LOGGER.info("Aplicado efeito ao atributo " + atributo + ": " + efeitos.get(escolha));
 			}
-		} catch (Exception e) {
-			LOGGER.log(Level.WARNING, "Erro ao aplicar efeito: " + e.getMessage(), e);
-			System.out.println("Não foi possível aplicar o efeito: " + e.getMessage());
 		}
 	}
 
@@ -0,0 +1,350 @@
+package br.com.braym.projetobitlifeclonev1.impl;
+
+import br.com.braym.projetobitlifeclonev1.domain.AlteracaoPersonagem;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.interfaces.ObservadorAlteracoes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Observador que repassa as alterações a outros observadores em uma thread
+ * própria, para que a velocidade da simulação não dependa da velocidade do
+ * console ou do log.
+ *
+ * As alterações são colocadas em um buffer circular pré-alocado com um único
+ * produtor (a thread do jogo) e consumidas por uma thread dedicada. Quando o
+ * buffer está cheio, a política de transbordo decide o que fazer. Em todas as
+ * políticas a ordem das alterações de um mesmo tipo em um mesmo personagem é
+ * preservada.
+ *
+ * Os métodos notificar e close devem ser chamados por uma thread de cada vez,
+ * normalmente a thread do jogo.
+ */
+public class ObservadorAssincrono implements ObservadorAlteracoes, AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(ObservadorAssincrono.class.getName());
+
+	// Tempo máximo de espera antes de verificar o buffer de novo, caso um aviso se perca
+	private static final long ESPERA_MAXIMA_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	// Verificações do buffer vazio antes de a thread consumidora dormir
+	private static final int TENTATIVAS_ANTES_DE_DORMIR = 256;
+
+	/**
+	 * O que fazer quando o buffer está cheio
+	 */
+	public enum PoliticaTransbordo {
+		/** A thread do jogo espera até que haja espaço; nenhuma alteração é perdida */
+		BLOQUEAR,
+		/** A alteração mais antiga ainda não entregue é descartada */
+		DESCARTAR_MAIS_ANTIGO,
+		/**
+		 * Alterações do mesmo tipo no mesmo personagem são combinadas em uma só
+		 * até que o consumidor alcance o produtor; as que não podem ser
+		 * combinadas (novas amizades) esperam por espaço
+		 */
+		COALESCER
+	}
+
+	private final List<ObservadorAlteracoes> destinos;
+	private final PoliticaTransbordo politica;
+	private final AtomicReferenceArray<AlteracaoPersonagem> buffer;
+	private final int mascara;
+
+	// Próxima posição a consumir. Na política DESCARTAR_MAIS_ANTIGO o produtor também a avança.
+	private final AtomicLong cabeca = new AtomicLong();
+	// Próxima posição a publicar; só o produtor escreve
+	private final AtomicLong cauda = new AtomicLong();
+	// Última cabeça lida pelo produtor, para não ler a do consumidor a cada publicação
+	private long cabecaConhecida;
+
+	// Alterações combinadas enquanto o buffer esteve cheio (política COALESCER)
+	private final Map<ChaveCombinacao, AlteracaoPersonagem> combinadas = new LinkedHashMap<>();
+	private volatile boolean possuiCombinadas;
+
+	private final AtomicLong descartadas = new AtomicLong();
+	private final AtomicLong combinacoes = new AtomicLong();
+
+	private final Thread consumidor;
+	private volatile Thread produtorAguardando;
+	private volatile boolean consumidorAguardando;
+	private volatile boolean encerrado;
+
+	/**
+	 * Cria o observador e inicia a thread consumidora
+	 *
+	 * @param capacidade Quantidade de alterações no buffer (arredondada para potência de dois)
+	 * @param politica   Política usada quando o buffer está cheio
+	 * @param destinos   Observadores que recebem as alterações, na thread consumidora
+	 */
+	public ObservadorAssincrono(int capacidade, PoliticaTransbordo politica, ObservadorAlteracoes... destinos) {
+		if (capacidade < 1 || capacidade > (1 << 30)) {
+			throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+		}
+		if (politica == null) {
+			throw new IllegalArgumentException("Política de transbordo não pode ser nula");
+		}
+		if (destinos.length == 0) {
+			throw new IllegalArgumentException("É necessário ao menos um observador de destino");
+		}
+		for (ObservadorAlteracoes destino : destinos) {
+			Objects.requireNonNull(destino, "Observador de destino não pode ser nulo");
+		}
+
+		int tamanho = Integer.highestOneBit(capacidade);
+		if (tamanho < capacidade) {
+			tamanho <<= 1;
+		}
+		this.buffer = new AtomicReferenceArray<>(tamanho);
+		this.mascara = tamanho - 1;
+		this.politica = politica;
+		this.destinos = List.of(destinos);
+
+		this.consumidor = new Thread(this::consumir, "observador-assincrono");
+		this.consumidor.setDaemon(true);
+		this.consumidor.start();
+	}
+
+	@Override
+	public void notificar(AlteracaoPersonagem alteracao) {
+		if (encerrado) {
+			// Depois de fechado, entrega na própria thread para não perder a alteração
+			entregar(alteracao);
+			return;
+		}
+
+		if (politica == PoliticaTransbordo.COALESCER && alteracao.getTipo().isCombinavel()) {
+			synchronized (combinadas) {
+				// Enquanto houver alterações combinadas, as seguintes também são
+				// combinadas, para que não sejam entregues antes delas
+				if (possuiCombinadas || cheio()) {
+					combinar(alteracao);
+					return;
+				}
+			}
+		}
+
+		publicar(alteracao);
+	}
+
+	/**
+	 * Coloca a alteração no buffer, aplicando a política se ele estiver cheio
+	 */
+	private void publicar(AlteracaoPersonagem alteracao) {
+		long posicao = cauda.get();
+		// A cabeça conhecida nunca está à frente da real, então só é preciso
+		// relê-la quando o buffer parece cheio
+		while (posicao - cabecaConhecida > mascara
+				&& posicao - (cabecaConhecida = cabeca.get()) > mascara) {
+			if (politica == PoliticaTransbordo.DESCARTAR_MAIS_ANTIGO) {
+				long maisAntiga = cabeca.get();
+				if (posicao - maisAntiga > mascara && cabeca.compareAndSet(maisAntiga, maisAntiga + 1)) {
+					descartadas.incrementAndGet();
+				}
+			} else {
+				aguardarEspaco(posicao);
+			}
+		}
+
+		buffer.set((int) posicao & mascara, alteracao);
+		cauda.set(posicao + 1);
+		avisarConsumidor();
+	}
+
+	private void avisarConsumidor() {
+		if (consumidorAguardando) {
+			LockSupport.unpark(consumidor);
+		}
+	}
+
+	private void aguardarEspaco(long posicao) {
+		produtorAguardando = Thread.currentThread();
+		if (posicao - cabeca.get() > mascara && !encerrado) {
+			LockSupport.parkNanos(this, ESPERA_MAXIMA_NANOS);
+		}
+		produtorAguardando = null;
+	}
+
+	private boolean cheio() {
+		return cauda.get() - cabeca.get() > mascara;
+	}
+
+	/**
+	 * Combina a alteração com a pendente do mesmo tipo e personagem. Deve ser
+	 * chamado com a trava do mapa de combinadas.
+	 */
+	private void combinar(AlteracaoPersonagem alteracao) {
+		ChaveCombinacao chave = new ChaveCombinacao(alteracao.getFonte(), alteracao.getTipo());
+		AlteracaoPersonagem pendente = combinadas.get(chave);
+		if (pendente == null) {
+			combinadas.put(chave, alteracao);
+		} else {
+			combinadas.put(chave, pendente.combinar(alteracao));
+			combinacoes.incrementAndGet();
+		}
+		possuiCombinadas = true;
+	}
+
+	/**
+	 * Laço da thread consumidora. Ao ser encerrada, entrega o que restou.
+	 */
+	private void consumir() {
+		int tentativas = 0;
+		while (true) {
+			boolean entregou = consumirBuffer();
+			if (!entregou && possuiCombinadas) {
+				// O buffer esvaziou: as combinadas são mais novas que tudo que havia nele
+				entregarCombinadas();
+				continue;
+			}
+			if (entregou) {
+				tentativas = 0;
+			} else {
+				if (encerrado && cabeca.get() == cauda.get() && !possuiCombinadas) {
+					return;
+				}
+				// Espera ativa curta: acordar a thread custa mais que algumas verificações
+				if (++tentativas < TENTATIVAS_ANTES_DE_DORMIR) {
+					Thread.onSpinWait();
+					continue;
+				}
+				tentativas = 0;
+				consumidorAguardando = true;
+				if (cabeca.get() == cauda.get() && !possuiCombinadas && !encerrado) {
+					LockSupport.parkNanos(this, ESPERA_MAXIMA_NANOS);
+				}
+				consumidorAguardando = false;
+			}
+		}
+	}
+
+	/**
+	 * Entrega as alterações publicadas no buffer até esvaziá-lo
+	 *
+	 * @return true se ao menos uma alteração foi entregue
+	 */
+	private boolean consumirBuffer() {
+		boolean entregou = false;
+		long posicao;
+		while ((posicao = cabeca.get()) < cauda.get()) {
+			int indice = (int) posicao & mascara;
+			AlteracaoPersonagem alteracao = buffer.get(indice);
+			// Se o produtor descartou esta posição, a alteração lida não vale mais
+			if (!cabeca.compareAndSet(posicao, posicao + 1)) {
+				continue;
+			}
+			buffer.compareAndSet(indice, alteracao, null);
+
+			Thread produtor = produtorAguardando;
+			if (produtor != null) {
+				LockSupport.unpark(produtor);
+			}
+			entregar(alteracao);
+			entregou = true;
+		}
+		return entregou;
+	}
+
+	private void entregarCombinadas() {
+		List<AlteracaoPersonagem> pendentes;
+		synchronized (combinadas) {
+			pendentes = new ArrayList<>(combinadas.values());
+			combinadas.clear();
+			possuiCombinadas = false;
+		}
+		for (AlteracaoPersonagem alteracao : pendentes) {
+			entregar(alteracao);
+		}
+	}
+
+	private void entregar(AlteracaoPersonagem alteracao) {
+		for (int i = 0; i < destinos.size(); i++) {
+			try {
+				destinos.get(i).notificar(alteracao);
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.WARNING, "Erro ao notificar observador: " + alteracao, e);
+			}
+		}
+	}
+
+	/**
+	 * Obtém quantas alterações foram descartadas pela política DESCARTAR_MAIS_ANTIGO
+	 *
+	 * @return Total de alterações descartadas
+	 */
+	public long getDescartadas() {
+		return descartadas.get();
+	}
+
+	/**
+	 * Obtém quantas alterações foram absorvidas por outra pela política COALESCER
+	 *
+	 * @return Total de alterações combinadas
+	 */
+	public long getCombinacoes() {
+		return combinacoes.get();
+	}
+
+	public int getCapacidade() {
+		return mascara + 1;
+	}
+
+	public PoliticaTransbordo getPolitica() {
+		return politica;
+	}
+
+	/**
+	 * Entrega as alterações pendentes e encerra a thread consumidora. Alterações
+	 * notificadas depois disso são entregues na thread de quem as notificou.
+	 */
+	@Override
+	public void close() {
+		encerrado = true;
+		LockSupport.unpark(consumidor);
+		if (Thread.currentThread() == consumidor) {
+			return;
+		}
+		try {
+			consumidor.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warning("Interrompido enquanto aguardava a entrega das alterações pendentes");
+		}
+	}
+
+	/**
+	 * Chave das alterações combinadas: o personagem (por identidade) e o tipo
+	 */
+	private static final class ChaveCombinacao {
+		private final Personagem fonte;
+		private final AlteracaoPersonagem.Tipo tipo;
+
+		private ChaveCombinacao(Personagem fonte, AlteracaoPersonagem.Tipo tipo) {
+			this.fonte = fonte;
+			this.tipo = tipo;
+		}
+
+		@Override
+		public boolean equals(Object outro) {
+			if (!(outro instanceof ChaveCombinacao)) {
+				return false;
+			}
+			ChaveCombinacao chave = (ChaveCombinacao) outro;
+			return fonte == chave.fonte && tipo == chave.tipo;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(fonte) + tipo.hashCode();
+		}
+	}
+}
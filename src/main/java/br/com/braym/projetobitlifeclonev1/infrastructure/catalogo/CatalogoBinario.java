@@ -0,0 +1,467 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.catalogo;
+
+import br.com.braym.projetobitlifeclonev1.domain.CatalogoEventos;
+import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.domain.Profissao;
+import br.com.braym.projetobitlifeclonev1.narrativa.Escolha;
+import br.com.braym.projetobitlifeclonev1.narrativa.EventoNarrativa;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes.InteracaoInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Catálogo binário com todo o conteúdo do jogo, gerado em tempo de build por
+ * GeradorCatalogoBinario a partir dos arquivos JSON.
+ *
+ * O arquivo é mapeado em memória e os registros são decodificados apenas
+ * quando acessados, de modo que abrir o catálogo não faz nenhum parsing.
+ *
+ * Formato (big-endian):
+ * <pre>
+ * int MAGICO | int VERSAO | int quantidadeSecoes
+ * para cada seção: texto nome | int tipo | int quantidadeRegistros | int offsetIndice
+ * em offsetIndice: int[quantidadeRegistros] offsets absolutos dos registros
+ *                  (seções de eventos: seguidos de double[quantidadeRegistros] pesos)
+ * </pre>
+ * Textos são gravados como int tamanho (-1 para nulo) seguido dos bytes UTF-8,
+ * e vetores de inteiros como int tamanho (-1 para nulo) seguido dos valores.
+ */
+public final class CatalogoBinario {
+    private static final Logger LOGGER = Logger.getLogger(CatalogoBinario.class.getName());
+
+    /** Recurso do classpath onde o catálogo é gerado */
+    public static final String RECURSO = "/catalogo.bin";
+
+    /** Identifica o arquivo como um catálogo ("BLCC") */
+    public static final int MAGICO = 0x424C4343;
+
+    /** Versão do formato; catálogos de outra versão são ignorados */
+    public static final int VERSAO = 2;
+
+    public static final int TIPO_EVENTOS = 1;
+    public static final int TIPO_TEXTOS = 2;
+    public static final int TIPO_PROFISSOES = 3;
+    public static final int TIPO_NARRATIVAS = 4;
+    public static final int TIPO_INTERACOES_FASE = 5;
+    public static final int TIPO_REGRAS_INTERACAO = 6;
+
+    public static final String PREFIXO_EVENTOS = "eventos/";
+    public static final String PREFIXO_NARRATIVAS = "narrativas/";
+    public static final String SECAO_NOMES_MASCULINOS = "nomes/masculinos";
+    public static final String SECAO_NOMES_FEMININOS = "nomes/femininos";
+    public static final String SECAO_SOBRENOMES = "nomes/sobrenomes";
+    public static final String SECAO_PROFISSOES_MASCULINAS = "profissoes/masculinas";
+    public static final String SECAO_PROFISSOES_FEMININAS = "profissoes/femininas";
+    public static final String SECAO_INTERACOES_DISPONIVEIS = "interacoes/disponiveis";
+    public static final String SECAO_REGRAS_INTERACOES = "interacoes/regras";
+
+    private final ByteBuffer dados;
+    private final Map<String, Secao> secoes;
+
+    /**
+     * Lê o diretório de seções de um catálogo
+     * @param dados Conteúdo completo do catálogo
+     */
+    CatalogoBinario(ByteBuffer dados) {
+        this.dados = dados;
+        if (dados.getInt(0) != MAGICO) {
+            throw new IllegalStateException("Arquivo não é um catálogo de conteúdo");
+        }
+        int versao = dados.getInt(4);
+        if (versao != VERSAO) {
+            throw new IllegalStateException("Versão do catálogo não suportada: " + versao);
+        }
+
+        int quantidadeSecoes = dados.getInt(8);
+        Map<String, Secao> lidas = new LinkedHashMap<>();
+        int posicao = 12;
+        for (int i = 0; i < quantidadeSecoes; i++) {
+            int tamanhoNome = dados.getInt(posicao);
+            String nome = lerTexto(posicao);
+            posicao += 4 + tamanhoNome;
+            Secao secao = new Secao(dados.getInt(posicao), dados.getInt(posicao + 4), dados.getInt(posicao + 8));
+            posicao += 12;
+            lidas.put(nome, secao);
+        }
+        this.secoes = Collections.unmodifiableMap(lidas);
+    }
+
+    /**
+     * Abre o catálogo gerado no classpath. Quando ele está em um diretório o
+     * arquivo é mapeado em memória; dentro de um jar é lido para um buffer.
+     * @return Catálogo aberto ou null se não existir ou for inválido
+     */
+    public static CatalogoBinario abrirPadrao() {
+        URL url = CatalogoBinario.class.getResource(RECURSO);
+        if (url == null) {
+            LOGGER.fine("Catálogo binário não encontrado no classpath");
+            return null;
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return abrir(Paths.get(url.toURI()));
+            }
+            try (InputStream is = url.openStream()) {
+                return new CatalogoBinario(ByteBuffer.wrap(is.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Catálogo binário ignorado: " + url, e);
+            return null;
+        }
+    }
+
+    /**
+     * Abre um catálogo mapeando o arquivo em memória
+     * @param arquivo Caminho do catálogo
+     * @return Catálogo aberto
+     * @throws IOException Em caso de erro de leitura
+     */
+    public static CatalogoBinario abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            // O mapeamento continua válido depois que o canal é fechado
+            return new CatalogoBinario(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        }
+    }
+
+    /**
+     * Verifica se o catálogo possui uma seção
+     * @param nome Nome da seção
+     * @return true se a seção existir
+     */
+    public boolean possuiSecao(String nome) {
+        return secoes.containsKey(nome);
+    }
+
+    /**
+     * Obtém o catálogo de eventos de uma fase da vida. Os eventos são
+     * decodificados apenas quando acessados.
+     * @param faseFolder Pasta da fase
+     * @return Catálogo da fase (vazio se a fase não estiver no arquivo)
+     */
+    public CatalogoEventos getCatalogoEventos(String faseFolder) {
+        Secao secao = obterSecao(PREFIXO_EVENTOS + faseFolder, TIPO_EVENTOS);
+        if (secao == null || secao.quantidade == 0) {
+            return CatalogoEventos.vazio();
+        }
+        double[] pesos = new double[secao.quantidade];
+        int inicioPesos = secao.offsetIndice + 4 * secao.quantidade;
+        for (int i = 0; i < pesos.length; i++) {
+            pesos[i] = dados.getDouble(inicioPesos + 8 * i);
+        }
+        return new CatalogoEventos(new RegistrosSobDemanda<>(secao, this::lerEvento), pesos);
+    }
+
+    /**
+     * Obtém os eventos narrativos de uma fase da vida, já validados pelo
+     * gerador com a compilação do grafo narrativo
+     * @param faseFolder Pasta da fase
+     * @return Lista imutável decodificada sob demanda (vazia se não existir)
+     */
+    public List<EventoNarrativa> getEventosNarrativos(String faseFolder) {
+        Secao secao = obterSecao(PREFIXO_NARRATIVAS + faseFolder, TIPO_NARRATIVAS);
+        return secao == null ? List.of() : new RegistrosSobDemanda<>(secao, this::lerNarrativa);
+    }
+
+    /**
+     * Obtém uma seção de textos (nomes, sobrenomes)
+     * @param nome Nome da seção
+     * @return Lista imutável decodificada sob demanda (vazia se não existir)
+     */
+    public List<String> getTextos(String nome) {
+        Secao secao = obterSecao(nome, TIPO_TEXTOS);
+        return secao == null ? List.of() : new RegistrosSobDemanda<>(secao, this::lerTexto);
+    }
+
+    /**
+     * Obtém uma seção de profissões
+     * @param nome Nome da seção
+     * @return Lista imutável decodificada sob demanda (vazia se não existir)
+     */
+    public List<Profissao> getProfissoes(String nome) {
+        Secao secao = obterSecao(nome, TIPO_PROFISSOES);
+        return secao == null ? List.of() : new RegistrosSobDemanda<>(secao, this::lerProfissao);
+    }
+
+    /**
+     * Obtém as interações disponíveis em cada fase, na forma lida de
+     * interacoes_disponiveis.json
+     * @return Mapa pasta da fase -> nomes das interações, na ordem do arquivo
+     */
+    public Map<String, List<String>> getInteracoesDisponiveis() {
+        Map<String, List<String>> disponiveis = new LinkedHashMap<>();
+        Secao secao = obterSecao(SECAO_INTERACOES_DISPONIVEIS, TIPO_INTERACOES_FASE);
+        for (int i = 0; secao != null && i < secao.quantidade; i++) {
+            int posicao = dados.getInt(secao.offsetIndice + 4 * i);
+            String fase = lerTexto(posicao);
+            posicao = pularTexto(posicao);
+            int quantidade = dados.getInt(posicao);
+            posicao += 4;
+            List<String> nomes = new ArrayList<>(quantidade);
+            for (int j = 0; j < quantidade; j++) {
+                nomes.add(lerTexto(posicao));
+                posicao = pularTexto(posicao);
+            }
+            disponiveis.put(fase, nomes);
+        }
+        return disponiveis;
+    }
+
+    /**
+     * Obtém as regras de todas as interações, já validadas pelo gerador com
+     * a compilação da TabelaInteracoes
+     * @return Mapa interação -> categoria -> regras, na forma lida dos arquivos de regras
+     */
+    public Map<String, Map<String, List<InteracaoInfo>>> getRegrasInteracoes() {
+        Map<String, Map<String, List<InteracaoInfo>>> regrasPorInteracao = new LinkedHashMap<>();
+        Secao secao = obterSecao(SECAO_REGRAS_INTERACOES, TIPO_REGRAS_INTERACAO);
+        for (int i = 0; secao != null && i < secao.quantidade; i++) {
+            int posicao = dados.getInt(secao.offsetIndice + 4 * i);
+            String nome = lerTexto(posicao);
+            posicao = pularTexto(posicao);
+            int quantidadeCategorias = dados.getInt(posicao);
+            posicao += 4;
+            Map<String, List<InteracaoInfo>> porCategoria = new LinkedHashMap<>();
+            for (int j = 0; j < quantidadeCategorias; j++) {
+                String categoria = lerTexto(posicao);
+                posicao = pularTexto(posicao);
+                int quantidadeRegras = dados.getInt(posicao);
+                posicao += 4;
+                List<InteracaoInfo> regras = new ArrayList<>(quantidadeRegras);
+                for (int k = 0; k < quantidadeRegras; k++) {
+                    String texto = lerTexto(posicao);
+                    posicao = pularTexto(posicao);
+                    int[] nivel = lerInteiros(posicao);
+                    posicao = pularInteiros(posicao);
+                    int[] felicidade = lerInteiros(posicao);
+                    posicao = pularInteiros(posicao);
+                    int[] custo = lerInteiros(posicao);
+                    posicao = pularInteiros(posicao);
+                    regras.add(new InteracaoInfo(texto, nivel, felicidade, custo, dados.getInt(posicao),
+                            dados.getInt(posicao + 4)));
+                    posicao += 8;
+                }
+                porCategoria.put(categoria, regras);
+            }
+            regrasPorInteracao.put(nome, porCategoria);
+        }
+        return regrasPorInteracao;
+    }
+
+    private Secao obterSecao(String nome, int tipo) {
+        Secao secao = secoes.get(nome);
+        if (secao != null && secao.tipo != tipo) {
+            throw new IllegalStateException("Seção " + nome + " não é do tipo esperado");
+        }
+        return secao;
+    }
+
+    // Decodificação dos registros. Só usa leituras absolutas, que não alteram
+    // o estado do buffer e podem ser feitas por várias threads ao mesmo tempo.
+
+    private String lerTexto(int posicao) {
+        int tamanho = dados.getInt(posicao);
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        dados.get(posicao + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int pularTexto(int posicao) {
+        int tamanho = dados.getInt(posicao);
+        return posicao + 4 + Math.max(tamanho, 0);
+    }
+
+    private int[] lerInteiros(int posicao) {
+        int quantidade = dados.getInt(posicao);
+        if (quantidade < 0) {
+            return null;
+        }
+        int[] valores = new int[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            valores[i] = dados.getInt(posicao + 4 + 4 * i);
+        }
+        return valores;
+    }
+
+    private int pularInteiros(int posicao) {
+        int quantidade = dados.getInt(posicao);
+        return posicao + 4 + 4 * Math.max(quantidade, 0);
+    }
+
+    private Evento lerEvento(int posicao) {
+        Evento evento = new Evento();
+        evento.setId(lerTexto(posicao));
+        posicao = pularTexto(posicao);
+        evento.setDescricao(lerTexto(posicao));
+        posicao = pularTexto(posicao);
+        evento.setAtributo(lerTexto(posicao));
+        posicao = pularTexto(posicao);
+
+        if (dados.get(posicao) != 0) {
+            evento.setPeso(dados.getDouble(posicao + 1));
+        }
+        posicao += 9;
+
+        int quantidadeOpcoes = dados.getInt(posicao);
+        posicao += 4;
+        if (quantidadeOpcoes >= 0) {
+            List<String> opcoes = new ArrayList<>(quantidadeOpcoes);
+            for (int i = 0; i < quantidadeOpcoes; i++) {
+                opcoes.add(lerTexto(posicao));
+                posicao = pularTexto(posicao);
+            }
+            evento.setOpcoes(Collections.unmodifiableList(opcoes));
+        }
+
+        int quantidadeEfeitos = dados.getInt(posicao);
+        posicao += 4;
+        if (quantidadeEfeitos >= 0) {
+            List<Integer> efeitos = new ArrayList<>(quantidadeEfeitos);
+            for (int i = 0; i < quantidadeEfeitos; i++) {
+                efeitos.add(dados.getInt(posicao));
+                posicao += 4;
+            }
+            evento.setEfeitos(Collections.unmodifiableList(efeitos));
+        }
+
+        int quantidadeMultiplos = dados.getInt(posicao);
+        posicao += 4;
+        if (quantidadeMultiplos >= 0) {
+            Map<String, Integer> efeitosMultiplos = new HashMap<>();
+            for (int i = 0; i < quantidadeMultiplos; i++) {
+                String atributo = lerTexto(posicao);
+                posicao = pularTexto(posicao);
+                efeitosMultiplos.put(atributo, dados.getInt(posicao));
+                posicao += 4;
+            }
+            evento.setEfeitosMultiplos(Collections.unmodifiableMap(efeitosMultiplos));
+        }
+        // Compila os efeitos junto com a decodificação, que acontece uma vez por registro
+        evento.getPlanoEfeitos();
+        return evento;
+    }
+
+    private EventoNarrativa lerNarrativa(int posicao) {
+        String id = lerTexto(posicao);
+        posicao = pularTexto(posicao);
+        String periodo = lerTexto(posicao);
+        posicao = pularTexto(posicao);
+        String descricao = lerTexto(posicao);
+        posicao = pularTexto(posicao);
+
+        int quantidadeOpcoes = dados.getInt(posicao);
+        posicao += 4;
+        List<Escolha> opcoes = new ArrayList<>(quantidadeOpcoes);
+        for (int i = 0; i < quantidadeOpcoes; i++) {
+            String texto = lerTexto(posicao);
+            posicao = pularTexto(posicao);
+            String retorno = lerTexto(posicao);
+            posicao = pularTexto(posicao);
+
+            Map<String, Integer> efeitos = null;
+            int quantidadeEfeitos = dados.getInt(posicao);
+            posicao += 4;
+            if (quantidadeEfeitos >= 0) {
+                efeitos = new LinkedHashMap<>();
+                for (int j = 0; j < quantidadeEfeitos; j++) {
+                    String atributo = lerTexto(posicao);
+                    posicao = pularTexto(posicao);
+                    efeitos.put(atributo, dados.getInt(posicao));
+                    posicao += 4;
+                }
+                efeitos = Collections.unmodifiableMap(efeitos);
+            }
+
+            String idProximo = lerTexto(posicao);
+            posicao = pularTexto(posicao);
+            opcoes.add(new Escolha(texto, retorno, efeitos, idProximo));
+        }
+        return new EventoNarrativa(id, periodo, descricao, Collections.unmodifiableList(opcoes));
+    }
+
+    private Profissao lerProfissao(int posicao) {
+        String nome = lerTexto(posicao);
+        posicao = pularTexto(posicao);
+        return new Profissao(nome, dados.getInt(posicao), dados.getInt(posicao + 4),
+                dados.getInt(posicao + 8), dados.getInt(posicao + 12));
+    }
+
+    /**
+     * Entrada do diretório de seções
+     */
+    private static final class Secao {
+        private final int tipo;
+        private final int quantidade;
+        private final int offsetIndice;
+
+        private Secao(int tipo, int quantidade, int offsetIndice) {
+            this.tipo = tipo;
+            this.quantidade = quantidade;
+            this.offsetIndice = offsetIndice;
+        }
+    }
+
+    /**
+     * Decodifica o registro que começa em uma posição do arquivo
+     */
+    @FunctionalInterface
+    private interface Decodificador<T> {
+        T decodificar(int posicao);
+    }
+
+    /**
+     * Lista imutável que decodifica cada registro no primeiro acesso e mantém
+     * o resultado em cache. Acessos concorrentes podem decodificar o mesmo
+     * registro mais de uma vez, mas todos passam a ver a mesma instância.
+     */
+    private final class RegistrosSobDemanda<T> extends AbstractList<T> implements RandomAccess {
+        private final Secao secao;
+        private final Decodificador<T> decodificador;
+        private final AtomicReferenceArray<T> cache;
+
+        private RegistrosSobDemanda(Secao secao, Decodificador<T> decodificador) {
+            this.secao = secao;
+            this.decodificador = decodificador;
+            this.cache = new AtomicReferenceArray<>(secao.quantidade);
+        }
+
+        @Override
+        public T get(int indice) {
+            T registro = cache.get(indice);
+            if (registro == null) {
+                registro = decodificador.decodificar(dados.getInt(secao.offsetIndice + 4 * indice));
+                if (!cache.compareAndSet(indice, null, registro)) {
+                    registro = cache.get(indice);
+                }
+            }
+            return registro;
+        }
+
+        @Override
+        public int size() {
+            return secao.quantidade;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.catalogo;
+
+import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.domain.Profissao;
+import br.com.braym.projetobitlifeclonev1.narrativa.Escolha;
+import br.com.braym.projetobitlifeclonev1.narrativa.EventoNarrativa;
+import br.com.braym.projetobitlifeclonev1.narrativa.GrafoNarrativo;
+import br.com.braym.projetobitlifeclonev1.service.CarregadorNomes;
+import br.com.braym.projetobitlifeclonev1.service.CarregadorProfissoes;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes.InteracaoInfo;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+import br.com.braym.projetobitlifeclonev1.service.TabelaInteracoes;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+import br.com.braym.projetobitlifeclonev1.utils.LeitorJSON;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Gera o catálogo binário de conteúdo (veja CatalogoBinario) a partir dos
+ * arquivos JSON de eventos, nomes, profissões e interações. Executado pelo Maven na fase
+ * process-classes, gravando o catálogo junto das classes compiladas.
+ */
+public final class GeradorCatalogoBinario {
+    private static final Logger LOGGER = Logger.getLogger(GeradorCatalogoBinario.class.getName());
+
+    private final Path pastaRecursos;
+    private final List<Secao> secoes = new ArrayList<>();
+
+    /**
+     * @param pastaRecursos Pasta com os recursos JSON (src/main/resources)
+     */
+    public GeradorCatalogoBinario(Path pastaRecursos) {
+        this.pastaRecursos = pastaRecursos;
+    }
+
+    /**
+     * Lê todo o conteúdo JSON e grava o catálogo binário
+     * @param destino Arquivo do catálogo a ser gerado
+     * @throws IOException Em caso de erro de leitura ou escrita
+     */
+    public void gerar(Path destino) throws IOException {
+        adicionarEventos();
+        adicionarNarrativas();
+        adicionarTextos(CatalogoBinario.SECAO_NOMES_MASCULINOS, "Nomes/NomesMasculinos.json");
+        adicionarTextos(CatalogoBinario.SECAO_NOMES_FEMININOS, "Nomes/NomesFemininos.json");
+        adicionarTextos(CatalogoBinario.SECAO_SOBRENOMES, "Nomes/Sobrenomes.json");
+        adicionarProfissoes(CatalogoBinario.SECAO_PROFISSOES_MASCULINAS, "Financas/profissoes_masculinas.json");
+        adicionarProfissoes(CatalogoBinario.SECAO_PROFISSOES_FEMININAS, "Financas/profissoes_femininas.json");
+        adicionarInteracoes();
+
+        Files.createDirectories(destino.toAbsolutePath().getParent());
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        try (OutputStream saida = Files.newOutputStream(temporario)) {
+            escrever(saida);
+        }
+        Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING);
+        LOGGER.info("Catálogo binário gerado em " + destino + " com " + secoes.size() + " seções");
+    }
+
+    private void adicionarEventos() throws IOException {
+        LeitorJSON leitorJSON = new LeitorJSON();
+        for (String faseFolder : FaseDaVidaResolver.getPastasDasFases()) {
+            Path arquivo = pastaRecursos.resolve(RegistroConteudo.PASTA_PADRAO).resolve(faseFolder).resolve("eventos.json");
+            if (!Files.exists(arquivo)) {
+                continue;
+            }
+            // Usa o mesmo leitor do jogo, que descarta eventos inválidos
+            List<Evento> eventos = leitorJSON.lerEventos(arquivo.toString());
+            Secao secao = new Secao(CatalogoBinario.PREFIXO_EVENTOS + faseFolder, CatalogoBinario.TIPO_EVENTOS);
+            for (Evento evento : eventos) {
+                secao.adicionar(codificarEvento(evento), evento.getPeso());
+            }
+            secoes.add(secao);
+        }
+    }
+
+    private void adicionarNarrativas() throws IOException {
+        LeitorJSON leitorJSON = new LeitorJSON();
+        for (String faseFolder : FaseDaVidaResolver.getPastasDasFases()) {
+            Path arquivo = pastaRecursos.resolve(RegistroConteudo.PASTA_PADRAO).resolve(faseFolder)
+                    .resolve("eventosNarrativa.json");
+            if (!Files.exists(arquivo)) {
+                continue;
+            }
+            List<EventoNarrativa> eventos = leitorJSON.lerEventosNarrativos(arquivo.toString());
+            // Compila para que ids inexistentes, ciclos e atributos desconhecidos falhem o build
+            try {
+                GrafoNarrativo.compilar(eventos);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Eventos narrativos inválidos em " + arquivo + ": " + e.getMessage(), e);
+            }
+            Secao secao = new Secao(CatalogoBinario.PREFIXO_NARRATIVAS + faseFolder, CatalogoBinario.TIPO_NARRATIVAS);
+            for (EventoNarrativa evento : eventos) {
+                secao.adicionar(codificarNarrativa(evento), 0);
+            }
+            secoes.add(secao);
+        }
+    }
+
+    private void adicionarTextos(String nome, String recurso) throws IOException {
+        Path arquivo = pastaRecursos.resolve(recurso);
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        Secao secao = new Secao(nome, CatalogoBinario.TIPO_TEXTOS);
+        for (String texto : CarregadorNomes.separarNomes(Files.readString(arquivo, StandardCharsets.UTF_8))) {
+            Registro registro = new Registro();
+            registro.escreverTexto(texto);
+            secao.adicionar(registro.toByteArray(), 0);
+        }
+        secoes.add(secao);
+    }
+
+    private void adicionarProfissoes(String nome, String recurso) throws IOException {
+        Path arquivo = pastaRecursos.resolve(recurso);
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        Secao secao = new Secao(nome, CatalogoBinario.TIPO_PROFISSOES);
+        for (Profissao profissao : CarregadorProfissoes.extrairProfissoes(Files.readString(arquivo, StandardCharsets.UTF_8))) {
+            Registro registro = new Registro();
+            registro.escreverTexto(profissao.getNome());
+            registro.writeInt(profissao.getSalarioMinimo());
+            registro.writeInt(profissao.getSalarioMaximo());
+            registro.writeInt(profissao.getFinancasMinimo());
+            registro.writeInt(profissao.getFinancasMaximo());
+            secao.adicionar(registro.toByteArray(), 0);
+        }
+        secoes.add(secao);
+    }
+
+    private void adicionarInteracoes() throws IOException {
+        Path pasta = pastaRecursos.resolve(GerenciadorInteracoes.PASTA_PADRAO);
+        Path arquivoDisponiveis = pasta.resolve(GerenciadorInteracoes.ARQUIVO_DISPONIVEIS);
+        if (!Files.exists(arquivoDisponiveis)) {
+            return;
+        }
+        LeitorJSON leitorJSON = new LeitorJSON();
+        Map<String, List<String>> lidas = leitorJSON.lerInteracoesDisponiveis(arquivoDisponiveis.toString());
+        Map<String, List<String>> disponiveis = new LinkedHashMap<>();
+        Map<String, Map<String, List<InteracaoInfo>>> regrasPorInteracao = new LinkedHashMap<>();
+        Set<String> ignoradas = new HashSet<>();
+        for (Map.Entry<String, List<String>> entrada : lidas.entrySet()) {
+            List<String> nomes = new ArrayList<>();
+            for (String nome : entrada.getValue()) {
+                Path arquivo = pasta.resolve(nome + ".json");
+                if (!regrasPorInteracao.containsKey(nome) && Files.exists(arquivo)) {
+                    Map<String, List<InteracaoInfo>> regras = leitorJSON.lerRegrasInteracao(arquivo.toString());
+                    if (regras == null) {
+                        throw new IOException("Regras de interação inválidas: " + arquivo);
+                    }
+                    regrasPorInteracao.put(nome, regras);
+                }
+                // Como no jogo, interações ainda sem arquivo de regras ficam indisponíveis
+                if (regrasPorInteracao.containsKey(nome)) {
+                    nomes.add(nome);
+                } else if (ignoradas.add(nome)) {
+                    LOGGER.warning("Interação sem arquivo de regras, ignorada: " + nome);
+                }
+            }
+            disponiveis.put(entrada.getKey(), nomes);
+        }
+        // Compila para que fases desconhecidas e regras inválidas falhem o build
+        try {
+            TabelaInteracoes.compilar(FaseDaVidaResolver.getPastasDasFases(), disponiveis, regrasPorInteracao);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Interações inválidas em " + pasta + ": " + e.getMessage(), e);
+        }
+
+        Secao fases = new Secao(CatalogoBinario.SECAO_INTERACOES_DISPONIVEIS, CatalogoBinario.TIPO_INTERACOES_FASE);
+        for (Map.Entry<String, List<String>> entrada : disponiveis.entrySet()) {
+            Registro registro = new Registro();
+            registro.escreverTexto(entrada.getKey());
+            registro.writeInt(entrada.getValue().size());
+            for (String nome : entrada.getValue()) {
+                registro.escreverTexto(nome);
+            }
+            fases.adicionar(registro.toByteArray(), 0);
+        }
+        secoes.add(fases);
+
+        Secao regras = new Secao(CatalogoBinario.SECAO_REGRAS_INTERACOES, CatalogoBinario.TIPO_REGRAS_INTERACAO);
+        for (Map.Entry<String, Map<String, List<InteracaoInfo>>> entrada : regrasPorInteracao.entrySet()) {
+            regras.adicionar(codificarRegras(entrada.getKey(), entrada.getValue()), 0);
+        }
+        secoes.add(regras);
+    }
+
+    private byte[] codificarRegras(String nome, Map<String, List<InteracaoInfo>> porCategoria) throws IOException {
+        Registro registro = new Registro();
+        registro.escreverTexto(nome);
+        registro.writeInt(porCategoria.size());
+        for (Map.Entry<String, List<InteracaoInfo>> categoria : porCategoria.entrySet()) {
+            registro.escreverTexto(categoria.getKey());
+            registro.writeInt(categoria.getValue().size());
+            for (InteracaoInfo regra : categoria.getValue()) {
+                registro.escreverTexto(regra.getTexto());
+                registro.escreverInteiros(regra.getModificadorNivel());
+                registro.escreverInteiros(regra.getModificadorFelicidade());
+                registro.escreverInteiros(regra.getCusto());
+                registro.writeInt(regra.getChanceRetaliacao());
+                registro.writeInt(regra.getChanceTermino());
+            }
+        }
+        return registro.toByteArray();
+    }
+
+    private byte[] codificarEvento(Evento evento) throws IOException {
+        Registro registro = new Registro();
+        registro.escreverTexto(evento.getId());
+        registro.escreverTexto(evento.getDescricao());
+        registro.escreverTexto(evento.getAtributo());
+        // Marca se o peso difere do padrão, para que o evento decodificado seja igual ao lido do JSON
+        registro.writeBoolean(evento.getPeso() != 1.0);
+        registro.writeDouble(evento.getPeso());
+
+        List<String> opcoes = evento.getOpcoes();
+        registro.writeInt(opcoes == null ? -1 : opcoes.size());
+        if (opcoes != null) {
+            for (String opcao : opcoes) {
+                registro.escreverTexto(opcao);
+            }
+        }
+
+        List<Integer> efeitos = evento.getEfeitos();
+        registro.writeInt(efeitos == null ? -1 : efeitos.size());
+        if (efeitos != null) {
+            for (Integer efeito : efeitos) {
+                registro.writeInt(efeito);
+            }
+        }
+
+        Map<String, Integer> efeitosMultiplos = evento.getEfeitosMultiplos();
+        registro.writeInt(efeitosMultiplos == null ? -1 : efeitosMultiplos.size());
+        if (efeitosMultiplos != null) {
+            for (Map.Entry<String, Integer> efeito : efeitosMultiplos.entrySet()) {
+                registro.escreverTexto(efeito.getKey());
+                registro.writeInt(efeito.getValue());
+            }
+        }
+        return registro.toByteArray();
+    }
+
+    private byte[] codificarNarrativa(EventoNarrativa evento) throws IOException {
+        Registro registro = new Registro();
+        registro.escreverTexto(evento.getId());
+        registro.escreverTexto(evento.getPeriodo());
+        registro.escreverTexto(evento.getDescricao());
+
+        List<Escolha> opcoes = evento.getOpcoes();
+        registro.writeInt(opcoes.size());
+        for (Escolha escolha : opcoes) {
+            registro.escreverTexto(escolha.getTexto());
+            registro.escreverTexto(escolha.getRetornoNarrativo());
+            Map<String, Integer> efeitos = escolha.getEfeitos();
+            registro.writeInt(efeitos == null ? -1 : efeitos.size());
+            if (efeitos != null) {
+                for (Map.Entry<String, Integer> efeito : efeitos.entrySet()) {
+                    registro.escreverTexto(efeito.getKey());
+                    registro.writeInt(efeito.getValue());
+                }
+            }
+            registro.escreverTexto(escolha.getIdProximoEvento());
+        }
+        return registro.toByteArray();
+    }
+
+    /**
+     * Grava o cabeçalho, o diretório de seções, os índices e os registros
+     */
+    private void escrever(OutputStream destino) throws IOException {
+        // Primeiro calcula o tamanho do cabeçalho para saber onde começam as seções
+        int posicao = 12;
+        for (Secao secao : secoes) {
+            posicao += 4 + secao.nomeUtf8.length + 12;
+        }
+        for (Secao secao : secoes) {
+            secao.offsetIndice = posicao;
+            posicao += secao.tamanhoIndice();
+            for (byte[] registro : secao.registros) {
+                posicao += registro.length;
+            }
+        }
+
+        DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(destino));
+        saida.writeInt(CatalogoBinario.MAGICO);
+        saida.writeInt(CatalogoBinario.VERSAO);
+        saida.writeInt(secoes.size());
+        for (Secao secao : secoes) {
+            saida.writeInt(secao.nomeUtf8.length);
+            saida.write(secao.nomeUtf8);
+            saida.writeInt(secao.tipo);
+            saida.writeInt(secao.registros.size());
+            saida.writeInt(secao.offsetIndice);
+        }
+
+        for (Secao secao : secoes) {
+            int offsetRegistro = secao.offsetIndice + secao.tamanhoIndice();
+            for (byte[] registro : secao.registros) {
+                saida.writeInt(offsetRegistro);
+                offsetRegistro += registro.length;
+            }
+            if (secao.tipo == CatalogoBinario.TIPO_EVENTOS) {
+                for (double peso : secao.pesos) {
+                    saida.writeDouble(peso);
+                }
+            }
+            for (byte[] registro : secao.registros) {
+                saida.write(registro);
+            }
+        }
+        saida.flush();
+    }
+
+    /**
+     * Seção do catálogo em construção
+     */
+    private static final class Secao {
+        private final byte[] nomeUtf8;
+        private final int tipo;
+        private final List<byte[]> registros = new ArrayList<>();
+        private final List<Double> pesos = new ArrayList<>();
+        private int offsetIndice;
+
+        private Secao(String nome, int tipo) {
+            this.nomeUtf8 = nome.getBytes(StandardCharsets.UTF_8);
+            this.tipo = tipo;
+        }
+
+        private void adicionar(byte[] registro, double peso) {
+            registros.add(registro);
+            pesos.add(peso);
+        }
+
+        private int tamanhoIndice() {
+            int bytesPorRegistro = tipo == CatalogoBinario.TIPO_EVENTOS ? 4 + 8 : 4;
+            return bytesPorRegistro * registros.size();
+        }
+    }
+
+    /**
+     * Buffer de um registro, com escrita de textos no formato do catálogo
+     */
+    private static final class Registro extends DataOutputStream {
+        private Registro() {
+            super(new ByteArrayOutputStream());
+        }
+
+        private void escreverTexto(String texto) throws IOException {
+            if (texto == null) {
+                writeInt(-1);
+                return;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+
+        private void escreverInteiros(int[] valores) throws IOException {
+            if (valores == null) {
+                writeInt(-1);
+                return;
+            }
+            writeInt(valores.length);
+            for (int valor : valores) {
+                writeInt(valor);
+            }
+        }
+
+        private byte[] toByteArray() throws IOException {
+            flush();
+            return ((ByteArrayOutputStream) out).toByteArray();
+        }
+    }
+
+    /**
+     * Gera o catálogo pela linha de comando
+     *
+     * @param args [pasta de recursos] [arquivo de destino]
+     * @throws IOException Em caso de erro de leitura ou escrita
+     */
+    public static void main(String[] args) throws IOException {
+        Path recursos = Paths.get(args.length > 0 ? args[0] : "src/main/resources");
+        Path destino = Paths.get(args.length > 1 ? args[1] : "target/classes" + CatalogoBinario.RECURSO);
+        new GeradorCatalogoBinario(recursos).gerar(destino);
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo.DadosJogoSalvo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Onde o GerenciadorSalvamentoJogo guarda os estados salvos. Cada
+ * salvamento é identificado por uma referência (o caminho do arquivo, em
+ * uma pasta de salvamentos, ou o identificador do registro, em um arquivo
+ * único), que é o que DadosJogoSalvo.getCaminhoArquivo devolve e o que
+ * carregarJogo recebe.
+ * Implementações devem poder ser usadas por várias threads ao mesmo tempo.
+ */
+public interface ArmazenamentoSalvamentos extends Closeable {
+
+	/**
+	 * Grava um estado. Cada salvamento manual ganha uma referência nova e
+	 * entra na listagem, sem substituir os anteriores do personagem.
+	 * @param estado     Estado capturado
+	 * @param automatico true para o salvamento automático, que substitui o
+	 *                   anterior do mesmo personagem e não precisa entrar na listagem
+	 * @return Referência do salvamento gravado
+	 * @throws IOException em caso de erro de escrita
+	 */
+	String gravar(EstadoSalvo estado, boolean automatico) throws IOException;
+
+	/**
+	 * Lê um estado salvo
+	 * @param referencia Referência devolvida na gravação ou na listagem
+	 * @return Estado lido ou null se não existir salvamento com a referência
+	 * @throws IOException em caso de erro de leitura
+	 * @throws IllegalArgumentException se o salvamento estiver corrompido ou em formato não suportado
+	 */
+	EstadoSalvo ler(String referencia) throws IOException;
+
+	/**
+	 * Referência do salvamento automático de um personagem
+	 * @param idPersonagem Identificador do personagem (o id em decimal)
+	 * @return Referência que ler aceita
+	 */
+	String getReferenciaAutomatica(String idPersonagem);
+
+	/**
+	 * Lista uma faixa dos jogos salvos, ordenados pelo momento do salvamento
+	 * @param inicio               Posição do primeiro jogo na ordem pedida
+	 * @param quantidade           Quantidade máxima de jogos
+	 * @param maisRecentesPrimeiro true para ordem decrescente do momento do salvamento
+	 * @return Jogos da faixa
+	 * @throws IOException em caso de erro de leitura
+	 */
+	List<DadosJogoSalvo> listar(int inicio, int quantidade, boolean maisRecentesPrimeiro) throws IOException;
+
+	/**
+	 * Obtém a quantidade de jogos salvos listáveis
+	 * @throws IOException em caso de erro de leitura
+	 */
+	int getQuantidade() throws IOException;
+
+	/**
+	 * Recria os índices a partir dos dados gravados
+	 * @throws IOException em caso de erro de leitura
+	 */
+	void reindexar() throws IOException;
+
+	/**
+	 * Libera os recursos do armazenamento. O padrão não faz nada.
+	 */
+	@Override
+	default void close() throws IOException {
+	}
+}
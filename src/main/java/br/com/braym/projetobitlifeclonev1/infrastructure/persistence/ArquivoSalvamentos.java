@@ -0,0 +1,613 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo.DadosJogoSalvo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Armazenamento de todos os personagens em um único arquivo mapeado em
+ * memória, para servidores com muitos jogadores: salvar e carregar não
+ * abrem nem fecham arquivos, e a pasta não cresce com o número de
+ * personagens.
+ *
+ * O arquivo é dividido em páginas de 4 KB. A página 0 é o cabeçalho; as
+ * páginas seguintes guardam uma tabela hash de endereçamento aberto,
+ * indexada pelo identificador do registro, com a posição, o tamanho, a
+ * idade e o momento do último salvamento; o restante são os registros, um
+ * por gravação, com o estado no formato binário e o CRC32C. Como na pasta
+ * de salvamentos, que grava um arquivo por salvamento, cada salvamento
+ * manual é mantido: o identificador do registro é o id do personagem
+ * seguido do momento do salvamento, de modo que nem personagens de mesmo
+ * nome nem salvamentos anteriores são sobrescritos. O salvamento automático
+ * tem um único registro por personagem, com o sufixo SUFIXO_AUTOMATICO:
+ * salvar de novo acrescenta um registro e aponta a tabela para ele, e o
+ * anterior vira espaço morto até a próxima compactação, que reescreve só
+ * os registros vivos (e dobra a tabela quando ela fica cheia).
+ *
+ * Os índices secundários, por nome e idade e pelo momento do salvamento,
+ * ficam em memória e são montados na abertura a partir da tabela. Como os
+ * arquivos automáticos da pasta de salvamentos, os registros automáticos
+ * não entram neles.
+ *
+ * Há uma instância por arquivo, compartilhada pelos gerenciadores de
+ * salvamento, e seus métodos são sincronizados. O arquivo é limitado a 2 GB
+ * (um único mapeamento).
+ */
+public final class ArquivoSalvamentos implements ArmazenamentoSalvamentos {
+    private static final Logger LOGGER = Logger.getLogger(ArquivoSalvamentos.class.getName());
+
+    /** Extensão do arquivo de salvamentos */
+    public static final String EXTENSAO = ".bls";
+
+    private static final int TAMANHO_PAGINA = 4096;
+
+    // "BLAR"
+    private static final int MAGICO = 0x424C4152;
+    private static final int VERSAO = 1;
+
+    // Cabeçalho: int mágico, int versão, int tamanho da página, int páginas da tabela,
+    // long fim dos dados, long bytes mortos, int registros vivos
+    private static final int POS_PAGINAS_TABELA = 12;
+    private static final int POS_FIM_DADOS = 16;
+    private static final int POS_BYTES_MORTOS = 24;
+    private static final int POS_REGISTROS = 32;
+
+    // Entrada da tabela: long chave (0 = vazia), long posição do registro, long momento, int tamanho, int idade
+    private static final int TAMANHO_ENTRADA = 32;
+    private static final int ENTRADAS_POR_PAGINA = TAMANHO_PAGINA / TAMANHO_ENTRADA;
+    private static final int PAGINAS_TABELA_INICIAIS = 4;
+    private static final double CARGA_MAXIMA = 0.7;
+
+    // "BLRG"
+    private static final int MAGICO_REGISTRO = 0x424C5247;
+
+    // Registro: int mágico, int tamanho, int CRC32C do restante, int idade, long momento,
+    // short bytes do id, short bytes do nome, id, nome, estado
+    private static final int TAMANHO_CABECALHO_REGISTRO = 28;
+    private static final int INICIO_CRC = 12;
+
+    private static final int CRESCIMENTO_MINIMO = 1 << 20;
+
+    /** Sufixo do identificador do registro do salvamento automático de um personagem */
+    static final String SUFIXO_AUTOMATICO = "/automatico";
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("ddMMyyyy");
+
+    private static final Comparator<Entrada> POR_MOMENTO = Comparator.comparingLong((Entrada e) -> e.momento)
+            .thenComparing(e -> e.id);
+    private static final Comparator<Entrada> POR_NOME = Comparator.comparing((Entrada e) -> e.nome,
+            String.CASE_INSENSITIVE_ORDER).thenComparingInt(e -> e.idade).thenComparing(e -> e.id);
+
+    private static final Map<Path, ArquivoSalvamentos> ABERTOS = new HashMap<>();
+
+    private final Path arquivo;
+    private final CodecBinarioSalvamento codec = new CodecBinarioSalvamento();
+    private final NavigableSet<Entrada> porMomento = new TreeSet<>(POR_MOMENTO);
+    private final NavigableSet<Entrada> porNome = new TreeSet<>(POR_NOME);
+
+    private FileChannel canal;
+    private MappedByteBuffer mapa;
+    private int paginasTabela;
+    private long fimDados;
+    private long bytesMortos;
+    private int registros;
+    // Momento do salvamento mais recente: salvamentos no mesmo milissegundo
+    // recebem momentos seguidos, para que a listagem siga a ordem das
+    // gravações e os registros manuais de um personagem não se repitam
+    private long ultimoMomento;
+
+    private ArquivoSalvamentos(Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    /**
+     * Abre (ou cria) um arquivo de salvamentos
+     * @param arquivo Caminho do arquivo
+     * @return Instância compartilhada do arquivo
+     * @throws IOException se o arquivo não puder ser aberto ou não estiver no formato
+     */
+    public static ArquivoSalvamentos abrir(Path arquivo) throws IOException {
+        Path caminho = arquivo.toAbsolutePath().normalize();
+        synchronized (ABERTOS) {
+            ArquivoSalvamentos aberto = ABERTOS.get(caminho);
+            if (aberto == null) {
+                aberto = new ArquivoSalvamentos(caminho);
+                aberto.abrirArquivo();
+                ABERTOS.put(caminho, aberto);
+            }
+            return aberto;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * O salvamento manual ganha um registro novo, identificado pelo id do
+     * personagem e pelo momento; o automático substitui o automático
+     * anterior do personagem.
+     */
+    @Override
+    public synchronized String gravar(EstadoSalvo estado, boolean automatico) throws IOException {
+        verificarAberto();
+        long momento = Math.max(System.currentTimeMillis(), ultimoMomento + 1);
+        String id = automatico ? getReferenciaAutomatica(estado.getIdPersonagem())
+                : estado.getIdPersonagem() + "/" + momento;
+        long chave = chave(id);
+        int posicaoEntrada = buscar(id, chave);
+        if (posicaoEntrada < 0 && registros + 1 > getCapacidadeTabela() * CARGA_MAXIMA) {
+            compactar(paginasTabela * 2);
+            posicaoEntrada = buscar(id, chave);
+        }
+
+        ultimoMomento = momento;
+        byte[] bytesId = id.getBytes(StandardCharsets.UTF_8);
+        byte[] bytesNome = estado.getNome().getBytes(StandardCharsets.UTF_8);
+        if (bytesId.length > Short.MAX_VALUE || bytesNome.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Nome do personagem longo demais para o arquivo de salvamentos");
+        }
+        ByteBuffer conteudo = codec.codificar(estado);
+        int tamanho = TAMANHO_CABECALHO_REGISTRO + bytesId.length + bytesNome.length + conteudo.remaining();
+        int posicao = (int) fimDados;
+        garantirCapacidade(fimDados + alinhar(tamanho));
+
+        mapa.putInt(posicao, MAGICO_REGISTRO);
+        mapa.putInt(posicao + 4, tamanho);
+        mapa.putInt(posicao + 12, estado.getIdade());
+        mapa.putLong(posicao + 16, momento);
+        mapa.putShort(posicao + 24, (short) bytesId.length);
+        mapa.putShort(posicao + 26, (short) bytesNome.length);
+        int cursor = posicao + TAMANHO_CABECALHO_REGISTRO;
+        mapa.put(cursor, bytesId);
+        cursor += bytesId.length;
+        mapa.put(cursor, bytesNome);
+        cursor += bytesNome.length;
+        mapa.put(cursor, conteudo, conteudo.position(), conteudo.remaining());
+        mapa.putInt(posicao + 8, crc(posicao, tamanho));
+        // O registro chega ao disco antes da entrada que aponta para ele
+        mapa.force(posicao, tamanho);
+
+        if (posicaoEntrada >= 0) {
+            bytesMortos += alinhar(mapa.getInt(posicaoEntrada + 24));
+            removerDosIndices(posicaoEntrada);
+        } else {
+            posicaoEntrada = -posicaoEntrada;
+            registros++;
+        }
+        mapa.putLong(posicaoEntrada + 8, posicao);
+        mapa.putLong(posicaoEntrada + 16, momento);
+        mapa.putInt(posicaoEntrada + 24, tamanho);
+        mapa.putInt(posicaoEntrada + 28, estado.getIdade());
+        mapa.putLong(posicaoEntrada, chave);
+        fimDados += alinhar(tamanho);
+        gravarCabecalho();
+        mapa.force(0, (int) getInicioDados());
+        adicionarAosIndices(new Entrada(id, estado.getNome(), estado.getIdade(), momento));
+
+        if (bytesMortos > CRESCIMENTO_MINIMO && bytesMortos > (fimDados - getInicioDados()) / 2) {
+            compactar(paginasTabela);
+        }
+        return id;
+    }
+
+    @Override
+    public synchronized EstadoSalvo ler(String referencia) throws IOException {
+        verificarAberto();
+        int posicaoEntrada = buscar(referencia, chave(referencia));
+        if (posicaoEntrada < 0) {
+            return null;
+        }
+        int posicao = (int) mapa.getLong(posicaoEntrada + 8);
+        int tamanho = mapa.getInt(posicao + 4);
+        if (crc(posicao, tamanho) != mapa.getInt(posicao + 8)) {
+            throw new IllegalArgumentException("Registro de " + referencia + " corrompido (CRC32C não confere)");
+        }
+        int inicioConteudo = posicao + TAMANHO_CABECALHO_REGISTRO + mapa.getShort(posicao + 24)
+                + mapa.getShort(posicao + 26);
+        return codec.decodificar(mapa.slice(inicioConteudo, posicao + tamanho - inicioConteudo));
+    }
+
+    @Override
+    public String getReferenciaAutomatica(String idPersonagem) {
+        return idPersonagem + SUFIXO_AUTOMATICO;
+    }
+
+    @Override
+    public synchronized List<DadosJogoSalvo> listar(int inicio, int quantidade, boolean maisRecentesPrimeiro) {
+        if (inicio < 0 || quantidade < 0) {
+            throw new IllegalArgumentException("Faixa inválida: início " + inicio + ", quantidade " + quantidade);
+        }
+        Iterator<Entrada> entradas = maisRecentesPrimeiro ? porMomento.descendingIterator() : porMomento.iterator();
+        return paginar(entradas, inicio, quantidade);
+    }
+
+    /**
+     * Lista os jogos salvos de um nome em uma faixa de idades, pelo índice de
+     * nome e idade
+     * @param nome         Nome do personagem, sem diferenciar maiúsculas
+     * @param idadeMinima  Idade mínima, inclusiva
+     * @param idadeMaxima  Idade máxima, inclusiva
+     * @return Jogos encontrados, em ordem de idade
+     */
+    public synchronized List<DadosJogoSalvo> buscar(String nome, int idadeMinima, int idadeMaxima) {
+        if (idadeMinima > idadeMaxima) {
+            return new ArrayList<>();
+        }
+        // Os identificadores são ASCII, então "" e "\uffff" limitam todos eles
+        NavigableSet<Entrada> faixa = porNome.subSet(new Entrada("", nome, idadeMinima, 0), true,
+                new Entrada("\uffff", nome, idadeMaxima, 0), true);
+        return paginar(faixa.iterator(), 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized int getQuantidade() {
+        return porMomento.size();
+    }
+
+    /**
+     * Obtém os bytes ocupados por registros substituídos, que a próxima
+     * compactação recupera
+     */
+    public synchronized long getBytesMortos() {
+        return bytesMortos;
+    }
+
+    /**
+     * Remonta os índices em memória a partir da tabela
+     */
+    @Override
+    public synchronized void reindexar() throws IOException {
+        verificarAberto();
+        porMomento.clear();
+        porNome.clear();
+        ultimoMomento = 0;
+        int contados = 0;
+        long fim = getInicioDados();
+        for (int entrada = 0; entrada < getCapacidadeTabela(); entrada++) {
+            int posicaoEntrada = posicaoEntrada(entrada);
+            if (mapa.getLong(posicaoEntrada) == 0) {
+                continue;
+            }
+            int posicao = (int) mapa.getLong(posicaoEntrada + 8);
+            int tamanho = mapa.getInt(posicaoEntrada + 24);
+            if (mapa.getInt(posicao) != MAGICO_REGISTRO) {
+                throw new IOException("Registro inválido em " + posicao + " no arquivo " + arquivo);
+            }
+            adicionarAosIndices(new Entrada(lerTexto(posicao + TAMANHO_CABECALHO_REGISTRO,
+                    mapa.getShort(posicao + 24)),
+                    lerTexto(posicao + TAMANHO_CABECALHO_REGISTRO + mapa.getShort(posicao + 24),
+                            mapa.getShort(posicao + 26)),
+                    mapa.getInt(posicaoEntrada + 28), mapa.getLong(posicaoEntrada + 16)));
+            ultimoMomento = Math.max(ultimoMomento, mapa.getLong(posicaoEntrada + 16));
+            // Uma queda entre a gravação da entrada e a do cabeçalho deixa o fim dos dados para trás
+            fim = Math.max(fim, posicao + alinhar(tamanho));
+            contados++;
+        }
+        registros = contados;
+        fimDados = Math.max(fimDados, fim);
+    }
+
+    /**
+     * Reescreve o arquivo só com os registros vivos, recuperando o espaço
+     * dos registros substituídos
+     * @throws IOException em caso de erro de escrita
+     */
+    public synchronized void compactar() throws IOException {
+        verificarAberto();
+        int paginas = PAGINAS_TABELA_INICIAIS;
+        while (paginas * ENTRADAS_POR_PAGINA * CARGA_MAXIMA < registros * 2L) {
+            paginas *= 2;
+        }
+        compactar(paginas);
+    }
+
+    /**
+     * Fecha o arquivo. Uma nova chamada a abrir o reabre.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (ABERTOS) {
+            synchronized (this) {
+                if (canal == null) {
+                    return;
+                }
+                mapa.force();
+                canal.close();
+                canal = null;
+                mapa = null;
+                ABERTOS.remove(arquivo);
+            }
+        }
+    }
+
+    private void compactar(int novasPaginasTabela) throws IOException {
+        long inicio = System.nanoTime();
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".compactando");
+        escreverCompactado(temporario, novasPaginasTabela);
+
+        // Um arquivo mapeado não pode ser substituído em alguns sistemas (Windows):
+        // o mapeamento antigo deixa de ser referenciado e o canal é fechado antes da troca
+        mapa = null;
+        canal.close();
+        canal = null;
+        try {
+            try {
+                Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // O arquivo original continua inteiro: reabre para seguir usando
+            Files.deleteIfExists(temporario);
+            abrirArquivo();
+            throw e;
+        }
+        // A troca só é durável depois que a entrada da pasta chega ao disco
+        GravadorDuravel.sincronizarPasta(arquivo.getParent());
+        abrirArquivo();
+        LOGGER.fine("Arquivo de salvamentos compactado em " + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Escreve os registros vivos em um arquivo novo. O mapeamento do arquivo
+     * novo só é referenciado aqui, e o canal é fechado na saída.
+     */
+    private void escreverCompactado(Path temporario, int novasPaginasTabela) throws IOException {
+        long inicioDados = (1L + novasPaginasTabela) * TAMANHO_PAGINA;
+        long necessario = inicioDados;
+        for (int entrada = 0; entrada < getCapacidadeTabela(); entrada++) {
+            if (mapa.getLong(posicaoEntrada(entrada)) != 0) {
+                necessario += alinhar(mapa.getInt(posicaoEntrada(entrada) + 24));
+            }
+        }
+        if (necessario > Integer.MAX_VALUE) {
+            throw new IOException("Arquivo de salvamentos excederia 2 GB: " + arquivo);
+        }
+        try (FileChannel novoCanal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer novo = novoCanal.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(necessario, inicioDados + TAMANHO_PAGINA));
+            int mascara = novasPaginasTabela * ENTRADAS_POR_PAGINA - 1;
+            int cursor = (int) inicioDados;
+            for (int entrada = 0; entrada < getCapacidadeTabela(); entrada++) {
+                int posicaoEntrada = posicaoEntrada(entrada);
+                long chave = mapa.getLong(posicaoEntrada);
+                if (chave == 0) {
+                    continue;
+                }
+                int posicao = (int) mapa.getLong(posicaoEntrada + 8);
+                int alinhado = (int) alinhar(mapa.getInt(posicaoEntrada + 24));
+                novo.put(cursor, mapa, posicao, alinhado);
+
+                // Os identificadores já são únicos: basta a primeira entrada vazia
+                int indice = (int) espalhar(chave) & mascara;
+                while (novo.getLong(TAMANHO_PAGINA + indice * TAMANHO_ENTRADA) != 0) {
+                    indice = (indice + 1) & mascara;
+                }
+                int destino = TAMANHO_PAGINA + indice * TAMANHO_ENTRADA;
+                novo.put(destino, mapa, posicaoEntrada, TAMANHO_ENTRADA);
+                novo.putLong(destino + 8, cursor);
+                cursor += alinhado;
+            }
+            gravarCabecalho(novo, novasPaginasTabela, cursor, 0, registros);
+            novo.force();
+        }
+    }
+
+    private void abrirArquivo() throws IOException {
+        Files.createDirectories(arquivo.getParent());
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (canal.size() == 0) {
+                paginasTabela = PAGINAS_TABELA_INICIAIS;
+                mapear(getInicioDados() + TAMANHO_PAGINA);
+                fimDados = getInicioDados();
+                bytesMortos = 0;
+                registros = 0;
+                gravarCabecalho();
+                mapa.force();
+            } else {
+                if (canal.size() < TAMANHO_PAGINA || canal.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Arquivo de salvamentos inválido: " + arquivo);
+                }
+                mapear(canal.size());
+                if (mapa.getInt(0) != MAGICO || mapa.getInt(4) != VERSAO || mapa.getInt(8) != TAMANHO_PAGINA) {
+                    throw new IOException("Arquivo de salvamentos inválido ou de versão não suportada: " + arquivo);
+                }
+                paginasTabela = mapa.getInt(POS_PAGINAS_TABELA);
+                fimDados = mapa.getLong(POS_FIM_DADOS);
+                bytesMortos = mapa.getLong(POS_BYTES_MORTOS);
+                registros = mapa.getInt(POS_REGISTROS);
+            }
+            reindexar();
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            canal = null;
+            mapa = null;
+            throw e;
+        }
+    }
+
+    private void mapear(long tamanho) throws IOException {
+        if (canal.size() < tamanho) {
+            canal.write(ByteBuffer.allocate(1), tamanho - 1);
+        }
+        mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+    }
+
+    private void garantirCapacidade(long necessario) throws IOException {
+        if (necessario <= mapa.capacity()) {
+            return;
+        }
+        long novo = Math.max(necessario, Math.max((long) mapa.capacity() * 2, mapa.capacity() + CRESCIMENTO_MINIMO));
+        novo = Math.min(novo, Integer.MAX_VALUE);
+        if (necessario > novo) {
+            throw new IOException("Arquivo de salvamentos excederia 2 GB: " + arquivo);
+        }
+        mapa.force();
+        mapear(novo);
+    }
+
+    private void verificarAberto() throws IOException {
+        if (canal == null) {
+            throw new IOException("Arquivo de salvamentos fechado: " + arquivo);
+        }
+    }
+
+    /**
+     * Busca a entrada de um personagem na tabela
+     * @return Posição da entrada ou, se o personagem não estiver na tabela,
+     *         a posição da entrada vazia onde ele entraria, negativa
+     */
+    private int buscar(String id, long chave) {
+        int mascara = getCapacidadeTabela() - 1;
+        int indice = (int) espalhar(chave) & mascara;
+        while (true) {
+            int posicaoEntrada = posicaoEntrada(indice);
+            long atual = mapa.getLong(posicaoEntrada);
+            if (atual == 0) {
+                return -posicaoEntrada;
+            }
+            if (atual == chave) {
+                int posicao = (int) mapa.getLong(posicaoEntrada + 8);
+                if (id.equals(lerTexto(posicao + TAMANHO_CABECALHO_REGISTRO, mapa.getShort(posicao + 24)))) {
+                    return posicaoEntrada;
+                }
+            }
+            indice = (indice + 1) & mascara;
+        }
+    }
+
+    private void removerDosIndices(int posicaoEntrada) {
+        int posicao = (int) mapa.getLong(posicaoEntrada + 8);
+        short bytesId = mapa.getShort(posicao + 24);
+        Entrada anterior = new Entrada(lerTexto(posicao + TAMANHO_CABECALHO_REGISTRO, bytesId),
+                lerTexto(posicao + TAMANHO_CABECALHO_REGISTRO + bytesId, mapa.getShort(posicao + 26)),
+                mapa.getInt(posicaoEntrada + 28), mapa.getLong(posicaoEntrada + 16));
+        porMomento.remove(anterior);
+        porNome.remove(anterior);
+    }
+
+    private void adicionarAosIndices(Entrada entrada) {
+        if (entrada.id.endsWith(SUFIXO_AUTOMATICO)) {
+            return;
+        }
+        porMomento.add(entrada);
+        porNome.add(entrada);
+    }
+
+    private List<DadosJogoSalvo> paginar(Iterator<Entrada> entradas, int inicio, int quantidade) {
+        List<DadosJogoSalvo> jogos = new ArrayList<>();
+        for (int pulados = 0; pulados < inicio && entradas.hasNext(); pulados++) {
+            entradas.next();
+        }
+        while (jogos.size() < quantidade && entradas.hasNext()) {
+            Entrada entrada = entradas.next();
+            String data = FORMATO_DATA.format(Instant.ofEpochMilli(entrada.momento).atZone(ZoneId.systemDefault()));
+            jogos.add(new DadosJogoSalvo(entrada.id, entrada.nome, entrada.idade, data, entrada.momento));
+        }
+        return jogos;
+    }
+
+    private String lerTexto(int posicao, int bytes) {
+        byte[] texto = new byte[bytes];
+        mapa.get(posicao, texto);
+        return new String(texto, StandardCharsets.UTF_8);
+    }
+
+    private int crc(int posicao, int tamanho) {
+        CRC32C crc = new CRC32C();
+        crc.update(mapa.slice(posicao + INICIO_CRC, tamanho - INICIO_CRC));
+        return (int) crc.getValue();
+    }
+
+    private void gravarCabecalho() {
+        gravarCabecalho(mapa, paginasTabela, fimDados, bytesMortos, registros);
+    }
+
+    private static void gravarCabecalho(ByteBuffer destino, int paginasTabela, long fimDados, long bytesMortos,
+            int registros) {
+        destino.putInt(0, MAGICO);
+        destino.putInt(4, VERSAO);
+        destino.putInt(8, TAMANHO_PAGINA);
+        destino.putInt(POS_PAGINAS_TABELA, paginasTabela);
+        destino.putLong(POS_FIM_DADOS, fimDados);
+        destino.putLong(POS_BYTES_MORTOS, bytesMortos);
+        destino.putInt(POS_REGISTROS, registros);
+    }
+
+    private int getCapacidadeTabela() {
+        return paginasTabela * ENTRADAS_POR_PAGINA;
+    }
+
+    private long getInicioDados() {
+        return (1L + paginasTabela) * TAMANHO_PAGINA;
+    }
+
+    private static int posicaoEntrada(int indice) {
+        return TAMANHO_PAGINA + indice * TAMANHO_ENTRADA;
+    }
+
+    private static long alinhar(int tamanho) {
+        return (tamanho + 7L) & ~7L;
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits do identificador; 0 marca entrada vazia
+     */
+    private static long chave(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Mistura os bits altos da chave nos baixos, usados pela máscara da tabela
+     */
+    private static long espalhar(long chave) {
+        long h = chave ^ (chave >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Entrada dos índices em memória
+     */
+    private static final class Entrada {
+        private final String id;
+        private final String nome;
+        private final int idade;
+        private final long momento;
+
+        Entrada(String id, String nome, int idade, long momento) {
+            this.id = id;
+            this.nome = nome;
+            this.idade = idade;
+            this.momento = momento;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffer binário reutilizável do codec de salvamento. Cresce conforme a
+ * necessidade e mantém a capacidade entre salvamentos, de modo que um
+ * personagem grande não realoca o buffer a cada gravação.
+ *
+ * Números são big-endian; textos são gravados como int tamanho (-1 para
+ * nulo) seguido dos bytes UTF-8, como no catálogo binário.
+ */
+final class BufferSalvamento {
+    private static final int CAPACIDADE_INICIAL = 4096;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACIDADE_INICIAL);
+
+    /**
+     * Prepara o buffer para uma nova gravação
+     */
+    void limpar() {
+        buffer.clear();
+    }
+
+    /**
+     * Garante espaço para ler ou gravar uma quantidade de bytes a partir do
+     * início, descartando o conteúdo atual
+     * @param tamanho Quantidade de bytes
+     * @return Buffer limpo, com limite igual ao tamanho
+     */
+    ByteBuffer preparar(int tamanho) {
+        if (buffer.capacity() < tamanho) {
+            buffer = ByteBuffer.allocateDirect(Math.max(tamanho, buffer.capacity() * 2));
+        }
+        buffer.clear().limit(tamanho);
+        return buffer;
+    }
+
+    /**
+     * Obtém o buffer para leitura ou para escrita em um canal
+     */
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    private void garantir(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int necessario = buffer.position() + bytes;
+            ByteBuffer maior = ByteBuffer.allocateDirect(Math.max(necessario, buffer.capacity() * 2));
+            buffer.flip();
+            maior.put(buffer);
+            buffer = maior;
+        }
+    }
+
+    void escreverInt(int valor) {
+        garantir(Integer.BYTES);
+        buffer.putInt(valor);
+    }
+
+    void escreverLong(long valor) {
+        garantir(Long.BYTES);
+        buffer.putLong(valor);
+    }
+
+    void escreverInt(int posicao, int valor) {
+        buffer.putInt(posicao, valor);
+    }
+
+    void escreverTexto(String texto) {
+        if (texto == null) {
+            escreverInt(-1);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        garantir(Integer.BYTES + bytes.length);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    int posicao() {
+        return buffer.position();
+    }
+
+    void posicionar(int posicao) {
+        buffer.position(posicao);
+    }
+
+    int lerInt() {
+        return buffer.getInt();
+    }
+
+    long lerLong() {
+        return buffer.getLong();
+    }
+
+    String lerTexto() {
+        int tamanho = buffer.getInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        if (tamanho > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[tamanho];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Codec binário do EstadoSalvo. O arquivo tem um cabeçalho fixo (número
+ * mágico, versão do esquema e tamanho do corpo) seguido do corpo gravado por
+ * EstadoSalvo.escreverBinario. A gravação e a leitura passam por um buffer
+ * direto reaproveitado por thread e por um FileChannel, sem objetos
+ * intermediários além dos textos.
+ *
+ * Arquivos de versões anteriores são migrados na leitura: o corpo é lido de
+ * acordo com a versão gravada, e os registros de relacionamento, prefixados
+ * pelo tamanho, aceitam campos acrescentados depois.
+ */
+public class CodecBinarioSalvamento implements CodecSalvamento {
+    /** Extensão dos arquivos binários */
+    public static final String EXTENSAO = ".sav";
+
+    // "BLSV"
+    private static final int MAGICO = 0x424C5356;
+    private static final int TAMANHO_CABECALHO = 3 * Integer.BYTES;
+
+    private static final ThreadLocal<BufferSalvamento> BUFFERS = ThreadLocal.withInitial(BufferSalvamento::new);
+
+    @Override
+    public String getExtensao() {
+        return EXTENSAO;
+    }
+
+    @Override
+    public boolean isBinario() {
+        return true;
+    }
+
+    @Override
+    public ByteBuffer codificar(EstadoSalvo estado) {
+        BufferSalvamento saida = BUFFERS.get();
+        saida.limpar();
+        saida.escreverInt(MAGICO);
+        saida.escreverInt(EstadoSalvo.VERSAO_ATUAL);
+        saida.escreverInt(0);
+        estado.escreverBinario(saida);
+        saida.escreverInt(2 * Integer.BYTES, saida.posicao() - TAMANHO_CABECALHO);
+
+        ByteBuffer buffer = saida.getBuffer();
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public EstadoSalvo decodificar(ByteBuffer conteudo) {
+        if (conteudo.remaining() < TAMANHO_CABECALHO) {
+            throw new IllegalArgumentException("Arquivo não está no formato binário de salvamento");
+        }
+        BufferSalvamento entrada = BUFFERS.get();
+        ByteBuffer buffer = entrada.preparar(conteudo.remaining());
+        buffer.put(conteudo.duplicate());
+        buffer.flip();
+        return decodificar(entrada);
+    }
+
+    @Override
+    public EstadoSalvo ler(Path arquivo) throws IOException {
+        // Lê direto no buffer da thread, sem o array intermediário da leitura padrão
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo < TAMANHO_CABECALHO || tamanhoArquivo > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Arquivo não está no formato binário de salvamento");
+            }
+            BufferSalvamento entrada = BUFFERS.get();
+            ByteBuffer buffer = entrada.preparar((int) tamanhoArquivo);
+            while (buffer.hasRemaining()) {
+                if (canal.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return decodificar(entrada);
+        }
+    }
+
+    private static EstadoSalvo decodificar(BufferSalvamento entrada) {
+        try {
+            if (entrada.lerInt() != MAGICO) {
+                throw new IllegalArgumentException("Arquivo não está no formato binário de salvamento");
+            }
+            int versao = entrada.lerInt();
+            if (versao < 1 || versao > EstadoSalvo.VERSAO_ATUAL) {
+                throw new IllegalArgumentException("Versão de salvamento não suportada: " + versao);
+            }
+            int tamanhoCorpo = entrada.lerInt();
+            if (tamanhoCorpo != entrada.getBuffer().remaining()) {
+                throw new IllegalArgumentException("Arquivo de salvamento truncado ou corrompido");
+            }
+            return EstadoSalvo.lerBinario(entrada, versao);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Arquivo de salvamento truncado ou corrompido", e);
+        }
+    }
+
+    /**
+     * Lê um salvamento binário e o exporta como JSON indentado, para depuração
+     * @param arquivo Arquivo binário
+     * @return Texto JSON do estado salvo
+     * @throws IOException em caso de erro de leitura
+     */
+    public String exportarJson(Path arquivo) throws IOException {
+        return CodecJsonSalvamento.exportar(decodificar(GravadorDuravel.ler(arquivo)));
+    }
+}
@@ -0,0 +1,236 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.domain.AlocadorIds;
+import br.com.braym.projetobitlifeclonev1.domain.EstadoVidaImpl;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
+import br.com.braym.projetobitlifeclonev1.domain.Profissao;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.impl.ConsoleObservador;
+import br.com.braym.projetobitlifeclonev1.interfaces.EstadoVida;
+import br.com.braym.projetobitlifeclonev1.interfaces.Observador;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Codec JSON do EstadoSalvo. Também lê os salvamentos no formato antigo (o
+ * Personagem inteiro serializado por reflexão), convertendo-os para o
+ * esquema atual.
+ */
+public class CodecJsonSalvamento implements CodecSalvamento {
+    /** Extensão dos arquivos JSON */
+    public static final String EXTENSAO = ".json";
+
+    // Esquema compacto, sem indentação
+    private static final Gson GSON_ESTADO = new Gson();
+
+    // Usado apenas para ler salvamentos no formato antigo
+    private static final Gson GSON_LEGADO = configurarGsonLegado();
+
+    @Override
+    public String getExtensao() {
+        return EXTENSAO;
+    }
+
+    @Override
+    public ByteBuffer codificar(EstadoSalvo estado) {
+        return ByteBuffer.wrap(GSON_ESTADO.toJson(estado).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public EstadoSalvo decodificar(ByteBuffer conteudo) {
+        JsonElement json;
+        try {
+            json = JsonParser.parseString(StandardCharsets.UTF_8.decode(conteudo.duplicate()).toString());
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Arquivo não está no formato JSON: " + e.getMessage(), e);
+        }
+        if (json.isJsonObject() && json.getAsJsonObject().has("versao")) {
+            EstadoSalvo estado = GSON_ESTADO.fromJson(json, EstadoSalvo.class);
+            if (estado.getVersao() < 1 || estado.getVersao() > EstadoSalvo.VERSAO_ATUAL) {
+                throw new IllegalArgumentException("Versão de salvamento não suportada: " + estado.getVersao());
+            }
+            return estado;
+        }
+        // Formato antigo: o Personagem inteiro serializado por reflexão
+        Personagem personagem = GSON_LEGADO.fromJson(json, Personagem.class);
+        if (personagem == null || personagem.getEstadoVida() == null) {
+            throw new IllegalArgumentException("Arquivo não contém um personagem salvo");
+        }
+        EstadoSalvo estado = EstadoSalvo.capturar(personagem, null, null);
+        // O Personagem antigo não tem id; como nos salvamentos anteriores à versão 3, ele é alocado na restauração
+        estado.descartarIdPersonagem();
+        return estado;
+    }
+
+    /**
+     * Exporta um estado como JSON indentado, para depuração
+     * @param estado Estado a exportar
+     * @return Texto JSON
+     */
+    public static String exportar(EstadoSalvo estado) {
+        return new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(estado);
+    }
+
+    /**
+     * Configura o Gson com adaptadores personalizados para interfaces
+     * @return Instância configurada do Gson
+     */
+    private static Gson configurarGsonLegado() {
+        return new GsonBuilder()
+                .serializeNulls()
+                // Adaptador para a interface Observador
+                .registerTypeAdapter(Observador.class, new ObservadorAdapter())
+                // Adaptador para a interface EstadoVida
+                .registerTypeAdapter(EstadoVida.class, new EstadoVidaAdapter())
+                // Adaptadores para Random e suas subclasses
+                .registerTypeAdapter(Random.class, new RandomAdapter())
+                .registerTypeAdapter(ThreadLocalRandom.class, new RandomAdapter())
+                .registerTypeAdapter(SecureRandom.class, new RandomAdapter())
+                // Adaptador para o mapa de relacionamentos, hoje guardado em uma tabela
+                .registerTypeAdapter(GerenciadorRelacionamentos.class, new RelacionamentosLegadoAdapter())
+                .create();
+    }
+
+    /**
+     * Adaptador para serialização/deserialização da interface Observador
+     */
+    private static class ObservadorAdapter implements JsonSerializer<Observador>, JsonDeserializer<Observador> {
+        @Override
+        public JsonElement serialize(Observador src, Type typeOfSrc, JsonSerializationContext context) {
+            JsonObject result = new JsonObject();
+            result.add("type", new JsonPrimitive(src.getClass().getName()));
+            return result;
+        }
+
+        @Override
+        public Observador deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                throws JsonParseException {
+            // Sempre retorna uma nova instância de ConsoleObservador
+            return new ConsoleObservador();
+        }
+    }
+
+    /**
+     * Adaptador para serialização/deserialização de objetos Random
+     */
+    private static class RandomAdapter implements JsonSerializer<Random>, JsonDeserializer<Random> {
+        @Override
+        public JsonElement serialize(Random src, Type typeOfSrc, JsonSerializationContext context) {
+            // Não tenta serializar os campos internos do Random
+            return new JsonObject();
+        }
+
+        @Override
+        public Random deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                throws JsonParseException {
+            // Cria uma nova instância de Random
+            return new Random();
+        }
+    }
+
+    /**
+     * Adaptador para serialização/deserialização da interface EstadoVida
+     */
+    private static class EstadoVidaAdapter implements JsonSerializer<EstadoVida>, JsonDeserializer<EstadoVida> {
+        @Override
+        public JsonElement serialize(EstadoVida src, Type typeOfSrc, JsonSerializationContext context) {
+            JsonObject result = new JsonObject();
+            result.add("type", new JsonPrimitive(src.getClass().getName()));
+            result.add("estado", new JsonPrimitive(src.getEstado()));
+            return result;
+        }
+
+        @Override
+        public EstadoVida deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                throws JsonParseException {
+            JsonObject jsonObject = json.getAsJsonObject();
+            String estado = jsonObject.get("estado").getAsString();
+
+            // Baseado no estado, retorna a instância apropriada usando EstadoVidaImpl
+            return switch (estado) {
+                case "INFANCIA" -> new EstadoVidaImpl(FaseDaVida.INFANCIA);
+                case "ADOLESCENCIA" -> new EstadoVidaImpl(FaseDaVida.ADOLESCENCIA);
+                case "ADULTO" -> new EstadoVidaImpl(FaseDaVida.ADULTO);
+                case "VELHICE" -> new EstadoVidaImpl(FaseDaVida.VELHICE);
+                default -> new EstadoVidaImpl(FaseDaVida.INFANCIA); // Fallback para infância
+            };
+        }
+    }
+
+    /**
+     * Adaptador para a deserialização dos relacionamentos no formato antigo,
+     * um mapa do ID da pessoa para o relacionamento
+     */
+    private static class RelacionamentosLegadoAdapter implements JsonDeserializer<GerenciadorRelacionamentos> {
+        @Override
+        public GerenciadorRelacionamentos deserialize(JsonElement json, Type typeOfT,
+                JsonDeserializationContext context) throws JsonParseException {
+            GerenciadorRelacionamentos gerenciador = new GerenciadorRelacionamentos();
+            JsonElement relacionamentos = json.getAsJsonObject().get("relacionamentos");
+            if (relacionamentos == null || !relacionamentos.isJsonObject()) {
+                return gerenciador;
+            }
+            for (Map.Entry<String, JsonElement> entrada : relacionamentos.getAsJsonObject().entrySet()) {
+                JsonObject salvo = entrada.getValue().getAsJsonObject();
+                TipoRelacionamento tipo = context.deserialize(salvo.get("tipo"), TipoRelacionamento.class);
+                if (tipo == null || !salvo.has("pessoa") || !salvo.get("pessoa").isJsonObject()) {
+                    continue;
+                }
+                Pessoa pessoa = lerPessoa(salvo.getAsJsonObject("pessoa"), entrada.getKey(), context);
+                Relacionamento relacionamento = gerenciador.adicionarRelacionamento(pessoa, tipo);
+                relacionamento.setNivel(salvo.has("nivel") ? salvo.get("nivel").getAsInt() : 50);
+                relacionamento.setTempo(salvo.has("tempo") ? salvo.get("tempo").getAsInt() : 0);
+            }
+            return gerenciador;
+        }
+
+        /**
+         * Lê uma pessoa antiga, cujo id era um UUID
+         */
+        private static Pessoa lerPessoa(JsonObject pessoa, String idPadrao, JsonDeserializationContext context) {
+            String id = pessoa.has("id") ? pessoa.get("id").getAsString() : idPadrao;
+            Profissao profissao = context.deserialize(pessoa.get("profissao"), Profissao.class);
+            return new Pessoa(AlocadorIds.converter(id),
+                    texto(pessoa, "nome"),
+                    texto(pessoa, "sobrenome"),
+                    inteiro(pessoa, "idade", 0),
+                    texto(pessoa, "genero"),
+                    inteiro(pessoa, "compatibilidade", 50),
+                    inteiro(pessoa, "felicidade", 50),
+                    profissao,
+                    inteiro(pessoa, "salario", 0));
+        }
+
+        private static String texto(JsonObject objeto, String campo) {
+            JsonElement valor = objeto.get(campo);
+            return valor != null && !valor.isJsonNull() ? valor.getAsString() : null;
+        }
+
+        private static int inteiro(JsonObject objeto, String campo, int padrao) {
+            JsonElement valor = objeto.get(campo);
+            return valor != null && !valor.isJsonNull() ? valor.getAsInt() : padrao;
+        }
+    }
+}
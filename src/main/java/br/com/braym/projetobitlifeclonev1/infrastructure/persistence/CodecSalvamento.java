@@ -0,0 +1,79 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Formato em que o GerenciadorSalvamentoJogo grava e lê o EstadoSalvo.
+ * Implementações devem poder ser usadas por várias threads ao mesmo tempo.
+ *
+ * O codec só converte o estado em bytes e de volta; como os bytes chegam ao
+ * disco fica a cargo de quem o usa (o GerenciadorSalvamentoJogo grava pelo
+ * GravadorDuravel).
+ */
+public interface CodecSalvamento {
+
+	/**
+	 * Extensão dos arquivos do formato, com o ponto (por exemplo, ".json")
+	 */
+	String getExtensao();
+
+	/**
+	 * Indica se o formato é binário. Só arquivos binários recebem o rodapé
+	 * de verificação do GravadorDuravel; os de texto continuam válidos no
+	 * próprio formato.
+	 */
+	default boolean isBinario() {
+		return false;
+	}
+
+	/**
+	 * Converte o estado em bytes
+	 * @param estado Estado a gravar
+	 * @return Buffer pronto para leitura com o conteúdo do arquivo; pode ser
+	 *         reaproveitado pelo codec na próxima chamada da mesma thread
+	 * @throws IOException em caso de erro na conversão
+	 */
+	ByteBuffer codificar(EstadoSalvo estado) throws IOException;
+
+	/**
+	 * Converte o conteúdo de um arquivo em estado
+	 * @param conteudo Conteúdo do arquivo, da posição ao limite do buffer
+	 * @return Estado lido, já migrado para a versão atual do esquema
+	 * @throws IOException em caso de erro na conversão
+	 * @throws IllegalArgumentException se o conteúdo não estiver no formato ou a versão não for suportada
+	 */
+	EstadoSalvo decodificar(ByteBuffer conteudo) throws IOException;
+
+	/**
+	 * Grava o estado em um arquivo, substituindo o conteúdo anterior, sem
+	 * arquivo temporário nem sincronização com o disco
+	 * @param estado  Estado a gravar
+	 * @param arquivo Arquivo de destino
+	 * @throws IOException em caso de erro de escrita
+	 */
+	default void escrever(EstadoSalvo estado, Path arquivo) throws IOException {
+		ByteBuffer conteudo = codificar(estado);
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (conteudo.hasRemaining()) {
+				canal.write(conteudo);
+			}
+		}
+	}
+
+	/**
+	 * Lê o estado de um arquivo
+	 * @param arquivo Arquivo salvo
+	 * @return Estado lido, já migrado para a versão atual do esquema
+	 * @throws IOException em caso de erro de leitura
+	 * @throws IllegalArgumentException se o arquivo não estiver no formato ou a versão não for suportada
+	 */
+	default EstadoSalvo ler(Path arquivo) throws IOException {
+		return decodificar(ByteBuffer.wrap(Files.readAllBytes(arquivo)));
+	}
+}
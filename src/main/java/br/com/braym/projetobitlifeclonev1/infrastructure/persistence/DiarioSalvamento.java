@@ -0,0 +1,631 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.TabelaRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.impl.ConsoleObservador;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Salvamento em modo diário: em vez de regravar o personagem inteiro, cada
+ * ação (envelhecimento, evento, interação) acrescenta ao diário do
+ * personagem apenas o que mudou - os valores do personagem, os
+ * relacionamentos alterados ou novos, o avanço do tempo e os eventos usados.
+ * Os relacionamentos alterados vêm das posições anotadas pela
+ * TabelaRelacionamentos, de modo que o custo de uma ação não depende da
+ * quantidade de relacionamentos.
+ *
+ * Cada personagem tem, na pasta do diário, um instantâneo no formato do
+ * CodecBinarioSalvamento e um arquivo de diário, nomeados pelo id do
+ * personagem. Quando o diário passa do
+ * limiar, ele é trocado por um novo e o antigo é incorporado ao instantâneo
+ * em segundo plano. O carregamento lê o instantâneo e reaplica o restante
+ * do diário. Os registros são numerados e o instantâneo guarda o último
+ * número incorporado, de modo que uma compactação interrompida não aplica
+ * um registro duas vezes; um registro gravado pela metade no fim do arquivo
+ * é descartado.
+ *
+ * O instantâneo é gravado pelo GravadorDuravel (temporário sincronizado,
+ * renomeação atômica e CRC32C), e cada ação registrada é sincronizada com o
+ * disco antes de registrar() retornar, assim como a troca de diários na
+ * pasta, de modo que uma queda não perde uma ação já registrada.
+ *
+ * Os métodos de uma instância são sincronizados; a compactação roda em uma
+ * thread própria e só lê arquivos que não recebem mais gravações.
+ */
+public class DiarioSalvamento implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(DiarioSalvamento.class.getName());
+
+    /** Extensão dos arquivos de diário */
+    public static final String EXTENSAO_DIARIO = ".diario";
+
+    /** Tamanho do diário, em bytes, a partir do qual ele é compactado */
+    public static final long LIMIAR_PADRAO = 256 * 1024;
+
+    private static final String SUFIXO_EM_COMPACTACAO = ".compactando";
+
+    // "BLDI"
+    private static final int MAGICO = 0x424C4449;
+    private static final int VERSAO_DIARIO = 1;
+    private static final int TAMANHO_CABECALHO = 2 * Integer.BYTES;
+    private static final int TAMANHO_CABECALHO_BLOCO = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    // Tipos de registro; cada registro é prefixado pelo tipo e pelo tamanho
+    private static final int REGISTRO_PERSONAGEM = 1;
+    private static final int REGISTRO_RELACIONAMENTO = 3;
+    private static final int REGISTRO_USO = 4;
+    private static final int REGISTRO_REINICIO = 5;
+    // Avança o relógio: o tempo e o desgaste dos relacionamentos e a idade das pessoas
+    private static final int REGISTRO_ENVELHECIMENTO = 6;
+
+    private final Path pasta;
+    private final RegistroConteudo registroConteudo;
+    private final long limiarCompactacao;
+    private final CodecBinarioSalvamento codec = new CodecBinarioSalvamento();
+    private final BufferSalvamento buffer = new BufferSalvamento();
+    private final ExecutorService compactador;
+
+    private Personagem personagem;
+    private GerenciadorEventos gerenciadorEventos;
+    private String nomeBase;
+    private FileChannel canal;
+    private long sequencia;
+    private Future<?> compactacao;
+
+    // O que já está no diário, para gravar só as diferenças
+    private final int[] copiaValores = new int[8];
+    private String copiaNome;
+    private String copiaSobrenome;
+    private String copiaFase;
+    private TabelaRelacionamentos copiaTabela;
+    private int copiaAno;
+    private final Map<String, Set<String>> copiaEventos = new HashMap<>();
+    private final Map<String, Set<String>> copiaNarrativas = new HashMap<>();
+
+    /**
+     * Construtor que usa o limiar de compactação padrão
+     * @param pasta            Pasta dos diários
+     * @param registroConteudo Registro ao qual os personagens carregados são ligados
+     */
+    public DiarioSalvamento(Path pasta, RegistroConteudo registroConteudo) {
+        this(pasta, registroConteudo, LIMIAR_PADRAO);
+    }
+
+    /**
+     * Construtor completo
+     * @param pasta             Pasta dos diários
+     * @param registroConteudo  Registro ao qual os personagens carregados são ligados
+     * @param limiarCompactacao Tamanho do diário, em bytes, que dispara a compactação
+     */
+    public DiarioSalvamento(Path pasta, RegistroConteudo registroConteudo, long limiarCompactacao) {
+        if (limiarCompactacao <= 0) {
+            throw new IllegalArgumentException("Limiar de compactação deve ser positivo");
+        }
+        this.pasta = Objects.requireNonNull(pasta, "Pasta do diário não pode ser nula");
+        this.registroConteudo = Objects.requireNonNull(registroConteudo, "Registro de conteúdo não pode ser nulo");
+        this.limiarCompactacao = limiarCompactacao;
+        this.compactador = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "compactador-diario");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Nome base dos arquivos de um personagem: o id, que não muda com o nome
+     * e não se repete entre personagens homônimos
+     * @param personagem Personagem
+     * @return Id do personagem nos armazenamentos
+     */
+    public static String getNomeBase(Personagem personagem) {
+        return EstadoSalvo.getIdPersonagem(personagem.getId());
+    }
+
+    /**
+     * Nome base dos arquivos gravados antes dos ids: o nome completo sem
+     * acentos nem caracteres que alguns sistemas de arquivos não aceitam
+     * @param nome      Nome do personagem
+     * @param sobrenome Sobrenome do personagem
+     * @return Nome e sobrenome separados por '_'
+     */
+    static String getNomeBase(String nome, String sobrenome) {
+        return Normalizer.normalize(nome + "_" + sobrenome, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^A-Za-z0-9_-]", "-");
+    }
+
+    /**
+     * Começa a acompanhar um personagem: grava o instantâneo do estado atual
+     * e inicia um diário vazio
+     * @param personagem         Personagem acompanhado
+     * @param gerenciadorEventos Gerenciador com os eventos usados (pode ser nulo)
+     * @return true se o instantâneo foi gravado
+     */
+    public synchronized boolean iniciar(Personagem personagem, GerenciadorEventos gerenciadorEventos) {
+        Objects.requireNonNull(personagem, "Personagem não pode ser nulo");
+        aguardarCompactacao();
+        this.personagem = personagem;
+        this.gerenciadorEventos = gerenciadorEventos;
+        this.nomeBase = getNomeBase(personagem);
+        try {
+            fecharCanal();
+            Files.createDirectories(pasta);
+            EstadoSalvo estado = EstadoSalvo.capturar(personagem, gerenciadorEventos,
+                    registroConteudo.getPastaEventos());
+            estado.setSequenciaDiario(sequencia);
+            gravarInstantaneo(nomeBase, estado);
+            Files.deleteIfExists(arquivo(nomeBase, EXTENSAO_DIARIO + SUFIXO_EM_COMPACTACAO));
+            abrirDiarioNovo();
+            copiar(estado);
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Erro ao iniciar o diário de " + nomeBase + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Acrescenta ao diário o que mudou desde o último registro. Deve ser
+     * chamado ao fim de cada ação do jogo.
+     * @return true se o diário está em dia com o personagem
+     */
+    public synchronized boolean registrar() {
+        if (personagem == null) {
+            throw new IllegalStateException("Nenhum personagem acompanhado pelo diário");
+        }
+        if (canal == null) {
+            // Gravação anterior falhou: recomeça a partir de um instantâneo
+            return iniciar(personagem, gerenciadorEventos);
+        }
+
+        buffer.limpar();
+        buffer.escreverInt(0);
+        buffer.escreverLong(sequencia + 1);
+        buffer.escreverInt(0);
+        int quantidade = registrarPersonagem();
+        int relacionamentos = registrarRelacionamentos();
+        if (relacionamentos < 0) {
+            // A lista de relacionamentos mudou de forma que o diário não descreve
+            return iniciar(personagem, gerenciadorEventos);
+        }
+        quantidade += relacionamentos;
+        if (gerenciadorEventos != null) {
+            quantidade += registrarUsos(false, gerenciadorEventos.getEventosUsados(), copiaEventos);
+            quantidade += registrarUsos(true, gerenciadorEventos.getNarrativasUsadas(), copiaNarrativas);
+        }
+        if (quantidade == 0) {
+            return true;
+        }
+        buffer.escreverInt(0, buffer.posicao() - Integer.BYTES);
+        buffer.escreverInt(Integer.BYTES + Long.BYTES, quantidade);
+
+        try {
+            ByteBuffer bloco = buffer.getBuffer();
+            bloco.flip();
+            while (bloco.hasRemaining()) {
+                canal.write(bloco);
+            }
+            // A ação só conta como registrada depois de chegar ao disco
+            canal.force(false);
+            sequencia++;
+            if (canal.position() >= limiarCompactacao) {
+                iniciarCompactacao();
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Erro ao gravar o diário de " + nomeBase + ": " + e.getMessage(), e);
+            fecharCanalSemErro();
+            return false;
+        }
+    }
+
+    /**
+     * Carrega um personagem do instantâneo e do diário e passa a acompanhá-lo
+     * @param idPersonagem       Id do personagem
+     * @param gerenciadorEventos Gerenciador que recebe os eventos usados (pode ser nulo)
+     * @return Personagem carregado ou null em caso de falha
+     */
+    public synchronized Personagem carregar(long idPersonagem, GerenciadorEventos gerenciadorEventos) {
+        return carregar(EstadoSalvo.getIdPersonagem(idPersonagem), gerenciadorEventos);
+    }
+
+    /**
+     * Carrega um diário gravado antes dos ids, com os arquivos nomeados pelo
+     * nome do personagem. O personagem passa a ser acompanhado pelo id e os
+     * arquivos antigos são apagados depois de incorporados.
+     * @param nome               Nome do personagem
+     * @param sobrenome          Sobrenome do personagem
+     * @param gerenciadorEventos Gerenciador que recebe os eventos usados (pode ser nulo)
+     * @return Personagem carregado ou null em caso de falha
+     */
+    public synchronized Personagem carregarLegado(String nome, String sobrenome,
+            GerenciadorEventos gerenciadorEventos) {
+        String legado = getNomeBase(nome, sobrenome);
+        Personagem carregado = carregar(legado, gerenciadorEventos);
+        if (carregado != null && !legado.equals(nomeBase)) {
+            try {
+                Files.deleteIfExists(arquivo(legado, EXTENSAO_DIARIO + SUFIXO_EM_COMPACTACAO));
+                Files.deleteIfExists(arquivo(legado, EXTENSAO_DIARIO));
+                Files.deleteIfExists(arquivo(legado, CodecBinarioSalvamento.EXTENSAO));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Erro ao apagar o diário antigo de " + legado + ": " + e.getMessage(), e);
+            }
+        }
+        return carregado;
+    }
+
+    private Personagem carregar(String nomeBase, GerenciadorEventos gerenciadorEventos) {
+        aguardarCompactacao();
+        try {
+            fecharCanal();
+            EstadoSalvo estado = lerEstado(nomeBase, true);
+            Personagem carregado = estado.restaurarPersonagem(registroConteudo);
+            if (gerenciadorEventos != null) {
+                estado.restaurarEventosUsados(gerenciadorEventos);
+            }
+            carregado.adicionarObservador(new ConsoleObservador());
+            sequencia = estado.getSequenciaDiario();
+            // O carregamento já incorpora o diário em um novo instantâneo
+            return iniciar(carregado, gerenciadorEventos) ? carregado : null;
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.SEVERE, "Diário inválido de " + nomeBase + ": " + e.getMessage(), e);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Erro ao ler o diário de " + nomeBase + ": " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Incorpora o diário atual ao instantâneo e aguarda o fim da compactação
+     * @return true se a compactação terminou sem erros
+     */
+    public synchronized boolean compactar() {
+        if (canal == null) {
+            return false;
+        }
+        try {
+            iniciarCompactacao();
+            return aguardarCompactacao();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Erro ao compactar o diário de " + nomeBase + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Aguarda a compactação pendente e fecha o diário
+     */
+    @Override
+    public synchronized void close() {
+        aguardarCompactacao();
+        fecharCanalSemErro();
+        compactador.shutdown();
+    }
+
+    /**
+     * Troca o diário atual por um novo e incorpora o antigo ao instantâneo em
+     * segundo plano. Se uma compactação anterior falhou, ela é refeita antes.
+     */
+    private void iniciarCompactacao() throws IOException {
+        if (compactacao != null && !compactacao.isDone()) {
+            return;
+        }
+        Path emCompactacao = arquivo(nomeBase, EXTENSAO_DIARIO + SUFIXO_EM_COMPACTACAO);
+        if (!Files.exists(emCompactacao)) {
+            fecharCanal();
+            Files.move(arquivo(nomeBase, EXTENSAO_DIARIO), emCompactacao);
+            abrirDiarioNovo();
+        }
+        String base = nomeBase;
+        compactacao = compactador.submit(() -> {
+            long inicio = System.nanoTime();
+            EstadoSalvo estado = lerEstado(base, false);
+            gravarInstantaneo(base, estado);
+            Files.delete(emCompactacao);
+            LOGGER.fine("Diário de " + base + " compactado em " + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+            return null;
+        });
+    }
+
+    private boolean aguardarCompactacao() {
+        if (compactacao == null) {
+            return true;
+        }
+        try {
+            compactacao.get();
+            return true;
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Erro ao compactar o diário de " + nomeBase + ": " + e.getCause().getMessage(),
+                    e.getCause());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            compactacao = null;
+        }
+    }
+
+    /**
+     * Lê o instantâneo e reaplica os diários de um personagem
+     * @param nomeBase     Nome base dos arquivos
+     * @param incluirAtual false para ler apenas o diário em compactação
+     * @return Estado com todos os registros incorporados
+     */
+    private EstadoSalvo lerEstado(String nomeBase, boolean incluirAtual) throws IOException {
+        EstadoSalvo estado = codec.decodificar(GravadorDuravel.ler(arquivo(nomeBase, CodecBinarioSalvamento.EXTENSAO)));
+        BufferSalvamento entrada = new BufferSalvamento();
+        Map<String, Integer> indicePorId = new HashMap<>();
+        reproduzir(arquivo(nomeBase, EXTENSAO_DIARIO + SUFIXO_EM_COMPACTACAO), estado, entrada, indicePorId);
+        if (incluirAtual) {
+            reproduzir(arquivo(nomeBase, EXTENSAO_DIARIO), estado, entrada, indicePorId);
+        }
+        return estado;
+    }
+
+    /**
+     * Aplica a um estado os registros de um diário posteriores à sequência do estado
+     */
+    private static void reproduzir(Path diario, EstadoSalvo estado, BufferSalvamento entrada,
+            Map<String, Integer> indicePorId) throws IOException {
+        if (!Files.exists(diario)) {
+            return;
+        }
+        ByteBuffer dados;
+        try (FileChannel leitura = FileChannel.open(diario, StandardOpenOption.READ)) {
+            long tamanho = leitura.size();
+            if (tamanho > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Diário grande demais: " + diario);
+            }
+            dados = entrada.preparar((int) tamanho);
+            while (dados.hasRemaining() && leitura.read(dados) >= 0) {
+                // Lê até o fim do arquivo
+            }
+            dados.flip();
+        }
+        if (dados.remaining() < TAMANHO_CABECALHO) {
+            return;
+        }
+        if (entrada.lerInt() != MAGICO || entrada.lerInt() > VERSAO_DIARIO) {
+            throw new IllegalArgumentException("Arquivo não é um diário suportado: " + diario);
+        }
+
+        while (dados.remaining() >= TAMANHO_CABECALHO_BLOCO) {
+            int tamanhoBloco = entrada.lerInt();
+            if (tamanhoBloco < TAMANHO_CABECALHO_BLOCO - Integer.BYTES || tamanhoBloco > dados.remaining()) {
+                LOGGER.warning("Registro incompleto no fim de " + diario + " descartado");
+                return;
+            }
+            int fimBloco = entrada.posicao() + tamanhoBloco;
+            long sequenciaBloco = entrada.lerLong();
+            if (sequenciaBloco <= estado.getSequenciaDiario()) {
+                // Já incorporado ao instantâneo
+                entrada.posicionar(fimBloco);
+                continue;
+            }
+            try {
+                int quantidade = entrada.lerInt();
+                for (int i = 0; i < quantidade; i++) {
+                    aplicarRegistro(entrada, estado, indicePorId);
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Registro " + sequenciaBloco + " corrompido em " + diario, e);
+            }
+            entrada.posicionar(fimBloco);
+            estado.setSequenciaDiario(sequenciaBloco);
+        }
+    }
+
+    private static void aplicarRegistro(BufferSalvamento entrada, EstadoSalvo estado,
+            Map<String, Integer> indicePorId) {
+        int tipo = entrada.lerInt();
+        int tamanho = entrada.lerInt();
+        int fim = entrada.posicao() + tamanho;
+        switch (tipo) {
+            case REGISTRO_PERSONAGEM -> estado.aplicarPersonagem(entrada.lerTexto(), entrada.lerTexto(),
+                    entrada.lerInt(), entrada.lerTexto(), entrada.lerInt(), entrada.lerInt(), entrada.lerInt(),
+                    entrada.lerInt(), entrada.lerInt(), entrada.lerInt(), entrada.lerInt());
+            case REGISTRO_ENVELHECIMENTO -> estado.envelhecerRelacionamentos(entrada.lerInt());
+            case REGISTRO_RELACIONAMENTO -> estado.aplicarRelacionamento(
+                    EstadoSalvo.RelacionamentoSalvo.lerBinario(entrada, EstadoSalvo.VERSAO_ATUAL), indicePorId);
+            case REGISTRO_USO -> estado.marcarUsado(entrada.lerInt() != 0, entrada.lerTexto(), entrada.lerTexto());
+            case REGISTRO_REINICIO -> estado.reiniciarUsados(entrada.lerInt() != 0, entrada.lerTexto());
+            default -> {
+                // Tipo gravado por uma versão mais nova: ignorado
+            }
+        }
+        entrada.posicionar(fim);
+    }
+
+    private int iniciarRegistro(int tipo) {
+        buffer.escreverInt(tipo);
+        int posicao = buffer.posicao();
+        buffer.escreverInt(0);
+        return posicao;
+    }
+
+    private void concluirRegistro(int posicao) {
+        buffer.escreverInt(posicao, buffer.posicao() - posicao - Integer.BYTES);
+    }
+
+    private int registrarPersonagem() {
+        int[] valores = valoresDoPersonagem();
+        String fase = personagem.getEstadoVida().getEstado();
+        if (Arrays.equals(valores, copiaValores) && fase.equals(copiaFase)
+                && Objects.equals(personagem.getNome(), copiaNome)
+                && Objects.equals(personagem.getSobrenome(), copiaSobrenome)) {
+            return 0;
+        }
+        int registro = iniciarRegistro(REGISTRO_PERSONAGEM);
+        buffer.escreverTexto(personagem.getNome());
+        buffer.escreverTexto(personagem.getSobrenome());
+        buffer.escreverInt(valores[0]);
+        buffer.escreverTexto(fase);
+        for (int i = 1; i < valores.length; i++) {
+            buffer.escreverInt(valores[i]);
+        }
+        concluirRegistro(registro);
+        System.arraycopy(valores, 0, copiaValores, 0, valores.length);
+        copiaFase = fase;
+        copiaNome = personagem.getNome();
+        copiaSobrenome = personagem.getSobrenome();
+        return 1;
+    }
+
+    private int[] valoresDoPersonagem() {
+        return new int[] {personagem.getIdade(), personagem.getAparencia(), personagem.getSaude(),
+                personagem.getSanidade(), personagem.getFelicidade(), personagem.getInteligencia(),
+                personagem.getCarisma(), personagem.getFinancas()};
+    }
+
+    /**
+     * Registra o avanço do relógio da tabela, com um único registro para
+     * todos os relacionamentos, e os relacionamentos anotados como novos ou
+     * alterados pela tabela
+     * @return Quantidade de registros ou -1 se a tabela de relacionamentos foi trocada
+     */
+    private int registrarRelacionamentos() {
+        TabelaRelacionamentos tabela = personagem.getGerenciadorRelacionamentos().getTabela();
+        if (tabela != copiaTabela) {
+            return -1;
+        }
+
+        int registros = 0;
+        int anos = tabela.getRelogio().getAno() - copiaAno;
+        if (anos != 0) {
+            int registro = iniciarRegistro(REGISTRO_ENVELHECIMENTO);
+            buffer.escreverInt(anos);
+            concluirRegistro(registro);
+            copiaAno += anos;
+            registros++;
+        }
+        for (int posicao : tabela.retirarAlteradas()) {
+            int registro = iniciarRegistro(REGISTRO_RELACIONAMENTO);
+            EstadoSalvo.RelacionamentoSalvo.de(tabela.get(posicao)).escreverBinario(buffer);
+            concluirRegistro(registro);
+            registros++;
+        }
+        return registros;
+    }
+
+    private int registrarUsos(boolean narrativa, Map<String, List<String>> atuais, Map<String, Set<String>> copia) {
+        int registros = 0;
+        for (String pasta : new ArrayList<>(copia.keySet())) {
+            List<String> ids = atuais.get(pasta);
+            if (ids == null || !new HashSet<>(ids).containsAll(copia.get(pasta))) {
+                int registro = iniciarRegistro(REGISTRO_REINICIO);
+                buffer.escreverInt(narrativa ? 1 : 0);
+                buffer.escreverTexto(pasta);
+                concluirRegistro(registro);
+                copia.remove(pasta);
+                registros++;
+            }
+        }
+        for (Map.Entry<String, List<String>> entrada : atuais.entrySet()) {
+            Set<String> registrados = copia.computeIfAbsent(entrada.getKey(), chave -> new HashSet<>());
+            for (String id : entrada.getValue()) {
+                if (registrados.add(id)) {
+                    int registro = iniciarRegistro(REGISTRO_USO);
+                    buffer.escreverInt(narrativa ? 1 : 0);
+                    buffer.escreverTexto(entrada.getKey());
+                    buffer.escreverTexto(id);
+                    concluirRegistro(registro);
+                    registros++;
+                }
+            }
+        }
+        return registros;
+    }
+
+    /**
+     * Toma o estado recém-gravado no instantâneo como base das diferenças
+     */
+    private void copiar(EstadoSalvo estado) {
+        System.arraycopy(valoresDoPersonagem(), 0, copiaValores, 0, copiaValores.length);
+        copiaFase = personagem.getEstadoVida().getEstado();
+        copiaNome = personagem.getNome();
+        copiaSobrenome = personagem.getSobrenome();
+
+        // O instantâneo já tem todos os relacionamentos, com o desgaste aplicado na captura
+        copiaTabela = personagem.getGerenciadorRelacionamentos().getTabela();
+        copiaAno = copiaTabela.getRelogio().getAno();
+        copiaTabela.retirarAlteradas();
+
+        copiarUsos(estado.getEventosUsados(), copiaEventos);
+        copiarUsos(estado.getNarrativasUsadas(), copiaNarrativas);
+    }
+
+    private static void copiarUsos(Map<String, List<String>> usados, Map<String, Set<String>> copia) {
+        copia.clear();
+        for (Map.Entry<String, List<String>> entrada : usados.entrySet()) {
+            copia.put(entrada.getKey(), new HashSet<>(entrada.getValue()));
+        }
+    }
+
+    /**
+     * Grava o instantâneo de forma durável; quando retorna, o diário que ele
+     * incorpora pode ser apagado
+     */
+    private void gravarInstantaneo(String nomeBase, EstadoSalvo estado) throws IOException {
+        GravadorDuravel.PADRAO.gravar(codec.codificar(estado), arquivo(nomeBase, CodecBinarioSalvamento.EXTENSAO),
+                true);
+    }
+
+    /**
+     * Cria o diário vazio e sincroniza a pasta, o que também confirma a
+     * renomeação do diário anterior para compactação
+     */
+    private void abrirDiarioNovo() throws IOException {
+        canal = FileChannel.open(arquivo(nomeBase, EXTENSAO_DIARIO), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).putInt(MAGICO).putInt(VERSAO_DIARIO);
+        cabecalho.flip();
+        while (cabecalho.hasRemaining()) {
+            canal.write(cabecalho);
+        }
+        canal.force(true);
+        GravadorDuravel.sincronizarPasta(pasta);
+    }
+
+    private void fecharCanal() throws IOException {
+        if (canal != null) {
+            canal.close();
+            canal = null;
+        }
+    }
+
+    private void fecharCanalSemErro() {
+        try {
+            fecharCanal();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Erro ao fechar o diário de " + nomeBase + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Path arquivo(String nomeBase, String extensao) {
+        return pasta.resolve(nomeBase + extensao);
+    }
+}
@@ -0,0 +1,478 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.domain.AlocadorIds;
+import br.com.braym.projetobitlifeclonev1.domain.EstadoVidaImpl;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
+import br.com.braym.projetobitlifeclonev1.domain.Profissao;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.domain.TabelaRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.service.CarregadorProfissoes;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
+import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Esquema de salvamento: apenas o estado do personagem (atributos, idade,
+ * fase, relacionamentos e eventos já usados). O conteúdo compartilhado -
+ * nomes, profissões, interações e eventos - não é copiado; profissões e
+ * eventos são referenciados pelo nome ou id e religados ao RegistroConteudo
+ * na restauração.
+ */
+public class EstadoSalvo {
+    /** Versão atual do esquema (2 acrescentou a sequência do diário; 3, o id do personagem) */
+    public static final int VERSAO_ATUAL = 3;
+
+    private int versao;
+    private String pastaEventos;
+
+    // Último registro do diário já incorporado ao estado (0 fora do modo com diário)
+    private long sequenciaDiario;
+
+    // Id do personagem; nulo nos salvamentos anteriores à versão 3
+    private Long idPersonagem;
+
+    private String nome;
+    private String sobrenome;
+    private int idade;
+    private String fase;
+
+    private int aparencia;
+    private int saude;
+    private int sanidade;
+    private int felicidade;
+    private int inteligencia;
+    private int carisma;
+    private int financas;
+
+    private List<RelacionamentoSalvo> relacionamentos = new ArrayList<>();
+
+    // Pasta da fase -> ids dos eventos usados / dos inícios das cadeias narrativas jogadas
+    private Map<String, List<String>> eventosUsados = new LinkedHashMap<>();
+    private Map<String, List<String>> narrativasUsadas = new LinkedHashMap<>();
+
+    /**
+     * Construtor vazio necessário para deserialização
+     */
+    public EstadoSalvo() {
+    }
+
+    /**
+     * Captura o estado de um personagem
+     * @param personagem         Personagem a salvar
+     * @param gerenciadorEventos Gerenciador com os eventos já usados (pode ser nulo)
+     * @param pastaEventos       Pasta de eventos do registro de conteúdo do jogo
+     * @return Estado pronto para serialização
+     */
+    public static EstadoSalvo capturar(Personagem personagem, GerenciadorEventos gerenciadorEventos,
+            String pastaEventos) {
+        EstadoSalvo estado = new EstadoSalvo();
+        estado.versao = VERSAO_ATUAL;
+        estado.pastaEventos = pastaEventos;
+        estado.idPersonagem = personagem.getId();
+        estado.nome = personagem.getNome();
+        estado.sobrenome = personagem.getSobrenome();
+        estado.idade = personagem.getIdade();
+        estado.fase = personagem.getEstadoVida().getEstado();
+        estado.aparencia = personagem.getAparencia();
+        estado.saude = personagem.getSaude();
+        estado.sanidade = personagem.getSanidade();
+        estado.felicidade = personagem.getFelicidade();
+        estado.inteligencia = personagem.getInteligencia();
+        estado.carisma = personagem.getCarisma();
+        estado.financas = personagem.getFinancas();
+
+        for (Relacionamento relacionamento : personagem.getGerenciadorRelacionamentos().getTodosRelacionamentos()) {
+            estado.relacionamentos.add(RelacionamentoSalvo.de(relacionamento));
+        }
+        if (gerenciadorEventos != null) {
+            estado.eventosUsados = gerenciadorEventos.getEventosUsados();
+            estado.narrativasUsadas = gerenciadorEventos.getNarrativasUsadas();
+        }
+        return estado;
+    }
+
+    /**
+     * Recria o personagem ligado ao conteúdo compartilhado
+     * @param registroConteudo Registro de onde vêm nomes, profissões e interações
+     * @return Personagem restaurado, sem observadores
+     * @throws IllegalArgumentException se a versão ou algum valor salvo for inválido
+     */
+    public Personagem restaurarPersonagem(RegistroConteudo registroConteudo) {
+        if (versao < 1 || versao > VERSAO_ATUAL) {
+            throw new IllegalArgumentException("Versão de salvamento não suportada: " + versao);
+        }
+        // Um salvamento sem id ganha um novo, que os próximos salvamentos passam a usar
+        Personagem personagem = idPersonagem != null
+                ? Personagem.restaurar(idPersonagem, nome, sobrenome, registroConteudo)
+                : Personagem.restaurar(nome, sobrenome, registroConteudo);
+        personagem.setIdade(idade);
+        personagem.setAparencia(aparencia);
+        personagem.setSaude(saude);
+        personagem.setSanidade(sanidade);
+        personagem.setFelicidade(felicidade);
+        personagem.setInteligencia(inteligencia);
+        personagem.setCarisma(carisma);
+        personagem.setFinancas(financas);
+        personagem.setEstadoVida(new EstadoVidaImpl(FaseDaVida.valueOf(fase)));
+
+        GerenciadorRelacionamentos gerenciador = personagem.getGerenciadorRelacionamentos();
+        CarregadorProfissoes profissoes = registroConteudo.getCarregadorProfissoes();
+        for (RelacionamentoSalvo salvo : relacionamentos) {
+            salvo.restaurar(gerenciador, profissoes);
+        }
+        return personagem;
+    }
+
+    /**
+     * Restaura os eventos e cadeias narrativas já usados
+     * @param gerenciadorEventos Gerenciador do jogo carregado
+     */
+    public void restaurarEventosUsados(GerenciadorEventos gerenciadorEventos) {
+        gerenciadorEventos.restaurarUsados(eventosUsados, narrativasUsadas);
+    }
+
+    /**
+     * Grava o estado no formato binário do CodecBinarioSalvamento (corpo, sem cabeçalho)
+     * @param saida Buffer de saída
+     */
+    void escreverBinario(BufferSalvamento saida) {
+        saida.escreverTexto(pastaEventos);
+        saida.escreverLong(sequenciaDiario);
+        // Indicador de presença do id: um estado lido de um salvamento antigo não o tem
+        saida.escreverInt(idPersonagem != null ? 1 : 0);
+        saida.escreverLong(idPersonagem != null ? idPersonagem : 0);
+        saida.escreverTexto(nome);
+        saida.escreverTexto(sobrenome);
+        saida.escreverInt(idade);
+        saida.escreverTexto(fase);
+        saida.escreverInt(aparencia);
+        saida.escreverInt(saude);
+        saida.escreverInt(sanidade);
+        saida.escreverInt(felicidade);
+        saida.escreverInt(inteligencia);
+        saida.escreverInt(carisma);
+        saida.escreverInt(financas);
+
+        saida.escreverInt(relacionamentos.size());
+        for (RelacionamentoSalvo relacionamento : relacionamentos) {
+            // Cada registro é prefixado pelo tamanho, para que versões futuras acrescentem campos
+            int inicio = saida.posicao();
+            saida.escreverInt(0);
+            relacionamento.escreverBinario(saida);
+            saida.escreverInt(inicio, saida.posicao() - inicio - Integer.BYTES);
+        }
+        escreverIds(saida, eventosUsados);
+        escreverIds(saida, narrativasUsadas);
+    }
+
+    private static void escreverIds(BufferSalvamento saida, Map<String, List<String>> idsPorFase) {
+        saida.escreverInt(idsPorFase.size());
+        for (Map.Entry<String, List<String>> entrada : idsPorFase.entrySet()) {
+            saida.escreverTexto(entrada.getKey());
+            saida.escreverInt(entrada.getValue().size());
+            for (String id : entrada.getValue()) {
+                saida.escreverTexto(id);
+            }
+        }
+    }
+
+    /**
+     * Lê o estado gravado por escreverBinario em uma versão anterior ou igual
+     * à atual. Campos que não existiam na versão lida ficam com o valor padrão.
+     * @param entrada Buffer posicionado no início do corpo
+     * @param versao  Versão com que o arquivo foi gravado
+     * @return Estado na versão atual
+     */
+    static EstadoSalvo lerBinario(BufferSalvamento entrada, int versao) {
+        EstadoSalvo estado = new EstadoSalvo();
+        estado.versao = VERSAO_ATUAL;
+        estado.pastaEventos = entrada.lerTexto();
+        if (versao >= 2) {
+            estado.sequenciaDiario = entrada.lerLong();
+        }
+        if (versao >= 3) {
+            boolean temId = entrada.lerInt() != 0;
+            long id = entrada.lerLong();
+            estado.idPersonagem = temId ? id : null;
+        }
+        estado.nome = entrada.lerTexto();
+        estado.sobrenome = entrada.lerTexto();
+        estado.idade = entrada.lerInt();
+        estado.fase = entrada.lerTexto();
+        estado.aparencia = entrada.lerInt();
+        estado.saude = entrada.lerInt();
+        estado.sanidade = entrada.lerInt();
+        estado.felicidade = entrada.lerInt();
+        estado.inteligencia = entrada.lerInt();
+        estado.carisma = entrada.lerInt();
+        estado.financas = entrada.lerInt();
+
+        int quantidade = quantidade(entrada);
+        estado.relacionamentos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int tamanho = entrada.lerInt();
+            int fim = entrada.posicao() + tamanho;
+            estado.relacionamentos.add(RelacionamentoSalvo.lerBinario(entrada, versao));
+            // Ignora campos gravados por versões mais novas do registro
+            entrada.posicionar(fim);
+        }
+        estado.eventosUsados = lerIds(entrada);
+        estado.narrativasUsadas = lerIds(entrada);
+        return estado;
+    }
+
+    private static Map<String, List<String>> lerIds(BufferSalvamento entrada) {
+        int fases = quantidade(entrada);
+        Map<String, List<String>> idsPorFase = new LinkedHashMap<>();
+        for (int i = 0; i < fases; i++) {
+            String pasta = entrada.lerTexto();
+            int quantidade = quantidade(entrada);
+            List<String> ids = new ArrayList<>(quantidade);
+            for (int j = 0; j < quantidade; j++) {
+                ids.add(entrada.lerTexto());
+            }
+            idsPorFase.put(pasta, ids);
+        }
+        return idsPorFase;
+    }
+
+    private static int quantidade(BufferSalvamento entrada) {
+        int quantidade = entrada.lerInt();
+        if (quantidade < 0) {
+            throw new IllegalArgumentException("Quantidade negativa no arquivo salvo: " + quantidade);
+        }
+        return quantidade;
+    }
+
+    long getSequenciaDiario() {
+        return sequenciaDiario;
+    }
+
+    void setSequenciaDiario(long sequenciaDiario) {
+        this.sequenciaDiario = sequenciaDiario;
+    }
+
+    /**
+     * Descarta o id do personagem, para estados capturados de salvamentos
+     * que não o têm; o personagem recebe um id novo ao ser restaurado
+     */
+    void descartarIdPersonagem() {
+        this.idPersonagem = null;
+    }
+
+    /**
+     * Aplica os valores do personagem registrados no diário
+     */
+    void aplicarPersonagem(String nome, String sobrenome, int idade, String fase, int aparencia, int saude,
+            int sanidade, int felicidade, int inteligencia, int carisma, int financas) {
+        this.nome = nome;
+        this.sobrenome = sobrenome;
+        this.idade = idade;
+        this.fase = fase;
+        this.aparencia = aparencia;
+        this.saude = saude;
+        this.sanidade = sanidade;
+        this.felicidade = felicidade;
+        this.inteligencia = inteligencia;
+        this.carisma = carisma;
+        this.financas = financas;
+    }
+
+    /**
+     * Avança o tempo de todos os relacionamentos salvos e a idade das pessoas,
+     * com o desgaste dos anos passados. O desgaste que o jogo ainda não
+     * tinha aplicado é sorteado aqui; o já aplicado vem nos registros dos
+     * relacionamentos que o seguem.
+     * @param anos Quantidade de anos
+     */
+    void envelhecerRelacionamentos(int anos) {
+        RandomGenerator gerador = UtilitarioAleatorio.gerador();
+        for (RelacionamentoSalvo relacionamento : relacionamentos) {
+            relacionamento.tempo = Math.max(0, relacionamento.tempo + anos);
+            relacionamento.idade += anos;
+            relacionamento.nivel = TabelaRelacionamentos.desgastar(relacionamento.nivel, anos, gerador);
+        }
+    }
+
+    /**
+     * Acrescenta um relacionamento ou substitui o que tem o mesmo id
+     * @param relacionamento Relacionamento registrado no diário
+     * @param indicePorId    Índice dos relacionamentos por id, mantido pelo chamador entre aplicações
+     */
+    void aplicarRelacionamento(RelacionamentoSalvo relacionamento, Map<String, Integer> indicePorId) {
+        if (indicePorId.isEmpty() && !relacionamentos.isEmpty()) {
+            for (int i = 0; i < relacionamentos.size(); i++) {
+                indicePorId.put(relacionamentos.get(i).id, i);
+            }
+        }
+        Integer indice = indicePorId.get(relacionamento.id);
+        if (indice != null) {
+            relacionamentos.set(indice, relacionamento);
+        } else {
+            indicePorId.put(relacionamento.id, relacionamentos.size());
+            relacionamentos.add(relacionamento);
+        }
+    }
+
+    /**
+     * Marca um evento ou uma cadeia narrativa como usado
+     * @param narrativa true para o início de uma cadeia narrativa
+     * @param pasta     Pasta da fase
+     * @param id        Id do evento
+     */
+    void marcarUsado(boolean narrativa, String pasta, String id) {
+        Map<String, List<String>> usados = narrativa ? narrativasUsadas : eventosUsados;
+        usados.computeIfAbsent(pasta, chave -> new ArrayList<>()).add(id);
+    }
+
+    /**
+     * Esquece os eventos e cadeias usados de uma fase
+     * @param narrativa true para as cadeias narrativas
+     * @param pasta     Pasta da fase
+     */
+    void reiniciarUsados(boolean narrativa, String pasta) {
+        (narrativa ? narrativasUsadas : eventosUsados).remove(pasta);
+    }
+
+    Map<String, List<String>> getEventosUsados() {
+        return eventosUsados;
+    }
+
+    Map<String, List<String>> getNarrativasUsadas() {
+        return narrativasUsadas;
+    }
+
+    public int getVersao() {
+        return versao;
+    }
+
+    public String getPastaEventos() {
+        return pastaEventos;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getIdade() {
+        return idade;
+    }
+
+    public String getSobrenome() {
+        return sobrenome;
+    }
+
+    /**
+     * Identificador do personagem nos armazenamentos: o id em decimal ou,
+     * nos salvamentos sem id, o nome completo sem acentos, a chave usada
+     * antes da versão 3
+     */
+    String getIdPersonagem() {
+        return idPersonagem != null ? getIdPersonagem(idPersonagem) : DiarioSalvamento.getNomeBase(nome, sobrenome);
+    }
+
+    /**
+     * Identificador de um personagem nos armazenamentos
+     * @param id Id do personagem
+     */
+    static String getIdPersonagem(long id) {
+        return Long.toString(id);
+    }
+
+    /**
+     * Relacionamento salvo junto com os dados da pessoa relacionada
+     */
+    public static class RelacionamentoSalvo {
+        // Id da pessoa em texto: decimal, ou UUID nos salvamentos anteriores aos ids numéricos
+        private String id;
+        private String tipo;
+        private int nivel;
+        private int tempo;
+
+        private String nome;
+        private String sobrenome;
+        private int idade;
+        private String genero;
+        private int compatibilidade;
+        private int felicidade;
+        private String profissao;
+        private int salario;
+
+        static RelacionamentoSalvo de(Relacionamento relacionamento) {
+            Pessoa pessoa = relacionamento.getPessoa();
+            RelacionamentoSalvo salvo = new RelacionamentoSalvo();
+            salvo.id = Long.toString(pessoa.getId());
+            salvo.tipo = relacionamento.getTipo().name();
+            salvo.nivel = relacionamento.getNivel();
+            salvo.tempo = relacionamento.getTempo();
+            salvo.nome = pessoa.getNome();
+            salvo.sobrenome = pessoa.getSobrenome();
+            salvo.idade = pessoa.getIdade();
+            salvo.genero = pessoa.getGenero() != null ? pessoa.getGenero().getDescricao() : null;
+            salvo.compatibilidade = pessoa.getCompatibilidade();
+            salvo.felicidade = pessoa.getFelicidade();
+            salvo.profissao = pessoa.getProfissao() != null ? pessoa.getProfissao().getNome() : null;
+            salvo.salario = pessoa.getSalario();
+            return salvo;
+        }
+
+        void escreverBinario(BufferSalvamento saida) {
+            saida.escreverTexto(id);
+            saida.escreverTexto(tipo);
+            saida.escreverInt(nivel);
+            saida.escreverInt(tempo);
+            saida.escreverTexto(nome);
+            saida.escreverTexto(sobrenome);
+            saida.escreverInt(idade);
+            saida.escreverTexto(genero);
+            saida.escreverInt(compatibilidade);
+            saida.escreverInt(felicidade);
+            saida.escreverTexto(profissao);
+            saida.escreverInt(salario);
+        }
+
+        static RelacionamentoSalvo lerBinario(BufferSalvamento entrada, int versao) {
+            RelacionamentoSalvo salvo = new RelacionamentoSalvo();
+            salvo.id = entrada.lerTexto();
+            salvo.tipo = entrada.lerTexto();
+            salvo.nivel = entrada.lerInt();
+            salvo.tempo = entrada.lerInt();
+            salvo.nome = entrada.lerTexto();
+            salvo.sobrenome = entrada.lerTexto();
+            salvo.idade = entrada.lerInt();
+            salvo.genero = entrada.lerTexto();
+            salvo.compatibilidade = entrada.lerInt();
+            salvo.felicidade = entrada.lerInt();
+            salvo.profissao = entrada.lerTexto();
+            salvo.salario = entrada.lerInt();
+            return salvo;
+        }
+
+        void restaurar(GerenciadorRelacionamentos gerenciador, CarregadorProfissoes profissoes) {
+            Profissao profissaoPessoa = null;
+            if (profissao != null) {
+                profissaoPessoa = profissoes.obterPorNome(profissao);
+                if (profissaoPessoa == null) {
+                    // Profissão que não está mais no conteúdo: mantém o nome e o salário salvo
+                    profissaoPessoa = new Profissao(profissao, salario, salario, 0, 0);
+                }
+            }
+            Pessoa pessoa = new Pessoa(AlocadorIds.converter(id), nome, sobrenome, idade, genero, compatibilidade, felicidade,
+                    profissaoPessoa, salario);
+            Relacionamento relacionamento = gerenciador.adicionarRelacionamento(pessoa,
+                    TipoRelacionamento.valueOf(tipo));
+            relacionamento.setNivel(nivel);
+            relacionamento.setTempo(tempo);
+        }
+    }
+}
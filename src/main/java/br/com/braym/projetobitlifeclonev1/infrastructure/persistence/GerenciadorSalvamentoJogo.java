@@ -1,66 +1,160 @@
 package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
 
-import br.com.braym.projetobitlifeclonev1.domain.EstadoVidaImpl;
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
 import br.com.braym.projetobitlifeclonev1.impl.ConsoleObservador;
-import br.com.braym.projetobitlifeclonev1.interfaces.EstadoVida;
-import br.com.braym.projetobitlifeclonev1.interfaces.Observador;
-import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-import com.google.gson.JsonSyntaxException;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.SecureRandom;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Gerencia a persistência do progresso do jogo, permitindo salvar e carregar o estado do personagem.
- * Usa o formato JSON para serialização/deserialização.
+ * Os jogos são salvos no esquema de EstadoSalvo, que guarda só o estado do
+ * personagem, em um ArmazenamentoSalvamentos: por padrão uma pasta com um
+ * arquivo por salvamento (PastaSalvamentos), ou um único arquivo indexado
+ * com todos os personagens (ArquivoSalvamentos), escolhido pela propriedade
+ * bitlife.armazenamento ou por um dos construtores.
  */
 public class GerenciadorSalvamentoJogo {
     private static final Logger LOGGER = Logger.getLogger(GerenciadorSalvamentoJogo.class.getName());
-    private static final String EXTENSAO_ARQUIVO = ".json";
-    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("ddMMyyyy");
-    
-    // Pasta padrão para salvamentos
-    private static final String PASTA_PADRAO_SALVAMENTOS = "C:\\Users\\Dell\\Downloads\\TestesSaveGame";
     
-    private final Gson gson;
+    /** Propriedade de sistema com a pasta raiz dos salvamentos */
+    public static final String PROPRIEDADE_PASTA = "bitlife.salvamentos";
+
+    /** Variável de ambiente com a pasta raiz dos salvamentos, usada se a propriedade não existir */
+    public static final String VARIAVEL_PASTA = "BITLIFE_SALVAMENTOS";
+
+    /** Propriedade de sistema que, com o valor "arquivo", guarda os jogos em um único arquivo indexado */
+    public static final String PROPRIEDADE_ARMAZENAMENTO = "bitlife.armazenamento";
+
+    /** Nome do arquivo único de salvamentos, dentro da pasta raiz */
+    public static final String ARQUIVO_UNICO = "salvamentos" + ArquivoSalvamentos.EXTENSAO;
+
+    private final String pastaSalvamentos;
+    private final RegistroConteudo registroConteudo;
+    private final ArmazenamentoSalvamentos armazenamento;
     
     /**
-     * Construtor que inicializa o Gson configurado com adaptadores personalizados
+     * Construtor que usa a pasta padrão e o formato JSON
      */
     public GerenciadorSalvamentoJogo() {
-        this.gson = configurarGson();
-        // Garante que a pasta de salvamentos existe
-        criarPastaSalvamentosSeNecessario();
+        this(getPastaPadrao());
+    }
+    
+    /**
+     * Construtor que usa a pasta padrão e o registro de conteúdo do jogo
+     * @param registroConteudo Registro ao qual os personagens carregados são ligados
+     */
+    public GerenciadorSalvamentoJogo(RegistroConteudo registroConteudo) {
+        this(getPastaPadrao(), registroConteudo);
+    }
+    
+    /**
+     * Construtor que usa uma pasta de salvamentos específica
+     * @param pastaSalvamentos Pasta onde os jogos são salvos
+     */
+    public GerenciadorSalvamentoJogo(String pastaSalvamentos) {
+        this(pastaSalvamentos, RegistroConteudo.padrao());
+    }
+    
+    /**
+     * Construtor que usa uma pasta de salvamentos e o registro de conteúdo do
+     * jogo, com o armazenamento escolhido pela propriedade bitlife.armazenamento
+     * @param pastaSalvamentos Pasta onde os jogos são salvos
+     * @param registroConteudo Registro ao qual os personagens carregados são ligados
+     */
+    public GerenciadorSalvamentoJogo(String pastaSalvamentos, RegistroConteudo registroConteudo) {
+        this(pastaSalvamentos, registroConteudo, criarArmazenamentoPadrao(pastaSalvamentos));
+    }
+    
+    /**
+     * Construtor que salva cada jogo em um arquivo da pasta, no formato informado
+     * @param pastaSalvamentos Pasta onde os jogos são salvos
+     * @param registroConteudo Registro ao qual os personagens carregados são ligados
+     * @param codec Formato usado ao salvar
+     */
+    public GerenciadorSalvamentoJogo(String pastaSalvamentos, RegistroConteudo registroConteudo,
+            CodecSalvamento codec) {
+        this(pastaSalvamentos, registroConteudo, new PastaSalvamentos(Paths.get(pastaSalvamentos), codec));
+    }
+    
+    /**
+     * Construtor que usa um armazenamento já aberto, por exemplo um
+     * ArquivoSalvamentos compartilhado por todos os jogadores de um servidor
+     * @param armazenamento Onde os jogos são guardados
+     * @param registroConteudo Registro ao qual os personagens carregados são ligados
+     */
+    public GerenciadorSalvamentoJogo(ArmazenamentoSalvamentos armazenamento, RegistroConteudo registroConteudo) {
+        this(null, registroConteudo, armazenamento);
+    }
+    
+    private GerenciadorSalvamentoJogo(String pastaSalvamentos, RegistroConteudo registroConteudo,
+            ArmazenamentoSalvamentos armazenamento) {
+        if (armazenamento == null) {
+            throw new IllegalArgumentException("Armazenamento de salvamentos não pode ser nulo");
+        }
+        this.pastaSalvamentos = pastaSalvamentos;
+        this.registroConteudo = registroConteudo;
+        this.armazenamento = armazenamento;
+        if (pastaSalvamentos != null) {
+            // Garante que a pasta de salvamentos existe
+            criarPastaSalvamentosSeNecessario();
+        }
+    }
+    
+    /**
+     * Obtém a pasta raiz dos salvamentos: a propriedade de sistema
+     * bitlife.salvamentos, a variável de ambiente BITLIFE_SALVAMENTOS ou, se
+     * nenhuma estiver definida, BitLifeClone/salvamentos na pasta do usuário
+     * @return Caminho da pasta
+     */
+    public static String getPastaPadrao() {
+        String pasta = System.getProperty(PROPRIEDADE_PASTA);
+        if (pasta == null || pasta.isBlank()) {
+            pasta = System.getenv(VARIAVEL_PASTA);
+        }
+        if (pasta == null || pasta.isBlank()) {
+            pasta = Paths.get(System.getProperty("user.home"), "BitLifeClone", "salvamentos").toString();
+        }
+        return pasta;
+    }
+    
+    /**
+     * Cria o armazenamento de uma pasta: o arquivo único se a propriedade
+     * bitlife.armazenamento for "arquivo", senão um arquivo por salvamento em JSON
+     */
+    private static ArmazenamentoSalvamentos criarArmazenamentoPadrao(String pastaSalvamentos) {
+        if ("arquivo".equalsIgnoreCase(System.getProperty(PROPRIEDADE_ARMAZENAMENTO))) {
+            try {
+                return ArquivoSalvamentos.abrir(Paths.get(pastaSalvamentos, ARQUIVO_UNICO));
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Erro ao abrir o arquivo de salvamentos, usando a pasta: "
+                        + e.getMessage(), e);
+            }
+        }
+        return new PastaSalvamentos(Paths.get(pastaSalvamentos), null);
+    }
+    
+    /**
+     * Obtém a pasta raiz dos salvamentos
+     * @return Caminho da pasta ou null se o gerenciador recebeu um armazenamento já aberto
+     */
+    public String getPastaSalvamentos() {
+        return pastaSalvamentos;
+    }
+    
+    /**
+     * Obtém o armazenamento onde os jogos são guardados
+     */
+    public ArmazenamentoSalvamentos getArmazenamento() {
+        return armazenamento;
     }
     
     /**
@@ -68,10 +162,10 @@ public class GerenciadorSalvamentoJogo {
      */
     private void criarPastaSalvamentosSeNecessario() {
         try {
-            Path diretorio = Paths.get(PASTA_PADRAO_SALVAMENTOS);
+            Path diretorio = Paths.get(pastaSalvamentos);
             if (!Files.exists(diretorio)) {
                 Files.createDirectories(diretorio);
-                LOGGER.info("Pasta de salvamentos criada: " + PASTA_PADRAO_SALVAMENTOS);
+                LOGGER.info("Pasta de salvamentos criada: " + pastaSalvamentos);
             }
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Erro ao criar pasta de salvamentos: " + e.getMessage(), e);
@@ -79,44 +173,30 @@ public class GerenciadorSalvamentoJogo {
     }
     
     /**
-     * Configura o Gson com adaptadores personalizados para interfaces
-     * @return Instância configurada do Gson
+     * Salva o estado do personagem automaticamente com nome padronizado
+     * @param personagem Personagem a ser salvo
+     * @return true se o salvamento foi bem-sucedido
      */
-    private Gson configurarGson() {
-        return new GsonBuilder()
-                .setPrettyPrinting()
-                .serializeNulls()
-                // Adaptador para a interface Observador
-                .registerTypeAdapter(Observador.class, new ObservadorAdapter())
-                // Adaptador para a interface EstadoVida
-                .registerTypeAdapter(EstadoVida.class, new EstadoVidaAdapter())
-                // Adaptadores para Random e suas subclasses
-                .registerTypeAdapter(Random.class, new RandomAdapter())
-                .registerTypeAdapter(ThreadLocalRandom.class, new RandomAdapter())
-                .registerTypeAdapter(SecureRandom.class, new RandomAdapter())
-                .create();
+    public boolean salvarJogo(Personagem personagem) {
+        return salvarJogo(personagem, null);
     }
     
     /**
-     * Salva o estado do personagem automaticamente com nome padronizado
+     * Salva o estado do personagem e os eventos já usados no jogo
      * @param personagem Personagem a ser salvo
+     * @param gerenciadorEventos Gerenciador com os eventos já usados (pode ser nulo)
      * @return true se o salvamento foi bem-sucedido
      */
-    public boolean salvarJogo(Personagem personagem) {
+    public boolean salvarJogo(Personagem personagem, GerenciadorEventos gerenciadorEventos) {
         if (personagem == null) {
             LOGGER.warning("Tentativa de salvar personagem nulo");
             return false;
         }
         
-        String nomeArquivo = gerarNomeArquivo(personagem);
-        String caminhoCompleto = Paths.get(PASTA_PADRAO_SALVAMENTOS, nomeArquivo).toString();
-        
         try {
-            try (FileWriter writer = new FileWriter(caminhoCompleto)) {
-                gson.toJson(personagem, writer);
-                LOGGER.info("Jogo salvo com sucesso em: " + caminhoCompleto);
-                return true;
-            }
+            String referencia = armazenamento.gravar(capturar(personagem, gerenciadorEventos), false);
+            LOGGER.info("Jogo salvo com sucesso em: " + referencia);
+            return true;
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Erro ao salvar o jogo: " + e.getMessage(), e);
             return false;
@@ -124,102 +204,135 @@ public class GerenciadorSalvamentoJogo {
     }
     
     /**
-     * Gera o nome do arquivo baseado no personagem e data atual
+     * Captura o estado a salvar. Deve ser chamado na thread do jogo; a
+     * gravação do estado capturado pode ser feita em outra thread.
      * @param personagem Personagem a ser salvo
-     * @return Nome do arquivo no formato nomePersonagem_idadePersonagem_dataSalvamento.json
+     * @param gerenciadorEventos Gerenciador com os eventos já usados (pode ser nulo)
+     * @return Estado do personagem, independente dos objetos do jogo
+     */
+    EstadoSalvo capturar(Personagem personagem, GerenciadorEventos gerenciadorEventos) {
+        return EstadoSalvo.capturar(personagem, gerenciadorEventos, registroConteudo.getPastaEventos());
+    }
+    
+    /**
+     * Obtém a referência do salvamento automático de um personagem
+     * @param personagem Personagem
+     * @return Referência que carregarJogo aceita
      */
-    private String gerarNomeArquivo(Personagem personagem) {
-        String dataFormatada = LocalDateTime.now().format(FORMATO_DATA);
-        return String.format("%s_%d_%s%s", 
-                personagem.getNome(), 
-                personagem.getIdade(), 
-                dataFormatada,
-                EXTENSAO_ARQUIVO);
+    public String getReferenciaAutomatica(Personagem personagem) {
+        return armazenamento.getReferenciaAutomatica(EstadoSalvo.getIdPersonagem(personagem.getId()));
     }
     
     /**
-     * Lista todos os jogos salvos
+     * Grava um estado capturado como salvamento automático, substituindo o
+     * anterior do mesmo personagem
+     * @param estado Estado capturado
+     */
+    void gravarAutomatico(EstadoSalvo estado) throws IOException {
+        armazenamento.gravar(estado, true);
+    }
+    
+    /**
+     * Lista todos os jogos salvos, do mais recente para o mais antigo
      * @return Lista de informações sobre os jogos salvos
      */
     public List<DadosJogoSalvo> listarJogosSalvos() {
-        List<DadosJogoSalvo> jogos = new ArrayList<>();
-        
+        return listarJogosSalvos(0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Lista uma página dos jogos salvos, do mais recente para o mais antigo
+     * @param pagina Número da página, a partir de 0
+     * @param tamanhoPagina Quantidade de jogos por página
+     * @return Jogos da página
+     */
+    public List<DadosJogoSalvo> listarJogosSalvos(int pagina, int tamanhoPagina) {
+        return listarJogosSalvos(pagina, tamanhoPagina, true);
+    }
+    
+    /**
+     * Lista uma página dos jogos salvos, ordenados pelo momento do
+     * salvamento. Em uma pasta, jogos cujo arquivo foi apagado não aparecem,
+     * de modo que a página pode vir com menos itens.
+     * @param pagina Número da página, a partir de 0
+     * @param tamanhoPagina Quantidade de jogos por página
+     * @param maisRecentesPrimeiro true para começar pelo salvamento mais recente
+     * @return Jogos da página
+     */
+    public List<DadosJogoSalvo> listarJogosSalvos(int pagina, int tamanhoPagina, boolean maisRecentesPrimeiro) {
+        if (pagina < 0 || tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Página inválida: " + pagina + " com " + tamanhoPagina + " jogos");
+        }
         try {
-            File pasta = new File(PASTA_PADRAO_SALVAMENTOS);
-            File[] arquivos = pasta.listFiles((dir, name) -> name.toLowerCase().endsWith(EXTENSAO_ARQUIVO));
-            
-            if (arquivos != null) {
-                jogos = Arrays.stream(arquivos)
-                        .map(this::extrairDadosDoArquivo)
-                        .filter(dados -> dados != null)
-                        .sorted(Comparator.comparing(DadosJogoSalvo::getDataSalvamento).reversed())
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
+            return armazenamento.listar((int) Math.min(Integer.MAX_VALUE, (long) pagina * tamanhoPagina),
+                    tamanhoPagina, maisRecentesPrimeiro);
+        } catch (IOException e) {
             LOGGER.log(Level.WARNING, "Erro ao listar jogos salvos: " + e.getMessage(), e);
+            return new ArrayList<>();
         }
-        
-        return jogos;
     }
     
     /**
-     * Extrai os dados de um arquivo de jogo salvo
-     * @param arquivo Arquivo de jogo salvo
-     * @return Objeto contendo os dados do jogo salvo
+     * Obtém a quantidade de jogos salvos no índice
+     * @return Quantidade de jogos, para calcular o número de páginas
      */
-    private DadosJogoSalvo extrairDadosDoArquivo(File arquivo) {
+    public int getQuantidadeJogosSalvos() {
         try {
-            String nomeArquivo = arquivo.getName();
-            
-            // Remove a extensão
-            String nomeSemExtensao = nomeArquivo.substring(0, nomeArquivo.lastIndexOf('.'));
-            
-            // Parse das partes do nome
-            String[] partes = nomeSemExtensao.split("_");
-            if (partes.length >= 3) {
-                String nomePersonagem = partes[0];
-                int idade = Integer.parseInt(partes[1]);
-                String dataSalvamento = partes[2];
-                
-                return new DadosJogoSalvo(
-                        arquivo.getAbsolutePath(),
-                        nomePersonagem,
-                        idade,
-                        dataSalvamento,
-                        arquivo.lastModified()
-                );
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Erro ao processar arquivo: " + arquivo.getName(), e);
+            return armazenamento.getQuantidade();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Erro ao ler o índice de jogos salvos: " + e.getMessage(), e);
+            return 0;
+        }
+    }
+    
+    /**
+     * Recria os índices do armazenamento. Numa pasta, só é necessário se
+     * arquivos forem copiados para ela por fora do jogo.
+     */
+    public void reindexar() {
+        try {
+            armazenamento.reindexar();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Erro ao recriar o índice de salvamentos: " + e.getMessage(), e);
         }
-        
-        return null;
     }
     
     /**
-     * Carrega um personagem a partir de um arquivo específico
-     * @param caminhoArquivo Caminho completo do arquivo
+     * Carrega um personagem a partir de um salvamento específico
+     * @param caminhoArquivo Referência do salvamento (o caminho do arquivo, numa pasta)
      * @return Personagem carregado ou null em caso de falha
      */
     public Personagem carregarJogo(String caminhoArquivo) {
+        return carregarJogo(caminhoArquivo, null);
+    }
+    
+    /**
+     * Carrega um personagem e restaura os eventos já usados no gerenciador
+     * de eventos do jogo
+     * @param caminhoArquivo Referência do salvamento (o caminho do arquivo, numa pasta)
+     * @param gerenciadorEventos Gerenciador que recebe os eventos usados (pode ser nulo)
+     * @return Personagem carregado ou null em caso de falha
+     */
+    public Personagem carregarJogo(String caminhoArquivo, GerenciadorEventos gerenciadorEventos) {
         try {
-            File arquivo = new File(caminhoArquivo);
-            if (!arquivo.exists()) {
-                LOGGER.warning("Arquivo não existe: " + caminhoArquivo);
+            EstadoSalvo estado = armazenamento.ler(caminhoArquivo);
+            if (estado == null) {
+                LOGGER.warning("Jogo salvo não existe: " + caminhoArquivo);
                 return null;
             }
             
-            try (FileReader reader = new FileReader(arquivo)) {
-                Personagem personagem = gson.fromJson(reader, Personagem.class);
-                if (personagem != null) {
-                    // Reinicializa observadores que não são serializados corretamente
-                    personagem.adicionarObservador(new ConsoleObservador());
-                    LOGGER.info("Jogo carregado com sucesso de: " + caminhoArquivo);
-                    return personagem;
-                }
+            Personagem personagem = estado.restaurarPersonagem(registroConteudo);
+            if (gerenciadorEventos != null) {
+                estado.restaurarEventosUsados(gerenciadorEventos);
             }
-        } catch (JsonSyntaxException e) {
-            LOGGER.log(Level.SEVERE, "Erro de formato no arquivo: " + e.getMessage(), e);
+            if (personagem != null) {
+                // Reinicializa observadores que não são serializados corretamente
+                personagem.adicionarObservador(new ConsoleObservador());
+                LOGGER.info("Jogo carregado com sucesso de: " + caminhoArquivo);
+                return personagem;
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.SEVERE, "Dados inválidos no arquivo: " + e.getMessage(), e);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Erro ao ler arquivo: " + e.getMessage(), e);
         }
@@ -271,70 +384,4 @@ public class GerenciadorSalvamentoJogo {
             return String.format("%s_%d_%s", nomePersonagem, idade, dataSalvamento);
         }
     }
-    
-    /**
-     * Adaptador para serialização/deserialização da interface Observador
-     */
-    private static class ObservadorAdapter implements JsonSerializer<Observador>, JsonDeserializer<Observador> {
-        @Override
-        public JsonElement serialize(Observador src, Type typeOfSrc, JsonSerializationContext context) {
-            JsonObject result = new JsonObject();
-            result.add("type", new JsonPrimitive(src.getClass().getName()));
-            return result;
-        }
-        
-        @Override
-        public Observador deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) 
-                throws JsonParseException {
-            // Sempre retorna uma nova instância de ConsoleObservador
-            return new ConsoleObservador();
-        }
-    }
-    
-    /**
-     * Adaptador para serialização/deserialização de objetos Random
-     */
-    private static class RandomAdapter implements JsonSerializer<Random>, JsonDeserializer<Random> {
-        @Override
-        public JsonElement serialize(Random src, Type typeOfSrc, JsonSerializationContext context) {
-            // Não tenta serializar os campos internos do Random
-            return new JsonObject();
-        }
-        
-        @Override
-        public Random deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) 
-                throws JsonParseException {
-            // Cria uma nova instância de Random
-            return new Random();
-        }
-    }
-    
-    /**
-     * Adaptador para serialização/deserialização da interface EstadoVida
-     */
-    private static class EstadoVidaAdapter implements JsonSerializer<EstadoVida>, JsonDeserializer<EstadoVida> {
-        @Override
-        public JsonElement serialize(EstadoVida src, Type typeOfSrc, JsonSerializationContext context) {
-            JsonObject result = new JsonObject();
-            result.add("type", new JsonPrimitive(src.getClass().getName()));
-            result.add("estado", new JsonPrimitive(src.getEstado()));
-            return result;
-        }
-        
-        @Override
-        public EstadoVida deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) 
-                throws JsonParseException {
-            JsonObject jsonObject = json.getAsJsonObject();
-            String estado = jsonObject.get("estado").getAsString();
-            
-            // Baseado no estado, retorna a instância apropriada usando EstadoVidaImpl
-            return switch (estado) {
-                case "INFANCIA" -> new EstadoVidaImpl(FaseDaVida.INFANCIA);
-                case "ADOLESCENCIA" -> new EstadoVidaImpl(FaseDaVida.ADOLESCENCIA);
-                case "ADULTO" -> new EstadoVidaImpl(FaseDaVida.ADULTO);
-                case "VELHICE" -> new EstadoVidaImpl(FaseDaVida.VELHICE);
-                default -> new EstadoVidaImpl(FaseDaVida.INFANCIA); // Fallback para infância
-            };
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,244 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Gravação durável dos arquivos de salvamento. O conteúdo é gravado em um
+ * arquivo temporário na mesma pasta, sincronizado com o disco e renomeado de
+ * forma atômica sobre o destino. Uma queda no meio da gravação deixa, no
+ * pior caso, um temporário órfão, nunca um salvamento pela metade. Arquivos
+ * binários recebem ainda um rodapé binário com o tamanho e o CRC32C do
+ * conteúdo; arquivos de texto, como os JSON, não o recebem, para continuarem
+ * válidos fora do jogo.
+ *
+ * Cada thread que grava sincroniza o próprio temporário, em paralelo com as
+ * outras; só a renomeação e a sincronização da pasta, que dependem da
+ * ordem, ficam com uma thread própria, que junta as gravações que chegam
+ * dentro da mesma janela (alguns milissegundos) e sincroniza cada pasta uma
+ * única vez para o grupo. Assim, muitos salvamentos simultâneos (vários jogos
+ * com salvamento automático) dividem o custo da sincronização das pastas.
+ *
+ * Na leitura o rodapé é conferido; arquivos sem rodapé (de texto, gravados
+ * antes dele existir ou editados à mão) são aceitos sem verificação.
+ */
+final class GravadorDuravel {
+    private static final Logger LOGGER = Logger.getLogger(GravadorDuravel.class.getName());
+
+    /** Janela padrão da sincronização em grupo, em milissegundos */
+    static final long JANELA_PADRAO_MS = 2;
+
+    // Rodapé dos arquivos binários: tamanho do conteúdo, CRC32C do conteúdo e "BLCK"
+    private static final int MARCA = 0x424C434B;
+    private static final int TAMANHO_RODAPE = 3 * Integer.BYTES;
+
+    private final long janelaNanos;
+    private final BlockingQueue<Pedido> fila = new LinkedBlockingQueue<>();
+
+    /**
+     * Gravador com a janela padrão, compartilhado pelos armazenamentos e
+     * diários para que salvamentos simultâneos sincronizem em grupo
+     */
+    static final GravadorDuravel PADRAO = new GravadorDuravel(JANELA_PADRAO_MS);
+
+    /**
+     * Construtor
+     * @param janelaMs Tempo, em milissegundos, que a sincronização espera por outras gravações
+     */
+    GravadorDuravel(long janelaMs) {
+        if (janelaMs < 0) {
+            throw new IllegalArgumentException("Janela de sincronização não pode ser negativa");
+        }
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        Thread thread = new Thread(this::sincronizarGrupos, "gravador-salvamentos");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Grava um conteúdo de forma durável, substituindo o destino. Retorna
+     * depois que o conteúdo e a renomeação estão no disco.
+     * @param conteudo  Conteúdo, da posição ao limite do buffer
+     * @param destino   Arquivo de destino
+     * @param comRodape true para acrescentar o rodapé de verificação (só em formatos binários)
+     * @throws IOException em caso de erro de escrita
+     */
+    void gravar(ByteBuffer conteudo, Path destino, boolean comRodape) throws IOException {
+        Path pasta = destino.toAbsolutePath().getParent();
+        Files.createDirectories(pasta);
+        Path temporario = Files.createTempFile(pasta, destino.getFileName().toString(), ".tmp");
+        Pedido pedido;
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+            ByteBuffer rodape = null;
+            if (comRodape) {
+                CRC32C crc = new CRC32C();
+                crc.update(conteudo.duplicate());
+                rodape = ByteBuffer.allocate(TAMANHO_RODAPE).putInt(conteudo.remaining())
+                        .putInt((int) crc.getValue()).putInt(MARCA).flip();
+            }
+            while (conteudo.hasRemaining()) {
+                canal.write(conteudo);
+            }
+            while (rodape != null && rodape.hasRemaining()) {
+                canal.write(rodape);
+            }
+            // Sincronizado aqui, em paralelo com as outras gravações
+            canal.force(true);
+            pedido = new Pedido(temporario, destino);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        fila.add(pedido);
+
+        try {
+            pedido.concluido.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException
+                    ? (IOException) e.getCause()
+                    : new IOException("Erro ao sincronizar o salvamento", e.getCause());
+        } catch (InterruptedException e) {
+            // A gravação continua na thread de sincronização; só a espera é interrompida
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompido enquanto aguardava a gravação de " + destino, e);
+        }
+    }
+
+    /**
+     * Lê um arquivo gravado e confere o rodapé
+     * @param arquivo Arquivo salvo
+     * @return Conteúdo do arquivo, sem o rodapé
+     * @throws IOException em caso de erro de leitura
+     * @throws IllegalArgumentException se o tamanho ou o CRC32C não conferirem
+     */
+    static ByteBuffer ler(Path arquivo) throws IOException {
+        byte[] bytes = Files.readAllBytes(arquivo);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int inicioRodape = bytes.length - TAMANHO_RODAPE;
+        if (inicioRodape < 0 || buffer.getInt(bytes.length - Integer.BYTES) != MARCA) {
+            // Sem rodapé
+            return buffer;
+        }
+        if (buffer.getInt(inicioRodape) != inicioRodape) {
+            throw new IllegalArgumentException("Arquivo de salvamento truncado: " + arquivo);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, inicioRodape);
+        if ((int) crc.getValue() != buffer.getInt(inicioRodape + Integer.BYTES)) {
+            throw new IllegalArgumentException("Arquivo de salvamento corrompido (CRC32C não confere): " + arquivo);
+        }
+        return buffer.limit(inicioRodape);
+    }
+
+    /**
+     * Laço da thread de sincronização: espera a primeira gravação, junta as
+     * que chegarem dentro da janela e confirma o grupo
+     */
+    private void sincronizarGrupos() {
+        List<Pedido> grupo = new ArrayList<>();
+        while (true) {
+            try {
+                grupo.add(fila.take());
+                long limite = System.nanoTime() + janelaNanos;
+                for (long restante = janelaNanos; restante > 0; restante = limite - System.nanoTime()) {
+                    Pedido pedido = fila.poll(restante, TimeUnit.NANOSECONDS);
+                    if (pedido == null) {
+                        break;
+                    }
+                    grupo.add(pedido);
+                }
+                fila.drainTo(grupo);
+                confirmar(grupo);
+            } catch (InterruptedException e) {
+                // Thread daemon: só é interrompida no encerramento da JVM
+                confirmar(grupo);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                grupo.clear();
+            }
+        }
+    }
+
+    /**
+     * Renomeia os temporários do grupo, já sincronizados, sobre os destinos,
+     * sincroniza cada pasta uma única vez e libera as threads que gravaram
+     */
+    private static void confirmar(List<Pedido> grupo) {
+        Set<Path> pastas = new LinkedHashSet<>();
+        for (Pedido pedido : grupo) {
+            try {
+                try {
+                    Files.move(pedido.temporario, pedido.destino, StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(pedido.temporario, pedido.destino, StandardCopyOption.REPLACE_EXISTING);
+                }
+                pastas.add(pedido.temporario.getParent());
+            } catch (IOException e) {
+                pedido.falhar(e);
+            }
+        }
+        for (Path pasta : pastas) {
+            sincronizarPasta(pasta);
+        }
+        for (Pedido pedido : grupo) {
+            pedido.concluido.complete(null);
+        }
+    }
+
+    /**
+     * Sincroniza as entradas da pasta (renomeações, arquivos criados). Nem
+     * todo sistema permite abrir uma pasta como canal; nesses a renomeação
+     * depende do sistema de arquivos.
+     * @param pasta Pasta a sincronizar
+     */
+    static void sincronizarPasta(Path pasta) {
+        try (FileChannel canal = FileChannel.open(pasta, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Não foi possível sincronizar a pasta " + pasta, e);
+        }
+    }
+
+    /**
+     * Gravação sincronizada aguardando a renomeação
+     */
+    private static final class Pedido {
+        private final Path temporario;
+        private final Path destino;
+        private final CompletableFuture<Void> concluido = new CompletableFuture<>();
+
+        Pedido(Path temporario, Path destino) {
+            this.temporario = temporario;
+            this.destino = destino;
+        }
+
+        void falhar(IOException erro) {
+            try {
+                Files.deleteIfExists(temporario);
+            } catch (IOException e) {
+                erro.addSuppressed(e);
+            }
+            concluido.completeExceptionally(erro);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo.DadosJogoSalvo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice dos jogos salvos de uma pasta, para que o menu de carregamento não
+ * precise listar a pasta nem interpretar os nomes dos arquivos.
+ *
+ * O índice tem dois arquivos: um de entradas de tamanho fixo, ordenadas pelo
+ * momento do salvamento, e um de textos (nome do arquivo e do personagem),
+ * apontados pelas entradas. Uma página é lida com acessos posicionais
+ * diretamente às suas entradas, sem percorrer as demais. Um salvamento
+ * acrescenta uma entrada no fim; só um relógio que volta no tempo obriga a
+ * deslocar as entradas posteriores.
+ *
+ * Há uma instância por pasta, compartilhada pelos gerenciadores de
+ * salvamento, e seus métodos são sincronizados.
+ */
+final class IndiceSalvamentos {
+    /** Arquivo das entradas */
+    static final String ARQUIVO_ENTRADAS = "indice.idx";
+
+    /** Arquivo dos textos apontados pelas entradas */
+    static final String ARQUIVO_TEXTOS = "indice.dat";
+
+    // "BLIX"
+    private static final int MAGICO = 0x424C4958;
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 2 * Integer.BYTES;
+
+    // long momento, long deslocamento do texto, int idade, int bytes do arquivo, int bytes do nome, int reservado
+    private static final int TAMANHO_ENTRADA = 32;
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("ddMMyyyy");
+
+    private static final Map<Path, IndiceSalvamentos> INDICES = new ConcurrentHashMap<>();
+
+    private final Path pasta;
+    private final Path arquivoEntradas;
+    private final Path arquivoTextos;
+
+    private IndiceSalvamentos(Path pasta) {
+        this.pasta = pasta;
+        this.arquivoEntradas = pasta.resolve(ARQUIVO_ENTRADAS);
+        this.arquivoTextos = pasta.resolve(ARQUIVO_TEXTOS);
+    }
+
+    /**
+     * Obtém o índice de uma pasta de salvamentos
+     * @param pasta Pasta de salvamentos
+     * @return Índice compartilhado da pasta
+     */
+    static IndiceSalvamentos obter(Path pasta) {
+        return INDICES.computeIfAbsent(pasta.toAbsolutePath().normalize(), IndiceSalvamentos::new);
+    }
+
+    /**
+     * Verifica se o índice já foi criado na pasta
+     */
+    synchronized boolean existe() {
+        return Files.exists(arquivoEntradas);
+    }
+
+    /**
+     * Obtém a quantidade de jogos no índice
+     * @return Quantidade de entradas completas
+     */
+    synchronized int getQuantidade() throws IOException {
+        if (!Files.exists(arquivoEntradas)) {
+            return 0;
+        }
+        return quantidade(Files.size(arquivoEntradas));
+    }
+
+    private static int quantidade(long tamanhoArquivo) {
+        // Uma entrada gravada pela metade não é contada e é sobrescrita na próxima gravação
+        return (int) Math.max(0, (tamanhoArquivo - TAMANHO_CABECALHO) / TAMANHO_ENTRADA);
+    }
+
+    /**
+     * Acrescenta um jogo salvo ao índice
+     * @param arquivo        Nome do arquivo na pasta de salvamentos
+     * @param nomePersonagem Nome do personagem
+     * @param idade          Idade do personagem
+     * @param momento        Momento do salvamento, em milissegundos desde a época
+     */
+    synchronized void adicionar(String arquivo, String nomePersonagem, int idade, long momento) throws IOException {
+        try (FileChannel entradas = abrirEntradas(); FileChannel textos = abrirTextos()) {
+            adicionar(entradas, textos, arquivo, nomePersonagem, idade, momento);
+        }
+    }
+
+    /**
+     * Recria o índice com os jogos informados, em qualquer ordem
+     * @param jogos Jogos salvos na pasta
+     */
+    synchronized void reconstruir(List<DadosJogoSalvo> jogos) throws IOException {
+        Files.deleteIfExists(arquivoEntradas);
+        Files.deleteIfExists(arquivoTextos);
+        List<DadosJogoSalvo> ordenados = new ArrayList<>(jogos);
+        ordenados.sort(Comparator.comparingLong(DadosJogoSalvo::getTimestampSalvamento));
+        try (FileChannel entradas = abrirEntradas(); FileChannel textos = abrirTextos()) {
+            for (DadosJogoSalvo jogo : ordenados) {
+                adicionar(entradas, textos, Path.of(jogo.getCaminhoArquivo()).getFileName().toString(),
+                        jogo.getNomePersonagem(), jogo.getIdade(), jogo.getTimestampSalvamento());
+            }
+        }
+    }
+
+    /**
+     * Remove do índice as entradas de arquivos que não existem mais. As
+     * entradas restantes são deslocadas para manter a ordem; os textos das
+     * removidas ficam órfãos até a próxima reconstrução.
+     * @param arquivos Nomes dos arquivos na pasta de salvamentos
+     * @return Quantidade de entradas removidas
+     */
+    synchronized int remover(Set<String> arquivos) throws IOException {
+        if (arquivos.isEmpty() || !Files.exists(arquivoEntradas)) {
+            return 0;
+        }
+        try (FileChannel entradas = abrirEntradas(); FileChannel textos = abrirTextos()) {
+            int total = quantidade(entradas.size());
+            ByteBuffer todas = ByteBuffer.allocate(total * TAMANHO_ENTRADA);
+            lerTudo(entradas, todas, posicao(0));
+            todas.flip();
+            ByteBuffer mantidas = ByteBuffer.allocate(todas.capacity());
+            int removidas = 0;
+            for (int i = 0; i < total; i++) {
+                ByteBuffer entrada = todas.slice(i * TAMANHO_ENTRADA, TAMANHO_ENTRADA);
+                if (arquivos.contains(lerArquivo(entrada, textos))) {
+                    removidas++;
+                } else {
+                    mantidas.put(entrada);
+                }
+            }
+            if (removidas > 0) {
+                mantidas.flip();
+                escreverTudo(entradas, mantidas, posicao(0));
+                entradas.truncate(posicao(total - removidas));
+            }
+            return removidas;
+        }
+    }
+
+    private static String lerArquivo(ByteBuffer entrada, FileChannel textos) throws IOException {
+        long deslocamento = entrada.getLong(Long.BYTES);
+        int bytesArquivo = entrada.getInt(2 * Long.BYTES + Integer.BYTES);
+        ByteBuffer texto = ByteBuffer.allocate(bytesArquivo);
+        lerTudo(textos, texto, deslocamento);
+        return new String(texto.array(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lê uma página do índice
+     * @param inicio               Posição da primeira entrada na ordem pedida
+     * @param quantidade           Quantidade máxima de entradas
+     * @param maisRecentesPrimeiro true para ordem decrescente do momento do salvamento
+     * @return Jogos da página, na ordem pedida
+     */
+    synchronized List<DadosJogoSalvo> ler(int inicio, int quantidade, boolean maisRecentesPrimeiro)
+            throws IOException {
+        if (inicio < 0 || quantidade < 0) {
+            throw new IllegalArgumentException("Página inválida: início " + inicio + ", quantidade " + quantidade);
+        }
+        List<DadosJogoSalvo> jogos = new ArrayList<>();
+        if (!Files.exists(arquivoEntradas)) {
+            return jogos;
+        }
+        try (FileChannel entradas = FileChannel.open(arquivoEntradas, StandardOpenOption.READ);
+                FileChannel textos = FileChannel.open(arquivoTextos, StandardOpenOption.READ)) {
+            int total = quantidade(entradas.size());
+            int fim = (int) Math.min(total, (long) inicio + quantidade);
+            if (inicio >= fim) {
+                return jogos;
+            }
+            // As entradas da página são contíguas no arquivo nas duas ordens
+            int primeira = maisRecentesPrimeiro ? total - fim : inicio;
+            ByteBuffer pagina = ByteBuffer.allocate((fim - inicio) * TAMANHO_ENTRADA);
+            lerTudo(entradas, pagina, posicao(primeira));
+            pagina.flip();
+            while (pagina.hasRemaining()) {
+                jogos.add(lerEntrada(pagina, textos));
+            }
+        }
+        if (maisRecentesPrimeiro) {
+            Collections.reverse(jogos);
+        }
+        return jogos;
+    }
+
+    private DadosJogoSalvo lerEntrada(ByteBuffer pagina, FileChannel textos) throws IOException {
+        long momento = pagina.getLong();
+        long deslocamento = pagina.getLong();
+        int idade = pagina.getInt();
+        int bytesArquivo = pagina.getInt();
+        int bytesNome = pagina.getInt();
+        pagina.getInt();
+
+        ByteBuffer texto = ByteBuffer.allocate(bytesArquivo + bytesNome);
+        lerTudo(textos, texto, deslocamento);
+        String arquivo = new String(texto.array(), 0, bytesArquivo, StandardCharsets.UTF_8);
+        String nome = new String(texto.array(), bytesArquivo, bytesNome, StandardCharsets.UTF_8);
+        String data = FORMATO_DATA.format(Instant.ofEpochMilli(momento).atZone(ZoneId.systemDefault()));
+        return new DadosJogoSalvo(pasta.resolve(arquivo).toAbsolutePath().toString(), nome, idade, data, momento);
+    }
+
+    private void adicionar(FileChannel entradas, FileChannel textos, String arquivo, String nomePersonagem,
+            int idade, long momento) throws IOException {
+        byte[] bytesArquivo = arquivo.getBytes(StandardCharsets.UTF_8);
+        byte[] bytesNome = nomePersonagem.getBytes(StandardCharsets.UTF_8);
+        long deslocamento = textos.size();
+        ByteBuffer texto = ByteBuffer.allocate(bytesArquivo.length + bytesNome.length).put(bytesArquivo).put(bytesNome);
+        texto.flip();
+        escreverTudo(textos, texto, deslocamento);
+
+        ByteBuffer entrada = ByteBuffer.allocate(TAMANHO_ENTRADA)
+                .putLong(momento)
+                .putLong(deslocamento)
+                .putInt(idade)
+                .putInt(bytesArquivo.length)
+                .putInt(bytesNome.length)
+                .putInt(0);
+        entrada.flip();
+
+        int total = quantidade(entradas.size());
+        // Normalmente a entrada vai para o fim; se o relógio voltou, procura a posição que mantém a ordem
+        int destino = total > 0 && lerMomento(entradas, total - 1) > momento
+                ? buscarPosicao(entradas, total, momento)
+                : total;
+        if (destino < total) {
+            ByteBuffer posteriores = ByteBuffer.allocate((total - destino) * TAMANHO_ENTRADA);
+            lerTudo(entradas, posteriores, posicao(destino));
+            posteriores.flip();
+            escreverTudo(entradas, posteriores, posicao(destino + 1));
+        }
+        escreverTudo(entradas, entrada, posicao(destino));
+        entradas.truncate(posicao(total + 1));
+    }
+
+    /**
+     * Busca binária da primeira entrada com momento maior que o informado
+     */
+    private static int buscarPosicao(FileChannel entradas, int total, long momento) throws IOException {
+        int baixo = 0;
+        int alto = total;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (lerMomento(entradas, meio) <= momento) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private static long lerMomento(FileChannel entradas, int indice) throws IOException {
+        ByteBuffer momento = ByteBuffer.allocate(Long.BYTES);
+        lerTudo(entradas, momento, posicao(indice));
+        return momento.getLong(0);
+    }
+
+    private static long posicao(int indice) {
+        return TAMANHO_CABECALHO + (long) indice * TAMANHO_ENTRADA;
+    }
+
+    private FileChannel abrirEntradas() throws IOException {
+        Files.createDirectories(pasta);
+        FileChannel entradas = FileChannel.open(arquivoEntradas, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (entradas.size() < TAMANHO_CABECALHO) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).putInt(MAGICO).putInt(VERSAO);
+            cabecalho.flip();
+            escreverTudo(entradas, cabecalho, 0);
+        } else {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            lerTudo(entradas, cabecalho, 0);
+            if (cabecalho.getInt(0) != MAGICO || cabecalho.getInt(Integer.BYTES) != VERSAO) {
+                entradas.close();
+                throw new IOException("Índice de salvamentos inválido: " + arquivoEntradas);
+            }
+        }
+        return entradas;
+    }
+
+    private FileChannel abrirTextos() throws IOException {
+        return FileChannel.open(arquivoTextos, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    private static void lerTudo(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new IOException("Índice de salvamentos truncado");
+            }
+            posicao += lidos;
+        }
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer origem, long posicao) throws IOException {
+        while (origem.hasRemaining()) {
+            posicao += canal.write(origem, posicao);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo.DadosJogoSalvo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Armazenamento em pasta: um arquivo por salvamento, no formato do codec
+ * configurado, gravado pelo GravadorDuravel. Na leitura o codec é escolhido
+ * pela extensão do arquivo, de modo que salvamentos de qualquer formato,
+ * inclusive o antigo (o Personagem serializado por reflexão), continuam
+ * sendo carregados.
+ * Os metadados dos jogos salvos ficam em um IndiceSalvamentos, atualizado a
+ * cada salvamento, de modo que listar uma página de jogos não percorre a
+ * pasta. Uma pasta sem índice é indexada uma vez, pelos nomes dos arquivos.
+ * Os salvamentos automáticos ficam em uma subpasta, um arquivo por
+ * personagem, e não entram no índice.
+ */
+final class PastaSalvamentos implements ArmazenamentoSalvamentos {
+    private static final Logger LOGGER = Logger.getLogger(PastaSalvamentos.class.getName());
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("ddMMyyyy");
+
+    // Subpasta dos salvamentos automáticos, um arquivo por personagem
+    private static final String SUBPASTA_AUTOMATICOS = "automatico";
+
+    private static final CodecSalvamento[] CODECS = {new CodecJsonSalvamento(), new CodecBinarioSalvamento()};
+
+    // Compartilhado por todas as pastas, para que salvamentos simultâneos sincronizem em grupo
+    private static final GravadorDuravel GRAVADOR = GravadorDuravel.PADRAO;
+
+    private final Path pasta;
+    private final CodecSalvamento codec;
+    private final IndiceSalvamentos indice;
+
+    /**
+     * Construtor
+     * @param pasta Pasta de salvamentos
+     * @param codec Formato usado ao salvar; nulo para JSON
+     */
+    PastaSalvamentos(Path pasta, CodecSalvamento codec) {
+        this.pasta = pasta;
+        this.codec = codec != null ? codec : CODECS[0];
+        this.indice = IndiceSalvamentos.obter(pasta);
+    }
+
+    @Override
+    public String gravar(EstadoSalvo estado, boolean automatico) throws IOException {
+        if (automatico) {
+            Path arquivo = Path.of(getReferenciaAutomatica(estado.getIdPersonagem()));
+            GRAVADOR.gravar(codec.codificar(estado), arquivo, codec.isBinario());
+            return arquivo.toString();
+        }
+        indexarSeNecessario();
+        String nomeArquivo = reservarNomeArquivo(estado);
+        Path arquivo = pasta.resolve(nomeArquivo);
+        try {
+            GRAVADOR.gravar(codec.codificar(estado), arquivo, codec.isBinario());
+        } catch (IOException | RuntimeException e) {
+            // Libera o nome reservado, que ficou com o arquivo vazio
+            Files.deleteIfExists(arquivo);
+            throw e;
+        }
+        indice.adicionar(nomeArquivo, estado.getNome(), estado.getIdade(), System.currentTimeMillis());
+        return arquivo.toString();
+    }
+
+    @Override
+    public EstadoSalvo ler(String referencia) throws IOException {
+        Path arquivo = Path.of(referencia);
+        if (!Files.exists(arquivo)) {
+            return null;
+        }
+        CodecSalvamento codecArquivo = codecDoArquivo(arquivo.getFileName().toString());
+        if (codecArquivo == null) {
+            throw new IllegalArgumentException("Formato de arquivo desconhecido: " + referencia);
+        }
+        return codecArquivo.decodificar(GravadorDuravel.ler(arquivo));
+    }
+
+    @Override
+    public String getReferenciaAutomatica(String idPersonagem) {
+        return pasta.resolve(SUBPASTA_AUTOMATICOS).resolve(idPersonagem + codec.getExtensao()).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Jogos cujo arquivo foi apagado da pasta não aparecem e saem do índice,
+     * de modo que a faixa pode vir com menos itens só na primeira vez.
+     */
+    @Override
+    public List<DadosJogoSalvo> listar(int inicio, int quantidade, boolean maisRecentesPrimeiro) throws IOException {
+        indexarSeNecessario();
+        List<DadosJogoSalvo> jogos = indice.ler(inicio, quantidade, maisRecentesPrimeiro);
+        Set<String> apagados = new HashSet<>();
+        jogos.removeIf(jogo -> {
+            Path arquivo = Path.of(jogo.getCaminhoArquivo());
+            return !Files.exists(arquivo) && apagados.add(arquivo.getFileName().toString());
+        });
+        if (!apagados.isEmpty()) {
+            int removidos = indice.remover(apagados);
+            LOGGER.info(removidos + " jogos apagados da pasta removidos do índice");
+        }
+        return jogos;
+    }
+
+    @Override
+    public int getQuantidade() throws IOException {
+        indexarSeNecessario();
+        return indice.getQuantidade();
+    }
+
+    /**
+     * Recria o índice a partir dos arquivos da pasta. Só é necessário se
+     * arquivos forem copiados para a pasta por fora do jogo.
+     */
+    @Override
+    public void reindexar() throws IOException {
+        File[] arquivos = pasta.toFile().listFiles((dir, name) -> codecDoArquivo(name) != null);
+        List<DadosJogoSalvo> jogos = new ArrayList<>();
+        if (arquivos != null) {
+            jogos = Arrays.stream(arquivos)
+                    .map(this::extrairDadosDoArquivo)
+                    .filter(dados -> dados != null)
+                    .collect(Collectors.toList());
+        }
+        indice.reconstruir(jogos);
+        LOGGER.info("Índice de salvamentos recriado com " + jogos.size() + " jogos");
+    }
+
+    /**
+     * Indexa os jogos salvos antes da existência do índice
+     */
+    private void indexarSeNecessario() throws IOException {
+        if (!indice.existe()) {
+            reindexar();
+        }
+    }
+
+    /**
+     * Gera o nome do arquivo baseado no personagem e data atual e o reserva
+     * criando o arquivo vazio. Cada salvamento ganha um arquivo novo, para
+     * que o índice nunca aponte para um arquivo sobrescrito; a criação
+     * exclusiva garante isso também entre salvamentos simultâneos, que
+     * passam para o próximo sufixo.
+     * @param estado Estado a ser salvo
+     * @return Nome do arquivo no formato nomePersonagem_idadePersonagem_dataSalvamento com a extensão do codec
+     */
+    private String reservarNomeArquivo(EstadoSalvo estado) throws IOException {
+        String dataFormatada = LocalDateTime.now().format(FORMATO_DATA);
+        String base = String.format("%s_%d_%s",
+                estado.getNome(),
+                estado.getIdade(),
+                dataFormatada);
+        Files.createDirectories(pasta);
+        String nomeArquivo = base + codec.getExtensao();
+        for (int copia = 2; ; copia++) {
+            try {
+                Files.newByteChannel(pasta.resolve(nomeArquivo), StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE).close();
+                return nomeArquivo;
+            } catch (FileAlreadyExistsException e) {
+                nomeArquivo = base + "-" + copia + codec.getExtensao();
+            }
+        }
+    }
+
+    /**
+     * Extrai os dados de um arquivo de jogo salvo pelo nome do arquivo, no
+     * formato usado antes do índice
+     * @param arquivo Arquivo de jogo salvo
+     * @return Objeto contendo os dados do jogo salvo
+     */
+    private DadosJogoSalvo extrairDadosDoArquivo(File arquivo) {
+        try {
+            String nomeArquivo = arquivo.getName();
+
+            // Remove a extensão
+            String nomeSemExtensao = nomeArquivo.substring(0, nomeArquivo.lastIndexOf('.'));
+
+            // Parse das partes do nome
+            String[] partes = nomeSemExtensao.split("_");
+            if (partes.length >= 3) {
+                String nomePersonagem = partes[0];
+                int idade = Integer.parseInt(partes[1]);
+                String dataSalvamento = partes[2];
+
+                return new DadosJogoSalvo(
+                        arquivo.getAbsolutePath(),
+                        nomePersonagem,
+                        idade,
+                        dataSalvamento,
+                        arquivo.lastModified()
+                );
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Erro ao processar arquivo: " + arquivo.getName(), e);
+        }
+
+        return null;
+    }
+
+    /**
+     * Obtém o codec de um arquivo pela extensão
+     * @param nomeArquivo Nome do arquivo
+     * @return Codec do formato ou null se a extensão não for conhecida
+     */
+    private static CodecSalvamento codecDoArquivo(String nomeArquivo) {
+        String nome = nomeArquivo.toLowerCase();
+        for (CodecSalvamento candidato : CODECS) {
+            if (nome.endsWith(candidato.getExtensao())) {
+                return candidato;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.braym.projetobitlifeclonev1.infrastructure.persistence;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Salvamento automático com gravação adiada. Depois de cada ação que altera
+ * o personagem, o jogo chama agendar: o estado é capturado em memória na
+ * thread do jogo e a gravação fica para uma thread própria. Capturas feitas
+ * enquanto uma gravação aguarda substituem a anterior, de modo que uma
+ * sequência rápida de ações produz uma única gravação, com o estado mais
+ * recente. Nenhuma alteração fica sem gravação por mais que o atraso máximo
+ * (mais o tempo da própria gravação), e o que estiver pendente é gravado ao
+ * fechar o serviço ou ao encerrar a JVM. Uma gravação que falha é tentada de
+ * novo, com intervalos que dobram a cada falha seguida, até o limite de
+ * INTERVALO_MAXIMO_TENTATIVA_MS.
+ *
+ * Cada personagem tem um único salvamento automático, substituído a cada
+ * gravação (na pasta, de forma atômica; no arquivo único, no registro do
+ * personagem).
+ */
+public class SalvamentoAutomatico implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(SalvamentoAutomatico.class.getName());
+
+    /** Atraso máximo padrão entre uma alteração e a sua gravação, em milissegundos */
+    public static final long ATRASO_PADRAO_MS = 2000;
+
+    /** Menor intervalo até a nova tentativa de uma gravação que falhou, em milissegundos */
+    static final long INTERVALO_MINIMO_TENTATIVA_MS = 100;
+
+    /** Maior intervalo entre tentativas de uma gravação que continua falhando, em milissegundos */
+    static final long INTERVALO_MAXIMO_TENTATIVA_MS = 60_000;
+
+    private final GerenciadorSalvamentoJogo gerenciadorSalvamento;
+    private final long atrasoMaximoMs;
+    private final ScheduledExecutorService executor;
+    private final Thread ganchoEncerramento;
+
+    // Última captura ainda não gravada
+    private final AtomicReference<EstadoSalvo> pendente = new AtomicReference<>();
+    // Indica se já existe uma gravação agendada para a captura pendente
+    private final AtomicBoolean agendado = new AtomicBoolean();
+    private final AtomicInteger gravacoes = new AtomicInteger();
+    // Falhas desde a última gravação bem-sucedida; protegido pelo monitor de gravarPendente
+    private int falhasSeguidas;
+    private volatile boolean fechado;
+
+    /**
+     * Construtor que usa o atraso máximo padrão
+     * @param gerenciadorSalvamento Gerenciador da pasta e do formato dos salvamentos
+     */
+    public SalvamentoAutomatico(GerenciadorSalvamentoJogo gerenciadorSalvamento) {
+        this(gerenciadorSalvamento, ATRASO_PADRAO_MS);
+    }
+
+    /**
+     * Construtor completo
+     * @param gerenciadorSalvamento Gerenciador da pasta e do formato dos salvamentos
+     * @param atrasoMaximoMs        Tempo máximo, em milissegundos, que uma alteração espera pela gravação
+     */
+    public SalvamentoAutomatico(GerenciadorSalvamentoJogo gerenciadorSalvamento, long atrasoMaximoMs) {
+        if (atrasoMaximoMs < 0) {
+            throw new IllegalArgumentException("Atraso máximo não pode ser negativo");
+        }
+        this.gerenciadorSalvamento = Objects.requireNonNull(gerenciadorSalvamento,
+                "Gerenciador de salvamento não pode ser nulo");
+        this.atrasoMaximoMs = atrasoMaximoMs;
+
+        ScheduledThreadPoolExecutor agendador = new ScheduledThreadPoolExecutor(1, tarefa -> {
+            Thread thread = new Thread(tarefa, "salvamento-automatico");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = agendador;
+
+        // Grava o que estiver pendente se a JVM for encerrada sem fechar o serviço
+        this.ganchoEncerramento = new Thread(this::gravarPendente, "salvamento-automatico-encerramento");
+        Runtime.getRuntime().addShutdownHook(ganchoEncerramento);
+    }
+
+    /**
+     * Captura o estado do personagem e agenda a sua gravação. Não faz I/O.
+     * @param personagem         Personagem alterado
+     * @param gerenciadorEventos Gerenciador com os eventos já usados (pode ser nulo)
+     */
+    public void agendar(Personagem personagem, GerenciadorEventos gerenciadorEventos) {
+        if (fechado) {
+            throw new IllegalStateException("Salvamento automático já foi fechado");
+        }
+        pendente.set(gerenciadorSalvamento.capturar(personagem, gerenciadorEventos));
+        if (agendado.compareAndSet(false, true)) {
+            executor.schedule(this::gravarPendente, atrasoMaximoMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Grava imediatamente a captura pendente, se houver, e aguarda a gravação
+     * @return true se não ficou nada pendente
+     */
+    public boolean descarregar() {
+        if (fechado) {
+            return pendente.get() == null;
+        }
+        Future<?> gravacao = executor.submit(this::gravarPendente);
+        try {
+            gravacao.get();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Erro no salvamento automático: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return pendente.get() == null;
+    }
+
+    /**
+     * Obtém a quantidade de gravações feitas desde a criação do serviço
+     */
+    public int getGravacoes() {
+        return gravacoes.get();
+    }
+
+    /**
+     * Grava o que estiver pendente e encerra a thread de gravação
+     */
+    @Override
+    public void close() {
+        if (fechado) {
+            return;
+        }
+        descarregar();
+        fechado = true;
+        executor.shutdown();
+        try {
+            Runtime.getRuntime().removeShutdownHook(ganchoEncerramento);
+        } catch (IllegalStateException e) {
+            // A JVM já está encerrando; o gancho faz a última gravação
+        }
+    }
+
+    /**
+     * Grava a captura mais recente. Executado na thread de gravação (ou no
+     * gancho de encerramento), nunca na thread do jogo.
+     */
+    private synchronized void gravarPendente() {
+        // Libera o agendamento antes de retirar a captura: uma captura feita
+        // depois deste ponto agenda uma nova gravação
+        agendado.set(false);
+        EstadoSalvo estado = pendente.getAndSet(null);
+        if (estado == null) {
+            return;
+        }
+        try {
+            gerenciadorSalvamento.gravarAutomatico(estado);
+            gravacoes.incrementAndGet();
+            falhasSeguidas = 0;
+            LOGGER.fine("Salvamento automático de " + estado.getNome() + " gravado");
+        } catch (IOException e) {
+            // Devolve a captura se nenhuma mais nova chegou, para a próxima tentativa
+            pendente.compareAndSet(null, estado);
+            LOGGER.log(Level.SEVERE, "Erro no salvamento automático: " + e.getMessage(), e);
+            agendarNovaTentativa();
+        }
+    }
+
+    /**
+     * Agenda a nova tentativa da captura devolvida, a menos que uma captura
+     * mais nova já tenha agendado a sua gravação
+     */
+    private void agendarNovaTentativa() {
+        long base = Math.min(Math.max(atrasoMaximoMs, INTERVALO_MINIMO_TENTATIVA_MS), INTERVALO_MAXIMO_TENTATIVA_MS);
+        long intervalo = Math.min(base << Math.min(falhasSeguidas, 20), INTERVALO_MAXIMO_TENTATIVA_MS);
+        falhasSeguidas++;
+        if (fechado || executor.isShutdown() || !agendado.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.schedule(this::gravarPendente, intervalo, TimeUnit.MILLISECONDS);
+            LOGGER.info("Nova tentativa do salvamento automático em " + intervalo + " ms");
+        } catch (RejectedExecutionException e) {
+            // O serviço foi fechado durante a gravação
+            agendado.set(false);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package br.com.braym.projetobitlifeclonev1.interfaces;
 
+import br.com.braym.projetobitlifeclonev1.domain.AlteracaoPersonagem;
+
 /**
  * Interface do padrão Observer para receber notificações de alterações. Permite
  * que objetos interessados sejam notificados quando houver mudanças no objeto
  * observado.
+ * 
+ * Adapta as alterações tipadas para mensagens de texto, montadas apenas no
+ * momento da notificação.
  */
-public interface Observador {
+public interface Observador extends ObservadorAlteracoes {
 
 	/**
 	 * Método chamado quando o objeto observado sofre uma alteração
@@ -24,4 +29,14 @@ public interface Observador {
 	default void atualizar(String mensagem, Object fonte) {
 		atualizar(mensagem);
 	}
+
+	/**
+	 * Converte a alteração tipada na mensagem textual e a repassa
+	 * 
+	 * @param alteracao Registro da alteração
+	 */
+	@Override
+	default void notificar(AlteracaoPersonagem alteracao) {
+		atualizar(alteracao.formatarMensagem());
+	}
 }
\ No newline at end of file
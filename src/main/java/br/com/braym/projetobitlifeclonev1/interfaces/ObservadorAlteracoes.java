@@ -0,0 +1,19 @@
+package br.com.braym.projetobitlifeclonev1.interfaces;
+
+import br.com.braym.projetobitlifeclonev1.domain.AlteracaoPersonagem;
+
+/**
+ * Observador que recebe as alterações do personagem como registros tipados.
+ * As alterações só são criadas quando existe ao menos um observador, e a
+ * mensagem textual só é montada se o observador a solicitar.
+ */
+@FunctionalInterface
+public interface ObservadorAlteracoes {
+
+	/**
+	 * Método chamado quando o personagem sofre uma alteração
+	 * 
+	 * @param alteracao Registro com o tipo, o valor anterior e o novo valor
+	 */
+	void notificar(AlteracaoPersonagem alteracao);
+}
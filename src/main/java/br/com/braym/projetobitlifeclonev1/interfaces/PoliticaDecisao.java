@@ -0,0 +1,42 @@
+package br.com.braym.projetobitlifeclonev1.interfaces;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
+
+import java.util.List;
+
+/**
+ * Interface do padrão Strategy que decide qual opção de um evento será
+ * escolhida. Permite executar eventos sem entrada do usuário (simulações em
+ * lote, testes e benchmarks).
+ */
+@FunctionalInterface
+public interface PoliticaDecisao {
+
+	/**
+	 * Escolhe uma das opções apresentadas pelo evento
+	 *
+	 * @param personagem Personagem que está vivendo o evento
+	 * @param opcoes     Opções disponíveis (nunca vazia)
+	 * @return Índice da opção escolhida (0-based)
+	 */
+	int escolherOpcao(Personagem personagem, List<String> opcoes);
+
+	/**
+	 * Política que escolhe uma opção aleatória
+	 *
+	 * @return Política de escolha aleatória
+	 */
+	static PoliticaDecisao aleatoria() {
+		return (personagem, opcoes) -> UtilitarioAleatorio.gerarNumero(0, opcoes.size() - 1);
+	}
+
+	/**
+	 * Política que sempre escolhe a primeira opção
+	 *
+	 * @return Política de escolha fixa
+	 */
+	static PoliticaDecisao primeiraOpcao() {
+		return (personagem, opcoes) -> 0;
+	}
+}
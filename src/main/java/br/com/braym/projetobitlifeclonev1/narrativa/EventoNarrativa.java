@@ -0,0 +1,51 @@
+package br.com.braym.projetobitlifeclonev1.narrativa;
+
+import java.util.List;
+
+/**
+ * Evento narrativo como lido de eventosNarrativa.json: cada opção traz um
+ * retorno narrativo, efeitos próprios e, opcionalmente, o evento seguinte.
+ * Antes de ser jogado, o conjunto de eventos de uma fase é compilado em um
+ * GrafoNarrativo.
+ */
+public class EventoNarrativa {
+    private String id;
+    private String periodo;
+    private String descricao;        // Texto de abertura (opcional)
+    private List<Escolha> opcoes;
+
+    /**
+     * Construtor padrão necessário para deserialização JSON
+     */
+    public EventoNarrativa() {
+    }
+
+    public EventoNarrativa(String id, String periodo, String descricao, List<Escolha> opcoes) {
+        this.id = id;
+        this.periodo = periodo;
+        this.descricao = descricao;
+        this.opcoes = opcoes;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPeriodo() {
+        return periodo;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public List<Escolha> getOpcoes() {
+        return opcoes;
+    }
+
+    @Override
+    public String toString() {
+        return "EventoNarrativa{" + "id='" + id + '\'' + ", periodo='" + periodo + '\'' + ", opcoes="
+                + (opcoes != null ? opcoes.size() : 0) + " opções" + '}';
+    }
+}
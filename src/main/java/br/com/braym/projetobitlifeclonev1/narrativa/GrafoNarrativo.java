@@ -0,0 +1,273 @@
+package br.com.braym.projetobitlifeclonev1.narrativa;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.PlanoEfeitos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grafo imutável de escolhas narrativas de uma fase, compilado a partir dos
+ * eventos de eventosNarrativa.json.
+ *
+ * Eventos e opções são identificados por índices inteiros. As opções de todos
+ * os eventos ficam em vetores paralelos; as do evento i ocupam as posições
+ * [primeiraOpcao[i], primeiraOpcao[i + 1]). O evento seguinte de cada opção
+ * já está resolvido para um índice, então seguir uma cadeia são só leituras
+ * de vetor. Ids repetidos, ids seguintes inexistentes, ciclos e atributos
+ * desconhecidos são recusados na compilação.
+ *
+ * Pode ser compartilhado entre personagens e threads.
+ */
+public final class GrafoNarrativo {
+    /** Índice usado como evento seguinte quando a cadeia termina */
+    public static final int FIM = -1;
+
+    private static final GrafoNarrativo VAZIO = compilar(List.of());
+
+    // Por evento
+    private final String[] ids;
+    private final String[] descricoes;
+    private final List<List<String>> textosPorEvento;
+    private final int[] primeiraOpcao;
+
+    // Por opção
+    private final String[] retornos;
+    private final PlanoEfeitos[] planos;
+    private final int[] proximos;
+
+    // Eventos que não são seguintes de nenhuma opção, onde as cadeias começam
+    private final int[] inicios;
+
+    private GrafoNarrativo(String[] ids, String[] descricoes, List<List<String>> textosPorEvento, int[] primeiraOpcao,
+            String[] retornos, PlanoEfeitos[] planos, int[] proximos, int[] inicios) {
+        this.ids = ids;
+        this.descricoes = descricoes;
+        this.textosPorEvento = textosPorEvento;
+        this.primeiraOpcao = primeiraOpcao;
+        this.retornos = retornos;
+        this.planos = planos;
+        this.proximos = proximos;
+        this.inicios = inicios;
+    }
+
+    /**
+     * Obtém um grafo sem eventos
+     * @return Grafo vazio compartilhado
+     */
+    public static GrafoNarrativo vazio() {
+        return VAZIO;
+    }
+
+    /**
+     * Compila os eventos narrativos de uma fase
+     * @param eventos Eventos na ordem do arquivo
+     * @return Grafo compilado
+     * @throws IllegalArgumentException se houver ids repetidos ou inexistentes,
+     *         eventos sem opções, ciclos ou atributos desconhecidos
+     */
+    public static GrafoNarrativo compilar(List<EventoNarrativa> eventos) {
+        int quantidade = eventos.size();
+        Map<String, Integer> indicePorId = new HashMap<>();
+        int totalOpcoes = 0;
+        for (int i = 0; i < quantidade; i++) {
+            EventoNarrativa evento = eventos.get(i);
+            String id = evento.getId();
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("Evento narrativo sem id na posição " + i);
+            }
+            if (indicePorId.put(id, i) != null) {
+                throw new IllegalArgumentException("Id de evento narrativo repetido: " + id);
+            }
+            if (evento.getOpcoes() == null || evento.getOpcoes().isEmpty()) {
+                throw new IllegalArgumentException("Evento narrativo " + id + " não possui opções");
+            }
+            totalOpcoes += evento.getOpcoes().size();
+        }
+
+        String[] ids = new String[quantidade];
+        String[] descricoes = new String[quantidade];
+        List<List<String>> textosPorEvento = new ArrayList<>(quantidade);
+        int[] primeiraOpcao = new int[quantidade + 1];
+        String[] retornos = new String[totalOpcoes];
+        PlanoEfeitos[] planos = new PlanoEfeitos[totalOpcoes];
+        int[] proximos = new int[totalOpcoes];
+        boolean[] possuiAnterior = new boolean[quantidade];
+
+        int opcao = 0;
+        for (int i = 0; i < quantidade; i++) {
+            EventoNarrativa evento = eventos.get(i);
+            ids[i] = evento.getId();
+            descricoes[i] = evento.getDescricao();
+            primeiraOpcao[i] = opcao;
+
+            List<String> textos = new ArrayList<>(evento.getOpcoes().size());
+            for (Escolha escolha : evento.getOpcoes()) {
+                String contexto = "Evento narrativo " + ids[i] + ", opção " + (textos.size() + 1);
+                if (escolha == null || escolha.getTexto() == null) {
+                    throw new IllegalArgumentException(contexto + ": opção sem texto");
+                }
+                textos.add(escolha.getTexto());
+                retornos[opcao] = escolha.getRetornoNarrativo();
+                try {
+                    planos[opcao] = PlanoEfeitos.compilar(null, null, escolha.getEfeitos());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(contexto + ": " + e.getMessage(), e);
+                }
+
+                String idProximo = escolha.getIdProximoEvento();
+                if (idProximo == null || idProximo.isBlank()) {
+                    proximos[opcao] = FIM;
+                } else {
+                    Integer proximo = indicePorId.get(idProximo);
+                    if (proximo == null) {
+                        throw new IllegalArgumentException(contexto + ": próximo evento inexistente: " + idProximo);
+                    }
+                    proximos[opcao] = proximo;
+                    possuiAnterior[proximo] = true;
+                }
+                opcao++;
+            }
+            textosPorEvento.add(List.copyOf(textos));
+        }
+        primeiraOpcao[quantidade] = opcao;
+
+        verificarCiclos(ids, primeiraOpcao, proximos);
+
+        int[] inicios = new int[quantidade];
+        int totalInicios = 0;
+        for (int i = 0; i < quantidade; i++) {
+            if (!possuiAnterior[i]) {
+                inicios[totalInicios++] = i;
+            }
+        }
+
+        return new GrafoNarrativo(ids, descricoes, textosPorEvento, primeiraOpcao, retornos, planos, proximos,
+                Arrays.copyOf(inicios, totalInicios));
+    }
+
+    /**
+     * Busca em profundidade, sem recursão, procurando uma aresta que volte a
+     * um evento da cadeia em andamento
+     */
+    private static void verificarCiclos(String[] ids, int[] primeiraOpcao, int[] proximos) {
+        final byte naoVisitado = 0;
+        final byte emAndamento = 1;
+        final byte concluido = 2;
+        int quantidade = ids.length;
+        byte[] estado = new byte[quantidade];
+        int[] pilha = new int[quantidade];
+        int[] proximaOpcao = new int[quantidade];
+
+        for (int raiz = 0; raiz < quantidade; raiz++) {
+            if (estado[raiz] != naoVisitado) {
+                continue;
+            }
+            int topo = 0;
+            pilha[0] = raiz;
+            proximaOpcao[raiz] = primeiraOpcao[raiz];
+            estado[raiz] = emAndamento;
+
+            while (topo >= 0) {
+                int evento = pilha[topo];
+                if (proximaOpcao[evento] == primeiraOpcao[evento + 1]) {
+                    estado[evento] = concluido;
+                    topo--;
+                    continue;
+                }
+                int seguinte = proximos[proximaOpcao[evento]++];
+                if (seguinte == FIM || estado[seguinte] == concluido) {
+                    continue;
+                }
+                if (estado[seguinte] == emAndamento) {
+                    throw new IllegalArgumentException("Ciclo entre eventos narrativos: " + ids[evento]
+                            + " -> " + ids[seguinte]);
+                }
+                estado[seguinte] = emAndamento;
+                proximaOpcao[seguinte] = primeiraOpcao[seguinte];
+                pilha[++topo] = seguinte;
+            }
+        }
+    }
+
+    public int getQuantidadeEventos() {
+        return ids.length;
+    }
+
+    public int getQuantidadeInicios() {
+        return inicios.length;
+    }
+
+    /**
+     * Obtém um evento onde uma cadeia narrativa começa
+     * @param posicao Posição entre os inícios (0 a getQuantidadeInicios() - 1)
+     * @return Índice do evento
+     */
+    public int getInicio(int posicao) {
+        return inicios[posicao];
+    }
+
+    /**
+     * Procura o índice de um evento pelo id. Usado apenas fora do jogo
+     * (ferramentas e testes); as cadeias seguem os índices já resolvidos.
+     * @param id Id do evento
+     * @return Índice do evento ou FIM se não existir
+     */
+    public int indiceDe(String id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) {
+                return i;
+            }
+        }
+        return FIM;
+    }
+
+    public String getId(int evento) {
+        return ids[evento];
+    }
+
+    public String getDescricao(int evento) {
+        return descricoes[evento];
+    }
+
+    /**
+     * Obtém os textos das opções de um evento
+     * @param evento Índice do evento
+     * @return Lista imutável, criada na compilação
+     */
+    public List<String> getTextosOpcoes(int evento) {
+        return textosPorEvento.get(evento);
+    }
+
+    public int getQuantidadeOpcoes(int evento) {
+        return primeiraOpcao[evento + 1] - primeiraOpcao[evento];
+    }
+
+    public String getRetornoNarrativo(int evento, int opcao) {
+        return retornos[primeiraOpcao[evento] + opcao];
+    }
+
+    /**
+     * Obtém o evento seguinte de uma opção
+     * @param evento Índice do evento
+     * @param opcao  Índice da opção dentro do evento
+     * @return Índice do evento seguinte ou FIM
+     */
+    public int getProximo(int evento, int opcao) {
+        return proximos[primeiraOpcao[evento] + opcao];
+    }
+
+    /**
+     * Aplica ao personagem os efeitos de uma opção
+     * @param personagem Personagem afetado
+     * @param evento     Índice do evento
+     * @param opcao      Índice da opção dentro do evento
+     * @return false se a opção não tiver efeitos
+     */
+    public boolean aplicarEfeitos(Personagem personagem, int evento, int opcao) {
+        return planos[primeiraOpcao[evento] + opcao].aplicar(personagem, 0);
+    }
+}
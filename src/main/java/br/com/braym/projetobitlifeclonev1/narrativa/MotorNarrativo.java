@@ -0,0 +1,88 @@
+package br.com.braym.projetobitlifeclonev1.narrativa;
+
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
+import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executa cadeias de eventos narrativos sobre um GrafoNarrativo: apresenta
+ * as opções, aplica os efeitos da escolhida (com o mesmo PlanoEfeitos dos
+ * eventos comuns) e segue para o evento seguinte até o fim da cadeia.
+ */
+public class MotorNarrativo {
+    private static final Logger LOGGER = Logger.getLogger(MotorNarrativo.class.getName());
+
+    private final ProvedorEntrada provedorEntrada;
+    private final PoliticaDecisao politicaDecisao;
+
+    /**
+     * Cria um motor interativo, que lê as escolhas do console
+     * @param provedorEntrada Serviço para ler entrada do usuário
+     */
+    public MotorNarrativo(ProvedorEntrada provedorEntrada) {
+        if (provedorEntrada == null) {
+            throw new IllegalArgumentException("Provedor de entrada não pode ser nulo");
+        }
+        this.provedorEntrada = provedorEntrada;
+        this.politicaDecisao = null;
+    }
+
+    /**
+     * Cria um motor sem console. A política escolhe as opções e nada é exibido.
+     * @param politicaDecisao Política que escolhe as opções
+     */
+    public MotorNarrativo(PoliticaDecisao politicaDecisao) {
+        if (politicaDecisao == null) {
+            throw new IllegalArgumentException("Política de decisão não pode ser nula");
+        }
+        this.provedorEntrada = null;
+        this.politicaDecisao = politicaDecisao;
+    }
+
+    /**
+     * Executa a cadeia que começa em um evento até o seu fim. Como o grafo não
+     * tem ciclos, a cadeia sempre termina.
+     * @param personagem Personagem que vive a cadeia
+     * @param grafo      Grafo da fase
+     * @param evento     Índice do primeiro evento
+     * @return Quantidade de eventos executados
+     */
+    public int executar(Personagem personagem, GrafoNarrativo grafo, int evento) {
+        int passos = 0;
+        while (evento != GrafoNarrativo.FIM) {
+            int escolha = escolher(personagem, grafo, evento);
+            grafo.aplicarEfeitos(personagem, evento, escolha);
+
+            if (politicaDecisao == null && grafo.getRetornoNarrativo(evento, escolha) != null) {
+                System.out.println(grafo.getRetornoNarrativo(evento, escolha));
+            }
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Evento narrativo " + grafo.getId(evento) + ": opção " + (escolha + 1));
+            }
+
+            evento = grafo.getProximo(evento, escolha);
+            passos++;
+        }
+        return passos;
+    }
+
+    private int escolher(Personagem personagem, GrafoNarrativo grafo, int evento) {
+        List<String> opcoes = grafo.getTextosOpcoes(evento);
+        if (politicaDecisao != null) {
+            int escolha = politicaDecisao.escolherOpcao(personagem, opcoes);
+            return Math.max(0, Math.min(opcoes.size() - 1, escolha));
+        }
+
+        if (grafo.getDescricao(evento) != null) {
+            System.out.println("Evento: " + grafo.getDescricao(evento));
+        }
+        for (int i = 0; i < opcoes.size(); i++) {
+            System.out.println((i + 1) + ": " + opcoes.get(i));
+        }
+        return provedorEntrada.lerInteiroComIntervalo("Escolha uma opção: ", 1, opcoes.size()) - 1;
+    }
+}
@@ -4,8 +4,12 @@ import br.com.braym.projetobitlifeclonev1.domain.Personagem;
 import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
 import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
 import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo.DadosJogoSalvo;
 import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
 
+import java.util.List;
+
 /**
  * Interface de usuário baseada em console para interação com o jogo.
  * Responsável por exibir informações e coletar entradas do usuário.
@@ -13,6 +17,7 @@ import br.com.braym.projetobitlifeclonev1.service.ProvedorEntrada;
 public class InterfaceConsole {
 	private static final String SEPARADOR = "=".repeat(30);
 	private static final String TITULO_JOGO = "BitLife Clone";
+	private static final int JOGOS_POR_PAGINA = 10;
 
 	private final ProvedorEntrada provedorEntrada;
 
@@ -51,6 +56,45 @@ public class InterfaceConsole {
 		return provedorEntrada.lerInteiroComIntervalo("Escolha uma opção: ", 1, 7);
 	}
 
+	/**
+	 * Exibe os jogos salvos, uma página por vez, do mais recente para o mais
+	 * antigo, e lê a escolha do usuário
+	 * 
+	 * @param gerenciadorSalvamento Gerenciador com o índice dos jogos salvos
+	 * @return Jogo escolhido ou null se não houver jogos salvos
+	 */
+	public DadosJogoSalvo escolherJogoSalvo(GerenciadorSalvamentoJogo gerenciadorSalvamento) {
+		int total = gerenciadorSalvamento.getQuantidadeJogosSalvos();
+		int paginas = (total + JOGOS_POR_PAGINA - 1) / JOGOS_POR_PAGINA;
+		int pagina = 0;
+
+		while (paginas > 0) {
+			List<DadosJogoSalvo> jogosSalvos = gerenciadorSalvamento.listarJogosSalvos(pagina, JOGOS_POR_PAGINA);
+			if (jogosSalvos.isEmpty() && paginas == 1) {
+				break;
+			}
+
+			System.out.println("\nDigite qual jogo você quer carregar (página " + (pagina + 1) + " de " + paginas + "):");
+			for (int i = 0; i < jogosSalvos.size(); i++) {
+				DadosJogoSalvo jogo = jogosSalvos.get(i);
+				System.out.printf("%d - %s_%d_%s\n", i + 1, jogo.getNomePersonagem(), jogo.getIdade(),
+						jogo.getDataSalvamento());
+			}
+			if (paginas > 1) {
+				System.out.println("0 - Próxima página");
+			}
+
+			int escolha = provedorEntrada.lerInteiroComIntervalo("Escolha: ", paginas > 1 ? 0 : 1, jogosSalvos.size());
+			if (escolha > 0) {
+				return jogosSalvos.get(escolha - 1);
+			}
+			pagina = (pagina + 1) % paginas;
+		}
+
+		System.out.println("Não há jogos salvos disponíveis.");
+		return null;
+	}
+
 	/**
 	 * Exibe o status atual do personagem
 	 * 
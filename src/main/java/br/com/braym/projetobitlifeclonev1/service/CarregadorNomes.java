@@ -1,26 +1,29 @@
 package br.com.braym.projetobitlifeclonev1.service;
 
+import br.com.braym.projetobitlifeclonev1.domain.DicionarioNomes;
+import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
  * Responsável por carregar e disponibilizar nomes para personagens do jogo.
+ * Cada nome carregado é registrado no DicionarioNomes, e as listas guardam
+ * só os códigos, que é o que as pessoas geradas guardam.
  */
 public class CarregadorNomes {
     private static final Logger LOGGER = Logger.getLogger(CarregadorNomes.class.getName());
     
-    private final List<String> nomesMasculinos = new ArrayList<>();
-    private final List<String> nomesFemininos = new ArrayList<>();
-    private final List<String> sobrenomes = new ArrayList<>();
-    private final Random random = new Random();
+    // Códigos no DicionarioNomes
+    private final int[] nomesMasculinos;
+    private final int[] nomesFemininos;
+    private final int[] sobrenomes;
     
     private static final String CAMINHO_NOMES_MASCULINOS = "/Nomes/NomesMasculinos.json";
     private static final String CAMINHO_NOMES_FEMININOS = "/Nomes/NomesFemininos.json";
@@ -30,87 +33,113 @@ public class CarregadorNomes {
      * Construtor que carrega todos os nomes disponíveis.
      */
     public CarregadorNomes() {
-        carregarNomesMasculinos();
-        carregarNomesFemininos();
-        carregarSobrenomes();
+        this(carregarLista(CAMINHO_NOMES_MASCULINOS, "nomes masculinos",
+                        Arrays.asList("João", "Pedro", "Carlos", "Miguel", "Lucas")),
+                carregarLista(CAMINHO_NOMES_FEMININOS, "nomes femininos",
+                        Arrays.asList("Maria", "Ana", "Juliana", "Sofia", "Isabela")),
+                carregarLista(CAMINHO_SOBRENOMES, "sobrenomes",
+                        Arrays.asList("Silva", "Santos", "Oliveira", "Souza", "Lima")));
     }
     
     /**
-     * Carrega os nomes masculinos do arquivo de recursos.
+     * Construtor que usa listas de nomes já carregadas (por exemplo, do
+     * catálogo binário), sem ler os arquivos JSON.
+     * 
+     * @param nomesMasculinos Nomes masculinos
+     * @param nomesFemininos Nomes femininos
+     * @param sobrenomes Sobrenomes
      */
-    private void carregarNomesMasculinos() {
-        try {
-            nomesMasculinos.addAll(carregarLista(CAMINHO_NOMES_MASCULINOS));
-            LOGGER.info("Carregados " + nomesMasculinos.size() + " nomes masculinos");
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Erro ao carregar nomes masculinos", e);
-            // Adiciona alguns nomes padrão caso falhe
-            nomesMasculinos.addAll(Arrays.asList("João", "Pedro", "Carlos", "Miguel", "Lucas"));
-        }
+    public CarregadorNomes(List<String> nomesMasculinos, List<String> nomesFemininos, List<String> sobrenomes) {
+        this.nomesMasculinos = codificar(nomesMasculinos);
+        this.nomesFemininos = codificar(nomesFemininos);
+        this.sobrenomes = codificar(sobrenomes);
     }
     
     /**
-     * Carrega os nomes femininos do arquivo de recursos.
+     * Registra os nomes de uma lista no dicionário
+     * @return Códigos dos nomes, na ordem da lista
      */
-    private void carregarNomesFemininos() {
-        try {
-            nomesFemininos.addAll(carregarLista(CAMINHO_NOMES_FEMININOS));
-            LOGGER.info("Carregados " + nomesFemininos.size() + " nomes femininos");
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Erro ao carregar nomes femininos", e);
-            // Adiciona alguns nomes padrão caso falhe
-            nomesFemininos.addAll(Arrays.asList("Maria", "Ana", "Juliana", "Sofia", "Isabela"));
+    private static int[] codificar(List<String> nomes) {
+        int[] codigos = new int[nomes.size()];
+        for (int i = 0; i < codigos.length; i++) {
+            codigos[i] = DicionarioNomes.codificar(nomes.get(i));
         }
+        return codigos;
     }
     
     /**
-     * Carrega os sobrenomes do arquivo de recursos.
-     */
-    private void carregarSobrenomes() {
-        try {
-            sobrenomes.addAll(carregarLista(CAMINHO_SOBRENOMES));
-            LOGGER.info("Carregados " + sobrenomes.size() + " sobrenomes");
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Erro ao carregar sobrenomes", e);
-            // Adiciona alguns sobrenomes padrão caso falhe
-            sobrenomes.addAll(Arrays.asList("Silva", "Santos", "Oliveira", "Souza", "Lima"));
-        }
-    }
-    
-    /**
-     * Carrega uma lista de strings a partir de um arquivo.
+     * Carrega uma lista de nomes do arquivo de recursos.
      * 
      * @param caminhoArquivo Caminho do arquivo de recursos
+     * @param descricao Descrição da lista, para o log
+     * @param padrao Nomes usados caso a leitura falhe
      * @return Lista de itens separados por vírgula no arquivo
-     * @throws IOException Em caso de erro de leitura
      */
-    private List<String> carregarLista(String caminhoArquivo) throws IOException {
-        try (InputStream is = getClass().getResourceAsStream(caminhoArquivo)) {
+    private static List<String> carregarLista(String caminhoArquivo, String descricao, List<String> padrao) {
+        try (InputStream is = CarregadorNomes.class.getResourceAsStream(caminhoArquivo)) {
             if (is == null) {
                 LOGGER.warning("Arquivo não encontrado: " + caminhoArquivo);
                 throw new IOException("Arquivo não encontrado: " + caminhoArquivo);
             }
             
             byte[] bytes = is.readAllBytes();
-            String conteudo = new String(bytes, StandardCharsets.UTF_8);
-            
-            return Arrays.stream(conteudo.split(","))
-                   .map(String::trim)
-                   .filter(s -> !s.isEmpty())
-                   .collect(Collectors.toList());
+            List<String> nomes = separarNomes(new String(bytes, StandardCharsets.UTF_8));
+            LOGGER.info("Carregados " + nomes.size() + " " + descricao);
+            return nomes;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Erro ao carregar " + descricao, e);
+            // Usa alguns nomes padrão caso falhe
+            return padrao;
         }
     }
     
+    /**
+     * Separa o conteúdo de um arquivo de nomes em uma lista.
+     * 
+     * @param conteudo Conteúdo do arquivo, com os nomes separados por vírgula
+     * @return Lista de nomes, sem espaços e sem itens vazios
+     */
+    public static List<String> separarNomes(String conteudo) {
+        return Arrays.stream(conteudo.split(","))
+               .map(String::trim)
+               .filter(s -> !s.isEmpty())
+               .collect(Collectors.toList());
+    }
+    
+    /**
+     * Obtém o código de um nome masculino aleatório.
+     * 
+     * @return Código do nome no DicionarioNomes
+     */
+    public int obterCodigoNomeMasculinoAleatorio() {
+        return sortear(nomesMasculinos, "João"); // Nome padrão se a lista estiver vazia
+    }
+    
+    /**
+     * Obtém o código de um nome feminino aleatório.
+     * 
+     * @return Código do nome no DicionarioNomes
+     */
+    public int obterCodigoNomeFemininoAleatorio() {
+        return sortear(nomesFemininos, "Maria"); // Nome padrão se a lista estiver vazia
+    }
+    
+    /**
+     * Obtém o código de um sobrenome aleatório.
+     * 
+     * @return Código do sobrenome no DicionarioNomes
+     */
+    public int obterCodigoSobrenomeAleatorio() {
+        return sortear(sobrenomes, "Silva"); // Sobrenome padrão se a lista estiver vazia
+    }
+    
     /**
      * Obtém um nome masculino aleatório.
      * 
      * @return Nome masculino aleatório
      */
     public String obterNomeMasculinoAleatorio() {
-        if (nomesMasculinos.isEmpty()) {
-            return "João"; // Nome padrão se a lista estiver vazia
-        }
-        return nomesMasculinos.get(random.nextInt(nomesMasculinos.size()));
+        return DicionarioNomes.texto(obterCodigoNomeMasculinoAleatorio());
     }
     
     /**
@@ -119,10 +148,7 @@ public class CarregadorNomes {
      * @return Nome feminino aleatório
      */
     public String obterNomeFemininoAleatorio() {
-        if (nomesFemininos.isEmpty()) {
-            return "Maria"; // Nome padrão se a lista estiver vazia
-        }
-        return nomesFemininos.get(random.nextInt(nomesFemininos.size()));
+        return DicionarioNomes.texto(obterCodigoNomeFemininoAleatorio());
     }
     
     /**
@@ -131,9 +157,13 @@ public class CarregadorNomes {
      * @return Sobrenome aleatório
      */
     public String obterSobrenomeAleatorio() {
-        if (sobrenomes.isEmpty()) {
-            return "Silva"; // Sobrenome padrão se a lista estiver vazia
+        return DicionarioNomes.texto(obterCodigoSobrenomeAleatorio());
+    }
+    
+    private static int sortear(int[] codigos, String padrao) {
+        if (codigos.length == 0) {
+            return DicionarioNomes.codificar(padrao);
         }
-        return sobrenomes.get(random.nextInt(sobrenomes.size()));
+        return codigos[UtilitarioAleatorio.gerarNumero(0, codigos.length - 1)];
     }
 }
\ No newline at end of file
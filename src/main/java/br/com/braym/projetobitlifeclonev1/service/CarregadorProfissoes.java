@@ -21,8 +21,8 @@ import com.google.gson.JsonElement;
 public class CarregadorProfissoes {
     private static final Logger LOGGER = Logger.getLogger(CarregadorProfissoes.class.getName());
     
-    private final List<Profissao> profissoesMasculinas = new ArrayList<>();
-    private final List<Profissao> profissoesFemininas = new ArrayList<>();
+    private final List<Profissao> profissoesMasculinas;
+    private final List<Profissao> profissoesFemininas;
     
     // CORREÇÃO DOS CAMINHOS: agora apontam para a pasta Financas
     private static final String CAMINHO_PROFISSOES_MASCULINAS = "/Financas/profissoes_masculinas.json";
@@ -32,10 +32,24 @@ public class CarregadorProfissoes {
      * Construtor que carrega todas as profissões disponíveis.
      */
     public CarregadorProfissoes() {
+        this.profissoesMasculinas = new ArrayList<>();
+        this.profissoesFemininas = new ArrayList<>();
     	verificarRecursosDisponiveis();
         carregarProfissoesMasculinas();
         carregarProfissoesFemininas();
     }
+    
+    /**
+     * Construtor que usa listas de profissões já carregadas (por exemplo, do
+     * catálogo binário), sem ler os arquivos JSON.
+     * 
+     * @param profissoesMasculinas Profissões masculinas
+     * @param profissoesFemininas Profissões femininas
+     */
+    public CarregadorProfissoes(List<Profissao> profissoesMasculinas, List<Profissao> profissoesFemininas) {
+        this.profissoesMasculinas = profissoesMasculinas;
+        this.profissoesFemininas = profissoesFemininas;
+    }
     public void verificarRecursosDisponiveis() {
         LOGGER.info("Verificando disponibilidade de recursos...");
         
@@ -173,8 +187,34 @@ public class CarregadorProfissoes {
         return profissoesFemininas.get(UtilitarioAleatorio.gerarNumero(0, profissoesFemininas.size() - 1));
     }
     
-    // Outros métodos continuam os mesmos...
-    private List<Profissao> extrairProfissoes(String conteudoJson) {
+    /**
+     * Procura uma profissão pelo nome, entre as masculinas e as femininas.
+     * Usado para religar as pessoas de um jogo salvo ao conteúdo compartilhado.
+     * 
+     * @param nome Nome da profissão
+     * @return Profissão ou null se não existir
+     */
+    public Profissao obterPorNome(String nome) {
+        for (Profissao profissao : profissoesMasculinas) {
+            if (profissao.getNome().equals(nome)) {
+                return profissao;
+            }
+        }
+        for (Profissao profissao : profissoesFemininas) {
+            if (profissao.getNome().equals(nome)) {
+                return profissao;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Extrai as profissões do conteúdo de um arquivo de profissões.
+     * 
+     * @param conteudoJson Conteúdo JSON com o array "profissoes"
+     * @return Lista de profissões (vazia em caso de erro)
+     */
+    public static List<Profissao> extrairProfissoes(String conteudoJson) {
         List<Profissao> profissoes = new ArrayList<>();
         Gson gson = new Gson();
         
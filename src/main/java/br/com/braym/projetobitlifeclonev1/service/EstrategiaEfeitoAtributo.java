@@ -26,12 +26,11 @@ public interface EstrategiaEfeitoAtributo {
      * @throws IllegalArgumentException se o nome do atributo não for reconhecido
      */
     static EstrategiaEfeitoAtributo obterEstrategia(String nomeAtributo) {
-        try {
-            Atributo atributo = Atributo.valueOf(nomeAtributo.toUpperCase());
-            return obterEstrategia(atributo);
-        } catch (IllegalArgumentException e) {
+        Atributo atributo = Atributo.porNome(nomeAtributo);
+        if (atributo == null) {
             throw new IllegalArgumentException("Atributo não reconhecido: " + nomeAtributo);
         }
+        return obterEstrategia(atributo);
     }
 
     /**
@@ -48,6 +47,7 @@ public interface EstrategiaEfeitoAtributo {
         case INTELIGENCIA -> (personagem, valor) -> personagem.alterarInteligencia(valor);
         case SANIDADE -> (personagem, valor) -> personagem.alterarSanidade(valor);
         case CARISMA -> (personagem, valor) -> personagem.alterarCarisma(valor);
+        case APARENCIA -> (personagem, valor) -> personagem.alterarAparencia(valor);
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package br.com.braym.projetobitlifeclonev1.service;
+
+import br.com.braym.projetobitlifeclonev1.domain.CatalogoEventos;
+import br.com.braym.projetobitlifeclonev1.narrativa.GrafoNarrativo;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
+
+import java.util.List;
+
+/**
+ * Conteúdo de uma pasta de fase da vida, já resolvido: fase, ordinal da pasta,
+ * catálogo de eventos e grafo narrativo. O RegistroConteudo guarda uma etapa
+ * por idade, então tudo o que o turno precisa saber sobre a fase do
+ * personagem sai de uma única leitura de vetor. Instâncias são imutáveis.
+ */
+public final class EtapaVida {
+    private final int indice;
+    private final String pasta;
+    private final FaseDaVida fase;
+    private final CatalogoEventos catalogoEventos;
+    private final GrafoNarrativo grafoNarrativo;
+    private final GerenciadorInteracoes gerenciadorInteracoes;
+
+    EtapaVida(int indice, String pasta, FaseDaVida fase, CatalogoEventos catalogoEventos,
+            GrafoNarrativo grafoNarrativo, GerenciadorInteracoes gerenciadorInteracoes) {
+        this.indice = indice;
+        this.pasta = pasta;
+        this.fase = fase;
+        this.catalogoEventos = catalogoEventos;
+        this.grafoNarrativo = grafoNarrativo;
+        this.gerenciadorInteracoes = gerenciadorInteracoes;
+    }
+
+    /**
+     * Obtém o ordinal da pasta da etapa entre FaseDaVidaResolver.getPastasDasFases()
+     * @return Índice da pasta (0 para a primeira)
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    public String getPasta() {
+        return pasta;
+    }
+
+    /**
+     * Obtém a fase da vida da etapa. Uma pasta pode atravessar duas fases
+     * (por exemplo, 11-14 anos), então o valor é o da idade que a originou.
+     * @return Fase da vida
+     */
+    public FaseDaVida getFase() {
+        return fase;
+    }
+
+    public CatalogoEventos getCatalogoEventos() {
+        return catalogoEventos;
+    }
+
+    public GrafoNarrativo getGrafoNarrativo() {
+        return grafoNarrativo;
+    }
+
+    /**
+     * Obtém as interações disponíveis na etapa. As regras de interação são
+     * compiladas no primeiro uso, então a lista vem da tabela de interações.
+     * @return Lista imutável de tipos de interação
+     */
+    public List<String> getInteracoesDisponiveis() {
+        return gerenciadorInteracoes.getTabela().getNomesDisponiveis(indice);
+    }
+}
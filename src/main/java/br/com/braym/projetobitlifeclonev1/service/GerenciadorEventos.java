@@ -6,14 +6,18 @@ import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
 import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
 import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
 import br.com.braym.projetobitlifeclonev1.interfaces.EventoInterface;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
 import br.com.braym.projetobitlifeclonev1.impl.EventoImpl;
+import br.com.braym.projetobitlifeclonev1.narrativa.GrafoNarrativo;
+import br.com.braym.projetobitlifeclonev1.narrativa.MotorNarrativo;
 import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
-import br.com.braym.projetobitlifeclonev1.utils.LeitorJSON;
+import br.com.braym.projetobitlifeclonev1.utils.SelecaoPonderada;
+import br.com.braym.projetobitlifeclonev1.utils.SelecaoSemReposicao;
 import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
 
 import java.util.*;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Gerencia os eventos do jogo, controlando o carregamento, processamento e
@@ -22,15 +26,24 @@ import java.util.stream.Collectors;
 public class GerenciadorEventos {
     private static final Logger LOGGER = Logger.getLogger(GerenciadorEventos.class.getName());
 
-    // Cache de eventos por fase
-    private final Map<String, List<Evento>> eventosPorFase = new HashMap<>();
+    // Probabilidade (%) de o evento do turno ser uma cadeia narrativa da fase
+    private static final int CHANCE_CADEIA_NARRATIVA = 20;
 
-    // Registro de eventos já processados
-    private final Map<String, Set<String>> eventosProcessadosPorFase = new HashMap<>();
+    // Eventos ainda não processados de cada fase (por ordinal da pasta), por índice no catálogo da fase
+    private final SelecaoPonderada[] eventosDisponiveisPorFase =
+            new SelecaoPonderada[FaseDaVidaResolver.getQuantidadeFases()];
 
-    private final String pastaBases;
+    // Cadeias narrativas ainda não iniciadas de cada fase (por ordinal da pasta), por posição entre os inícios do grafo
+    private final SelecaoSemReposicao[] narrativasDisponiveisPorFase =
+            new SelecaoSemReposicao[FaseDaVidaResolver.getQuantidadeFases()];
+
+    // Conteúdo compartilhado, com os eventos de todas as fases já carregados
+    private final RegistroConteudo registroConteudo;
     private final ProvedorEntrada provedorEntrada;
 
+    // Política usada no modo sem console (null quando o jogo é interativo)
+    private final PoliticaDecisao politicaDecisao;
+
     /**
      * Construtor com injeção de dependências
      * 
@@ -38,25 +51,70 @@ public class GerenciadorEventos {
      * @param provedorEntrada Serviço para ler entrada do usuário
      */
     public GerenciadorEventos(String pastaBases, ProvedorEntrada provedorEntrada) {
-        this.pastaBases = pastaBases;
+        this(RegistroConteudo.obter(pastaBases), provedorEntrada);
+    }
+
+    /**
+     * Construtor com injeção do registro de conteúdo compartilhado
+     * 
+     * @param registroConteudo Registro com os eventos de cada fase
+     * @param provedorEntrada  Serviço para ler entrada do usuário
+     */
+    public GerenciadorEventos(RegistroConteudo registroConteudo, ProvedorEntrada provedorEntrada) {
+        this.registroConteudo = registroConteudo;
         this.provedorEntrada = provedorEntrada;
+        this.politicaDecisao = null;
+    }
+
+    /**
+     * Construtor para execução sem console. As escolhas dos eventos são feitas
+     * pela política de decisão e nenhuma mensagem é exibida.
+     * 
+     * @param pastaBases      Pasta base onde estão os arquivos de eventos
+     * @param politicaDecisao Política que escolhe as opções dos eventos
+     */
+    public GerenciadorEventos(String pastaBases, PoliticaDecisao politicaDecisao) {
+        this(RegistroConteudo.obter(pastaBases), politicaDecisao);
     }
 
     /**
-     * Carrega os eventos para uma fase específica, se ainda não estiverem
-     * carregados
+     * Construtor para execução sem console com injeção do registro de conteúdo
      * 
-     * @param faseFolder Pasta da fase
+     * @param registroConteudo Registro com os eventos de cada fase
+     * @param politicaDecisao  Política que escolhe as opções dos eventos
      */
-    private void carregarEventosSeNecessario(String faseFolder) {
-        if (!eventosPorFase.containsKey(faseFolder)) {
-            String filePath = pastaBases + "/" + faseFolder + "/eventos.json";
-            List<Evento> listaEventos = new LeitorJSON().lerEventos(filePath);
-            eventosPorFase.put(faseFolder, listaEventos != null ? listaEventos : new ArrayList<>());
-            eventosProcessadosPorFase.put(faseFolder, new HashSet<>());
-            LOGGER.info("Carregados " + (listaEventos != null ? listaEventos.size() : 0) + " eventos para a fase "
-                    + faseFolder);
+    public GerenciadorEventos(RegistroConteudo registroConteudo, PoliticaDecisao politicaDecisao) {
+        if (politicaDecisao == null) {
+            throw new IllegalArgumentException("Política de decisão não pode ser nula");
         }
+        this.registroConteudo = registroConteudo;
+        this.provedorEntrada = null;
+        this.politicaDecisao = politicaDecisao;
+    }
+
+    /**
+     * Indica se o gerenciador interage com o usuário pelo console
+     * 
+     * @return true se as escolhas são lidas do console
+     */
+    public boolean isInterativo() {
+        return politicaDecisao == null;
+    }
+
+    /**
+     * Obtém a seleção de eventos disponíveis de uma fase, criando-a se ainda
+     * não existir. Os eventos em si já estão carregados no registro de conteúdo.
+     * 
+     * @param etapa Etapa da fase
+     * @return Seleção ponderada sobre os índices dos eventos da fase
+     */
+    private SelecaoPonderada carregarEventosSeNecessario(EtapaVida etapa) {
+        SelecaoPonderada selecao = eventosDisponiveisPorFase[etapa.getIndice()];
+        if (selecao == null) {
+            selecao = etapa.getCatalogoEventos().novaSelecao();
+            eventosDisponiveisPorFase[etapa.getIndice()] = selecao;
+        }
+        return selecao;
     }
 
     /**
@@ -65,10 +123,121 @@ public class GerenciadorEventos {
      * @param faseFolder Pasta da fase a ser reiniciada
      */
     public void reiniciarFase(String faseFolder) {
-        eventosProcessadosPorFase.put(faseFolder, new HashSet<>());
+        int indice = FaseDaVidaResolver.getPastasDasFases().indexOf(faseFolder);
+        if (indice < 0) {
+            return;
+        }
+        SelecaoPonderada selecao = eventosDisponiveisPorFase[indice];
+        if (selecao != null) {
+            selecao.reiniciar();
+        }
+        SelecaoSemReposicao narrativas = narrativasDisponiveisPorFase[indice];
+        if (narrativas != null) {
+            narrativas.reiniciar();
+        }
         LOGGER.info("Fase " + faseFolder + " reiniciada.");
     }
 
+    /**
+     * Obtém os ids dos eventos já processados, por pasta de fase. Só as fases
+     * em que algum evento foi usado aparecem no mapa.
+     * 
+     * @return Mapa pasta da fase -> ids dos eventos usados
+     */
+    public Map<String, List<String>> getEventosUsados() {
+        Map<String, List<String>> usados = new LinkedHashMap<>();
+        for (int fase = 0; fase < eventosDisponiveisPorFase.length; fase++) {
+            SelecaoPonderada selecao = eventosDisponiveisPorFase[fase];
+            if (selecao == null) {
+                continue;
+            }
+            EtapaVida etapa = registroConteudo.getEtapaDaFase(fase);
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < etapa.getCatalogoEventos().getTamanho(); i++) {
+                if (!selecao.isDisponivel(i)) {
+                    ids.add(etapa.getCatalogoEventos().getEvento(i).getId());
+                }
+            }
+            if (!ids.isEmpty()) {
+                usados.put(etapa.getPasta(), ids);
+            }
+        }
+        return usados;
+    }
+
+    /**
+     * Obtém os ids dos eventos iniciais das cadeias narrativas já jogadas, por
+     * pasta de fase
+     * 
+     * @return Mapa pasta da fase -> ids dos inícios das cadeias usadas
+     */
+    public Map<String, List<String>> getNarrativasUsadas() {
+        Map<String, List<String>> usadas = new LinkedHashMap<>();
+        for (int fase = 0; fase < narrativasDisponiveisPorFase.length; fase++) {
+            SelecaoSemReposicao narrativas = narrativasDisponiveisPorFase[fase];
+            if (narrativas == null) {
+                continue;
+            }
+            EtapaVida etapa = registroConteudo.getEtapaDaFase(fase);
+            GrafoNarrativo grafo = etapa.getGrafoNarrativo();
+            List<String> ids = new ArrayList<>();
+            for (int posicao = 0; posicao < narrativas.getTamanho(); posicao++) {
+                if (!narrativas.isDisponivel(posicao)) {
+                    ids.add(grafo.getId(grafo.getInicio(posicao)));
+                }
+            }
+            if (!ids.isEmpty()) {
+                usadas.put(etapa.getPasta(), ids);
+            }
+        }
+        return usadas;
+    }
+
+    /**
+     * Restaura os eventos e cadeias narrativas já usados, a partir dos ids
+     * salvos. Todas as fases são reiniciadas antes; ids que não existem mais
+     * no conteúdo atual são ignorados.
+     * 
+     * @param eventosUsados    Mapa pasta da fase -> ids dos eventos usados
+     * @param narrativasUsadas Mapa pasta da fase -> ids dos inícios das cadeias usadas
+     */
+    public void restaurarUsados(Map<String, List<String>> eventosUsados, Map<String, List<String>> narrativasUsadas) {
+        Arrays.fill(eventosDisponiveisPorFase, null);
+        Arrays.fill(narrativasDisponiveisPorFase, null);
+        List<String> pastas = FaseDaVidaResolver.getPastasDasFases();
+
+        for (Map.Entry<String, List<String>> entrada : eventosUsados.entrySet()) {
+            int fase = pastas.indexOf(entrada.getKey());
+            if (fase < 0) {
+                continue;
+            }
+            EtapaVida etapa = registroConteudo.getEtapaDaFase(fase);
+            SelecaoPonderada selecao = carregarEventosSeNecessario(etapa);
+            Set<String> ids = new HashSet<>(entrada.getValue());
+            for (int i = 0; i < etapa.getCatalogoEventos().getTamanho(); i++) {
+                if (ids.contains(etapa.getCatalogoEventos().getEvento(i).getId())) {
+                    selecao.marcarUsado(i);
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<String>> entrada : narrativasUsadas.entrySet()) {
+            int fase = pastas.indexOf(entrada.getKey());
+            if (fase < 0) {
+                continue;
+            }
+            GrafoNarrativo grafo = registroConteudo.getEtapaDaFase(fase).getGrafoNarrativo();
+            SelecaoSemReposicao narrativas = new SelecaoSemReposicao(grafo.getQuantidadeInicios());
+            narrativasDisponiveisPorFase[fase] = narrativas;
+            Set<String> ids = new HashSet<>(entrada.getValue());
+            for (int posicao = 0; posicao < grafo.getQuantidadeInicios(); posicao++) {
+                if (ids.contains(grafo.getId(grafo.getInicio(posicao)))) {
+                    narrativas.marcarUsado(posicao);
+                }
+            }
+        }
+    }
+
     /**
      * Processa um evento aleatório para o personagem
      * 
@@ -82,46 +251,68 @@ public class GerenciadorEventos {
             return processarEventoNarrativoRelacionamento(personagem, relacionamentos);
         }
         
-        // Se não processou evento de relacionamento, processa evento normal
-        String faseFolder = FaseDaVidaResolver.getFaseDaVidaFolder(personagem.getIdade());
-        carregarEventosSeNecessario(faseFolder);
-
-        List<Evento> todosEventosDaFase = eventosPorFase.get(faseFolder);
-        Set<String> eventosUsados = eventosProcessadosPorFase.get(faseFolder);
-        List<Evento> eventosDisponiveis = todosEventosDaFase.stream()
-            .filter(e -> !eventosUsados.contains(e.getId()))
-            .collect(Collectors.toList());
-
-        if (eventosDisponiveis.isEmpty()) {
-            System.out.println("Não há mais eventos disponíveis para esta fase.");
-            return false;
+        EtapaVida etapa = registroConteudo.getEtapa(personagem.getIdade());
+        if (UtilitarioAleatorio.eventoAcontece(CHANCE_CADEIA_NARRATIVA) && processarCadeiaNarrativa(personagem, etapa)) {
+            return true;
         }
 
-        // Usa o UtilitarioAleatorio unificado
-        int indiceAleatorio = UtilitarioAleatorio.gerarNumero(0, eventosDisponiveis.size() - 1);
-        Evento eventoSelecionado = eventosDisponiveis.get(indiceAleatorio);
-        System.out.println("Evento selecionado: " + eventoSelecionado.getDescricao());
+        // Se não processou evento de relacionamento nem narrativo, processa evento normal
+        SelecaoPonderada selecao = carregarEventosSeNecessario(etapa);
+
+        // Sorteia um evento ainda não usado, conforme o peso, e já o marca como usado
+        int indiceSorteado = selecao.sortear();
+        if (indiceSorteado < 0) {
+            if (isInterativo()) {
+                System.out.println("Não há mais eventos disponíveis para esta fase.");
+            }
+            return false;
+        }
+        Evento eventoSelecionado = etapa.getCatalogoEventos().getEvento(indiceSorteado);
 
         // Executa o evento
-        if (eventoSelecionado instanceof EventoInterface) {
+        if (!isInterativo()) {
+            new EventoImpl(eventoSelecionado, politicaDecisao).executarEvento(personagem);
+        } else if (eventoSelecionado instanceof EventoInterface) {
+            System.out.println("Evento selecionado: " + eventoSelecionado.getDescricao());
             ((EventoInterface) eventoSelecionado).executarEvento(personagem);
         } else {
-            new EventoImpl(
-                eventoSelecionado.getId(), 
-                eventoSelecionado.getDescricao(), 
-                eventoSelecionado.getOpcoes(),
-                eventoSelecionado.getEfeitos(), 
-                eventoSelecionado.getAtributo(),
-                eventoSelecionado.getEfeitosMultiplos(), 
-                provedorEntrada.obterScanner()
-            ).executarEvento(personagem);
-        }
-
-        eventosUsados.add(eventoSelecionado.getId());
-        LOGGER.info("Evento " + eventoSelecionado.getId() + " marcado como usado.");
+            System.out.println("Evento selecionado: " + eventoSelecionado.getDescricao());
+            new EventoImpl(eventoSelecionado, provedorEntrada.obterScanner()).executarEvento(personagem);
+        }
+
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Evento " + eventoSelecionado.getId() + " marcado como usado.");
+        }
         return true;
     }
     
+    /**
+     * Executa uma cadeia narrativa da fase que ainda não foi jogada
+     * 
+     * @param personagem Personagem que vive a cadeia
+     * @param etapa      Etapa da fase atual
+     * @return false se todas as cadeias da fase já foram jogadas
+     */
+    private boolean processarCadeiaNarrativa(Personagem personagem, EtapaVida etapa) {
+        GrafoNarrativo grafo = etapa.getGrafoNarrativo();
+        SelecaoSemReposicao narrativas = narrativasDisponiveisPorFase[etapa.getIndice()];
+        if (narrativas == null) {
+            narrativas = new SelecaoSemReposicao(grafo.getQuantidadeInicios());
+            narrativasDisponiveisPorFase[etapa.getIndice()] = narrativas;
+        }
+
+        int posicao = narrativas.sortear();
+        if (posicao < 0) {
+            return false;
+        }
+        MotorNarrativo motor = isInterativo() ? new MotorNarrativo(provedorEntrada) : new MotorNarrativo(politicaDecisao);
+        int passos = motor.executar(personagem, grafo, grafo.getInicio(posicao));
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Cadeia narrativa " + grafo.getId(grafo.getInicio(posicao)) + " concluída em " + passos + " eventos.");
+        }
+        return true;
+    }
+
     /**
      * Processa um evento narrativo sobre relacionamento, sem interação direta
      * 
@@ -137,28 +328,31 @@ public class GerenciadorEventos {
         // Cria um evento narrativo sobre o relacionamento em vez de interação direta
         List<String> opcoes = new ArrayList<>();
         Map<String, Integer> efeitos = new HashMap<>();
-        String descricao;
+        // O nome completo é montado direto na descrição, sem string intermediária
+        StringBuilder descricao = new StringBuilder(96);
         
         // Escolhe um tipo de evento narrativo aleatório baseado no tipo de relacionamento
         int tipoEvento = UtilitarioAleatorio.gerarNumero(1, 3);
         
         switch (tipoEvento) {
             case 1: // Evento positivo
-                descricao = "Você encontrou " + pessoa.getNomeCompleto() + " por acaso e tiveram um momento agradável juntos.";
+                pessoa.escreverNomeCompleto(descricao.append("Você encontrou "))
+                        .append(" por acaso e tiveram um momento agradável juntos.");
                 opcoes.add("Aproveitar o momento");
                 opcoes.add("Manter distância");
                 efeitos.put("felicidade", 5);
                 break;
                 
             case 2: // Evento neutro
-                descricao = pessoa.getNomeCompleto() + " entrou em contato com você sobre assuntos pessoais.";
+                pessoa.escreverNomeCompleto(descricao).append(" entrou em contato com você sobre assuntos pessoais.");
                 opcoes.add("Ouvir com atenção");
                 opcoes.add("Ser breve na conversa");
                 efeitos.put("carisma", 3);
                 break;
                 
             case 3: // Evento desafiador
-                descricao = "Você percebeu que " + pessoa.getNomeCompleto() + " está passando por um momento difícil.";
+                pessoa.escreverNomeCompleto(descricao.append("Você percebeu que "))
+                        .append(" está passando por um momento difícil.");
                 opcoes.add("Oferecer ajuda");
                 opcoes.add("Esperar que eles peçam ajuda");
                 efeitos.put("sanidade", -2);
@@ -166,7 +360,7 @@ public class GerenciadorEventos {
                 break;
                 
             default:
-                descricao = "Você recebeu notícias de " + pessoa.getNomeCompleto() + ".";
+                pessoa.escreverNomeCompleto(descricao.append("Você recebeu notícias de ")).append('.');
                 opcoes.add("Responder positivamente");
                 opcoes.add("Ignorar");
                 efeitos.put("felicidade", 2);
@@ -175,12 +369,16 @@ public class GerenciadorEventos {
         // Cria e executa um evento temporário
         Evento eventoTemporario = new Evento();
         eventoTemporario.setId("rel_temp_" + System.currentTimeMillis());
-        eventoTemporario.setDescricao(descricao);
+        eventoTemporario.setDescricao(descricao.toString());
         eventoTemporario.setOpcoes(opcoes);
         eventoTemporario.setEfeitosMultiplos(efeitos);
         
         // Executa o evento
-        new EventoImpl(eventoTemporario, provedorEntrada.obterScanner()).executarEvento(personagem);
+        if (isInterativo()) {
+            new EventoImpl(eventoTemporario, provedorEntrada.obterScanner()).executarEvento(personagem);
+        } else {
+            new EventoImpl(eventoTemporario, politicaDecisao).executarEvento(personagem);
+        }
         
         // Impacto no relacionamento
         rel.alterarNivel(UtilitarioAleatorio.gerarNumero(1, 5));
@@ -195,13 +393,7 @@ public class GerenciadorEventos {
      * @return Número de eventos disponíveis
      */
     public int getQuantidadeEventosDisponiveis(Personagem personagem) {
-        String faseFolder = FaseDaVidaResolver.getFaseDaVidaFolder(personagem.getIdade());
-        carregarEventosSeNecessario(faseFolder);
-
-        List<Evento> todosEventosDaFase = eventosPorFase.get(faseFolder);
-        Set<String> eventosUsados = eventosProcessadosPorFase.get(faseFolder);
-
-        return (int) todosEventosDaFase.stream().filter(e -> !eventosUsados.contains(e.getId())).count();
+        return carregarEventosSeNecessario(registroConteudo.getEtapa(personagem.getIdade())).getDisponiveis();
     }
 
     /**
@@ -211,12 +403,12 @@ public class GerenciadorEventos {
      * @param idadeAnterior Idade anterior do personagem
      */
     public void verificarMudancaFase(Personagem personagem, int idadeAnterior) {
-        String faseFolderAnterior = FaseDaVidaResolver.getFaseDaVidaFolder(idadeAnterior);
-        String faseFolderAtual = FaseDaVidaResolver.getFaseDaVidaFolder(personagem.getIdade());
+        EtapaVida anterior = registroConteudo.getEtapa(idadeAnterior);
+        EtapaVida atual = registroConteudo.getEtapa(personagem.getIdade());
 
-        if (!faseFolderAnterior.equals(faseFolderAtual)) {
-            carregarEventosSeNecessario(faseFolderAtual);
-            LOGGER.info("Personagem mudou de fase: " + faseFolderAnterior + " -> " + faseFolderAtual);
+        if (anterior.getIndice() != atual.getIndice()) {
+            carregarEventosSeNecessario(atual);
+            LOGGER.info("Personagem mudou de fase: " + anterior.getPasta() + " -> " + atual.getPasta());
         }
     }
 }
\ No newline at end of file
@@ -1,110 +1,157 @@
 package br.com.braym.projetobitlifeclonev1.service;
 
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
 import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
-import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.catalogo.CatalogoBinario;
 import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
 import br.com.braym.projetobitlifeclonev1.utils.LeitorJSON;
 import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Gerencia as interações disponíveis para personagens com base na idade
- * e carrega textos dinamicamente de arquivos JSON.
+ * Gerencia as interações disponíveis para personagens com base na idade.
+ * As regras vêm do catálogo binário gerado no build ou, sem ele, dos arquivos
+ * JSON da pasta de interações, e são compiladas em uma TabelaInteracoes no
+ * primeiro uso; depois disso, executar uma interação não consulta mapas nem
+ * textos além do escolhido.
  */
 public class GerenciadorInteracoes {
     private static final Logger LOGGER = Logger.getLogger(GerenciadorInteracoes.class.getName());
-    
+
+    /** Pasta padrão dos arquivos de interação */
+    public static final String PASTA_PADRAO = "Interacoes";
+
+    /** Arquivo com as interações disponíveis em cada fase */
+    public static final String ARQUIVO_DISPONIVEIS = "interacoes_disponiveis.json";
+    private static final int RETALIACAO_MIN_FELICIDADE = 3;
+    private static final int RETALIACAO_MAX_FELICIDADE = 8;
+
     private final String pastaBases;
-    private final LeitorJSON leitorJSON;
-    
-    // Cache de interações disponíveis por fase da vida
-    private final Map<String, List<String>> interacoesPorFase;
-    
-    // Cache de textos de interação por tipo
-    private final Map<String, Map<String, List<InteracaoInfo>>> textosInteracao;
-    
-    // Registro de interações já usadas
-    private final Map<String, List<String>> interacoesUsadas;
-    
+    // Origem das regras; null para ler os arquivos JSON da pasta
+    private final CatalogoBinario catalogo;
+
+    // Compilada sob demanda, para não carregar o Gson na inicialização do jogo
+    private volatile TabelaInteracoes tabela;
+
     /**
      * Construtor que inicializa o gerenciador com uma pasta base
      * @param pastaBases Pasta onde estão os arquivos de interações
      */
     public GerenciadorInteracoes(String pastaBases) {
         this.pastaBases = pastaBases;
-        this.leitorJSON = new LeitorJSON();
-        this.interacoesPorFase = new HashMap<>();
-        this.textosInteracao = new HashMap<>();
-        this.interacoesUsadas = new HashMap<>();
-        
-        inicializarInteracoesDisponiveis();
+        this.catalogo = null;
     }
-    
+
     /**
-     * Inicializa as interações disponíveis por fase da vida
-     * Método temporário até implementação completa da leitura de JSON
+     * Construtor que lê as regras do catálogo binário, sem parsing de JSON
+     * @param catalogo Catálogo com as seções de interações
      */
-    private void inicializarInteracoesDisponiveis() {
-        // Fase 1: Primeira Infância (0-3 anos) - nenhuma interação disponível
-        interacoesPorFase.put("01-PrimeiraInfancia_0-3", new ArrayList<>());
-        
-        // Fase 2: Segunda Infância (3-6 anos)
-        List<String> fase2 = new ArrayList<>();
-        fase2.add("brincar");
-        fase2.add("sorrir");
-        interacoesPorFase.put("02-SegundaInfancia_3-6", fase2);
-        
-        // Fase 3: Terceira Infância (6-11 anos)
-        List<String> fase3 = new ArrayList<>();
-        fase3.add("brincar");
-        fase3.add("conversar");
-        fase3.add("sorrir");
-        interacoesPorFase.put("03-TerceiraInfancia_6-10", fase3);
-        
-        // Fase 4: Adolescência Inicial (11-14 anos)
-        List<String> fase4 = new ArrayList<>();
-        fase4.add("conversar");
-        fase4.add("presente");
-        fase4.add("brincar");
-        fase4.add("passear");
-        interacoesPorFase.put("04-AdolescenciaInicial_11-14", fase4);
-        
-        // Demais fases - adolescentes e adultos
-        List<String> faseAdolescente = new ArrayList<>();
-        faseAdolescente.add("conversar");
-        faseAdolescente.add("presente");
-        faseAdolescente.add("insultar");
-        faseAdolescente.add("passear");
-        
-        interacoesPorFase.put("05-AdolescenciaMedia_15-17", faseAdolescente);
-        interacoesPorFase.put("06-AdolescenciaTardia_18-21", faseAdolescente);
-        interacoesPorFase.put("07-Juventude_22-29", faseAdolescente);
-        interacoesPorFase.put("08-AdultoJovem_30-39", faseAdolescente);
-        interacoesPorFase.put("09-MeiaIdade_40-59", faseAdolescente);
-        interacoesPorFase.put("10-IdosoJovem_60-74", faseAdolescente);
-        interacoesPorFase.put("11-IdosoMaduro_75-89", faseAdolescente);
-        interacoesPorFase.put("12-VelhiceAvancada_90", faseAdolescente);
-        
-        LOGGER.info("Interações disponíveis inicializadas para " + interacoesPorFase.size() + " fases");
+    public GerenciadorInteracoes(CatalogoBinario catalogo) {
+        this.pastaBases = CatalogoBinario.RECURSO;
+        this.catalogo = catalogo;
+    }
+
+    /**
+     * Obtém a tabela de interações, compilando-a no primeiro acesso
+     * @return Tabela compilada (vazia se os arquivos forem inválidos)
+     */
+    public TabelaInteracoes getTabela() {
+        TabelaInteracoes atual = tabela;
+        if (atual == null) {
+            synchronized (this) {
+                atual = tabela;
+                if (atual == null) {
+                    atual = carregarTabela();
+                    tabela = atual;
+                }
+            }
+        }
+        return atual;
     }
-    
+
+    private TabelaInteracoes carregarTabela() {
+        List<String> pastasDasFases = FaseDaVidaResolver.getPastasDasFases();
+        Map<String, List<String>> lidas;
+        Function<String, Map<String, List<InteracaoInfo>>> leitorRegras;
+        if (catalogo != null) {
+            lidas = catalogo.getInteracoesDisponiveis();
+            leitorRegras = catalogo.getRegrasInteracoes()::get;
+        } else {
+            LeitorJSON leitorJSON = new LeitorJSON();
+            lidas = leitorJSON.lerInteracoesDisponiveis(pastaBases + "/" + ARQUIVO_DISPONIVEIS);
+            leitorRegras = nome -> leitorJSON.lerRegrasInteracao(pastaBases + "/" + nome + ".json");
+        }
+
+        Map<String, Map<String, List<InteracaoInfo>>> regrasPorInteracao = new LinkedHashMap<>();
+        Map<String, List<String>> disponiveisPorFase = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entrada : lidas.entrySet()) {
+            if (!pastasDasFases.contains(entrada.getKey())) {
+                LOGGER.warning("Fase desconhecida em " + ARQUIVO_DISPONIVEIS + ": " + entrada.getKey());
+                continue;
+            }
+            List<String> nomes = new ArrayList<>();
+            for (String nome : entrada.getValue()) {
+                if (!regrasPorInteracao.containsKey(nome)) {
+                    regrasPorInteracao.put(nome, leitorRegras.apply(nome));
+                }
+                // Interações sem arquivo de regras válido ficam indisponíveis
+                if (regrasPorInteracao.get(nome) != null) {
+                    nomes.add(nome);
+                }
+            }
+            disponiveisPorFase.put(entrada.getKey(), nomes);
+        }
+        regrasPorInteracao.values().removeIf(regras -> regras == null);
+
+        try {
+            TabelaInteracoes compilada = TabelaInteracoes.compilar(pastasDasFases, disponiveisPorFase,
+                    regrasPorInteracao);
+            LOGGER.info("Interações compiladas: " + compilada.getQuantidadeInteracoes() + " tipos em "
+                    + disponiveisPorFase.size() + " fases");
+            return compilada;
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.SEVERE, "Regras de interação inválidas em " + pastaBases, e);
+            return TabelaInteracoes.vazia();
+        }
+    }
+
     /**
      * Obtém as interações disponíveis para um personagem com base na idade
      * @param personagem Personagem cujas interações serão determinadas
-     * @return Lista de tipos de interação disponíveis
+     * @return Lista imutável de tipos de interação disponíveis
      */
     public List<String> obterInteracoesDisponiveis(Personagem personagem) {
-        String fase = FaseDaVidaResolver.getFaseDaVidaFolder(personagem.getIdade());
-        return interacoesPorFase.getOrDefault(fase, new ArrayList<>());
+        return getTabela().getNomesDisponiveis(FaseDaVidaResolver.getIndiceDaFase(personagem.getIdade()));
+    }
+
+    /**
+     * Obtém os ordinais das interações disponíveis para o personagem, na
+     * ordem de obterInteracoesDisponiveis, para o menu passar o escolhido
+     * direto a executarInteracao
+     * @param personagem Personagem cujas interações serão determinadas
+     * @return Ordinais na tabela de interações
+     */
+    public int[] obterOrdinaisDisponiveis(Personagem personagem) {
+        return getTabela().getOrdinaisDisponiveis(FaseDaVidaResolver.getIndiceDaFase(personagem.getIdade()));
     }
-    
+
+    /**
+     * Obtém o nome de uma interação pelo ordinal
+     * @param interacao Ordinal da interação
+     * @return Nome da interação
+     */
+    public String getNomeInteracao(int interacao) {
+        return getTabela().getNome(interacao);
+    }
+
     /**
      * Executa uma interação entre o personagem e um relacionamento
      * @param personagem Personagem que está interagindo
@@ -113,88 +160,69 @@ public class GerenciadorInteracoes {
      * @return Texto descrevendo a interação e seus efeitos
      */
     public String executarInteracao(Personagem personagem, Relacionamento relacionamento, String tipoInteracao) {
-        // Verifica disponibilidade da interação para a idade atual
-        List<String> interacoesDisponiveis = obterInteracoesDisponiveis(personagem);
-        if (!interacoesDisponiveis.contains(tipoInteracao)) {
-            return "Esta interação não está disponível para sua idade atual.";
+        int interacao = tipoInteracao == null ? -1 : getTabela().ordinalDe(tipoInteracao.toLowerCase());
+        if (interacao < 0) {
+            return "Tipo de interação desconhecido: " + tipoInteracao;
         }
-        
-        // Implementação temporária - será substituída pela leitura de JSON
-        String mensagem;
-        int modificadorNivel;
-        int modificadorFelicidade;
-        
-        // Define valores de efeito baseados no tipo de interação
-        switch (tipoInteracao.toLowerCase()) {
-            case "conversar":
-                modificadorNivel = UtilitarioAleatorio.gerarNumero(1, 8);
-                modificadorFelicidade = UtilitarioAleatorio.gerarNumero(1, 4);
-                mensagem = "Você teve uma conversa agradável com " + relacionamento.getPessoa().getNomeCompleto() + ".";
-                break;
-                
-            case "presente":
-                modificadorNivel = UtilitarioAleatorio.gerarNumero(5, 15);
-                modificadorFelicidade = UtilitarioAleatorio.gerarNumero(3, 8);
-                mensagem = "Você deu um presente para " + relacionamento.getPessoa().getNomeCompleto() + 
-                           ". Eles ficaram muito felizes!";
-                personagem.alterarFinancas(-UtilitarioAleatorio.gerarNumero(10, 50)); // Custo do presente
-                break;
-                
-            case "insultar":
-                modificadorNivel = -UtilitarioAleatorio.gerarNumero(10, 20);
-                modificadorFelicidade = -UtilitarioAleatorio.gerarNumero(5, 10);
-                mensagem = "Você insultou " + relacionamento.getPessoa().getNomeCompleto() + 
-                           ". Eles ficaram chateados!";
-                
-                // Chance de retaliação
-                if (UtilitarioAleatorio.eventoAcontece(30)) {
-                    mensagem += " Eles revidaram o insulto.";
-                    personagem.alterarFelicidade(-UtilitarioAleatorio.gerarNumero(3, 8));
-                }
-                
-                // Chance de término em relacionamentos românticos
-                if ((relacionamento.getTipo() == TipoRelacionamento.NAMORO || 
-                     relacionamento.getTipo() == TipoRelacionamento.CASAMENTO) && 
-                    UtilitarioAleatorio.eventoAcontece(10)) {
-                    mensagem += " O relacionamento foi seriamente abalado e pode estar em risco.";
-                }
-                break;
-                
-            case "brincar":
-                modificadorNivel = UtilitarioAleatorio.gerarNumero(3, 10);
-                modificadorFelicidade = UtilitarioAleatorio.gerarNumero(3, 7);
-                mensagem = "Você brincou com " + relacionamento.getPessoa().getNomeCompleto() + 
-                           ". Foi muito divertido!";
-                break;
-                
-            case "sorrir":
-                modificadorNivel = UtilitarioAleatorio.gerarNumero(1, 3);
-                modificadorFelicidade = UtilitarioAleatorio.gerarNumero(1, 2);
-                mensagem = "Você sorriu para " + relacionamento.getPessoa().getNomeCompleto() + ".";
-                break;
-                
-            case "passear":
-                modificadorNivel = UtilitarioAleatorio.gerarNumero(4, 12);
-                modificadorFelicidade = UtilitarioAleatorio.gerarNumero(3, 8);
-                mensagem = "Você saiu para passear com " + relacionamento.getPessoa().getNomeCompleto() + 
-                           ". Foi um tempo bem agradável.";
-                personagem.alterarFinancas(-UtilitarioAleatorio.gerarNumero(5, 30)); // Custo do passeio
-                break;
-                
-            default:
-                return "Tipo de interação desconhecido: " + tipoInteracao;
+        return executarInteracao(personagem, relacionamento, interacao);
+    }
+
+    /**
+     * Executa uma interação já resolvida para o seu ordinal na tabela
+     * @param personagem Personagem que está interagindo
+     * @param relacionamento Relacionamento com quem interagir
+     * @param interacao Ordinal da interação (TabelaInteracoes.ordinalDe)
+     * @return Texto descrevendo a interação e seus efeitos
+     */
+    public String executarInteracao(Personagem personagem, Relacionamento relacionamento, int interacao) {
+        TabelaInteracoes regras = getTabela();
+        if (!regras.isDisponivel(FaseDaVidaResolver.getIndiceDaFase(personagem.getIdade()), interacao)) {
+            return "Esta interação não está disponível para sua idade atual.";
         }
-        
+
+        int regra = regras.sortearRegra(interacao, TabelaInteracoes.Categoria.de(relacionamento.getTipo()));
+        StringBuilder mensagem = escreverTexto(new StringBuilder(), regras.getTexto(regra), relacionamento.getPessoa());
+
         // Aplica os efeitos no relacionamento e no personagem
-        relacionamento.alterarNivel(modificadorNivel);
-        personagem.alterarFelicidade(modificadorFelicidade);
-        
+        relacionamento.alterarNivel(regras.sortearModificadorNivel(regra));
+        personagem.alterarFelicidade(regras.sortearModificadorFelicidade(regra));
+        int custo = regras.sortearCusto(regra);
+        if (custo != 0) {
+            personagem.alterarFinancas(-custo);
+        }
+
+        if (UtilitarioAleatorio.eventoAcontece(regras.getChanceRetaliacao(regra))) {
+            mensagem.append(" Eles revidaram o insulto.");
+            personagem.alterarFelicidade(-UtilitarioAleatorio.gerarNumero(RETALIACAO_MIN_FELICIDADE,
+                    RETALIACAO_MAX_FELICIDADE));
+        }
+        if (UtilitarioAleatorio.eventoAcontece(regras.getChanceTermino(regra))) {
+            mensagem.append(" O relacionamento foi seriamente abalado e pode estar em risco.");
+        }
+
         // Adiciona informação sobre o nível atual do relacionamento
-        mensagem += " Nível de relacionamento: " + relacionamento.getNivel();
-        
-        return mensagem;
+        mensagem.append(" Nível de relacionamento: ").append(relacionamento.getNivel());
+        return mensagem.toString();
+    }
+
+    /**
+     * Acrescenta o texto de uma regra à mensagem, com o nome completo da
+     * pessoa montado direto no lugar de {nome}
+     * @param mensagem Mensagem em montagem
+     * @param texto    Texto da regra
+     * @param pessoa   Pessoa da interação
+     * @return A própria mensagem
+     */
+    private static StringBuilder escreverTexto(StringBuilder mensagem, String texto, Pessoa pessoa) {
+        int inicio = 0;
+        for (int marca = texto.indexOf("{nome}"); marca >= 0; marca = texto.indexOf("{nome}", inicio)) {
+            mensagem.append(texto, inicio, marca);
+            pessoa.escreverNomeCompleto(mensagem);
+            inicio = marca + "{nome}".length();
+        }
+        return mensagem.append(texto, inicio, texto.length());
     }
-    
+
     /**
      * Classe interna para representar dados das interações
      */
@@ -1,36 +1,37 @@
 package br.com.braym.projetobitlifeclonev1.service;
 
+import br.com.braym.projetobitlifeclonev1.domain.DicionarioNomes;
+import br.com.braym.projetobitlifeclonev1.domain.Genero;
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
 import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
 import br.com.braym.projetobitlifeclonev1.domain.Profissao;
 import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.domain.TabelaRelacionamentos;
 import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
 import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
- * Gerencia os relacionamentos do personagem principal
+ * Gerencia os relacionamentos do personagem principal. Os relacionamentos
+ * ficam em uma TabelaRelacionamentos, e as consultas devolvem visões
+ * somente leitura da tabela, sem cópias.
  */
 public class GerenciadorRelacionamentos {
     private static final Logger LOGGER = Logger.getLogger(GerenciadorRelacionamentos.class.getName());
-    private final Map<String, Relacionamento> relacionamentos = new HashMap<>();
-    private final CarregadorNomes carregadorNomes;
-    private final CarregadorProfissoes carregadorProfissoes;
-    private final GerenciadorInteracoes gerenciadorInteracoes;
+    // A tabela mantém a ordem de criação, o que torna as escolhas aleatórias reproduzíveis
+    private final TabelaRelacionamentos relacionamentos = new TabelaRelacionamentos();
+    // Conteúdo compartilhado: não faz parte do estado do personagem
+    private final transient CarregadorNomes carregadorNomes;
+    private final transient CarregadorProfissoes carregadorProfissoes;
+    private final transient GerenciadorInteracoes gerenciadorInteracoes;
     
     /**
-     * Construtor que inicializa o gerenciador de relacionamentos
+     * Construtor que usa o registro de conteúdo padrão
      */
     public GerenciadorRelacionamentos() {
-        this.carregadorNomes = new CarregadorNomes();
-        this.carregadorProfissoes = new CarregadorProfissoes();
-        this.gerenciadorInteracoes = new GerenciadorInteracoes("Eventos");
+        this(RegistroConteudo.padrao());
     }
     
     /**
@@ -38,18 +39,25 @@ public class GerenciadorRelacionamentos {
      * @param pastaBases Pasta onde estão os arquivos de interações
      */
     public GerenciadorRelacionamentos(String pastaBases) {
-        this.carregadorNomes = new CarregadorNomes();
-        this.carregadorProfissoes = new CarregadorProfissoes();
-        this.gerenciadorInteracoes = new GerenciadorInteracoes(pastaBases);
+        this(RegistroConteudo.obter(pastaBases));
     }
     
     /**
-     * Adiciona um novo relacionamento
+     * Construtor com injeção do registro de conteúdo compartilhado
+     * @param registroConteudo Registro de onde vêm nomes, profissões e interações
+     */
+    public GerenciadorRelacionamentos(RegistroConteudo registroConteudo) {
+        this.carregadorNomes = registroConteudo.getCarregadorNomes();
+        this.carregadorProfissoes = registroConteudo.getCarregadorProfissoes();
+        this.gerenciadorInteracoes = registroConteudo.getGerenciadorInteracoes();
+    }
+    
+    /**
+     * Adiciona um novo relacionamento. Um relacionamento com a mesma pessoa
+     * é substituído, mantendo a posição dele.
      */
     public Relacionamento adicionarRelacionamento(Pessoa pessoa, TipoRelacionamento tipo) {
-        Relacionamento relacionamento = new Relacionamento(pessoa, tipo);
-        relacionamentos.put(pessoa.getId(), relacionamento);
-        return relacionamento;
+        return relacionamentos.get(relacionamentos.adicionar(pessoa, tipo));
     }
     
     /**
@@ -68,11 +76,12 @@ public class GerenciadorRelacionamentos {
         Profissao profissaoMae = carregadorProfissoes.obterProfissaoFemininaAleatoria();
         
         // Criar pai
+        int codigoSobrenome = DicionarioNomes.codificar(sobrenomeFamilia);
         Pessoa pai = new Pessoa(
-            carregadorNomes.obterNomeMasculinoAleatorio(),
-            sobrenomeFamilia,
+            carregadorNomes.obterCodigoNomeMasculinoAleatorio(),
+            codigoSobrenome,
             idadePai,
-            "Masculino",
+            Genero.MASCULINO,
             profissaoPai
         );
         adicionarRelacionamento(pai, TipoRelacionamento.PAI);
@@ -81,10 +90,10 @@ public class GerenciadorRelacionamentos {
         
         // Criar mãe
         Pessoa mae = new Pessoa(
-            carregadorNomes.obterNomeFemininoAleatorio(),
-            sobrenomeFamilia,
+            carregadorNomes.obterCodigoNomeFemininoAleatorio(),
+            codigoSobrenome,
             idadeMae,
-            "Feminino",
+            Genero.FEMININO,
             profissaoMae
         );
         adicionarRelacionamento(mae, TipoRelacionamento.MAE);
@@ -145,21 +154,24 @@ public class GerenciadorRelacionamentos {
         int idadeMae = idadePersonagem + UtilitarioAleatorio.gerarNumero(25, 40);
         
         // Criar pai
+        int codigoSobrenome = DicionarioNomes.codificar(sobrenomeFamilia);
         Pessoa pai = new Pessoa(
-            carregadorNomes.obterNomeMasculinoAleatorio(),
-            sobrenomeFamilia,
+            carregadorNomes.obterCodigoNomeMasculinoAleatorio(),
+            codigoSobrenome,
             idadePai,
-            "Masculino"
+            Genero.MASCULINO,
+            null
         );
         adicionarRelacionamento(pai, TipoRelacionamento.PAI);
         LOGGER.info("Pai criado: " + pai.getNomeCompleto() + ", " + pai.getIdade() + " anos");
         
         // Criar mãe
         Pessoa mae = new Pessoa(
-            carregadorNomes.obterNomeFemininoAleatorio(),
-            sobrenomeFamilia,
+            carregadorNomes.obterCodigoNomeFemininoAleatorio(),
+            codigoSobrenome,
             idadeMae,
-            "Feminino"
+            Genero.FEMININO,
+            null
         );
         adicionarRelacionamento(mae, TipoRelacionamento.MAE);
         LOGGER.info("Mãe criada: " + mae.getNomeCompleto() + ", " + mae.getIdade() + " anos");
@@ -170,24 +182,24 @@ public class GerenciadorRelacionamentos {
      */
     public Pessoa gerarPessoaAleatoria(int idadeAproximada) {
         boolean isMasculino = UtilitarioAleatorio.eventoAcontece(50);
-        String nome;
-        String genero;
+        int nome;
+        Genero genero;
         
         if (isMasculino) {
-            nome = carregadorNomes.obterNomeMasculinoAleatorio();
-            genero = "Masculino";
+            nome = carregadorNomes.obterCodigoNomeMasculinoAleatorio();
+            genero = Genero.MASCULINO;
         } else {
-            nome = carregadorNomes.obterNomeFemininoAleatorio();
-            genero = "Feminino";
+            nome = carregadorNomes.obterCodigoNomeFemininoAleatorio();
+            genero = Genero.FEMININO;
         }
         
         // Idade pode variar em até 5 anos para mais ou para menos
         int idade = idadeAproximada + UtilitarioAleatorio.gerarNumero(-5, 5);
         idade = Math.max(5, idade); // idade mínima de 5 anos
         
-        String sobrenome = carregadorNomes.obterSobrenomeAleatorio();
+        int sobrenome = carregadorNomes.obterCodigoSobrenomeAleatorio();
         
-        return new Pessoa(nome, sobrenome, idade, genero);
+        return new Pessoa(nome, sobrenome, idade, genero, null);
     }
     
     /**
@@ -199,30 +211,44 @@ public class GerenciadorRelacionamentos {
     }
     
     /**
-     * Obtém todos os relacionamentos
+     * Obtém todos os relacionamentos, na ordem de criação
+     * @return Visão somente leitura, que acompanha os relacionamentos criados depois
      */
     public List<Relacionamento> getTodosRelacionamentos() {
-        return new ArrayList<>(relacionamentos.values());
+        return relacionamentos.getTodos();
     }
     
     /**
-     * Obtém relacionamentos por tipo
+     * Obtém relacionamentos por tipo, na ordem de criação
+     * @return Visão somente leitura do índice do tipo
      */
     public List<Relacionamento> getRelacionamentosPorTipo(TipoRelacionamento tipo) {
-        return relacionamentos.values().stream()
-                .filter(r -> r.getTipo() == tipo)
-                .collect(Collectors.toList());
+        return relacionamentos.getPorTipo(tipo);
     }
     
     /**
      * Obtém um relacionamento específico por tipo (ex: pai, mãe)
-     * Retorna o primeiro encontrado
+     * Retorna o primeiro criado
      */
     public Relacionamento getRelacionamentoPorTipo(TipoRelacionamento tipo) {
-        return relacionamentos.values().stream()
-                .filter(r -> r.getTipo() == tipo)
-                .findFirst()
-                .orElse(null);
+        return relacionamentos.getPrimeiroPorTipo(tipo);
+    }
+    
+    /**
+     * Obtém os relacionamentos com pessoas de uma faixa de idade (ex: parentes
+     * acima de 60 anos), das mais velhas para as mais novas
+     * @param idadeMinima Idade mínima, inclusive
+     * @param idadeMaxima Idade máxima, inclusive
+     */
+    public List<Relacionamento> getRelacionamentosPorIdade(int idadeMinima, int idadeMaxima) {
+        return relacionamentos.getPorIdade(idadeMinima, idadeMaxima);
+    }
+    
+    /**
+     * Obtém a tabela em que os relacionamentos ficam guardados
+     */
+    public TabelaRelacionamentos getTabela() {
+        return relacionamentos;
     }
     
     /**
@@ -244,10 +270,13 @@ public class GerenciadorRelacionamentos {
     }
     
     /**
-     * Avança o tempo para todos os relacionamentos
+     * Avança o tempo para todos os relacionamentos e envelhece as pessoas,
+     * pelo relógio da tabela. O desgaste do ano é aplicado a cada
+     * relacionamento quando ele for usado, de modo que o custo não cresce
+     * com a quantidade de relacionamentos.
      */
     public void avancarTempo() {
-        relacionamentos.values().forEach(Relacionamento::avancarTempo);
+        relacionamentos.avancarTempo();
     }
     
     /**
@@ -258,6 +287,24 @@ public class GerenciadorRelacionamentos {
     public List<String> obterInteracoesDisponiveis(Personagem personagem) {
         return gerenciadorInteracoes.obterInteracoesDisponiveis(personagem);
     }
+
+    /**
+     * Obtém os ordinais das interações disponíveis, na ordem de obterInteracoesDisponiveis
+     * @param personagem Personagem cujas interações serão determinadas
+     * @return Ordinais das interações disponíveis
+     */
+    public int[] obterOrdinaisDisponiveis(Personagem personagem) {
+        return gerenciadorInteracoes.obterOrdinaisDisponiveis(personagem);
+    }
+
+    /**
+     * Obtém o nome de uma interação pelo ordinal
+     * @param interacao Ordinal da interação
+     * @return Nome da interação
+     */
+    public String getNomeInteracao(int interacao) {
+        return gerenciadorInteracoes.getNomeInteracao(interacao);
+    }
     
     /**
      * Interage com um relacionamento específico usando as regras dinâmicas
@@ -266,50 +313,69 @@ public class GerenciadorRelacionamentos {
      * @param tipoInteracao Tipo de interação (conversar, presente, insultar, etc)
      * @return Mensagem descrevendo o resultado da interação
      */
-    public String interagir(Personagem personagem, String idPessoa, String tipoInteracao) {
-        Relacionamento relacionamento = relacionamentos.get(idPessoa);
-        if (relacionamento == null) {
+    public String interagir(Personagem personagem, long idPessoa, String tipoInteracao) {
+        int posicao = relacionamentos.posicaoDe(idPessoa);
+        if (posicao < 0) {
             return "Pessoa não encontrada.";
         }
+        Relacionamento relacionamento = relacionamentos.get(posicao);
         
         return gerenciadorInteracoes.executarInteracao(personagem, relacionamento, tipoInteracao);
     }
 
+    /**
+     * Interage com um relacionamento usando uma interação já resolvida no menu
+     * @param personagem Personagem que está interagindo
+     * @param idPessoa ID da pessoa com quem interagir
+     * @param interacao Ordinal da interação (obterOrdinaisDisponiveis)
+     * @return Mensagem descrevendo o resultado da interação
+     */
+    public String interagir(Personagem personagem, long idPessoa, int interacao) {
+        int posicao = relacionamentos.posicaoDe(idPessoa);
+        if (posicao < 0) {
+            return "Pessoa não encontrada.";
+        }
+        return gerenciadorInteracoes.executarInteracao(personagem, relacionamentos.get(posicao), interacao);
+    }
+
     /**
      * Método legado para manter compatibilidade com o código existente
      * @param idPessoa ID da pessoa com quem interagir
      * @param tipoInteracao Tipo de interação (conversar, presente, insultar)
      * @return Mensagem descrevendo o resultado da interação
      */
-    public String interagir(String idPessoa, String tipoInteracao) {
-        Relacionamento relacionamento = relacionamentos.get(idPessoa);
-        if (relacionamento == null) {
+    public String interagir(long idPessoa, String tipoInteracao) {
+        int posicao = relacionamentos.posicaoDe(idPessoa);
+        if (posicao < 0) {
             return "Pessoa não encontrada.";
         }
+        Relacionamento relacionamento = relacionamentos.get(posicao);
+        Pessoa pessoa = relacionamento.getPessoa();
         
         int modificadorNivel = 0;
-        String mensagem = "";
+        // O nome completo é montado direto na mensagem, sem string intermediária
+        StringBuilder mensagem = new StringBuilder(96);
         
         switch (tipoInteracao.toLowerCase()) {
             case "conversar":
                 modificadorNivel = UtilitarioAleatorio.gerarNumero(1, 5);
-                mensagem = "Você teve uma conversa com " + relacionamento.getPessoa().getNomeCompleto() + ".";
+                pessoa.escreverNomeCompleto(mensagem.append("Você teve uma conversa com ")).append('.');
                 break;
             case "presente":
                 modificadorNivel = UtilitarioAleatorio.gerarNumero(5, 15);
-                mensagem = "Você deu um presente para " + relacionamento.getPessoa().getNomeCompleto() + 
-                            ". Eles ficaram muito felizes!";
+                pessoa.escreverNomeCompleto(mensagem.append("Você deu um presente para "))
+                        .append(". Eles ficaram muito felizes!");
                 break;
             case "insultar":
                 modificadorNivel = -UtilitarioAleatorio.gerarNumero(10, 20);
-                mensagem = "Você insultou " + relacionamento.getPessoa().getNomeCompleto() + 
-                            ". Eles ficaram chateados!";
+                pessoa.escreverNomeCompleto(mensagem.append("Você insultou "))
+                        .append(". Eles ficaram chateados!");
                 break;
             default:
                 return "Tipo de interação desconhecido.";
         }
         
         relacionamento.alterarNivel(modificadorNivel);
-        return mensagem + " Nível de relacionamento: " + relacionamento.getNivel();
+        return mensagem.append(" Nível de relacionamento: ").append(relacionamento.getNivel()).toString();
     }
 }
\ No newline at end of file
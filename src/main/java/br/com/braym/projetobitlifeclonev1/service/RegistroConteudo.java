@@ -0,0 +1,259 @@
+package br.com.braym.projetobitlifeclonev1.service;
+
+import br.com.braym.projetobitlifeclonev1.domain.CatalogoEventos;
+import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.catalogo.CatalogoBinario;
+import br.com.braym.projetobitlifeclonev1.narrativa.EventoNarrativa;
+import br.com.braym.projetobitlifeclonev1.narrativa.GrafoNarrativo;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+import br.com.braym.projetobitlifeclonev1.utils.LeitorJSON;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Registro compartilhado e imutável de todo o conteúdo do jogo: nomes,
+ * profissões, interações, eventos e grafos narrativos de cada fase da vida.
+ * O conteúdo é lido uma única vez por pasta de eventos e depois injetado nos
+ * personagens e gerenciadores, de modo que criar um personagem não faz I/O.
+ * Para a pasta padrão é usado o catálogo binário gerado no build, mapeado em
+ * memória e decodificado sob demanda; os arquivos JSON só são lidos quando o
+ * catálogo não existe ou quando há uma pasta de eventos no diretório corrente.
+ * O conteúdo de cada fase também fica em um vetor de etapas indexado pela
+ * idade, para que o turno resolva a fase do personagem com uma leitura.
+ * Instâncias são seguras para uso simultâneo por várias threads.
+ */
+public final class RegistroConteudo {
+    private static final Logger LOGGER = Logger.getLogger(RegistroConteudo.class.getName());
+
+    /** Pasta de eventos usada pelo jogo */
+    public static final String PASTA_PADRAO = "Eventos";
+
+    // Um registro por pasta de eventos, carregado na primeira solicitação
+    private static final Map<String, RegistroConteudo> REGISTROS = new ConcurrentHashMap<>();
+
+    private final String pastaEventos;
+    private final CarregadorNomes carregadorNomes;
+    private final CarregadorProfissoes carregadorProfissoes;
+    private final GerenciadorInteracoes gerenciadorInteracoes;
+
+    // Por ordinal da pasta da fase
+    private final CatalogoEventos[] catalogosPorFase;
+    private final GrafoNarrativo[] grafosPorFase;
+
+    // Por idade, de 0 a FaseDaVidaResolver.IDADE_MAXIMA
+    private final EtapaVida[] etapasPorIdade;
+
+    /**
+     * Carrega todo o conteúdo a partir de uma pasta de eventos
+     * @param pastaEventos Pasta base onde estão os eventos de cada fase
+     */
+    private RegistroConteudo(String pastaEventos) {
+        long inicio = System.nanoTime();
+        this.pastaEventos = pastaEventos;
+        CatalogoBinario catalogo = usaCatalogoBinario(pastaEventos) ? CatalogoBinario.abrirPadrao() : null;
+        this.gerenciadorInteracoes = catalogo != null && catalogo.possuiSecao(CatalogoBinario.SECAO_REGRAS_INTERACOES)
+                && !Files.isDirectory(Paths.get(GerenciadorInteracoes.PASTA_PADRAO))
+                ? new GerenciadorInteracoes(catalogo)
+                : new GerenciadorInteracoes(GerenciadorInteracoes.PASTA_PADRAO);
+        if (catalogo != null) {
+            this.carregadorNomes = new CarregadorNomes(
+                    catalogo.getTextos(CatalogoBinario.SECAO_NOMES_MASCULINOS),
+                    catalogo.getTextos(CatalogoBinario.SECAO_NOMES_FEMININOS),
+                    catalogo.getTextos(CatalogoBinario.SECAO_SOBRENOMES));
+            this.carregadorProfissoes = new CarregadorProfissoes(
+                    catalogo.getProfissoes(CatalogoBinario.SECAO_PROFISSOES_MASCULINAS),
+                    catalogo.getProfissoes(CatalogoBinario.SECAO_PROFISSOES_FEMININAS));
+            this.catalogosPorFase = carregarEventos(catalogo);
+            this.grafosPorFase = compilarNarrativas(catalogo::getEventosNarrativos);
+        } else {
+            this.carregadorNomes = new CarregadorNomes();
+            this.carregadorProfissoes = new CarregadorProfissoes();
+            this.catalogosPorFase = carregarEventos(pastaEventos);
+            LeitorJSON leitorJSON = new LeitorJSON();
+            this.grafosPorFase = compilarNarrativas(faseFolder ->
+                    leitorJSON.lerEventosNarrativos(pastaEventos + "/" + faseFolder + "/eventosNarrativa.json"));
+        }
+        this.etapasPorIdade = montarEtapas(catalogosPorFase, grafosPorFase, gerenciadorInteracoes);
+        LOGGER.info("Conteúdo de '" + pastaEventos + "' carregado "
+                + (catalogo != null ? "do catálogo binário" : "dos arquivos JSON") + " em "
+                + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Verifica se o conteúdo de uma pasta pode vir do catálogo binário, que é
+     * gerado a partir dos recursos da pasta padrão
+     * @param pastaEventos Pasta base dos eventos
+     * @return true se não houver uma pasta com o mesmo nome no diretório corrente
+     */
+    private static boolean usaCatalogoBinario(String pastaEventos) {
+        return PASTA_PADRAO.equals(pastaEventos) && !Files.isDirectory(Paths.get(pastaEventos));
+    }
+
+    /**
+     * Obtém o registro da pasta de eventos padrão
+     * @return Registro compartilhado
+     */
+    public static RegistroConteudo padrao() {
+        return obter(PASTA_PADRAO);
+    }
+
+    /**
+     * Obtém o registro de uma pasta de eventos, carregando-o se necessário
+     * @param pastaEventos Pasta base onde estão os eventos de cada fase
+     * @return Registro compartilhado da pasta
+     */
+    public static RegistroConteudo obter(String pastaEventos) {
+        return REGISTROS.computeIfAbsent(pastaEventos, RegistroConteudo::new);
+    }
+
+    /**
+     * Lê os eventos de todas as fases da vida
+     * @param pastaEventos Pasta base dos eventos
+     * @return Catálogo de eventos de cada fase, por ordinal da pasta
+     */
+    private static CatalogoEventos[] carregarEventos(String pastaEventos) {
+        LeitorJSON leitorJSON = new LeitorJSON();
+        List<String> pastas = FaseDaVidaResolver.getPastasDasFases();
+        CatalogoEventos[] catalogos = new CatalogoEventos[pastas.size()];
+        for (int i = 0; i < catalogos.length; i++) {
+            catalogos[i] = leitorJSON.lerCatalogoEventos(pastaEventos + "/" + pastas.get(i) + "/eventos.json");
+            LOGGER.fine("Carregados " + catalogos[i].getTamanho() + " eventos para a fase " + pastas.get(i));
+        }
+        return catalogos;
+    }
+
+    /**
+     * Obtém os eventos de todas as fases do catálogo binário, sem decodificá-los
+     * @param catalogo Catálogo aberto
+     * @return Catálogo de eventos de cada fase, por ordinal da pasta
+     */
+    private static CatalogoEventos[] carregarEventos(CatalogoBinario catalogo) {
+        List<String> pastas = FaseDaVidaResolver.getPastasDasFases();
+        CatalogoEventos[] catalogos = new CatalogoEventos[pastas.size()];
+        for (int i = 0; i < catalogos.length; i++) {
+            catalogos[i] = catalogo.getCatalogoEventos(pastas.get(i));
+        }
+        return catalogos;
+    }
+
+    /**
+     * Compila os eventos narrativos de todas as fases em grafos. Uma fase com
+     * eventos inválidos (ids inexistentes, ciclos, atributos desconhecidos)
+     * fica sem narrativas, e o motivo é registrado no log.
+     * @param leitor Obtém os eventos narrativos de uma fase
+     * @return Grafo narrativo de cada fase, por ordinal da pasta
+     */
+    private static GrafoNarrativo[] compilarNarrativas(Function<String, List<EventoNarrativa>> leitor) {
+        List<String> pastas = FaseDaVidaResolver.getPastasDasFases();
+        GrafoNarrativo[] grafos = new GrafoNarrativo[pastas.size()];
+        for (int i = 0; i < grafos.length; i++) {
+            try {
+                grafos[i] = GrafoNarrativo.compilar(leitor.apply(pastas.get(i)));
+            } catch (IllegalArgumentException e) {
+                grafos[i] = GrafoNarrativo.vazio();
+                LOGGER.warning("Eventos narrativos da fase " + pastas.get(i) + " ignorados: " + e.getMessage());
+            }
+        }
+        return grafos;
+    }
+
+    /**
+     * Monta o vetor de etapas por idade. Idades consecutivas com a mesma pasta
+     * e a mesma fase da vida compartilham a etapa.
+     */
+    private static EtapaVida[] montarEtapas(CatalogoEventos[] catalogos, GrafoNarrativo[] grafos,
+            GerenciadorInteracoes gerenciadorInteracoes) {
+        List<String> pastas = FaseDaVidaResolver.getPastasDasFases();
+        EtapaVida[] etapas = new EtapaVida[FaseDaVidaResolver.IDADE_MAXIMA + 1];
+        for (int idade = 0; idade < etapas.length; idade++) {
+            int indice = FaseDaVidaResolver.getIndiceDaFase(idade);
+            FaseDaVida fase = FaseDaVidaResolver.obterFaseDaVida(idade);
+            EtapaVida anterior = idade > 0 ? etapas[idade - 1] : null;
+            if (anterior != null && anterior.getIndice() == indice && anterior.getFase() == fase) {
+                etapas[idade] = anterior;
+            } else {
+                etapas[idade] = new EtapaVida(indice, pastas.get(indice), fase, catalogos[indice], grafos[indice],
+                        gerenciadorInteracoes);
+            }
+        }
+        return etapas;
+    }
+
+    public String getPastaEventos() {
+        return pastaEventos;
+    }
+
+    public CarregadorNomes getCarregadorNomes() {
+        return carregadorNomes;
+    }
+
+    public CarregadorProfissoes getCarregadorProfissoes() {
+        return carregadorProfissoes;
+    }
+
+    public GerenciadorInteracoes getGerenciadorInteracoes() {
+        return gerenciadorInteracoes;
+    }
+
+    /**
+     * Obtém o conteúdo da fase da vida de uma idade
+     * @param idade Idade do personagem (acima de IDADE_MAXIMA vale a última etapa)
+     * @return Etapa da idade
+     */
+    public EtapaVida getEtapa(int idade) {
+        if (idade < 0) {
+            throw new IllegalArgumentException("Idade não pode ser negativa: " + idade);
+        }
+        return etapasPorIdade[Math.min(idade, FaseDaVidaResolver.IDADE_MAXIMA)];
+    }
+
+    /**
+     * Obtém a etapa de uma pasta de fase, pelo ordinal da pasta
+     * @param indice Ordinal da pasta em FaseDaVidaResolver.getPastasDasFases()
+     * @return Etapa da primeira idade da pasta
+     */
+    public EtapaVida getEtapaDaFase(int indice) {
+        for (EtapaVida etapa : etapasPorIdade) {
+            if (etapa.getIndice() == indice) {
+                return etapa;
+            }
+        }
+        throw new IllegalArgumentException("Fase inexistente: " + indice);
+    }
+
+    /**
+     * Obtém os eventos de uma fase da vida
+     * @param faseFolder Pasta da fase
+     * @return Lista imutável de eventos (vazia se a fase não tiver eventos)
+     */
+    public List<Evento> getEventosDaFase(String faseFolder) {
+        return getCatalogoDaFase(faseFolder).getEventos();
+    }
+
+    /**
+     * Obtém o catálogo de eventos de uma fase da vida, com os pesos compilados
+     * @param faseFolder Pasta da fase
+     * @return Catálogo da fase (vazio se a fase não tiver eventos)
+     */
+    public CatalogoEventos getCatalogoDaFase(String faseFolder) {
+        int indice = FaseDaVidaResolver.getPastasDasFases().indexOf(faseFolder);
+        return indice < 0 ? CatalogoEventos.vazio() : catalogosPorFase[indice];
+    }
+
+    /**
+     * Obtém o grafo de eventos narrativos de uma fase da vida
+     * @param faseFolder Pasta da fase
+     * @return Grafo da fase (vazio se a fase não tiver eventos narrativos)
+     */
+    public GrafoNarrativo getGrafoNarrativoDaFase(String faseFolder) {
+        int indice = FaseDaVidaResolver.getPastasDasFases().indexOf(faseFolder);
+        return indice < 0 ? GrafoNarrativo.vazio() : grafosPorFase[indice];
+    }
+}
@@ -0,0 +1,336 @@
+package br.com.braym.projetobitlifeclonev1.service;
+
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes.InteracaoInfo;
+import br.com.braym.projetobitlifeclonev1.utils.UtilitarioAleatorio;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regras de interação compiladas a partir dos arquivos da pasta Interacoes.
+ *
+ * Cada interação recebe um ordinal (a ordem em que aparece pela primeira vez
+ * em interacoes_disponiveis.json). A disponibilidade por fase é uma máscara
+ * de bits indexada pelo ordinal da fase, e as regras de cada par
+ * (interação, categoria) ocupam um intervalo de vetores paralelos com os
+ * modificadores já convertidos para inteiros. O nome é resolvido para o
+ * ordinal uma vez, ao montar o menu; executar uma interação é só leitura de
+ * vetores.
+ *
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class TabelaInteracoes {
+    // Máscaras de disponibilidade usam um long por fase
+    private static final int MAXIMO_INTERACOES = Long.SIZE;
+
+    /**
+     * Categorias de regras dos arquivos de interação
+     */
+    public enum Categoria {
+        PADRAO("padroes"),
+        FAMILIAR("familiar"),
+        AMIZADE("amizade"),
+        ROMANTICO("romantico");
+
+        private final String chave;
+
+        Categoria(String chave) {
+            this.chave = chave;
+        }
+
+        public String getChave() {
+            return chave;
+        }
+
+        /**
+         * Obtém a categoria de regras de um tipo de relacionamento
+         * @param tipo Tipo do relacionamento
+         * @return Categoria correspondente (PADRAO para colegas)
+         */
+        public static Categoria de(TipoRelacionamento tipo) {
+            return switch (tipo) {
+            case PAI, MAE, FILHO, IRMAO -> FAMILIAR;
+            case AMIZADE -> AMIZADE;
+            case NAMORO, CASAMENTO -> ROMANTICO;
+            case COLEGA -> PADRAO;
+            };
+        }
+
+        private static Categoria porChave(String chave) {
+            for (Categoria categoria : values()) {
+                if (categoria.chave.equals(chave)) {
+                    return categoria;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final int CATEGORIAS = Categoria.values().length;
+    private static final TabelaInteracoes VAZIA = new TabelaInteracoes(new String[0], Map.of(), new long[0],
+            List.of(), new int[0][], new int[1], new String[0], new int[0], new int[0], new int[0], new int[0], new int[0], new int[0],
+            new int[0], new int[0]);
+
+    private final String[] nomes;
+    private final Map<String, Integer> ordinais;
+
+    // Por fase
+    private final long[] disponiveisPorFase;
+    private final List<List<String>> nomesPorFase;
+    private final int[][] ordinaisPorFase;
+
+    // Regras de (interação, categoria) em [primeiraRegra[i * CATEGORIAS + c], primeiraRegra[i * CATEGORIAS + c + 1])
+    private final int[] primeiraRegra;
+
+    // Por regra
+    private final String[] textos;
+    private final int[] nivelMinimo;
+    private final int[] nivelMaximo;
+    private final int[] felicidadeMinima;
+    private final int[] felicidadeMaxima;
+    private final int[] custoMinimo;
+    private final int[] custoMaximo;
+    private final int[] chanceRetaliacao;
+    private final int[] chanceTermino;
+
+    private TabelaInteracoes(String[] nomes, Map<String, Integer> ordinais, long[] disponiveisPorFase,
+            List<List<String>> nomesPorFase, int[][] ordinaisPorFase, int[] primeiraRegra, String[] textos, int[] nivelMinimo, int[] nivelMaximo, int[] felicidadeMinima,
+            int[] felicidadeMaxima, int[] custoMinimo, int[] custoMaximo, int[] chanceRetaliacao,
+            int[] chanceTermino) {
+        this.nomes = nomes;
+        this.ordinais = ordinais;
+        this.disponiveisPorFase = disponiveisPorFase;
+        this.nomesPorFase = nomesPorFase;
+        this.ordinaisPorFase = ordinaisPorFase;
+        this.primeiraRegra = primeiraRegra;
+        this.textos = textos;
+        this.nivelMinimo = nivelMinimo;
+        this.nivelMaximo = nivelMaximo;
+        this.felicidadeMinima = felicidadeMinima;
+        this.felicidadeMaxima = felicidadeMaxima;
+        this.custoMinimo = custoMinimo;
+        this.custoMaximo = custoMaximo;
+        this.chanceRetaliacao = chanceRetaliacao;
+        this.chanceTermino = chanceTermino;
+    }
+
+    /**
+     * Obtém uma tabela sem interações
+     * @return Tabela vazia compartilhada
+     */
+    public static TabelaInteracoes vazia() {
+        return VAZIA;
+    }
+
+    /**
+     * Compila as regras de interação
+     *
+     * @param pastasDasFases     Pastas das fases, na ordem dos ordinais
+     * @param disponiveisPorFase Interações disponíveis em cada pasta de fase
+     * @param regrasPorInteracao Regras de cada interação, por chave de categoria
+     * @return Tabela compilada
+     * @throws IllegalArgumentException se uma fase, interação ou categoria não
+     *         existir, se uma interação não tiver regras padrão ou se algum
+     *         modificador for inválido
+     */
+    public static TabelaInteracoes compilar(List<String> pastasDasFases, Map<String, List<String>> disponiveisPorFase,
+            Map<String, Map<String, List<InteracaoInfo>>> regrasPorInteracao) {
+        // Ordinais das interações, na ordem em que aparecem nas fases
+        Map<String, Integer> ordinais = new LinkedHashMap<>();
+        long[] disponiveis = new long[pastasDasFases.size()];
+        List<List<String>> nomesPorFase = new ArrayList<>(pastasDasFases.size());
+        int[][] ordinaisPorFase = new int[pastasDasFases.size()][0];
+        for (int fase = 0; fase < pastasDasFases.size(); fase++) {
+            nomesPorFase.add(List.of());
+        }
+        for (Map.Entry<String, List<String>> entrada : disponiveisPorFase.entrySet()) {
+            int fase = pastasDasFases.indexOf(entrada.getKey());
+            if (fase < 0) {
+                throw new IllegalArgumentException("Fase desconhecida: " + entrada.getKey());
+            }
+            int[] daFase = new int[entrada.getValue().size()];
+            int posicao = 0;
+            for (String nome : entrada.getValue()) {
+                if (!regrasPorInteracao.containsKey(nome)) {
+                    throw new IllegalArgumentException("Interação sem arquivo de regras: " + nome);
+                }
+                Integer ordinal = ordinais.computeIfAbsent(nome, chave -> ordinais.size());
+                if (ordinal >= MAXIMO_INTERACOES) {
+                    throw new IllegalArgumentException("Mais de " + MAXIMO_INTERACOES + " interações");
+                }
+                disponiveis[fase] |= 1L << ordinal;
+                daFase[posicao++] = ordinal;
+            }
+            nomesPorFase.set(fase, List.copyOf(entrada.getValue()));
+            ordinaisPorFase[fase] = daFase;
+        }
+
+        String[] nomes = ordinais.keySet().toArray(new String[0]);
+        int[] primeiraRegra = new int[nomes.length * CATEGORIAS + 1];
+        List<InteracaoInfo> regras = new ArrayList<>();
+        for (int interacao = 0; interacao < nomes.length; interacao++) {
+            Map<String, List<InteracaoInfo>> porCategoria = regrasPorInteracao.get(nomes[interacao]);
+            for (String chave : porCategoria.keySet()) {
+                if (Categoria.porChave(chave) == null) {
+                    throw new IllegalArgumentException("Categoria desconhecida em " + nomes[interacao] + ": " + chave);
+                }
+            }
+            List<InteracaoInfo> padroes = porCategoria.get(Categoria.PADRAO.chave);
+            if (padroes == null || padroes.isEmpty()) {
+                throw new IllegalArgumentException("Interação sem regras padrão: " + nomes[interacao]);
+            }
+            for (Categoria categoria : Categoria.values()) {
+                primeiraRegra[interacao * CATEGORIAS + categoria.ordinal()] = regras.size();
+                // Categorias sem regras próprias usam as regras padrão
+                List<InteracaoInfo> daCategoria = porCategoria.get(categoria.chave);
+                regras.addAll(daCategoria == null || daCategoria.isEmpty() ? padroes : daCategoria);
+            }
+        }
+        primeiraRegra[nomes.length * CATEGORIAS] = regras.size();
+
+        int total = regras.size();
+        String[] textos = new String[total];
+        int[] nivelMinimo = new int[total];
+        int[] nivelMaximo = new int[total];
+        int[] felicidadeMinima = new int[total];
+        int[] felicidadeMaxima = new int[total];
+        int[] custoMinimo = new int[total];
+        int[] custoMaximo = new int[total];
+        int[] chanceRetaliacao = new int[total];
+        int[] chanceTermino = new int[total];
+        for (int i = 0; i < total; i++) {
+            InteracaoInfo regra = regras.get(i);
+            if (regra == null || regra.getTexto() == null) {
+                throw new IllegalArgumentException("Regra de interação sem texto");
+            }
+            String contexto = regra.getTexto();
+            textos[i] = regra.getTexto();
+            int[] nivel = intervalo(regra.getModificadorNivel(), true, contexto);
+            nivelMinimo[i] = nivel[0];
+            nivelMaximo[i] = nivel[1];
+            int[] felicidade = intervalo(regra.getModificadorFelicidade(), true, contexto);
+            felicidadeMinima[i] = felicidade[0];
+            felicidadeMaxima[i] = felicidade[1];
+            int[] custo = intervalo(regra.getCusto(), false, contexto);
+            custoMinimo[i] = custo[0];
+            custoMaximo[i] = custo[1];
+            chanceRetaliacao[i] = chance(regra.getChanceRetaliacao(), contexto);
+            chanceTermino[i] = chance(regra.getChanceTermino(), contexto);
+        }
+
+        return new TabelaInteracoes(nomes, Map.copyOf(ordinais), disponiveis, nomesPorFase, ordinaisPorFase,
+                primeiraRegra, textos, nivelMinimo,
+                nivelMaximo, felicidadeMinima, felicidadeMaxima, custoMinimo, custoMaximo, chanceRetaliacao,
+                chanceTermino);
+    }
+
+    private static int[] intervalo(int[] valores, boolean obrigatorio, String contexto) {
+        if (valores == null && !obrigatorio) {
+            return new int[] { 0, 0 };
+        }
+        if (valores == null || valores.length != 2 || valores[0] > valores[1]) {
+            throw new IllegalArgumentException("Intervalo inválido na regra: " + contexto);
+        }
+        return valores;
+    }
+
+    private static int chance(int valor, String contexto) {
+        if (valor < 0 || valor > 100) {
+            throw new IllegalArgumentException("Chance fora de 0 a 100 na regra: " + contexto);
+        }
+        return valor;
+    }
+
+    /**
+     * Obtém o ordinal de uma interação pelo nome
+     * @param nome Nome da interação
+     * @return Ordinal ou -1 se a interação não existir
+     */
+    public int ordinalDe(String nome) {
+        Integer ordinal = nome == null ? null : ordinais.get(nome);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public int getQuantidadeInteracoes() {
+        return nomes.length;
+    }
+
+    public String getNome(int interacao) {
+        return nomes[interacao];
+    }
+
+    /**
+     * Verifica se uma interação está disponível em uma fase
+     * @param fase      Ordinal da fase
+     * @param interacao Ordinal da interação
+     * @return true se disponível
+     */
+    public boolean isDisponivel(int fase, int interacao) {
+        return fase >= 0 && fase < disponiveisPorFase.length && interacao >= 0
+                && (disponiveisPorFase[fase] & (1L << interacao)) != 0;
+    }
+
+    /**
+     * Obtém os nomes das interações disponíveis em uma fase
+     * @param fase Ordinal da fase
+     * @return Lista imutável, na ordem do arquivo (vazia se a fase não existir)
+     */
+    public List<String> getNomesDisponiveis(int fase) {
+        return fase >= 0 && fase < nomesPorFase.size() ? nomesPorFase.get(fase) : List.of();
+    }
+
+    /**
+     * Obtém os ordinais das interações disponíveis em uma fase, para montar
+     * o menu sem resolver nomes na hora de executar
+     * @param fase Ordinal da fase
+     * @return Cópia dos ordinais, na mesma ordem de getNomesDisponiveis
+     */
+    public int[] getOrdinaisDisponiveis(int fase) {
+        return fase >= 0 && fase < ordinaisPorFase.length ? ordinaisPorFase[fase].clone() : new int[0];
+    }
+
+    /**
+     * Sorteia uma das regras de uma interação para uma categoria
+     * @param interacao Ordinal da interação
+     * @param categoria Categoria do relacionamento
+     * @return Índice da regra
+     */
+    public int sortearRegra(int interacao, Categoria categoria) {
+        int posicao = interacao * CATEGORIAS + categoria.ordinal();
+        int inicio = primeiraRegra[posicao];
+        int quantidade = primeiraRegra[posicao + 1] - inicio;
+        return quantidade == 1 ? inicio : inicio + UtilitarioAleatorio.gerarNumero(0, quantidade - 1);
+    }
+
+    public String getTexto(int regra) {
+        return textos[regra];
+    }
+
+    public int sortearModificadorNivel(int regra) {
+        return UtilitarioAleatorio.gerarNumero(nivelMinimo[regra], nivelMaximo[regra]);
+    }
+
+    public int sortearModificadorFelicidade(int regra) {
+        return UtilitarioAleatorio.gerarNumero(felicidadeMinima[regra], felicidadeMaxima[regra]);
+    }
+
+    /**
+     * Sorteia o custo da interação
+     * @param regra Índice da regra
+     * @return Custo a descontar das finanças (0 se a regra não tiver custo)
+     */
+    public int sortearCusto(int regra) {
+        return custoMaximo[regra] == 0 ? 0 : UtilitarioAleatorio.gerarNumero(custoMinimo[regra], custoMaximo[regra]);
+    }
+
+    public int getChanceRetaliacao(int regra) {
+        return chanceRetaliacao[regra];
+    }
+
+    public int getChanceTermino(int regra) {
+        return chanceTermino[regra];
+    }
+}
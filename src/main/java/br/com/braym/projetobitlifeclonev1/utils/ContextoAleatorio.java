@@ -0,0 +1,117 @@
+package br.com.braym.projetobitlifeclonev1.utils;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Contexto de geração aleatória de uma simulação. Cada simulação recebe o seu
+ * próprio gerador (SplittableRandom), criado a partir de uma semente, o que
+ * torna a vida reproduzível e evita disputa entre threads.
+ *
+ * O contexto é associado à thread corrente durante a execução da simulação e
+ * consumido por UtilitarioAleatorio.
+ */
+public final class ContextoAleatorio {
+    private static final ThreadLocal<ContextoAleatorio> CONTEXTO_ATUAL = new ThreadLocal<>();
+
+    // Constante de Weyl usada para espalhar as sementes derivadas
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long semente;
+    private final SplittableRandom gerador;
+
+    /**
+     * Cria um contexto a partir de uma semente
+     * @param semente Semente que determina toda a sequência gerada
+     */
+    public ContextoAleatorio(long semente) {
+        this.semente = semente;
+        this.gerador = new SplittableRandom(semente);
+    }
+
+    private ContextoAleatorio(long semente, SplittableRandom gerador) {
+        this.semente = semente;
+        this.gerador = gerador;
+    }
+
+    /**
+     * Cria um novo contexto independente deste, para uso em outra simulação
+     * ou outra thread. A sequência do novo contexto é determinada pelo estado
+     * atual deste contexto.
+     * @return Novo contexto independente
+     */
+    public ContextoAleatorio dividir() {
+        SplittableRandom filho = gerador.split();
+        return new ContextoAleatorio(filho.nextLong(), filho);
+    }
+
+    /**
+     * Deriva de forma determinística a semente de uma simulação a partir de
+     * uma semente mestre e do índice da simulação. Permite reproduzir qualquer
+     * vida de um lote sem reproduzir as anteriores.
+     * @param sementeMestre Semente do lote
+     * @param indice Índice da simulação no lote
+     * @return Semente da simulação
+     */
+    public static long derivarSemente(long sementeMestre, long indice) {
+        long z = sementeMestre + (indice + 1) * GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public RandomGenerator getGerador() {
+        return gerador;
+    }
+
+    /**
+     * Executa uma ação com este contexto associado à thread corrente
+     * @param acao Ação a executar
+     */
+    public void executar(Runnable acao) {
+        ContextoAleatorio anterior = CONTEXTO_ATUAL.get();
+        CONTEXTO_ATUAL.set(this);
+        try {
+            acao.run();
+        } finally {
+            restaurar(anterior);
+        }
+    }
+
+    /**
+     * Executa uma função com este contexto associado à thread corrente
+     * @param <T> Tipo do resultado
+     * @param funcao Função a executar
+     * @return Resultado da função
+     */
+    public <T> T executar(Supplier<T> funcao) {
+        ContextoAleatorio anterior = CONTEXTO_ATUAL.get();
+        CONTEXTO_ATUAL.set(this);
+        try {
+            return funcao.get();
+        } finally {
+            restaurar(anterior);
+        }
+    }
+
+    /**
+     * Obtém o contexto associado à thread corrente
+     * @return Contexto atual ou null se nenhum estiver associado
+     */
+    public static ContextoAleatorio atual() {
+        return CONTEXTO_ATUAL.get();
+    }
+
+    private static void restaurar(ContextoAleatorio anterior) {
+        if (anterior == null) {
+            CONTEXTO_ATUAL.remove();
+        } else {
+            CONTEXTO_ATUAL.set(anterior);
+        }
+    }
+}
@@ -1,52 +1,109 @@
 package br.com.braym.projetobitlifeclonev1.utils;
 
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.List;
 
 /**
  * Utilitário para determinar a fase da vida e pasta correspondente com base na idade.
- * Implementado usando TreeMap para melhor escalabilidade e facilidade de manutenção.
+ * As faixas de idade são expandidas, uma única vez, em vetores indexados pela
+ * própria idade (0 a IDADE_MAXIMA), de modo que cada consulta é uma leitura de
+ * vetor. Idades acima de IDADE_MAXIMA usam a última fase. Os vetores nunca são
+ * alterados, então as consultas são seguras entre threads.
  */
-public class FaseDaVidaResolver {
-    
-    // Mapeamento de idade para fase da vida
-    private static final NavigableMap<Integer, FaseDaVida> FASES_POR_IDADE = new TreeMap<>();
-    
-    // Mapeamento de idade para pasta
-    private static final NavigableMap<Integer, String> PASTAS_POR_IDADE = new TreeMap<>();
-    
-    // Inicialização dos mapeamentos
+public final class FaseDaVidaResolver {
+
+    /** Maior idade com entrada própria nos vetores; acima dela vale a última fase */
+    public static final int IDADE_MAXIMA = 120;
+
+    // Pastas das fases, em ordem de idade; a posição é o ordinal da fase
+    private static final List<String> PASTAS = List.of(
+            "01-PrimeiraInfancia_0-3",
+            "02-SegundaInfancia_3-6",
+            "03-TerceiraInfancia_6-10",
+            "04-AdolescenciaInicial_11-14",
+            "05-AdolescenciaMedia_15-17",
+            "06-AdolescenciaTardia_18-21",
+            "07-Juventude_22-29",
+            "08-AdultoJovem_30-39",
+            "09-MeiaIdade_40-59",
+            "10-IdosoJovem_60-74",
+            "11-IdosoMaduro_75-89",
+            "12-VelhiceAvancada_90");
+
+    // Idade mínima de cada pasta de PASTAS
+    private static final int[] INICIO_DAS_PASTAS = { 0, 3, 6, 11, 15, 18, 22, 30, 40, 60, 75, 90 };
+
+    // Fases da vida e a idade mínima de cada uma
+    private static final FaseDaVida[] FASES = {
+            FaseDaVida.INFANCIA,     // 0-11 anos
+            FaseDaVida.ADOLESCENCIA, // 12-17 anos
+            FaseDaVida.ADULTO,       // 18-64 anos
+            FaseDaVida.VELHICE };    // 65+ anos
+    private static final int[] INICIO_DAS_FASES = { 0, 12, 18, 65 };
+
+    // Por idade
+    private static final byte[] INDICE_DA_PASTA_POR_IDADE = new byte[IDADE_MAXIMA + 1];
+    private static final FaseDaVida[] FASE_POR_IDADE = new FaseDaVida[IDADE_MAXIMA + 1];
+
     static {
-        // Configuração das fases da vida
-        FASES_POR_IDADE.put(0, FaseDaVida.INFANCIA);     // 0-11 anos
-        FASES_POR_IDADE.put(12, FaseDaVida.ADOLESCENCIA); // 12-17 anos
-        FASES_POR_IDADE.put(18, FaseDaVida.ADULTO);      // 18-64 anos
-        FASES_POR_IDADE.put(65, FaseDaVida.VELHICE);     // 65+ anos
-        
-        // Configuração das pastas por idade
-        PASTAS_POR_IDADE.put(0, "01-PrimeiraInfancia_0-3");
-        PASTAS_POR_IDADE.put(3, "02-SegundaInfancia_3-6");
-        PASTAS_POR_IDADE.put(6, "03-TerceiraInfancia_6-10");
-        PASTAS_POR_IDADE.put(11, "04-AdolescenciaInicial_11-14");
-        PASTAS_POR_IDADE.put(15, "05-AdolescenciaMedia_15-17");
-        PASTAS_POR_IDADE.put(18, "06-AdolescenciaTardia_18-21");
-        PASTAS_POR_IDADE.put(22, "07-Juventude_22-29");
-        PASTAS_POR_IDADE.put(30, "08-AdultoJovem_30-39");
-        PASTAS_POR_IDADE.put(40, "09-MeiaIdade_40-59");
-        PASTAS_POR_IDADE.put(60, "10-IdosoJovem_60-74");
-        PASTAS_POR_IDADE.put(75, "11-IdosoMaduro_75-89");
-        PASTAS_POR_IDADE.put(90, "12-VelhiceAvancada_90");
+        int pasta = 0;
+        int fase = 0;
+        for (int idade = 0; idade <= IDADE_MAXIMA; idade++) {
+            while (pasta + 1 < INICIO_DAS_PASTAS.length && INICIO_DAS_PASTAS[pasta + 1] <= idade) {
+                pasta++;
+            }
+            while (fase + 1 < INICIO_DAS_FASES.length && INICIO_DAS_FASES[fase + 1] <= idade) {
+                fase++;
+            }
+            INDICE_DA_PASTA_POR_IDADE[idade] = (byte) pasta;
+            FASE_POR_IDADE[idade] = FASES[fase];
+        }
+    }
+
+    private FaseDaVidaResolver() {
     }
-    
+
+    private static int posicao(int idade) {
+        if (idade < 0) {
+            throw new IllegalArgumentException("Idade não pode ser negativa: " + idade);
+        }
+        return Math.min(idade, IDADE_MAXIMA);
+    }
+
     /**
      * Obtém a pasta da fase da vida para a idade específica
      * @param idade Idade do personagem
      * @return Nome da pasta correspondente
      */
     public static String getPastaDaFaseDaVida(int idade) {
-        return PASTAS_POR_IDADE.floorEntry(idade).getValue();
+        return PASTAS.get(getIndiceDaFase(idade));
+    }
+
+    /**
+     * Obtém as pastas de todas as fases da vida, em ordem de idade
+     * @return Lista imutável com o nome das pastas
+     */
+    public static List<String> getPastasDasFases() {
+        return PASTAS;
+    }
+
+    /**
+     * Obtém a quantidade de pastas de fases da vida
+     * @return Tamanho de getPastasDasFases()
+     */
+    public static int getQuantidadeFases() {
+        return PASTAS.size();
     }
-    
+
+    /**
+     * Obtém a posição da fase da vida da idade entre as pastas de
+     * getPastasDasFases(), para indexar tabelas por fase
+     * @param idade Idade do personagem
+     * @return Índice da fase (0 para a primeira)
+     */
+    public static int getIndiceDaFase(int idade) {
+        return INDICE_DA_PASTA_POR_IDADE[posicao(idade)];
+    }
+
     /**
      * Método para compatibilidade com código legado
      * @param idade Idade do personagem
@@ -55,16 +112,16 @@ public class FaseDaVidaResolver {
     public static String getFaseDaVidaFolder(int idade) {
         return getPastaDaFaseDaVida(idade);
     }
-    
+
     /**
      * Obtém o enum da fase da vida correspondente à idade
      * @param idade Idade do personagem
      * @return Enum FaseDaVida correspondente
      */
     public static FaseDaVida obterFaseDaVida(int idade) {
-        return FASES_POR_IDADE.floorEntry(idade).getValue();
+        return FASE_POR_IDADE[posicao(idade)];
     }
-    
+
     /**
      * Verifica se houve mudança de fase entre duas idades
      * @param idadeAtual Idade atual
@@ -74,7 +131,7 @@ public class FaseDaVidaResolver {
     public static boolean houveMudancaDeFase(int idadeAtual, int idadeAnterior) {
         return obterFaseDaVida(idadeAtual) != obterFaseDaVida(idadeAnterior);
     }
-    
+
     /**
      * Verifica se houve mudança de pasta entre duas idades
      * @param idadeAtual Idade atual
@@ -82,26 +139,6 @@ public class FaseDaVidaResolver {
      * @return true se houve mudança de pasta
      */
     public static boolean houveMudancaDePasta(int idadeAtual, int idadeAnterior) {
-        return !getPastaDaFaseDaVida(idadeAtual).equals(getPastaDaFaseDaVida(idadeAnterior));
-    }
-    
-    /**
-     * Adiciona uma nova configuração de pasta para uma idade específica.
-     * Útil para extensões ou testes.
-     * @param idadeMinima Idade mínima para a pasta
-     * @param nomePasta Nome da pasta
-     */
-    public static void adicionarConfiguracaoPasta(int idadeMinima, String nomePasta) {
-        PASTAS_POR_IDADE.put(idadeMinima, nomePasta);
-    }
-    
-    /**
-     * Adiciona uma nova configuração de fase para uma idade específica.
-     * Útil para extensões ou testes.
-     * @param idadeMinima Idade mínima para a fase
-     * @param fase Enum da fase
-     */
-    public static void adicionarConfiguracaoFase(int idadeMinima, FaseDaVida fase) {
-        FASES_POR_IDADE.put(idadeMinima, fase);
+        return getIndiceDaFase(idadeAtual) != getIndiceDaFase(idadeAnterior);
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,10 @@ package br.com.braym.projetobitlifeclonev1.utils;
 
 import br.com.braym.projetobitlifeclonev1.domain.Consequencia;
 import br.com.braym.projetobitlifeclonev1.domain.ConsequenciaGrupo;
+import br.com.braym.projetobitlifeclonev1.domain.CatalogoEventos;
 import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.narrativa.EventoNarrativa;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes.InteracaoInfo;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
@@ -14,6 +17,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -49,6 +53,98 @@ public class LeitorJSON {
         }
     }
 
+    /**
+     * Lê os eventos de uma fase e compila os seus pesos em um catálogo com
+     * tabela de alias, para sorteios ponderados em tempo constante
+     * @param caminhoArquivo Caminho do arquivo de eventos da fase
+     * @return Catálogo da fase (vazio em caso de erro)
+     */
+    public CatalogoEventos lerCatalogoEventos(String caminhoArquivo) {
+        List<Evento> eventos = lerEventos(caminhoArquivo);
+        return eventos.isEmpty() ? CatalogoEventos.vazio() : new CatalogoEventos(eventos);
+    }
+
+    /**
+     * Lê os eventos narrativos de uma fase (eventosNarrativa.json). A validação
+     * fica a cargo da compilação do GrafoNarrativo.
+     * @param caminhoArquivo Caminho do arquivo
+     * @return Lista de eventos narrativos ou lista vazia em caso de erro
+     */
+    public List<EventoNarrativa> lerEventosNarrativos(String caminhoArquivo) {
+        Type listaTipo = new TypeToken<List<EventoNarrativa>>() {}.getType();
+        try {
+            Path path = Paths.get(caminhoArquivo);
+            if (Files.exists(path)) {
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    List<EventoNarrativa> eventos = GSON.fromJson(reader, listaTipo);
+                    return eventos != null ? eventos : new ArrayList<>();
+                }
+            }
+
+            try (InputStream is = getClass().getResourceAsStream("/" + caminhoArquivo)) {
+                if (is == null) {
+                    LOGGER.fine("Eventos narrativos não encontrados: " + caminhoArquivo);
+                    return new ArrayList<>();
+                }
+                try (InputStreamReader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                    List<EventoNarrativa> eventos = GSON.fromJson(reader, listaTipo);
+                    return eventos != null ? eventos : new ArrayList<>();
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Erro ao ler eventos narrativos do arquivo: " + caminhoArquivo, e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Lê as interações disponíveis em cada fase (interacoes_disponiveis.json)
+     * @param caminhoArquivo Caminho do arquivo
+     * @return Mapa pasta da fase -> nomes das interações, na ordem do arquivo,
+     *         ou mapa vazio em caso de erro
+     */
+    public Map<String, List<String>> lerInteracoesDisponiveis(String caminhoArquivo) {
+        Type listaTipo = new TypeToken<List<InteracoesDaFase>>() {}.getType();
+        try {
+            List<InteracoesDaFase> fases = lerArquivoOuRecurso(caminhoArquivo, listaTipo);
+            Map<String, List<String>> interacoesPorFase = new LinkedHashMap<>();
+            if (fases == null) {
+                LOGGER.warning("Interações disponíveis não encontradas: " + caminhoArquivo);
+                return interacoesPorFase;
+            }
+            for (InteracoesDaFase fase : fases) {
+                if (fase != null && fase.fase != null) {
+                    interacoesPorFase.put(fase.fase,
+                            fase.interacoesDisponiveis != null ? fase.interacoesDisponiveis : new ArrayList<>());
+                }
+            }
+            return interacoesPorFase;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Erro ao ler interações disponíveis do arquivo: " + caminhoArquivo, e);
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Lê as regras de uma interação (por exemplo, conversar.json). A validação
+     * fica a cargo da compilação da TabelaInteracoes.
+     * @param caminhoArquivo Caminho do arquivo
+     * @return Mapa categoria -> regras ou null se o arquivo não existir ou for inválido
+     */
+    public Map<String, List<InteracaoInfo>> lerRegrasInteracao(String caminhoArquivo) {
+        Type mapaTipo = new TypeToken<LinkedHashMap<String, List<InteracaoInfo>>>() {}.getType();
+        try {
+            Map<String, List<InteracaoInfo>> regras = lerArquivoOuRecurso(caminhoArquivo, mapaTipo);
+            if (regras == null) {
+                LOGGER.warning("Regras de interação não encontradas: " + caminhoArquivo);
+            }
+            return regras;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Erro ao ler regras de interação do arquivo: " + caminhoArquivo, e);
+            return null;
+        }
+    }
+
     /**
      * Lê consequências de um arquivo JSON
      * @param nomeArquivo Nome do arquivo
@@ -168,9 +264,38 @@ public class LeitorJSON {
         }
     }
 
+    /**
+     * Lê um JSON do sistema de arquivos ou, se não existir, dos recursos
+     * @return Objeto lido ou null se o arquivo não for encontrado
+     */
+    private <T> T lerArquivoOuRecurso(String caminhoArquivo, Type tipo) throws IOException {
+        Path path = Paths.get(caminhoArquivo);
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                return GSON.fromJson(reader, tipo);
+            }
+        }
+        try (InputStream is = getClass().getResourceAsStream("/" + caminhoArquivo)) {
+            if (is == null) {
+                return null;
+            }
+            try (InputStreamReader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                return GSON.fromJson(reader, tipo);
+            }
+        }
+    }
+
     private Map<Integer, List<Consequencia>> deserializarConsequencias(Reader reader) {
         Type grupoType = new TypeToken<List<ConsequenciaGrupo>>() {}.getType();
         List<ConsequenciaGrupo> grupos = GSON.fromJson(reader, grupoType);
         return grupos.stream().collect(Collectors.toMap(ConsequenciaGrupo::getId, ConsequenciaGrupo::getEfeitos));
     }
-}
\ No newline at end of file
+
+    /**
+     * Entrada de interacoes_disponiveis.json
+     */
+    private static class InteracoesDaFase {
+        private String fase;
+        private List<String> interacoesDisponiveis;
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.braym.projetobitlifeclonev1.utils;
+
+/**
+ * Sorteio ponderado sem reposição sobre os índices de um catálogo.
+ * Os sorteios usam uma tabela de alias (O(1)); índices já usados que forem
+ * sorteados são rejeitados e o sorteio é repetido. Quando o peso ainda
+ * disponível cai abaixo da metade do peso coberto pela tabela, ela é
+ * reconstruída apenas com os índices disponíveis, o que limita o número
+ * esperado de tentativas a dois por sorteio.
+ */
+public class SelecaoPonderada {
+    // Fração mínima do peso da tabela que precisa continuar disponível
+    private static final double FRACAO_RECONSTRUCAO = 0.5;
+
+    private final double[] pesos;
+    private final TabelaAlias tabelaCompleta;
+    private final SelecaoSemReposicao selecao;
+
+    // Tabela em uso e o índice do catálogo de cada coluna (null quando é a completa)
+    private TabelaAlias tabela;
+    private int[] indicesDaTabela;
+    private double pesoDaTabela;
+    private double pesoDisponivel;
+
+    /**
+     * Cria uma seleção com todos os índices disponíveis
+     * @param pesos Peso de cada índice do catálogo (não é copiado nem alterado)
+     * @param tabelaCompleta Tabela de alias construída com todos os pesos
+     */
+    public SelecaoPonderada(double[] pesos, TabelaAlias tabelaCompleta) {
+        if (tabelaCompleta.getTamanho() != pesos.length) {
+            throw new IllegalArgumentException("A tabela de alias não corresponde aos pesos");
+        }
+        this.pesos = pesos;
+        this.tabelaCompleta = tabelaCompleta;
+        this.selecao = new SelecaoSemReposicao(pesos.length);
+        reiniciar();
+    }
+
+    /**
+     * Sorteia um índice disponível com probabilidade proporcional ao seu peso
+     * e o marca como usado
+     * @return Índice sorteado ou -1 se não houver índices disponíveis
+     */
+    public int sortear() {
+        if (selecao.getDisponiveis() == 0) {
+            return -1;
+        }
+        if (pesoDisponivel < pesoDaTabela * FRACAO_RECONSTRUCAO) {
+            reconstruirTabela();
+        }
+
+        int indice;
+        do {
+            int coluna = tabela.sortear();
+            indice = indicesDaTabela == null ? coluna : indicesDaTabela[coluna];
+        } while (!selecao.isDisponivel(indice));
+
+        marcarUsado(indice);
+        return indice;
+    }
+
+    /**
+     * Marca um índice como usado. Não faz nada se ele já estiver usado.
+     * @param indice Índice a marcar
+     */
+    public void marcarUsado(int indice) {
+        if (selecao.isDisponivel(indice)) {
+            selecao.marcarUsado(indice);
+            pesoDisponivel -= pesos[indice];
+        }
+    }
+
+    public boolean isDisponivel(int indice) {
+        return selecao.isDisponivel(indice);
+    }
+
+    public int getDisponiveis() {
+        return selecao.getDisponiveis();
+    }
+
+    /**
+     * Torna todos os índices disponíveis novamente
+     */
+    public void reiniciar() {
+        selecao.reiniciar();
+        tabela = tabelaCompleta;
+        indicesDaTabela = null;
+        pesoDaTabela = somarDisponiveis();
+        pesoDisponivel = pesoDaTabela;
+    }
+
+    /**
+     * Reconstrói a tabela de alias apenas com os índices disponíveis
+     */
+    private void reconstruirTabela() {
+        int quantidade = selecao.getDisponiveis();
+        int[] indices = new int[quantidade];
+        double[] pesosDisponiveis = new double[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            indices[i] = selecao.getDisponivel(i);
+            pesosDisponiveis[i] = pesos[indices[i]];
+        }
+        tabela = new TabelaAlias(pesosDisponiveis, quantidade);
+        indicesDaTabela = indices;
+        // Recalcula a soma para não acumular erro de arredondamento
+        pesoDaTabela = somarDisponiveis();
+        pesoDisponivel = pesoDaTabela;
+    }
+
+    private double somarDisponiveis() {
+        double soma = 0;
+        for (int i = 0; i < selecao.getDisponiveis(); i++) {
+            soma += pesos[selecao.getDisponivel(i)];
+        }
+        return soma;
+    }
+}
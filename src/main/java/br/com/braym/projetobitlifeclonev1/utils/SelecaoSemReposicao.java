@@ -0,0 +1,98 @@
+package br.com.braym.projetobitlifeclonev1.utils;
+
+/**
+ * Sorteio sem reposição sobre os índices 0..tamanho-1 de um catálogo.
+ * Mantém os índices ainda disponíveis no início de um vetor (troca e remoção),
+ * de modo que sortear, marcar como usado e consultar a quantidade disponível
+ * custam O(1) e não alocam memória.
+ */
+public class SelecaoSemReposicao {
+    // indices[0..disponiveis) são os índices ainda não usados
+    private final int[] indices;
+    // posicoes[i] é a posição do índice i dentro de indices
+    private final int[] posicoes;
+    private int disponiveis;
+
+    /**
+     * Cria uma seleção com todos os índices disponíveis
+     * @param tamanho Quantidade de itens do catálogo
+     */
+    public SelecaoSemReposicao(int tamanho) {
+        if (tamanho < 0) {
+            throw new IllegalArgumentException("Tamanho não pode ser negativo");
+        }
+        this.indices = new int[tamanho];
+        this.posicoes = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            indices[i] = i;
+            posicoes[i] = i;
+        }
+        this.disponiveis = tamanho;
+    }
+
+    /**
+     * Sorteia um índice disponível com probabilidade uniforme e o marca como usado
+     * @return Índice sorteado ou -1 se não houver índices disponíveis
+     */
+    public int sortear() {
+        if (disponiveis == 0) {
+            return -1;
+        }
+        int indice = indices[UtilitarioAleatorio.gerarNumero(0, disponiveis - 1)];
+        marcarUsado(indice);
+        return indice;
+    }
+
+    /**
+     * Marca um índice como usado. Não faz nada se ele já estiver usado.
+     * @param indice Índice a marcar
+     */
+    public void marcarUsado(int indice) {
+        int posicao = posicoes[indice];
+        if (posicao >= disponiveis) {
+            return;
+        }
+        int ultimo = indices[--disponiveis];
+        indices[posicao] = ultimo;
+        posicoes[ultimo] = posicao;
+        indices[disponiveis] = indice;
+        posicoes[indice] = disponiveis;
+    }
+
+    /**
+     * Verifica se um índice ainda não foi usado
+     * @param indice Índice a verificar
+     * @return true se o índice está disponível
+     */
+    public boolean isDisponivel(int indice) {
+        return posicoes[indice] < disponiveis;
+    }
+
+    /**
+     * Obtém o índice disponível de uma posição. Permite percorrer os
+     * disponíveis de 0 a getDisponiveis()-1, em ordem arbitrária.
+     * @param posicao Posição entre os disponíveis
+     * @return Índice disponível na posição
+     */
+    public int getDisponivel(int posicao) {
+        if (posicao < 0 || posicao >= disponiveis) {
+            throw new IndexOutOfBoundsException("Posição inválida: " + posicao);
+        }
+        return indices[posicao];
+    }
+
+    public int getDisponiveis() {
+        return disponiveis;
+    }
+
+    public int getTamanho() {
+        return indices.length;
+    }
+
+    /**
+     * Torna todos os índices disponíveis novamente
+     */
+    public void reiniciar() {
+        disponiveis = indices.length;
+    }
+}
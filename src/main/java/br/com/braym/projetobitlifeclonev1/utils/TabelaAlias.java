@@ -0,0 +1,91 @@
+package br.com.braym.projetobitlifeclonev1.utils;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Tabela de alias (método de Walker, construção de Vose) para sortear índices
+ * com probabilidade proporcional ao peso de cada um. A construção custa O(n)
+ * e cada sorteio custa O(1). Instâncias são imutáveis e podem ser
+ * compartilhadas entre threads.
+ */
+public final class TabelaAlias {
+    private final double[] probabilidades;
+    private final int[] alias;
+
+    /**
+     * Constrói a tabela para os primeiros pesos de um vetor
+     * @param pesos Pesos dos índices (devem ser positivos)
+     * @param quantidade Quantidade de pesos considerados, a partir do início do vetor
+     */
+    public TabelaAlias(double[] pesos, int quantidade) {
+        if (quantidade < 0 || quantidade > pesos.length) {
+            throw new IllegalArgumentException("Quantidade de pesos inválida: " + quantidade);
+        }
+
+        double total = 0;
+        for (int i = 0; i < quantidade; i++) {
+            if (!(pesos[i] > 0) || Double.isInfinite(pesos[i])) {
+                throw new IllegalArgumentException("Peso inválido na posição " + i + ": " + pesos[i]);
+            }
+            total += pesos[i];
+        }
+
+        this.probabilidades = new double[quantidade];
+        this.alias = new int[quantidade];
+
+        // Pesos escalados para que a média seja 1; separados em pequenos e grandes
+        double[] escalados = new double[quantidade];
+        int[] pequenos = new int[quantidade];
+        int[] grandes = new int[quantidade];
+        int totalPequenos = 0;
+        int totalGrandes = 0;
+        for (int i = 0; i < quantidade; i++) {
+            escalados[i] = pesos[i] * quantidade / total;
+            if (escalados[i] < 1.0) {
+                pequenos[totalPequenos++] = i;
+            } else {
+                grandes[totalGrandes++] = i;
+            }
+        }
+
+        // Cada coluna pequena é completada por uma grande, que perde a diferença
+        while (totalPequenos > 0 && totalGrandes > 0) {
+            int pequeno = pequenos[--totalPequenos];
+            int grande = grandes[--totalGrandes];
+            probabilidades[pequeno] = escalados[pequeno];
+            alias[pequeno] = grande;
+            escalados[grande] = (escalados[grande] + escalados[pequeno]) - 1.0;
+            if (escalados[grande] < 1.0) {
+                pequenos[totalPequenos++] = grande;
+            } else {
+                grandes[totalGrandes++] = grande;
+            }
+        }
+
+        // O que sobrar só difere de 1 por erro de arredondamento
+        while (totalGrandes > 0) {
+            probabilidades[grandes[--totalGrandes]] = 1.0;
+        }
+        while (totalPequenos > 0) {
+            probabilidades[pequenos[--totalPequenos]] = 1.0;
+        }
+    }
+
+    /**
+     * Sorteia um índice com probabilidade proporcional ao seu peso
+     * @return Índice sorteado ou -1 se a tabela estiver vazia
+     */
+    public int sortear() {
+        int quantidade = probabilidades.length;
+        if (quantidade == 0) {
+            return -1;
+        }
+        RandomGenerator gerador = UtilitarioAleatorio.gerador();
+        int coluna = gerador.nextInt(quantidade);
+        return gerador.nextDouble() < probabilidades[coluna] ? coluna : alias[coluna];
+    }
+
+    public int getTamanho() {
+        return probabilidades.length;
+    }
+}
@@ -3,16 +3,16 @@ package br.com.braym.projetobitlifeclonev1.utils;
 import java.security.SecureRandom;
 import java.util.Collection;
 import java.util.List;
-import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Utilitário unificado para geração de números e elementos aleatórios.
  * Substitui as classes RandomUtils e UtilitarioAleatorio.
+ * Usa o gerador do ContextoAleatorio associado à thread, quando existir, para
+ * que simulações com semente sejam reproduzíveis.
  */
 public final class UtilitarioAleatorio {
-    // ThreadLocalRandom é mais eficiente para uso em múltiplas threads
-    private static final Random RANDOM = ThreadLocalRandom.current();
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     // Construtor privado para evitar instanciação
@@ -20,6 +20,16 @@ public final class UtilitarioAleatorio {
         throw new AssertionError("Esta classe não deve ser instanciada");
     }
 
+    /**
+     * Obtém o gerador da thread corrente: o do contexto da simulação, se houver,
+     * ou o ThreadLocalRandom da própria thread
+     * @return Gerador a ser usado pela thread corrente
+     */
+    public static RandomGenerator gerador() {
+        ContextoAleatorio contexto = ContextoAleatorio.atual();
+        return contexto != null ? contexto.getGerador() : ThreadLocalRandom.current();
+    }
+
     /**
      * Gera um número aleatório entre min e max (inclusive)
      * @param min Valor mínimo
@@ -30,7 +40,7 @@ public final class UtilitarioAleatorio {
         if (min > max) {
             throw new IllegalArgumentException("O valor mínimo não pode ser maior que o máximo");
         }
-        return RANDOM.nextInt(max - min + 1) + min;
+        return gerador().nextInt(max - min + 1) + min;
     }
 
     /**
@@ -43,7 +53,7 @@ public final class UtilitarioAleatorio {
         if (min > max) {
             throw new IllegalArgumentException("O valor mínimo não pode ser maior que o máximo");
         }
-        return min + (max - min) * RANDOM.nextDouble();
+        return min + (max - min) * gerador().nextDouble();
     }
 
     /**
@@ -56,7 +66,7 @@ public final class UtilitarioAleatorio {
         if (lista == null || lista.isEmpty()) {
             return null;
         }
-        return lista.get(RANDOM.nextInt(lista.size()));
+        return lista.get(gerador().nextInt(lista.size()));
     }
 
     /**
@@ -70,7 +80,7 @@ public final class UtilitarioAleatorio {
             return null;
         }
 
-        int indice = RANDOM.nextInt(colecao.size());
+        int indice = gerador().nextInt(colecao.size());
         int i = 0;
         for (T elemento : colecao) {
             if (i == indice) {
@@ -94,7 +104,7 @@ public final class UtilitarioAleatorio {
         if (probabilidade >= 100) {
             return true;
         }
-        return RANDOM.nextInt(100) < probabilidade;
+        return gerador().nextInt(100) < probabilidade;
     }
 
     /**
@@ -0,0 +1,110 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.CatalogoEventos;
+import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.catalogo.CatalogoBinario;
+import br.com.braym.projetobitlifeclonev1.infrastructure.catalogo.GeradorCatalogoBinario;
+import br.com.braym.projetobitlifeclonev1.narrativa.Escolha;
+import br.com.braym.projetobitlifeclonev1.narrativa.EventoNarrativa;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes;
+import br.com.braym.projetobitlifeclonev1.service.TabelaInteracoes;
+import br.com.braym.projetobitlifeclonev1.utils.ContextoAleatorio;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+import br.com.braym.projetobitlifeclonev1.utils.LeitorJSON;
+
+/**
+ * Testes unitários para o catálogo binário de conteúdo.
+ */
+public class CatalogoBinarioTest {
+    private static final Path RECURSOS = Paths.get("src/main/resources");
+
+    @Test
+    public void testEventosDoCatalogoIguaisAosDoJson() throws IOException {
+        Path arquivo = Files.createTempFile("catalogo", ".bin");
+        try {
+            new GeradorCatalogoBinario(RECURSOS).gerar(arquivo);
+            CatalogoBinario catalogo = CatalogoBinario.abrir(arquivo);
+            LeitorJSON leitorJSON = new LeitorJSON();
+
+            for (String fase : FaseDaVidaResolver.getPastasDasFases()) {
+                List<Evento> esperados = leitorJSON.lerEventos(RECURSOS.resolve("Eventos").resolve(fase)
+                        .resolve("eventos.json").toString());
+                CatalogoEventos lidos = catalogo.getCatalogoEventos(fase);
+
+                Assert.assertEquals(esperados.size(), lidos.getTamanho());
+                for (int i = 0; i < esperados.size(); i++) {
+                    Evento esperado = esperados.get(i);
+                    Evento lido = lidos.getEvento(i);
+                    Assert.assertEquals(esperado.getId(), lido.getId());
+                    Assert.assertEquals(esperado.getDescricao(), lido.getDescricao());
+                    Assert.assertEquals(esperado.getAtributo(), lido.getAtributo());
+                    Assert.assertEquals(esperado.getOpcoes(), lido.getOpcoes());
+                    Assert.assertEquals(esperado.getEfeitos(), lido.getEfeitos());
+                    Assert.assertEquals(esperado.getEfeitosMultiplos(), lido.getEfeitosMultiplos());
+                    Assert.assertEquals(esperado.getPeso(), lido.getPeso(), 0.0);
+                }
+
+                List<EventoNarrativa> narrativasEsperadas = leitorJSON.lerEventosNarrativos(RECURSOS.resolve("Eventos")
+                        .resolve(fase).resolve("eventosNarrativa.json").toString());
+                List<EventoNarrativa> narrativasLidas = catalogo.getEventosNarrativos(fase);
+                Assert.assertEquals(narrativasEsperadas.size(), narrativasLidas.size());
+                for (int i = 0; i < narrativasEsperadas.size(); i++) {
+                    EventoNarrativa esperado = narrativasEsperadas.get(i);
+                    EventoNarrativa lido = narrativasLidas.get(i);
+                    Assert.assertEquals(esperado.getId(), lido.getId());
+                    Assert.assertEquals(esperado.getOpcoes().size(), lido.getOpcoes().size());
+                    for (int j = 0; j < esperado.getOpcoes().size(); j++) {
+                        Escolha escolhaEsperada = esperado.getOpcoes().get(j);
+                        Escolha escolhaLida = lido.getOpcoes().get(j);
+                        Assert.assertEquals(escolhaEsperada.getTexto(), escolhaLida.getTexto());
+                        Assert.assertEquals(escolhaEsperada.getRetornoNarrativo(), escolhaLida.getRetornoNarrativo());
+                        Assert.assertEquals(escolhaEsperada.getEfeitos(), escolhaLida.getEfeitos());
+                        Assert.assertEquals(escolhaEsperada.getIdProximoEvento(), escolhaLida.getIdProximoEvento());
+                    }
+                }
+            }
+            Assert.assertFalse(catalogo.getTextos(CatalogoBinario.SECAO_SOBRENOMES).isEmpty());
+            Assert.assertFalse(catalogo.getProfissoes(CatalogoBinario.SECAO_PROFISSOES_FEMININAS).isEmpty());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    public void testInteracoesDoCatalogoIguaisAsDoJson() throws IOException {
+        Path arquivo = Files.createTempFile("catalogo", ".bin");
+        try {
+            new GeradorCatalogoBinario(RECURSOS).gerar(arquivo);
+            TabelaInteracoes lida = new GerenciadorInteracoes(CatalogoBinario.abrir(arquivo)).getTabela();
+            TabelaInteracoes esperada = new GerenciadorInteracoes(RECURSOS.resolve(GerenciadorInteracoes.PASTA_PADRAO)
+                    .toString()).getTabela();
+
+            Assert.assertTrue(lida.getQuantidadeInteracoes() > 0);
+            Assert.assertEquals(esperada.getQuantidadeInteracoes(), lida.getQuantidadeInteracoes());
+            for (int interacao = 0; interacao < esperada.getQuantidadeInteracoes(); interacao++) {
+                Assert.assertEquals(esperada.getNome(interacao), lida.getNome(interacao));
+                for (TabelaInteracoes.Categoria categoria : TabelaInteracoes.Categoria.values()) {
+                    // Mesma semente nas duas tabelas: mesmo sorteio entre as regras da categoria
+                    int ordinal = interacao;
+                    int regraEsperada = new ContextoAleatorio(ordinal).executar(() -> esperada.sortearRegra(ordinal, categoria));
+                    int regraLida = new ContextoAleatorio(ordinal).executar(() -> lida.sortearRegra(ordinal, categoria));
+                    Assert.assertEquals(esperada.getTexto(regraEsperada), lida.getTexto(regraLida));
+                    Assert.assertEquals(esperada.getChanceRetaliacao(regraEsperada), lida.getChanceRetaliacao(regraLida));
+                }
+            }
+            for (int fase = 0; fase < FaseDaVidaResolver.getPastasDasFases().size(); fase++) {
+                Assert.assertEquals(esperada.getNomesDisponiveis(fase), lida.getNomesDisponiveis(fase));
+            }
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.DiarioSalvamento;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+/**
+ * Testes unitários para o salvamento em modo diário.
+ */
+public class DiarioSalvamentoTest {
+    private static final PoliticaDecisao PRIMEIRA_OPCAO = (personagem, opcoes) -> 0;
+
+    private Path pasta;
+
+    @Before
+    public void criarPasta() throws IOException {
+        pasta = Files.createTempDirectory("diarios");
+    }
+
+    @After
+    public void removerPasta() throws IOException {
+        try (Stream<Path> arquivos = Files.walk(pasta)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+
+    private static void viver(Personagem personagem, GerenciadorEventos eventos, DiarioSalvamento diario, int anos) {
+        for (int ano = 0; ano < anos; ano++) {
+            int idadeAnterior = personagem.envelhecer();
+            eventos.verificarMudancaFase(personagem, idadeAnterior);
+            Assert.assertTrue(diario.registrar());
+            eventos.processarEvento(personagem);
+            Assert.assertTrue(diario.registrar());
+        }
+    }
+
+    /**
+     * Lê todos os relacionamentos e registra. O desgaste que o jogo ainda
+     * não aplicou é sorteado de novo no carregamento; depois de lido, ele
+     * está no diário e o personagem carregado deve ter os mesmos níveis.
+     */
+    private static void observarRelacionamentos(Personagem personagem, DiarioSalvamento diario) {
+        for (Relacionamento relacionamento : personagem.getGerenciadorRelacionamentos().getTodosRelacionamentos()) {
+            relacionamento.getNivel();
+        }
+        Assert.assertTrue(diario.registrar());
+    }
+
+    private static void assertMesmoEstado(Personagem esperado, GerenciadorEventos eventosEsperados,
+            Personagem carregado, GerenciadorEventos eventosCarregados) {
+        Assert.assertNotNull(carregado);
+        Assert.assertEquals(esperado.getIdade(), carregado.getIdade());
+        Assert.assertEquals(esperado.getSaude(), carregado.getSaude());
+        Assert.assertEquals(esperado.getFelicidade(), carregado.getFelicidade());
+        Assert.assertEquals(esperado.getFinancas(), carregado.getFinancas());
+        Assert.assertEquals(esperado.getEstadoVida().getEstado(), carregado.getEstadoVida().getEstado());
+
+        List<Relacionamento> originais = esperado.getGerenciadorRelacionamentos().getTodosRelacionamentos();
+        List<Relacionamento> restaurados = carregado.getGerenciadorRelacionamentos().getTodosRelacionamentos();
+        Assert.assertEquals(originais.size(), restaurados.size());
+        for (int i = 0; i < originais.size(); i++) {
+            Assert.assertEquals(originais.get(i).getPessoa().getId(), restaurados.get(i).getPessoa().getId());
+            Assert.assertEquals(originais.get(i).getNivel(), restaurados.get(i).getNivel());
+            Assert.assertEquals(originais.get(i).getTempo(), restaurados.get(i).getTempo());
+            Assert.assertEquals(originais.get(i).getPessoa().getIdade(), restaurados.get(i).getPessoa().getIdade());
+        }
+        Assert.assertEquals(eventosEsperados.getEventosUsados(), eventosCarregados.getEventosUsados());
+        Assert.assertEquals(eventosEsperados.getNarrativasUsadas(), eventosCarregados.getNarrativasUsadas());
+    }
+
+    @Test
+    public void testCarregarReaplicaDiarioSobreInstantaneo() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorEventos eventos = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        Personagem personagem = new Personagem("Diario", "Teste", registro);
+        String nomeBase = DiarioSalvamento.getNomeBase(personagem);
+
+        try (DiarioSalvamento diario = new DiarioSalvamento(pasta, registro)) {
+            Assert.assertTrue(diario.iniciar(personagem, eventos));
+            long instantaneo = Files.size(pasta.resolve(nomeBase + ".sav"));
+            viver(personagem, eventos, diario, 20);
+            observarRelacionamentos(personagem, diario);
+            Assert.assertTrue(Files.size(pasta.resolve(nomeBase + DiarioSalvamento.EXTENSAO_DIARIO)) > 8);
+            Assert.assertEquals("O instantâneo não deve ser regravado a cada ação",
+                    instantaneo, Files.size(pasta.resolve(nomeBase + ".sav")));
+        }
+
+        // Um registro gravado pela metade no fim do diário é descartado
+        Files.write(pasta.resolve(nomeBase + DiarioSalvamento.EXTENSAO_DIARIO), new byte[] {0, 0, 1, 0, 0},
+                StandardOpenOption.APPEND);
+
+        GerenciadorEventos eventosCarregados = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        try (DiarioSalvamento diario = new DiarioSalvamento(pasta, registro)) {
+            Personagem carregado = diario.carregar(personagem.getId(), eventosCarregados);
+            assertMesmoEstado(personagem, eventos, carregado, eventosCarregados);
+        }
+
+        // Arquivos gravados antes dos ids, nomeados pelo nome, passam para o id
+        String legado = "Diario_Teste";
+        Files.move(pasta.resolve(nomeBase + ".sav"), pasta.resolve(legado + ".sav"));
+        Files.move(pasta.resolve(nomeBase + DiarioSalvamento.EXTENSAO_DIARIO),
+                pasta.resolve(legado + DiarioSalvamento.EXTENSAO_DIARIO));
+        GerenciadorEventos eventosLegado = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        try (DiarioSalvamento diario = new DiarioSalvamento(pasta, registro)) {
+            Personagem carregado = diario.carregarLegado("Diario", "Teste", eventosLegado);
+            assertMesmoEstado(personagem, eventos, carregado, eventosLegado);
+        }
+        Assert.assertTrue(Files.exists(pasta.resolve(nomeBase + ".sav")));
+        Assert.assertFalse(Files.exists(pasta.resolve(legado + ".sav")));
+        Assert.assertFalse(Files.exists(pasta.resolve(legado + DiarioSalvamento.EXTENSAO_DIARIO)));
+    }
+
+    @Test
+    public void testCompactacaoIncorporaDiarioAoInstantaneo() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorEventos eventos = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        Personagem personagem = new Personagem("Compacto", registro);
+        String nomeBase = DiarioSalvamento.getNomeBase(personagem);
+
+        byte[] instantaneoInicial;
+        try (DiarioSalvamento diario = new DiarioSalvamento(pasta, registro, 512)) {
+            Assert.assertTrue(diario.iniciar(personagem, eventos));
+            instantaneoInicial = Files.readAllBytes(pasta.resolve(nomeBase + ".sav"));
+            viver(personagem, eventos, diario, 40);
+            observarRelacionamentos(personagem, diario);
+        }
+        // O fechamento aguarda a compactação em segundo plano; quanto ela avança depende da carga da máquina
+        Assert.assertFalse(Files.exists(pasta.resolve(nomeBase + DiarioSalvamento.EXTENSAO_DIARIO + ".compactando")));
+        Assert.assertFalse("O diário deve ter sido incorporado ao instantâneo em segundo plano",
+                Arrays.equals(instantaneoInicial, Files.readAllBytes(pasta.resolve(nomeBase + ".sav"))));
+
+        GerenciadorEventos eventosCarregados = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        try (DiarioSalvamento diario = new DiarioSalvamento(pasta, registro)) {
+            Personagem carregado = diario.carregar(personagem.getId(), eventosCarregados);
+            assertMesmoEstado(personagem, eventos, carregado, eventosCarregados);
+        }
+    }
+
+    @Test
+    public void testEnvelhecerNaoRegistraCadaRelacionamento() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        Personagem personagem = new Personagem("Popular", registro);
+        for (int i = 0; i < 2000; i++) {
+            personagem.getGerenciadorRelacionamentos().criarAmizadeAleatoria(personagem.getIdade());
+        }
+        String nomeBase = DiarioSalvamento.getNomeBase(personagem);
+        Path arquivoDiario = pasta.resolve(nomeBase + DiarioSalvamento.EXTENSAO_DIARIO);
+
+        try (DiarioSalvamento diario = new DiarioSalvamento(pasta, registro)) {
+            Assert.assertTrue(diario.iniciar(personagem, null));
+            long vazio = Files.size(arquivoDiario);
+            for (int ano = 0; ano < 10; ano++) {
+                personagem.envelhecer();
+                Assert.assertTrue(diario.registrar());
+            }
+            // Um registro de relógio por ano e, no máximo, as amizades novas do ano
+            Assert.assertTrue(Files.size(arquivoDiario) - vazio < 10 * 1024);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.service.EtapaVida;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVida;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+
+/**
+ * Testes unitários para a resolução de fases da vida por idade.
+ */
+public class FaseDaVidaResolverTest {
+
+    @Test
+    public void testLimitesDasFaixasDeIdade() {
+        Assert.assertEquals("01-PrimeiraInfancia_0-3", FaseDaVidaResolver.getPastaDaFaseDaVida(2));
+        Assert.assertEquals("02-SegundaInfancia_3-6", FaseDaVidaResolver.getPastaDaFaseDaVida(3));
+        Assert.assertEquals("12-VelhiceAvancada_90", FaseDaVidaResolver.getPastaDaFaseDaVida(500));
+        Assert.assertEquals(FaseDaVida.INFANCIA, FaseDaVidaResolver.obterFaseDaVida(11));
+        Assert.assertEquals(FaseDaVida.ADOLESCENCIA, FaseDaVidaResolver.obterFaseDaVida(12));
+        Assert.assertEquals(FaseDaVida.VELHICE, FaseDaVidaResolver.obterFaseDaVida(65));
+        Assert.assertTrue(FaseDaVidaResolver.houveMudancaDePasta(11, 10));
+        Assert.assertFalse(FaseDaVidaResolver.houveMudancaDePasta(12, 11));
+    }
+
+    @Test
+    public void testEtapasDoRegistroSeguemAsIdades() {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        EtapaVida onze = registro.getEtapa(11);
+        EtapaVida doze = registro.getEtapa(12);
+
+        Assert.assertEquals(onze.getIndice(), doze.getIndice());
+        Assert.assertEquals(FaseDaVida.INFANCIA, onze.getFase());
+        Assert.assertEquals(FaseDaVida.ADOLESCENCIA, doze.getFase());
+        Assert.assertSame(doze, registro.getEtapa(14));
+        Assert.assertSame(registro.getCatalogoDaFase(doze.getPasta()), doze.getCatalogoEventos());
+        Assert.assertTrue(registro.getEtapa(25).getInteracoesDisponiveis().contains("insultar"));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
+import br.com.braym.projetobitlifeclonev1.narrativa.Escolha;
+import br.com.braym.projetobitlifeclonev1.narrativa.EventoNarrativa;
+import br.com.braym.projetobitlifeclonev1.narrativa.GrafoNarrativo;
+import br.com.braym.projetobitlifeclonev1.narrativa.MotorNarrativo;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+
+/**
+ * Testes unitários para GrafoNarrativo e MotorNarrativo.
+ */
+public class GrafoNarrativoTest {
+
+    @Test
+    public void testSegueACadeiaAplicandoOsEfeitosDeCadaOpcao() {
+        GrafoNarrativo grafo = GrafoNarrativo.compilar(List.of(
+                evento("a", new Escolha("Ir", "Você foi.", Map.of("felicidade", 5), "b"),
+                        new Escolha("Ficar", "Você ficou.", null, null)),
+                evento("b", new Escolha("Continuar", "Você continuou.", Map.of("carisma", 3), "c")),
+                evento("c", new Escolha("Terminar", "Fim.", Map.of("saude", -10), null))));
+
+        Assert.assertEquals(1, grafo.getQuantidadeInicios());
+        int inicio = grafo.getInicio(0);
+        Assert.assertEquals("a", grafo.getId(inicio));
+        Assert.assertEquals(grafo.indiceDe("b"), grafo.getProximo(inicio, 0));
+        Assert.assertEquals(GrafoNarrativo.FIM, grafo.getProximo(inicio, 1));
+
+        Personagem personagem = new Personagem("Teste");
+        int passos = new MotorNarrativo(PoliticaDecisao.primeiraOpcao()).executar(personagem, grafo, inicio);
+
+        Assert.assertEquals(3, passos);
+        Assert.assertEquals(55, personagem.getFelicidade());
+        Assert.assertEquals(53, personagem.getCarisma());
+        Assert.assertEquals(90, personagem.getSaude());
+    }
+
+    @Test
+    public void testRecusaCiclosIdsInexistentesEAtributosDesconhecidos() {
+        assertInvalido(List.of(
+                evento("a", new Escolha("Ir", null, null, "b")),
+                evento("b", new Escolha("Voltar", null, null, "a"))), "Ciclo");
+        assertInvalido(List.of(
+                evento("a", new Escolha("Ir", null, null, "z"))), "inexistente");
+        assertInvalido(List.of(
+                evento("a", new Escolha("Ir", null, Map.of("sorte", 1), null))), "sorte");
+    }
+
+    @Test
+    public void testRegistroCompilaAsNarrativasDeTodasAsFases() {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        for (String faseFolder : FaseDaVidaResolver.getPastasDasFases()) {
+            GrafoNarrativo grafo = registro.getGrafoNarrativoDaFase(faseFolder);
+            Assert.assertTrue(faseFolder, grafo.getQuantidadeEventos() > 0);
+            Assert.assertTrue(faseFolder, grafo.getQuantidadeInicios() > 0);
+        }
+    }
+
+    private static EventoNarrativa evento(String id, Escolha... opcoes) {
+        return new EventoNarrativa(id, "teste", null, List.of(opcoes));
+    }
+
+    private static void assertInvalido(List<EventoNarrativa> eventos, String trecho) {
+        try {
+            GrafoNarrativo.compilar(eventos);
+            Assert.fail("Grafo inválido foi aceito");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains(trecho));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.AlteracaoPersonagem;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.impl.ObservadorAssincrono;
+import br.com.braym.projetobitlifeclonev1.impl.ObservadorAssincrono.PoliticaTransbordo;
+import br.com.braym.projetobitlifeclonev1.interfaces.ObservadorAlteracoes;
+
+/**
+ * Testes unitários para a classe ObservadorAssincrono.
+ */
+public class ObservadorAssincronoTest {
+
+    @Test
+    public void testBloquearEntregaTodasAsAlteracoesEmOrdem() {
+        Personagem personagem = new Personagem("Teste");
+        List<Integer> valores = new CopyOnWriteArrayList<>();
+        ObservadorAssincrono observador = new ObservadorAssincrono(4, PoliticaTransbordo.BLOQUEAR,
+                alteracao -> valores.add(alteracao.getValorNovo()));
+        personagem.adicionarObservador(observador);
+
+        for (int i = 0; i < 1000; i++) {
+            personagem.setFelicidade(i % 100);
+        }
+        observador.close();
+
+        Assert.assertEquals(1000, valores.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(i % 100, valores.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testCoalescerCombinaAlteracoesDoMesmoTipo() throws InterruptedException {
+        Personagem personagem = new Personagem("Teste");
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<AlteracaoPersonagem> alteracoes = new CopyOnWriteArrayList<>();
+        ObservadorAssincrono observador = new ObservadorAssincrono(2, PoliticaTransbordo.COALESCER,
+                destinoLento(liberar, alteracoes));
+        personagem.adicionarObservador(observador);
+
+        for (int i = 1; i <= 40; i++) {
+            personagem.setFelicidade(i);
+        }
+        liberar.countDown();
+        observador.close();
+
+        Assert.assertTrue(observador.getCombinacoes() > 0);
+        Assert.assertTrue(alteracoes.size() < 40);
+        // Cada alteração começa onde a anterior terminou, até o último valor
+        int esperado = 50;
+        for (AlteracaoPersonagem alteracao : alteracoes) {
+            Assert.assertEquals(esperado, alteracao.getValorAnterior());
+            esperado = alteracao.getValorNovo();
+        }
+        Assert.assertEquals(40, esperado);
+    }
+
+    @Test
+    public void testDescartarMaisAntigoContaAsAlteracoesPerdidas() throws InterruptedException {
+        Personagem personagem = new Personagem("Teste");
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<AlteracaoPersonagem> alteracoes = new CopyOnWriteArrayList<>();
+        ObservadorAssincrono observador = new ObservadorAssincrono(4, PoliticaTransbordo.DESCARTAR_MAIS_ANTIGO,
+                destinoLento(liberar, alteracoes));
+        personagem.adicionarObservador(observador);
+
+        for (int i = 1; i <= 40; i++) {
+            personagem.setFelicidade(i);
+        }
+        liberar.countDown();
+        observador.close();
+
+        Assert.assertTrue(observador.getDescartadas() > 0);
+        Assert.assertEquals(40, alteracoes.size() + observador.getDescartadas());
+        Assert.assertEquals(40, alteracoes.get(alteracoes.size() - 1).getValorNovo());
+    }
+
+    /**
+     * Destino que só entrega depois de liberado, para forçar o buffer a encher
+     */
+    private static ObservadorAlteracoes destinoLento(CountDownLatch liberar, List<AlteracaoPersonagem> alteracoes) {
+        return alteracao -> {
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            alteracoes.add(alteracao);
+        };
+    }
+}
@@ -1,8 +1,13 @@
 package br.com.braym.projetobitlifeclonev1.test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.AlteracaoPersonagem;
 import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.interfaces.Observador;
 
 /**
  * Testes unitários para a classe Personagem.
@@ -17,4 +22,21 @@ public class PersonagemTest {
         // Verifica se a saúde foi ajustada corretamente sem ficar abaixo de 0
         Assert.assertTrue(personagem.getSaude() <= saudeInicial && personagem.getSaude() >= 0);
     }
+
+    @Test
+    public void testObservadoresRecebemAlteracoesTipadasETextuais() {
+        Personagem personagem = new Personagem("Teste");
+        List<AlteracaoPersonagem> alteracoes = new ArrayList<>();
+        List<String> mensagens = new ArrayList<>();
+        personagem.adicionarObservador(alteracoes::add);
+        personagem.adicionarObservador((Observador) mensagens::add);
+
+        personagem.setFelicidade(120);
+
+        Assert.assertEquals(1, alteracoes.size());
+        Assert.assertEquals(AlteracaoPersonagem.Tipo.FELICIDADE, alteracoes.get(0).getTipo());
+        Assert.assertEquals(50, alteracoes.get(0).getValorAnterior());
+        Assert.assertEquals(100, alteracoes.get(0).getValorNovo());
+        Assert.assertEquals(List.of("Felicidade atualizada para: 100"), mensagens);
+    }
 }
@@ -0,0 +1,49 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.DicionarioNomes;
+import br.com.braym.projetobitlifeclonev1.domain.Genero;
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
+
+/**
+ * Testes unitários para os nomes codificados e o gênero das pessoas.
+ */
+public class PessoaTest {
+
+    @Test
+    public void testNomesVoltamDosCodigos() {
+        int codigo = DicionarioNomes.codificar("Conceição");
+        Assert.assertEquals(codigo, DicionarioNomes.codificar(new String("Conceição")));
+        Assert.assertNotEquals(codigo, DicionarioNomes.codificar("Conceicao"));
+        Assert.assertEquals("Conceição", DicionarioNomes.texto(codigo));
+        Assert.assertEquals(DicionarioNomes.SEM_NOME, DicionarioNomes.codificar(null));
+        Assert.assertNull(DicionarioNomes.texto(DicionarioNomes.SEM_NOME));
+
+        Pessoa pessoa = new Pessoa("Conceição", "Araújo", 30, "Feminino");
+        Assert.assertEquals(codigo, pessoa.getCodigoNome());
+        Assert.assertEquals("Conceição", pessoa.getNome());
+        Assert.assertEquals("Araújo", pessoa.getSobrenome());
+        Assert.assertEquals("Conceição Araújo", pessoa.getNomeCompleto());
+        Assert.assertEquals("Oi, Conceição Araújo!",
+                pessoa.escreverNomeCompleto(new StringBuilder("Oi, ")).append('!').toString());
+
+        // Códigos de outra pessoa com o mesmo nome são os mesmos
+        Pessoa homonima = new Pessoa(pessoa.getCodigoNome(), pessoa.getCodigoSobrenome(), 5, Genero.MASCULINO, null);
+        Assert.assertEquals(pessoa.getNomeCompleto(), homonima.getNomeCompleto());
+    }
+
+    @Test
+    public void testGeneroDesconhecidoNaoImpedeCarregamento() {
+        Assert.assertEquals(Genero.FEMININO, Genero.de("feminino"));
+        Assert.assertEquals(Genero.MASCULINO, Genero.de("MASCULINO"));
+        Assert.assertNull(Genero.de(null));
+        Assert.assertEquals(Genero.NAO_INFORMADO, Genero.de("Outro"));
+        Assert.assertEquals(Genero.NAO_INFORMADO, Genero.de(Genero.NAO_INFORMADO.getDescricao()));
+
+        // Como na restauração de um salvamento antigo
+        Pessoa pessoa = new Pessoa(42L, "Ana", "Lima", 20, "Outro", 60, 50, null, 0);
+        Assert.assertEquals(Genero.NAO_INFORMADO, pessoa.getGenero());
+        Assert.assertEquals(20, pessoa.getIdade());
+    }
+}
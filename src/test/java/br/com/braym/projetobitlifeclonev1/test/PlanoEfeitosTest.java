@@ -0,0 +1,41 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.Evento;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.PlanoEfeitos;
+
+/**
+ * Testes unitários para a classe PlanoEfeitos.
+ */
+public class PlanoEfeitosTest {
+
+    @Test
+    public void testAplicaEfeitoDaOpcaoEscolhidaEEfeitosMultiplos() {
+        Personagem personagem = new Personagem("Teste");
+        PlanoEfeitos simples = PlanoEfeitos.compilar(List.of(10, -10), "Aparencia", null);
+
+        Assert.assertTrue(simples.aplicar(personagem, 1));
+        Assert.assertEquals(40, personagem.getAparencia());
+        Assert.assertFalse(simples.aplicar(personagem, 2));
+
+        PlanoEfeitos multiplos = PlanoEfeitos.compilar(List.of(5), "saude", Map.of("felicidade", 3, "carisma", -4));
+        Assert.assertTrue(multiplos.aplicar(personagem, 0));
+        Assert.assertEquals(53, personagem.getFelicidade());
+        Assert.assertEquals(46, personagem.getCarisma());
+        Assert.assertEquals(100, personagem.getSaude());
+    }
+
+    @Test
+    public void testEventoComAtributoDesconhecidoEhInvalido() {
+        Evento evento = new Evento("001", "Teste", List.of("Sim", "Não"), List.of(1, 0), "sorte");
+        Assert.assertFalse(evento.isValido());
+
+        evento.setAtributo("inteligencia");
+        Assert.assertTrue(evento.isValido());
+    }
+}
@@ -0,0 +1,425 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonParser;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.AlocadorIds;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.ArquivoSalvamentos;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.CodecBinarioSalvamento;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.GerenciadorSalvamentoJogo;
+import br.com.braym.projetobitlifeclonev1.infrastructure.persistence.SalvamentoAutomatico;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorEventos;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.service.RegistroConteudo;
+
+/**
+ * Testes unitários para o salvamento e carregamento de jogos.
+ */
+public class SalvamentoJogoTest {
+    private static final PoliticaDecisao PRIMEIRA_OPCAO = (personagem, opcoes) -> 0;
+
+    private Path pasta;
+
+    @Before
+    public void criarPasta() throws IOException {
+        pasta = Files.createTempDirectory("salvamentos");
+    }
+
+    @After
+    public void removerPasta() throws IOException {
+        try (Stream<Path> arquivos = Files.walk(pasta)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testSalvarECarregarRestauraEstadoEEventosUsados() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro);
+        GerenciadorEventos eventos = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        Personagem personagem = new Personagem("Teste", registro);
+        for (int ano = 0; ano < 20; ano++) {
+            int idadeAnterior = personagem.envelhecer();
+            eventos.verificarMudancaFase(personagem, idadeAnterior);
+            eventos.processarEvento(personagem);
+        }
+
+        Assert.assertTrue(salvamento.salvarJogo(personagem, eventos));
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> salvos = salvamento.listarJogosSalvos();
+        Assert.assertEquals(1, salvos.size());
+        String caminho = salvos.get(0).getCaminhoArquivo();
+        String conteudo = Files.readString(Path.of(caminho));
+        Assert.assertFalse("O salvamento não deve conter o conteúdo compartilhado", conteudo.contains("salarioMinimo"));
+
+        GerenciadorEventos eventosCarregados = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        Personagem carregado = salvamento.carregarJogo(caminho, eventosCarregados);
+
+        Assert.assertNotNull(carregado);
+        Assert.assertEquals(personagem.getNomeCompleto(), carregado.getNomeCompleto());
+        Assert.assertEquals(personagem.getIdade(), carregado.getIdade());
+        Assert.assertEquals(personagem.getSaude(), carregado.getSaude());
+        Assert.assertEquals(personagem.getFinancas(), carregado.getFinancas());
+        Assert.assertEquals(personagem.getEstadoVida().getEstado(), carregado.getEstadoVida().getEstado());
+
+        List<Relacionamento> originais = personagem.getGerenciadorRelacionamentos().getTodosRelacionamentos();
+        List<Relacionamento> restaurados = carregado.getGerenciadorRelacionamentos().getTodosRelacionamentos();
+        Assert.assertEquals(originais.size(), restaurados.size());
+        for (int i = 0; i < originais.size(); i++) {
+            Assert.assertEquals(originais.get(i).getPessoa().getId(), restaurados.get(i).getPessoa().getId());
+            Assert.assertEquals(originais.get(i).getNivel(), restaurados.get(i).getNivel());
+            Assert.assertEquals(originais.get(i).getTipo(), restaurados.get(i).getTipo());
+        }
+
+        Assert.assertEquals(eventos.getEventosUsados(), eventosCarregados.getEventosUsados());
+        Assert.assertEquals(eventos.getNarrativasUsadas(), eventosCarregados.getNarrativasUsadas());
+        Assert.assertEquals(eventos.getQuantidadeEventosDisponiveis(personagem),
+                eventosCarregados.getQuantidadeEventosDisponiveis(carregado));
+    }
+
+    @Test
+    public void testCodecBinarioRestauraEstado() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro,
+                new CodecBinarioSalvamento());
+        Personagem personagem = new Personagem("Binario", registro);
+        for (int i = 0; i < 5; i++) {
+            personagem.getGerenciadorRelacionamentos().criarAmizadeAleatoria(personagem.getIdade());
+        }
+
+        Assert.assertTrue(salvamento.salvarJogo(personagem));
+        String caminho = salvamento.listarJogosSalvos().get(0).getCaminhoArquivo();
+        Assert.assertTrue(caminho.endsWith(CodecBinarioSalvamento.EXTENSAO));
+        Assert.assertTrue(new CodecBinarioSalvamento().exportarJson(Path.of(caminho)).contains("\"Binario\""));
+
+        Personagem carregado = salvamento.carregarJogo(caminho);
+        Assert.assertNotNull(carregado);
+        Assert.assertEquals(personagem.getNomeCompleto(), carregado.getNomeCompleto());
+        Assert.assertEquals(personagem.getInteligencia(), carregado.getInteligencia());
+        Assert.assertEquals(personagem.getGerenciadorRelacionamentos().getTodosRelacionamentos().size(),
+                carregado.getGerenciadorRelacionamentos().getTodosRelacionamentos().size());
+    }
+
+    @Test
+    public void testCodecBinarioRejeitaVersaoFutura() throws IOException {
+        Path arquivo = pasta.resolve("futuro" + CodecBinarioSalvamento.EXTENSAO);
+        Files.write(arquivo, ByteBuffer.allocate(12).putInt(0x424C5356).putInt(99).putInt(0).array());
+        try {
+            new CodecBinarioSalvamento().ler(arquivo);
+            Assert.fail("Versão futura deveria ser rejeitada");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("99"));
+        }
+        Assert.assertNull(new GerenciadorSalvamentoJogo(pasta.toString()).carregarJogo(arquivo.toString()));
+    }
+
+    @Test
+    public void testFormatoAntigoRestauraTabelaDeRelacionamentos() throws IOException {
+        String idPai = "0f8fad5b-d9cb-469f-a165-70867728950e";
+        String idAmiga = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+        Path antigo = pasta.resolve("Velho_40_01012020.json");
+        Files.writeString(antigo, "{\"nome\":\"Velho\",\"idade\":40,"
+                + "\"estadoVida\":{\"type\":\"x\",\"estado\":\"ADULTO\"},"
+                + "\"gerenciadorRelacionamentos\":{\"relacionamentos\":{"
+                + "\"" + idPai + "\":{\"pessoa\":{\"id\":\"" + idPai + "\","
+                + "\"nome\":\"Rui\",\"sobrenome\":\"Lima\",\"idade\":70},"
+                + "\"tipo\":\"PAI\",\"nivel\":70,\"tempo\":40},"
+                + "\"" + idAmiga + "\":{\"pessoa\":{\"id\":\"" + idAmiga + "\","
+                + "\"nome\":\"Lia\",\"sobrenome\":\"Reis\",\"idade\":39},"
+                + "\"tipo\":\"AMIZADE\",\"nivel\":20,\"tempo\":3}}}}");
+
+        Personagem carregado = new GerenciadorSalvamentoJogo(pasta.toString(), RegistroConteudo.padrao())
+                .carregarJogo(antigo.toString());
+        // O formato antigo não tem id do personagem: ele recebe um na restauração
+        Assert.assertNotEquals(0, carregado.getId());
+
+        GerenciadorRelacionamentos relacionamentos = carregado.getGerenciadorRelacionamentos();
+        Assert.assertEquals(2, relacionamentos.getTodosRelacionamentos().size());
+        Assert.assertEquals("Lima", relacionamentos.getSobrenomeFamilia());
+        Relacionamento pai = relacionamentos.getRelacionamentoPorTipo(TipoRelacionamento.PAI);
+        Assert.assertEquals(70, pai.getNivel());
+        Assert.assertEquals(40, pai.getTempo());
+        // Os UUIDs antigos viram ids negativos, que não colidem com os gerados
+        Assert.assertEquals(AlocadorIds.converter(idPai), pai.getPessoa().getId());
+        Assert.assertTrue(pai.getPessoa().getId() < 0);
+        Assert.assertTrue(relacionamentos.gerarPessoaAleatoria(40).getId() >= 0);
+
+        // As consultas por tipo são visões que acompanham a tabela
+        List<Relacionamento> amizades = relacionamentos.getRelacionamentosPorTipo(TipoRelacionamento.AMIZADE);
+        Assert.assertEquals(1, amizades.size());
+        relacionamentos.criarAmizadeAleatoria(40);
+        Assert.assertEquals(2, amizades.size());
+        amizades.get(0).setTipo(TipoRelacionamento.NAMORO);
+        Assert.assertEquals(1, amizades.size());
+        Assert.assertEquals("Lia", relacionamentos.getRelacionamentoPorTipo(TipoRelacionamento.NAMORO)
+                .getPessoa().getNome());
+        Assert.assertEquals(TipoRelacionamento.NAMORO, relacionamentos.getTodosRelacionamentos().get(1).getTipo());
+        try {
+            relacionamentos.getTodosRelacionamentos().clear();
+            Assert.fail("A lista de relacionamentos deve ser somente leitura");
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(3, relacionamentos.getTodosRelacionamentos().size());
+        }
+    }
+
+    @Test
+    public void testIndicePaginaJogosPeloMomentoDoSalvamento() throws IOException {
+        // Salvamento anterior ao índice, reconhecido pelo nome do arquivo
+        Path antigo = pasta.resolve("Antigo_30_01012020.json");
+        Files.writeString(antigo, "{}");
+        Assert.assertTrue(antigo.toFile().setLastModified(1_000L));
+
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro);
+        Personagem personagem = new Personagem("Indice_Com_Sublinhado", registro);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(salvamento.salvarJogo(personagem));
+        }
+
+        Assert.assertEquals(6, salvamento.getQuantidadeJogosSalvos());
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> primeira = salvamento.listarJogosSalvos(0, 4);
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> segunda = salvamento.listarJogosSalvos(1, 4);
+        Assert.assertEquals(4, primeira.size());
+        Assert.assertEquals(2, segunda.size());
+        Assert.assertEquals("Indice_Com_Sublinhado", primeira.get(0).getNomePersonagem());
+        Assert.assertEquals("Antigo", segunda.get(1).getNomePersonagem());
+        Assert.assertEquals(30, segunda.get(1).getIdade());
+
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> crescente = salvamento.listarJogosSalvos(0, 10, false);
+        Assert.assertEquals("Antigo", crescente.get(0).getNomePersonagem());
+        for (int i = 1; i < crescente.size(); i++) {
+            Assert.assertTrue(crescente.get(i - 1).getTimestampSalvamento() <= crescente.get(i).getTimestampSalvamento());
+            Assert.assertNotEquals("Cada salvamento deve ter o próprio arquivo",
+                    crescente.get(i - 1).getCaminhoArquivo(), crescente.get(i).getCaminhoArquivo());
+        }
+    }
+
+    @Test
+    public void testListarRemoveDoIndiceJogosApagados() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro);
+        Personagem personagem = new Personagem("Apagado", registro);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(salvamento.salvarJogo(personagem));
+        }
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> salvos = salvamento.listarJogosSalvos(0, 10);
+        Assert.assertEquals(3, salvos.size());
+        Files.delete(Path.of(salvos.get(1).getCaminhoArquivo()));
+
+        Assert.assertEquals(2, salvamento.listarJogosSalvos(0, 10).size());
+        Assert.assertEquals("O índice deve ser corrigido pela listagem", 2, salvamento.getQuantidadeJogosSalvos());
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> restantes = salvamento.listarJogosSalvos(0, 10);
+        Assert.assertEquals(salvos.get(0).getCaminhoArquivo(), restantes.get(0).getCaminhoArquivo());
+        Assert.assertEquals(salvos.get(2).getCaminhoArquivo(), restantes.get(1).getCaminhoArquivo());
+    }
+
+    @Test
+    public void testSalvamentoAutomaticoAgrupaAcoesEmUmaGravacao() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro);
+        GerenciadorEventos eventos = new GerenciadorEventos(registro, PRIMEIRA_OPCAO);
+        Personagem personagem = new Personagem("Automatico", registro);
+
+        // Atraso longo: as dez ações esperam juntas e só o fechamento grava
+        try (SalvamentoAutomatico automatico = new SalvamentoAutomatico(salvamento, 60_000)) {
+            for (int acao = 0; acao < 10; acao++) {
+                personagem.envelhecer();
+                automatico.agendar(personagem, eventos);
+            }
+            Assert.assertEquals(0, automatico.getGravacoes());
+            automatico.close();
+            Assert.assertEquals(1, automatico.getGravacoes());
+        }
+
+        Path arquivo = Path.of(salvamento.getReferenciaAutomatica(personagem));
+        Assert.assertTrue(Files.exists(arquivo));
+        Assert.assertEquals("Salvamentos automáticos não entram no índice", 0, salvamento.getQuantidadeJogosSalvos());
+        Personagem carregado = salvamento.carregarJogo(arquivo.toString(), new GerenciadorEventos(registro, PRIMEIRA_OPCAO));
+        Assert.assertNotNull(carregado);
+        Assert.assertEquals(personagem.getIdade(), carregado.getIdade());
+
+        // Atraso curto: a gravação acontece sozinha, sem descarregar
+        try (SalvamentoAutomatico automatico = new SalvamentoAutomatico(salvamento, 20)) {
+            personagem.envelhecer();
+            automatico.agendar(personagem, eventos);
+            long limite = System.currentTimeMillis() + 5_000;
+            while (automatico.getGravacoes() == 0 && System.currentTimeMillis() < limite) {
+                Thread.yield();
+            }
+            Assert.assertEquals(1, automatico.getGravacoes());
+        }
+        carregado = salvamento.carregarJogo(arquivo.toString(), new GerenciadorEventos(registro, PRIMEIRA_OPCAO));
+        Assert.assertEquals(personagem.getIdade(), carregado.getIdade());
+    }
+
+    @Test
+    public void testSalvamentoAutomaticoTentaDeNovoDepoisDeFalha() throws Exception {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro);
+        Personagem personagem = new Personagem("Tentativa", registro);
+
+        // Um arquivo no lugar da subpasta faz as gravações falharem
+        Path arquivo = Path.of(salvamento.getReferenciaAutomatica(personagem));
+        Path bloqueio = arquivo.getParent();
+        Files.writeString(bloqueio, "");
+        try (SalvamentoAutomatico automatico = new SalvamentoAutomatico(salvamento, 20)) {
+            automatico.agendar(personagem, null);
+            Thread.sleep(300);
+            Assert.assertEquals(0, automatico.getGravacoes());
+
+            // Sem nova ação do jogo, a captura devolvida é gravada na próxima tentativa
+            Files.delete(bloqueio);
+            long limite = System.currentTimeMillis() + 10_000;
+            while (automatico.getGravacoes() == 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(1, automatico.getGravacoes());
+        }
+        Assert.assertTrue(Files.exists(arquivo));
+    }
+
+    @Test
+    public void testGravacaoDuravelDetectaCorrupcao() throws Exception {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(pasta.toString(), registro,
+                new CodecBinarioSalvamento());
+
+        // Salvamentos simultâneos são sincronizados em grupo e todos chegam ao disco
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger sucessos = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            Personagem personagem = new Personagem("Duravel" + i, registro);
+            Thread thread = new Thread(() -> {
+                if (salvamento.salvarJogo(personagem)) {
+                    sucessos.incrementAndGet();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(8, sucessos.get());
+        List<GerenciadorSalvamentoJogo.DadosJogoSalvo> salvos = salvamento.listarJogosSalvos();
+        Assert.assertEquals(8, salvos.size());
+        for (GerenciadorSalvamentoJogo.DadosJogoSalvo salvo : salvos) {
+            Assert.assertNotNull(salvamento.carregarJogo(salvo.getCaminhoArquivo()));
+        }
+        try (Stream<Path> arquivos = Files.list(pasta)) {
+            Assert.assertTrue("Nenhum temporário deve sobrar",
+                    arquivos.noneMatch(arquivo -> arquivo.toString().endsWith(".tmp")));
+        }
+
+        // Um byte alterado no corpo é detectado pelo CRC32C
+        Path arquivo = Path.of(salvos.get(0).getCaminhoArquivo());
+        byte[] bytes = Files.readAllBytes(arquivo);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(arquivo, bytes);
+        Assert.assertNull(salvamento.carregarJogo(arquivo.toString()));
+
+        // Salvamentos JSON não recebem o rodapé e continuam sendo JSON válido
+        GerenciadorSalvamentoJogo json = new GerenciadorSalvamentoJogo(pasta.resolve("json").toString(), registro,
+                null);
+        Assert.assertTrue(json.salvarJogo(new Personagem("Texto", registro)));
+        String caminhoJson = json.listarJogosSalvos().get(0).getCaminhoArquivo();
+        Assert.assertTrue(JsonParser.parseString(Files.readString(Path.of(caminhoJson))).isJsonObject());
+        Assert.assertNotNull(json.carregarJogo(caminhoJson));
+    }
+
+    @Test
+    public void testArquivoUnicoIndexaSubstituiECompacta() throws IOException {
+        RegistroConteudo registro = RegistroConteudo.padrao();
+        Path caminho = pasta.resolve("todos" + ArquivoSalvamentos.EXTENSAO);
+        ArquivoSalvamentos arquivo = ArquivoSalvamentos.abrir(caminho);
+        try {
+            GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(arquivo, registro);
+
+            // Mais personagens do que cabem na tabela inicial, para forçar o crescimento
+            List<Personagem> personagens = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                Personagem personagem = new Personagem("Jogador" + i, registro);
+                personagens.add(personagem);
+                Assert.assertTrue(salvamento.salvarJogo(personagem));
+            }
+            Assert.assertEquals(400, salvamento.getQuantidadeJogosSalvos());
+
+            // Como na pasta, salvar de novo mantém os salvamentos anteriores do personagem
+            Personagem repetido = personagens.get(7);
+            for (int ano = 0; ano < 3; ano++) {
+                repetido.envelhecer();
+                Assert.assertTrue(salvamento.salvarJogo(repetido));
+            }
+            Assert.assertEquals(403, salvamento.getQuantidadeJogosSalvos());
+            Assert.assertEquals(0, arquivo.getBytesMortos());
+            GerenciadorSalvamentoJogo.DadosJogoSalvo maisRecente = salvamento.listarJogosSalvos(0, 1).get(0);
+            Assert.assertEquals("Jogador7", maisRecente.getNomePersonagem());
+            Assert.assertEquals(3, maisRecente.getIdade());
+            Assert.assertEquals(3, arquivo.buscar("jogador7", 1, 10).size());
+            List<GerenciadorSalvamentoJogo.DadosJogoSalvo> primeiro = arquivo.buscar("Jogador7", 0, 0);
+            Assert.assertEquals(1, primeiro.size());
+            Assert.assertEquals(0, salvamento.carregarJogo(primeiro.get(0).getCaminhoArquivo()).getIdade());
+            Assert.assertEquals(1, arquivo.buscar("Jogador8", 0, 0).size());
+
+            // Um personagem de mesmo nome tem os próprios registros
+            Personagem homonimo = new Personagem("Jogador7", repetido.getSobrenome(), registro);
+            Assert.assertTrue(salvamento.salvarJogo(homonimo));
+            Assert.assertEquals(404, salvamento.getQuantidadeJogosSalvos());
+            Assert.assertEquals(5, arquivo.buscar("Jogador7", 0, 10).size());
+
+            // O salvamento automático substitui só o automático e não entra na listagem
+            for (int vez = 0; vez < 2; vez++) {
+                repetido.envelhecer();
+                try (SalvamentoAutomatico automatico = new SalvamentoAutomatico(salvamento, 60_000)) {
+                    automatico.agendar(repetido, null);
+                }
+            }
+            Assert.assertEquals(404, salvamento.getQuantidadeJogosSalvos());
+            Assert.assertTrue(arquivo.getBytesMortos() > 0);
+            Assert.assertEquals(5, salvamento.carregarJogo(salvamento.getReferenciaAutomatica(repetido)).getIdade());
+
+            arquivo.compactar();
+            Assert.assertEquals(0, arquivo.getBytesMortos());
+            Personagem carregado = salvamento.carregarJogo(maisRecente.getCaminhoArquivo());
+            Assert.assertNotNull(carregado);
+            Assert.assertEquals(repetido.getNomeCompleto(), carregado.getNomeCompleto());
+            Assert.assertEquals(3, carregado.getIdade());
+            Assert.assertEquals(repetido.getId(), carregado.getId());
+            Assert.assertEquals(5, salvamento.carregarJogo(salvamento.getReferenciaAutomatica(repetido)).getIdade());
+            Assert.assertNull(salvamento.carregarJogo("Inexistente_Nada"));
+        } finally {
+            arquivo.close();
+        }
+
+        // Reaberto, os índices são remontados a partir da tabela
+        ArquivoSalvamentos reaberto = ArquivoSalvamentos.abrir(caminho);
+        try {
+            GerenciadorSalvamentoJogo salvamento = new GerenciadorSalvamentoJogo(reaberto, registro);
+            Assert.assertEquals(404, salvamento.getQuantidadeJogosSalvos());
+            List<GerenciadorSalvamentoJogo.DadosJogoSalvo> pagina = salvamento.listarJogosSalvos(39, 10);
+            Assert.assertEquals(10, pagina.size());
+            Assert.assertNotNull(salvamento.carregarJogo(pagina.get(9).getCaminhoArquivo()));
+        } finally {
+            reaberto.close();
+        }
+        try (Stream<Path> arquivos = Files.list(pasta)) {
+            Assert.assertEquals("Um único arquivo para todos os personagens", 1, arquivos.count());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.utils.SelecaoSemReposicao;
+
+/**
+ * Testes unitários para a classe SelecaoSemReposicao.
+ */
+public class SelecaoSemReposicaoTest {
+
+    @Test
+    public void testSorteiaCadaIndiceUmaUnicaVez() {
+        SelecaoSemReposicao selecao = new SelecaoSemReposicao(50);
+        Set<Integer> sorteados = new HashSet<>();
+
+        for (int i = 0; i < 50; i++) {
+            Assert.assertTrue(sorteados.add(selecao.sortear()));
+            Assert.assertEquals(49 - i, selecao.getDisponiveis());
+        }
+
+        Assert.assertEquals(-1, selecao.sortear());
+    }
+
+    @Test
+    public void testMarcarUsadoEReiniciar() {
+        SelecaoSemReposicao selecao = new SelecaoSemReposicao(3);
+        selecao.marcarUsado(1);
+        selecao.marcarUsado(1);
+
+        Assert.assertEquals(2, selecao.getDisponiveis());
+        Assert.assertFalse(selecao.isDisponivel(1));
+
+        selecao.reiniciar();
+        Assert.assertEquals(3, selecao.getDisponiveis());
+        Assert.assertTrue(selecao.isDisponivel(1));
+    }
+}
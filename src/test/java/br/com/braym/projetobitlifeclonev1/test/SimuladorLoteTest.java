@@ -0,0 +1,50 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.application.SimuladorLote;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.interfaces.PoliticaDecisao;
+
+/**
+ * Testes unitários para a classe SimuladorLote.
+ */
+public class SimuladorLoteTest {
+
+    @Test
+    public void testMesmaSementeReproduzAMesmaVida() {
+        SimuladorLote simulador = new SimuladorLote("Eventos", PoliticaDecisao.aleatoria(), 2, 1, 42L);
+        long semente = simulador.getSementeDaVida(7);
+
+        Personagem primeira = simulador.simularVida(semente);
+        Personagem segunda = simulador.simularVida(semente);
+
+        Assert.assertEquals(resumir(primeira), resumir(segunda));
+    }
+
+    @Test
+    public void testSimularLoteContaTodasAsVidas() {
+        SimuladorLote simulador = new SimuladorLote("Eventos", PoliticaDecisao.primeiraOpcao(), 2, 1, 1L);
+        SimuladorLote.ResultadoLote resultado = simulador.simular(40);
+
+        Assert.assertEquals(40, resultado.getVidas());
+        Assert.assertTrue(resultado.getAnosSimulados() >= 40);
+    }
+
+    private String resumir(Personagem personagem) {
+        StringBuilder resumo = new StringBuilder();
+        resumo.append(personagem.getNomeCompleto()).append('|')
+              .append(personagem.getIdade()).append('|')
+              .append(personagem.getSaude()).append('|')
+              .append(personagem.getFelicidade()).append('|')
+              .append(personagem.getInteligencia()).append('|')
+              .append(personagem.getCarisma()).append('|')
+              .append(personagem.getFinancas());
+        for (Relacionamento rel : personagem.getGerenciadorRelacionamentos().getTodosRelacionamentos()) {
+            resumo.append('|').append(rel.getPessoa().getNomeCompleto())
+                  .append(':').append(rel.getNivel());
+        }
+        return resumo.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.utils.ContextoAleatorio;
+import br.com.braym.projetobitlifeclonev1.utils.SelecaoPonderada;
+import br.com.braym.projetobitlifeclonev1.utils.TabelaAlias;
+
+/**
+ * Testes unitários para a classe TabelaAlias e a SelecaoPonderada.
+ */
+public class TabelaAliasTest {
+
+    @Test
+    public void testFrequenciaProporcionalAoPeso() {
+        double[] pesos = {1, 3, 6};
+        TabelaAlias tabela = new TabelaAlias(pesos, pesos.length);
+        int[] contagem = new int[pesos.length];
+
+        new ContextoAleatorio(123L).executar(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                contagem[tabela.sortear()]++;
+            }
+        });
+
+        Assert.assertEquals(0.1, contagem[0] / 100_000.0, 0.01);
+        Assert.assertEquals(0.3, contagem[1] / 100_000.0, 0.01);
+        Assert.assertEquals(0.6, contagem[2] / 100_000.0, 0.01);
+    }
+
+    @Test
+    public void testSelecaoPonderadaEsgotaTodosOsIndices() {
+        double[] pesos = new double[200];
+        for (int i = 0; i < pesos.length; i++) {
+            pesos[i] = i % 7 == 0 ? 50 : 0.5;
+        }
+        SelecaoPonderada selecao = new SelecaoPonderada(pesos, new TabelaAlias(pesos, pesos.length));
+        boolean[] sorteados = new boolean[pesos.length];
+
+        new ContextoAleatorio(7L).executar(() -> {
+            for (int i = 0; i < pesos.length; i++) {
+                int indice = selecao.sortear();
+                Assert.assertFalse(sorteados[indice]);
+                sorteados[indice] = true;
+            }
+        });
+
+        Assert.assertEquals(0, selecao.getDisponiveis());
+        Assert.assertEquals(-1, selecao.sortear());
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.Personagem;
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes;
+import br.com.braym.projetobitlifeclonev1.service.GerenciadorInteracoes.InteracaoInfo;
+import br.com.braym.projetobitlifeclonev1.service.TabelaInteracoes;
+import br.com.braym.projetobitlifeclonev1.utils.FaseDaVidaResolver;
+
+/**
+ * Testes unitários para as regras de interação compiladas dos arquivos JSON.
+ */
+public class TabelaInteracoesTest {
+
+    @Test
+    public void testDisponibilidadeSegueArquivoDeFases() {
+        GerenciadorInteracoes gerenciador = new GerenciadorInteracoes(GerenciadorInteracoes.PASTA_PADRAO);
+        TabelaInteracoes tabela = gerenciador.getTabela();
+        int insultar = tabela.ordinalDe("insultar");
+
+        Assert.assertTrue(insultar >= 0);
+        Assert.assertEquals(-1, tabela.ordinalDe("flerte"));
+        Assert.assertTrue(tabela.isDisponivel(FaseDaVidaResolver.getIndiceDaFase(25), insultar));
+        Assert.assertFalse(tabela.isDisponivel(FaseDaVidaResolver.getIndiceDaFase(5), insultar));
+        Assert.assertEquals(List.of("brincar", "sorrir"),
+                tabela.getNomesDisponiveis(FaseDaVidaResolver.getIndiceDaFase(4)));
+        int[] ordinais = tabela.getOrdinaisDisponiveis(FaseDaVidaResolver.getIndiceDaFase(4));
+        Assert.assertEquals(2, ordinais.length);
+        Assert.assertEquals("brincar", tabela.getNome(ordinais[0]));
+        Assert.assertEquals("sorrir", tabela.getNome(ordinais[1]));
+
+        Personagem crianca = new Personagem("Teste");
+        crianca.setIdade(5);
+        Relacionamento amizade = crianca.getGerenciadorRelacionamentos()
+                .adicionarRelacionamento(new Pessoa("Ana", "Silva", 5, "Feminino"), TipoRelacionamento.AMIZADE);
+        Assert.assertEquals("Esta interação não está disponível para sua idade atual.",
+                gerenciador.executarInteracao(crianca, amizade, insultar));
+        Assert.assertTrue(gerenciador.executarInteracao(crianca, amizade, "voar").startsWith("Tipo de interação desconhecido"));
+    }
+
+    @Test
+    public void testPresenteAplicaCustoENivelDaCategoria() {
+        GerenciadorInteracoes gerenciador = new GerenciadorInteracoes(GerenciadorInteracoes.PASTA_PADRAO);
+        Personagem personagem = new Personagem("Teste");
+        personagem.setIdade(30);
+        int financas = personagem.getFinancas();
+        Relacionamento mae = personagem.getGerenciadorRelacionamentos()
+                .adicionarRelacionamento(new Pessoa("Maria", "Silva", 55, "Feminino"), TipoRelacionamento.MAE);
+
+        String mensagem = gerenciador.executarInteracao(personagem, mae, "presente");
+
+        Assert.assertTrue(mensagem.contains("Maria"));
+        Assert.assertFalse(mensagem.contains("{nome}"));
+        Assert.assertTrue(mae.getNivel() >= 58);
+        Assert.assertTrue(personagem.getFinancas() <= financas - 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntervaloInvertidoEhRecusado() {
+        InteracaoInfo invalida = new InteracaoInfo("Oi {nome}", new int[] { 5, 1 }, new int[] { 0, 0 }, null, 0, 0);
+        TabelaInteracoes.compilar(FaseDaVidaResolver.getPastasDasFases(),
+                Map.of(FaseDaVidaResolver.getPastasDasFases().get(0), List.of("acenar")),
+                Map.of("acenar", Map.of("padroes", List.of(invalida))));
+    }
+}
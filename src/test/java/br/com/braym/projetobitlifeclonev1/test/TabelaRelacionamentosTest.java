@@ -0,0 +1,100 @@
+package br.com.braym.projetobitlifeclonev1.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import br.com.braym.projetobitlifeclonev1.domain.Pessoa;
+import br.com.braym.projetobitlifeclonev1.domain.Relacionamento;
+import br.com.braym.projetobitlifeclonev1.domain.TabelaRelacionamentos;
+import br.com.braym.projetobitlifeclonev1.domain.TipoRelacionamento;
+import br.com.braym.projetobitlifeclonev1.utils.ContextoAleatorio;
+
+import java.util.List;
+
+/**
+ * Testes unitários para a tabela de relacionamentos.
+ */
+public class TabelaRelacionamentosTest {
+
+    @Test
+    public void testDesgasteAcumuladoSegueODoSorteioAnual() {
+        // Semente fixa: o gerador da tabela é semeado pelo contexto em que ela é criada
+        TabelaRelacionamentos tabela = new ContextoAleatorio(7L).executar(TabelaRelacionamentos::new);
+        int quantidade = 4000;
+        for (int i = 0; i < quantidade; i++) {
+            tabela.adicionar(new Pessoa("Amigo", "Teste", 30, "Masculino"), TipoRelacionamento.AMIZADE);
+        }
+        // Metade lida depois de 4 anos e de novo depois de 10, metade só depois de 10
+        for (int ano = 0; ano < 4; ano++) {
+            tabela.avancarTempo();
+        }
+        long somaQuatroAnos = 0;
+        for (int i = 0; i < quantidade; i += 2) {
+            Assert.assertEquals(4, tabela.getTempo(i));
+            somaQuatroAnos += tabela.getNivel(i);
+        }
+        // 4 anos com 30% de chance de perder 5 pontos: 6 pontos em média
+        Assert.assertEquals(44.0, (double) somaQuatroAnos / (quantidade / 2), 0.5);
+        for (int ano = 0; ano < 6; ano++) {
+            tabela.avancarTempo();
+        }
+
+        long[] somas = new long[2];
+        for (int i = 0; i < quantidade; i++) {
+            Assert.assertEquals(10, tabela.getTempo(i));
+            int nivel = tabela.getNivel(i);
+            Assert.assertTrue(nivel >= 0 && nivel <= 50 && nivel % 5 == 0);
+            somas[i % 2] += nivel;
+        }
+        // 10 anos: 15 pontos em média, lidos em duas etapas ou em uma
+        Assert.assertEquals(35.0, (double) somas[0] / (quantidade / 2), 0.7);
+        Assert.assertEquals(35.0, (double) somas[1] / (quantidade / 2), 0.7);
+
+        // Um nível alterado não recebe de novo o desgaste já aplicado
+        tabela.setNivel(0, 80);
+        Assert.assertEquals(80, tabela.getNivel(0));
+        Assert.assertEquals(10, tabela.getTempo(0));
+    }
+
+    @Test
+    public void testPessoasEnvelhecemPeloRelogioDaTabela() {
+        TabelaRelacionamentos tabela = new TabelaRelacionamentos();
+        Pessoa pai = new Pessoa("Pai", "Teste", 55, "Masculino");
+        Pessoa mae = new Pessoa("Mae", "Teste", 58, "Feminino");
+        Pessoa amigo = new Pessoa("Amigo", "Teste", 20, "Masculino");
+        tabela.adicionar(pai, TipoRelacionamento.PAI);
+        tabela.adicionar(mae, TipoRelacionamento.MAE);
+        tabela.adicionar(amigo, TipoRelacionamento.AMIZADE);
+        Assert.assertTrue(tabela.getPorIdade(60, 200).isEmpty());
+
+        for (int ano = 0; ano < 5; ano++) {
+            tabela.avancarTempo();
+        }
+        Assert.assertEquals(60, pai.getIdade());
+        Assert.assertEquals(63, mae.getIdade());
+        Assert.assertEquals(25, amigo.getIdade());
+
+        // Das pessoas mais velhas para as mais novas
+        List<Relacionamento> acimaDe60 = tabela.getPorIdade(60, 200);
+        Assert.assertEquals(2, acimaDe60.size());
+        Assert.assertSame(mae, acimaDe60.get(0).getPessoa());
+        Assert.assertSame(pai, acimaDe60.get(1).getPessoa());
+        Assert.assertSame(amigo, tabela.getPorIdade(25, 25).get(0).getPessoa());
+
+        // Uma pessoa da tabela não entra em outra, que trocaria o relógio dela
+        try {
+            new TabelaRelacionamentos().adicionar(amigo, TipoRelacionamento.AMIZADE);
+            Assert.fail("Pessoa de outra tabela deveria ser rejeitada");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+        tabela.avancarTempo();
+        Assert.assertEquals(26, amigo.getIdade());
+        Assert.assertSame(amigo, tabela.getPorIdade(26, 26).get(0).getPessoa());
+
+        // Na própria tabela, adicionar de novo substitui o relacionamento
+        tabela.adicionar(amigo, TipoRelacionamento.NAMORO);
+        Assert.assertEquals(3, tabela.getQuantidade());
+        Assert.assertEquals(TipoRelacionamento.NAMORO, tabela.getTipo(2));
+        Assert.assertSame(amigo, tabela.getPorIdade(26, 26).get(0).getPessoa());
+    }
+}